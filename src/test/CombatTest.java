@@ -2,21 +2,93 @@ package test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Test;
+import thedd.controller.core.GameCore;
+import thedd.controller.core.GameCoreImpl;
+import thedd.controller.core.GameEventType;
+import thedd.controller.core.GameLoop;
+import thedd.controller.core.GameSnapshot;
+import thedd.model.Model;
+import thedd.model.balance.BalanceSweep;
+import thedd.model.balance.SweepGrid;
+import thedd.model.balance.SweepResult;
+import thedd.model.balance.SweptCharacter;
+import thedd.model.catalog.CatalogCompiler;
+import thedd.model.catalog.CatalogLoader;
+import thedd.model.catalog.EnemyDefinition;
+import thedd.model.catalog.GameCatalog;
+import thedd.model.catalog.GameCatalogImpl;
+import thedd.model.ModelImpl;
+import thedd.model.change.ChangeSet;
+import thedd.model.change.ChangeTracker;
+import thedd.model.change.ChangeTrackerImpl;
+import thedd.model.change.ChangeType;
 import thedd.model.character.BasicCharacter;
+import thedd.model.character.RandomEnemyFactory;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.character.types.CatalogEnemy;
 import thedd.model.character.types.Goblin;
 import thedd.model.character.types.PlayerCharacter;
 import thedd.model.combat.action.Action;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.action.effect.DamageEffect;
+import thedd.model.combat.action.effect.HealingEffect;
 import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.autobattle.AutoBattle;
+import thedd.model.combat.autobattle.BattleSummary;
 import thedd.model.combat.actionexecutor.DefaultCombatActionExecutor;
 import thedd.model.combat.encounter.HostileEncounter;
 import thedd.model.combat.encounter.HostileEncounterImpl;
 import thedd.model.combat.instance.ActionExecutionInstance;
 import thedd.model.combat.instance.ExecutionStatus;
 import thedd.model.combat.instance.ExecutionInstanceImpl;
+import thedd.model.combat.journal.BinaryCombatJournal;
+import thedd.model.combat.journal.CombatEvent;
+import thedd.model.combat.journal.CombatEventType;
+import thedd.model.combat.journal.CombatReplayer;
+import thedd.model.combat.journal.FileCombatJournal;
+import thedd.model.combat.journal.JournalingCombatActionExecutor;
+import thedd.model.combat.journal.MemoryCombatJournal;
+import thedd.model.combat.modifier.AbstractValueModifier;
+import thedd.model.combat.modifier.HitChanceModifier;
+import thedd.model.combat.modifier.ModifierActivation;
+import thedd.model.combat.modifier.StatBasedModifier;
+import thedd.model.combat.modifier.ValueModifier;
+import thedd.model.combat.status.Status;
+import thedd.model.combat.status.StatusActivationFrequency;
+import thedd.model.combat.status.StatusImpl;
+import thedd.model.combat.status.poison.PoisonStatus;
+import thedd.model.item.Item;
+import thedd.model.item.ItemFactory;
+import thedd.model.item.ItemRarityImpl;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemType;
+import thedd.model.item.usableitem.UsableItem;
+import thedd.model.item.usableitem.UsableItemBomb;
+import thedd.model.item.usableitem.UsableItemPotion;
+import thedd.model.roomevent.RoomEventType;
+import thedd.model.savegame.CombatCheckpointer;
+import thedd.model.savegame.CombatCheckpointerImpl;
 
 /**
  * This class allows to test combat module.
@@ -110,6 +182,575 @@ public class CombatTest {
         executeNextAction();
     }
 
+    /**
+     * Record a whole combat and replay it on new actors, which get the starting
+     * state recorded in the journal.
+     * 
+     * @throws IOException if the journal can't be written or read
+     */
+    @Test
+    public void testCombatJournalReplay() throws IOException {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final BasicCharacter goblin = new Goblin();
+        goblin.addStatus(new PoisonStatus(2));
+        final BasicCharacter replayedPlayer = new PlayerCharacter(Optional.empty());
+        final BasicCharacter replayedGoblin = new Goblin();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BinaryCombatJournal journal = new BinaryCombatJournal(Channels.newChannel(output));
+        final ActionExecutor executor = new JournalingCombatActionExecutor(journal);
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(hero);
+        combat.addNPCsPartyMember(goblin);
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        while (executor.getExecutionStatus() != ExecutionStatus.PLAYER_WON
+                && executor.getExecutionStatus() != ExecutionStatus.PLAYER_LOST) {
+            if (executor.getExecutionStatus() != ExecutionStatus.ROUND_IN_PROGRESS) {
+                hero.addActionToQueue(hero.getAvailableActionsList().get(0), true);
+                final Action selected = hero.getSelectedAction().get();
+                selected.setTargets(goblin, selected.getValidTargets(executor.getExecutionInstance()));
+                executor.addActorToQueue(hero);
+            }
+            executor.setNextAction();
+            if (executor.evaluateCurrentAction().isPresent()) {
+                executor.executeCurrentAction();
+            }
+            executor.updateExecutionStatus();
+            if (executor.getExecutionStatus() == ExecutionStatus.ROUND_ENDED) {
+                executor.prepareNextRound();
+            }
+        }
+        journal.close();
+        final List<CombatEvent> events = BinaryCombatJournal.readEvents(
+                Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+        assertEquals(output.size(), events.stream()
+                                           .mapToInt(e -> BinaryCombatJournal.RECORD_SIZE + e.getState().remaining())
+                                           .sum());
+        assertEquals(CombatEventType.ACTOR_STATE, events.get(0).getType());
+        assertEquals(CombatEventType.ACTOR_STATE, events.get(1).getType());
+        final ActionExecutionInstance replayed = new ExecutionInstanceImpl();
+        replayed.addPlayerPartyMember(replayedPlayer);
+        replayed.addNPCsPartyMember(replayedGoblin);
+        assertEquals(executor.getExecutionStatus(), new CombatReplayer(events).replay(replayed));
+        assertEquals(hero.getStat(Statistic.HEALTH_POINT).getActual(),
+                     replayedPlayer.getStat(Statistic.HEALTH_POINT).getActual());
+        assertEquals(goblin.getStat(Statistic.HEALTH_POINT).getActual(),
+                     replayedGoblin.getStat(Statistic.HEALTH_POINT).getActual());
+    }
+
+    /**
+     * Record a combat to a file: every round is in the file once it has ended,
+     * while the combat is fought, and the file replays the combat on new actors.
+     * 
+     * @throws IOException if the journal can't be written or read
+     */
+    @Test
+    public void testFileCombatJournal() throws IOException {
+        final Path file = Files.createTempFile("thedd", ".journal");
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final BasicCharacter goblin = new Goblin();
+        final FileCombatJournal journal = new FileCombatJournal(file);
+        final JournalingCombatActionExecutor executor = new JournalingCombatActionExecutor(new MemoryCombatJournal());
+        executor.setJournal(journal);
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(hero);
+        combat.addNPCsPartyMember(goblin);
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        while (executor.getExecutionStatus() != ExecutionStatus.PLAYER_WON
+                && executor.getExecutionStatus() != ExecutionStatus.PLAYER_LOST) {
+            if (executor.getExecutionStatus() != ExecutionStatus.ROUND_IN_PROGRESS) {
+                hero.addActionToQueue(hero.getAvailableActionsList().get(0), true);
+                final Action selected = hero.getSelectedAction().get();
+                selected.setTargets(goblin, selected.getValidTargets(executor.getExecutionInstance()));
+                executor.addActorToQueue(hero);
+            }
+            executor.setNextAction();
+            if (executor.evaluateCurrentAction().isPresent()) {
+                executor.executeCurrentAction();
+            }
+            executor.updateExecutionStatus();
+            if (executor.getExecutionStatus() == ExecutionStatus.ROUND_ENDED) {
+                executor.prepareNextRound();
+                final int ended = combat.getRoundNumber() - 1;
+                assertTrue(readJournal(file).stream().anyMatch(e -> e.getRound() == ended
+                                                               && e.getType() == CombatEventType.STATUSES_UPDATED));
+            }
+        }
+        journal.close();
+        final BasicCharacter replayedPlayer = new PlayerCharacter(Optional.empty());
+        final BasicCharacter replayedGoblin = new Goblin();
+        final ActionExecutionInstance replayed = new ExecutionInstanceImpl();
+        replayed.addPlayerPartyMember(replayedPlayer);
+        replayed.addNPCsPartyMember(replayedGoblin);
+        assertEquals(executor.getExecutionStatus(), new CombatReplayer(readJournal(file)).replay(replayed));
+        assertEquals(goblin.getStat(Statistic.HEALTH_POINT).getActual(),
+                     replayedGoblin.getStat(Statistic.HEALTH_POINT).getActual());
+        Files.delete(file);
+    }
+
+    /**
+     * Record a combat where the player throws a bomb and replay it: the bomb is
+     * taken from the inventory by its recorded id.
+     */
+    @Test
+    public void testCombatJournalReplayWithItem() {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final BasicCharacter goblin = new Goblin();
+        final BasicCharacter replayedPlayer = new PlayerCharacter(Optional.empty());
+        final BasicCharacter replayedGoblin = new Goblin();
+        final Item bomb = UsableItemBomb.getNewInstance(ItemRarityImpl.RARE);
+        hero.getInventory().addItem(UsableItemPotion.getNewInstance(ItemRarityImpl.COMMON));
+        hero.getInventory().addItem(bomb);
+        final MemoryCombatJournal journal = new MemoryCombatJournal();
+        final ActionExecutor executor = new JournalingCombatActionExecutor(journal);
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(hero);
+        combat.addNPCsPartyMember(goblin);
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        while (executor.getExecutionStatus() != ExecutionStatus.PLAYER_WON
+                && executor.getExecutionStatus() != ExecutionStatus.PLAYER_LOST) {
+            if (executor.getExecutionStatus() != ExecutionStatus.ROUND_IN_PROGRESS) {
+                final boolean throwBomb = hero.getInventory().getQuantity(bomb) > 0;
+                if (throwBomb) {
+                    final Action thrown = ((UsableItem) bomb).getAction();
+                    thrown.setSource(hero);
+                    hero.addActionToQueue(thrown, true);
+                } else {
+                    hero.addActionToQueue(hero.getAvailableActionsList().get(0), true);
+                }
+                final Action selected = hero.getSelectedAction().get();
+                selected.setTargets(goblin, selected.getValidTargets(executor.getExecutionInstance()));
+                executor.addActorToQueue(hero);
+                if (throwBomb) {
+                    hero.getInventory().removeItem(bomb);
+                }
+            }
+            executor.setNextAction();
+            if (executor.evaluateCurrentAction().isPresent()) {
+                executor.executeCurrentAction();
+            }
+            executor.updateExecutionStatus();
+            if (executor.getExecutionStatus() == ExecutionStatus.ROUND_ENDED) {
+                executor.prepareNextRound();
+            }
+        }
+        assertTrue(journal.getEvents().stream().anyMatch(e -> e.getFirst() < -1));
+        final ActionExecutionInstance replayed = new ExecutionInstanceImpl();
+        replayed.addPlayerPartyMember(replayedPlayer);
+        replayed.addNPCsPartyMember(replayedGoblin);
+        assertEquals(executor.getExecutionStatus(), new CombatReplayer(journal.getEvents()).replay(replayed));
+        assertEquals(goblin.getStat(Statistic.HEALTH_POINT).getActual(),
+                     replayedGoblin.getStat(Statistic.HEALTH_POINT).getActual());
+        assertEquals(hero.getInventory().getAll(), replayedPlayer.getInventory().getAll());
+    }
+
+    /**
+     * Test a combat resolved at once, with the player selecting its moves as the NPCs do.
+     */
+    @Test
+    public void testAutoBattle() {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        new ArrayList<>(hero.getInventory().getUsable()).forEach(i -> {
+            while (hero.getInventory().getQuantity(i) > 0) {
+                hero.getInventory().removeItem(i);
+            }
+        });
+        final BasicCharacter goblin = new Goblin();
+        final int heroHealth = hero.getStat(Statistic.HEALTH_POINT).getActual();
+        final int goblinHealth = goblin.getStat(Statistic.HEALTH_POINT).getActual();
+        final ActionExecutor executor = new DefaultCombatActionExecutor();
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(hero);
+        combat.addNPCsPartyMember(goblin);
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        final BattleSummary summary = new AutoBattle(1000).resolve(executor);
+        assertTrue(summary.isOver());
+        assertTrue(summary.getRounds() > 0 && summary.getActions() >= summary.getRounds());
+        assertEquals(heroHealth - hero.getStat(Statistic.HEALTH_POINT).getActual(), summary.getDamageTaken());
+        assertEquals(goblinHealth - goblin.getStat(Statistic.HEALTH_POINT).getActual(), summary.getDamageDealt());
+        assertTrue(summary.getItemsConsumed().isEmpty());
+    }
+
+    /**
+     * Test that the player uses a healing item when resolving a combat at once
+     * with low health, and that the item is in the summary.
+     */
+    @Test
+    public void testAutoBattleItems() {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final Item potion = hero.getInventory().getUsable().get(0);
+        final int potions = hero.getInventory().getQuantity(potion);
+        hero.getStat(Statistic.HEALTH_POINT).updateActual(1 - hero.getStat(Statistic.HEALTH_POINT).getActual());
+        final ActionExecutor executor = new DefaultCombatActionExecutor();
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(hero);
+        combat.addNPCsPartyMember(new Goblin());
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        final BattleSummary summary = new AutoBattle(1000).resolve(executor);
+        assertEquals(Collections.singletonMap(potion, potions), summary.getItemsConsumed());
+        assertEquals(0, hero.getInventory().getQuantity(potion));
+    }
+
+    /**
+     * Test a combat restored from the checkpoint of an ended round, and resumed
+     * by the core from the combat of the restored room.
+     * @throws IOException 
+     */
+    @Test
+    public void testCombatCheckpoint() throws IOException {
+        final Model model = new ModelImpl();
+        model.initGame(Optional.empty(), 1, 3);
+        model.getEnvironment().getCurrentFloor().nextRoom();
+        final BasicCharacter hero = model.getPlayerCharacter();
+        final BasicCharacter goblin = new Goblin();
+        final ActionExecutor executor = new DefaultCombatActionExecutor();
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(hero);
+        combat.addNPCsPartyMember(goblin);
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        hero.addActionToQueue(hero.getAvailableActionsList().get(0), true);
+        final Action selected = hero.getSelectedAction().get();
+        selected.setTargets(goblin, selected.getValidTargets(executor.getExecutionInstance()));
+        executor.addActorToQueue(hero);
+        while (executor.getExecutionStatus() != ExecutionStatus.ROUND_ENDED
+                && executor.getExecutionStatus() != ExecutionStatus.PLAYER_WON
+                && executor.getExecutionStatus() != ExecutionStatus.PLAYER_LOST) {
+            executor.setNextAction();
+            if (executor.evaluateCurrentAction().isPresent()) {
+                executor.executeCurrentAction();
+            }
+            executor.updateExecutionStatus();
+        }
+        final Path file = Files.createTempFile("thedd", ".combat");
+        final CombatCheckpointer checkpointer = new CombatCheckpointerImpl(file);
+        if (executor.getExecutionStatus() == ExecutionStatus.ROUND_ENDED) {
+            checkpointer.checkpoint(model, executor.getExecutionInstance());
+            final Pair<Model, ActionExecutor> restored = checkpointer.restore().get();
+            final ActionExecutionInstance instance = restored.getRight().getExecutionInstance();
+            assertEquals(ExecutionStatus.ROUND_ENDED, restored.getRight().getExecutionStatus());
+            assertEquals(combat.getRoundNumber(), instance.getRoundNumber());
+            assertEquals(hero.getStat(Statistic.HEALTH_POINT).getActual(),
+                         restored.getLeft().getPlayerCharacter().getStat(Statistic.HEALTH_POINT).getActual());
+            assertEquals(goblin.getStat(Statistic.HEALTH_POINT).getActual(),
+                         ((BasicCharacter) instance.getNPCsParty().get(0)).getStat(Statistic.HEALTH_POINT).getActual());
+            final HostileEncounter encounter = restored.getLeft().getEnvironment().getCurrentFloor().getCurrentRoom()
+                                                        .getEvents().stream()
+                                                        .filter(e -> e.getType() == RoomEventType.COMBAT_EVENT)
+                                                        .map(e -> ((thedd.model.roomevent.combatevent.CombatEvent) e).getHostileEncounter())
+                                                        .findFirst().get();
+            assertSame(restored.getRight(), encounter.getCombatLogic());
+            assertEquals(instance.getNPCsParty(), new ArrayList<>(encounter.getNPCs()));
+            final GameCore core = new GameCoreImpl(restored.getLeft(), Runnable::run);
+            assertTrue(core.resumeRoom().join());
+            assertEquals(combat.getRoundNumber() + 1, core.getExecutionInstance().get().getRoundNumber());
+        }
+        checkpointer.clear();
+        assertFalse(checkpointer.restore().isPresent());
+    }
+
+    /**
+     * Test the checkpoint of a combat against an enemy of the game catalog.
+     * @throws IOException 
+     */
+    @Test
+    public void testCatalogEnemyCheckpoint() throws IOException {
+        final Model model = new ModelImpl();
+        model.initGame(Optional.empty(), 1, 3);
+        model.getEnvironment().getCurrentFloor().nextRoom();
+        final BasicCharacter enemy = RandomEnemyFactory.createRandomEnemy();
+        enemy.getStat(Statistic.HEALTH_POINT).updateActual(-1);
+        final ActionExecutor executor = new DefaultCombatActionExecutor();
+        final ActionExecutionInstance combat = new ExecutionInstanceImpl();
+        combat.addPlayerPartyMember(model.getPlayerCharacter());
+        combat.addNPCsPartyMember(enemy);
+        executor.setExecutionInstance(combat);
+        executor.startExecutor();
+        combat.setExecutionStatus(ExecutionStatus.ROUND_ENDED);
+        final Path file = Files.createTempFile("thedd", ".combat");
+        final CombatCheckpointer checkpointer = new CombatCheckpointerImpl(file);
+        checkpointer.checkpoint(model, executor.getExecutionInstance());
+        final ActionActor restored = checkpointer.restore().get().getRight().getExecutionInstance().getNPCsParty().get(0);
+        assertTrue(restored instanceof CatalogEnemy);
+        assertEquals(((CatalogEnemy) enemy).getDefinition(), ((CatalogEnemy) restored).getDefinition());
+        assertEquals(enemy.getStat(Statistic.HEALTH_POINT).getActual(),
+                     ((BasicCharacter) restored).getStat(Statistic.HEALTH_POINT).getActual());
+        checkpointer.clear();
+    }
+
+    /**
+     * Test a game played through the view-agnostic core, until the player leaves
+     * the first combat, and that a command changing nothing publishes no snapshot.
+     */
+    @Test
+    public void testGameCoreEvents() {
+        final Model model = new ModelImpl();
+        model.initGame(Optional.empty(), 1, 3);
+        final GameCore core = new GameCoreImpl(model, Runnable::run);
+        final List<GameEventType> events = new ArrayList<>();
+        core.bindObserver(e -> events.add(e.get().getType()));
+        core.bindObserver(e -> assertEquals(core.getExecutionInstance().isPresent(), core.getSnapshot().isExecuting()));
+        while (!events.contains(GameEventType.COMBAT_STARTED) && model.getEnvironment().getCurrentFloor().hasNextRoom()) {
+            assertTrue(core.nextRoom().join());
+        }
+        while (core.getExecutionInstance().isPresent()) {
+            final ActionExecutionInstance instance = core.getExecutionInstance().get();
+            final Action action = model.getPlayerCharacter().getAvailableActionsList().get(0);
+            assertEquals(GameEventType.ACTION_SELECTION_REQUIRED, events.get(events.size() - 1));
+            core.selectAction(action, instance.getNPCsParty().get(0)).join();
+        }
+        assertEquals(GameEventType.ROOM_ENTERED, events.get(0));
+        assertEquals(GameEventType.EXECUTION_ENDED, events.get(events.size() - 1));
+        final GameSnapshot snapshot = core.getSnapshot();
+        assertTrue(snapshot.getVersion() > 0);
+        assertFalse(snapshot.isExecuting());
+        assertFalse(core.resumeRoom().join());
+        assertSame(snapshot, core.getSnapshot());
+        assertEquals(model.getPlayerCharacter().getStat(Statistic.HEALTH_POINT).getActual(),
+                     snapshot.getPlayer().getActual(Statistic.HEALTH_POINT));
+    }
+
+    /**
+     * Test a game played on a fixed-step game loop, one action per step.
+     */
+    @Test
+    public void testGameLoop() {
+        final Model model = new ModelImpl();
+        model.initGame(Optional.empty(), 1, 3);
+        final GameLoop loop = new GameLoop(1);
+        final GameCore core = new GameCoreImpl(model, loop);
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        core.bindObserver(e -> threads.add(Thread.currentThread().getName()));
+        while (!core.getSnapshot().isExecuting() && core.getSnapshot().getRoomIndex() < 2) {
+            assertTrue(core.nextRoom().join());
+        }
+        while (core.getSnapshot().isExecuting()) {
+            final ActionExecutionInstance instance = core.getExecutionInstance().get();
+            core.selectAction(model.getPlayerCharacter().getAvailableActionsList().get(0), instance.getNPCsParty().get(0)).join();
+        }
+        loop.stop();
+        assertFalse(threads.isEmpty());
+        assertTrue(threads.stream().allMatch("game-loop"::equals));
+    }
+
+    /**
+     * Test the changes collected for the actors shown by the view.
+     */
+    @Test
+    public void testChangeTracker() {
+        final Model model = new ModelImpl();
+        model.initGame(Optional.empty(), 1, 3);
+        final BasicCharacter goblin = new Goblin();
+        final List<ActionActor> actors = new ArrayList<>();
+        actors.add(model.getPlayerCharacter());
+        actors.add(goblin);
+        final ChangeTracker tracker = new ChangeTrackerImpl();
+        final ChangeSet first = tracker.collect(model, actors);
+        assertTrue(first.isRoomChanged() && first.isActorsChanged() && first.isChanged(goblin));
+        assertTrue(tracker.collect(model, actors).isEmpty());
+        goblin.getStat(Statistic.HEALTH_POINT).updateActual(-1);
+        final ChangeSet damaged = tracker.collect(model, actors);
+        assertFalse(damaged.isChanged(model.getPlayerCharacter()));
+        assertEquals(Collections.singleton(ChangeType.HEALTH), damaged.getChanges(goblin));
+        goblin.getStat(Statistic.HEALTH_POINT).updateActual(-goblin.getStat(Statistic.HEALTH_POINT).getActual());
+        assertTrue(tracker.collect(model, actors).getChanges(goblin).contains(ChangeType.DEATH));
+        actors.remove(goblin);
+        assertTrue(tracker.collect(model, actors).isActorsChanged());
+    }
+
+    /**
+     * Test that the action catalog is shared until the available actions change.
+     */
+    @Test
+    public void testActionCatalog() {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final List<Action> catalog = hero.getActionCatalog();
+        assertTrue(catalog == hero.getActionCatalog());
+        assertEquals(hero.getAvailableActionsList(), catalog);
+        assertTrue(hero.removeActionFromAvailable(catalog.get(0)));
+        final List<Action> updated = hero.getActionCatalog();
+        assertFalse(updated == catalog);
+        assertEquals(catalog.size() - 1, updated.size());
+    }
+
+    /**
+     * Test that a modifier shared by many actors gets the requirement against
+     * modifier-ignoring actions only once.
+     */
+    @Test
+    public void testSharedModifierRequirements() {
+        final HitChanceModifier modifier = new HitChanceModifier(1, false, ModifierActivation.ACTIVE_ON_ATTACK);
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final BasicCharacter goblin = new Goblin();
+        hero.addActionModifier(modifier, false);
+        goblin.addActionModifier(modifier, false);
+        hero.removeActionModifier(modifier);
+        hero.addActionModifier(modifier, false);
+        assertEquals(1, modifier.getRequirements().size());
+    }
+
+    /**
+     * Test that effect previews are rendered again only when the actors change.
+     */
+    @Test
+    public void testEffectsPreviewCache() {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final BasicCharacter goblin = new Goblin();
+        final Action attack = hero.getActionCatalog().get(0);
+        final String preview = attack.getEffectsPreview(goblin);
+        assertTrue(preview == attack.getEffectsPreview(goblin));
+        hero.getStat(Statistic.STRENGTH).updateActual(1);
+        final String updated = attack.getEffectsPreview(goblin);
+        assertFalse(preview == updated);
+        assertEquals(updated, attack.getCopy().getEffectsPreview(goblin));
+        final Action afflicting = attack.getCopy();
+        final Status status = new StatusImpl("Test", afflicting, null, StatusActivationFrequency.OVER_TIME, 2, true);
+        status.setAfflictedActor(goblin);
+        afflicting.setSource(hero);
+        final String description = status.getDescription();
+        assertTrue(description == status.getDescription());
+        hero.getStat(Statistic.STRENGTH).updateActual(1);
+        assertFalse(description == status.getDescription());
+    }
+
+    /**
+     * Test that computing and dealing damage doesn't change the damage effect.
+     */
+    @Test
+    public void testDamageComputation() {
+        final BasicCharacter hero = new PlayerCharacter(Optional.empty());
+        final BasicCharacter goblin = new Goblin();
+        final DamageEffect effect = (DamageEffect) hero.getAvailableActionsList().get(0).getEffects().stream()
+                                                       .filter(e -> e instanceof DamageEffect)
+                                                       .findFirst().get();
+        final double damage = effect.getDamage();
+        final int dealt = effect.computeDamage(Optional.of(goblin));
+        final int health = goblin.getStat(Statistic.HEALTH_POINT).getActual();
+        effect.updateEffectBySource(hero);
+        effect.updateEffectByTarget(goblin);
+        effect.apply(goblin);
+        assertEquals(health - dealt, goblin.getStat(Statistic.HEALTH_POINT).getActual());
+        assertEquals(damage, effect.getDamage(), 0);
+        assertEquals(dealt, effect.computeDamage(Optional.of(goblin)));
+        final ValueModifier<ActionEffect> notDamage = new AbstractValueModifier<ActionEffect>(1, false,
+                                                                                           ModifierActivation.ACTIVE_ON_DEFENCE) {
+            @Override
+            public void modify(final ActionEffect modifiable) {
+            }
+        };
+        goblin.addEffectModifier(new StatBasedModifier<>(Statistic.CONSTITUTION, goblin, notDamage), false);
+        assertEquals(dealt, effect.computeDamage(Optional.of(goblin)));
+    }
+
+    /**
+     * Test a balance sweep, whose fights are split in batches of different sizes.
+     * 
+     * @throws InterruptedException if the test is interrupted while waiting for the fights
+     */
+    @Test
+    public void testBalanceSweep() throws InterruptedException {
+        final SweepGrid grid = SweepGrid.parse(Arrays.asList("# goblin health",
+                                                             "GOBLIN.HEALTH_POINT.BASE=10:30:10",
+                                                             "STR_DAMAGE_ATK_PERC=0.05,0.1"));
+        assertEquals(6, grid.size());
+        assertEquals(20, grid.getValue(3, 0), 0);
+        assertEquals(0.1, grid.getValue(3, 1), 0);
+        final SweepResult result = new BalanceSweep(grid, Collections.singletonList(SweptCharacter.GOBLIN), 5, 2).run();
+        for (int point = 0; point < grid.size(); point++) {
+            assertEquals(result.getFights(),
+                         result.getWins(point) + result.getLosses(point) + result.getUnresolved(point));
+            assertTrue(result.getMeanRounds(point) > 0);
+        }
+    }
+
+    @Test
+    public void testGameCatalog() {
+        final GameCatalog catalog = new GameCatalogImpl(ByteBuffer.wrap(CatalogCompiler.compile(Arrays.asList(
+                "# a test catalog",
+                "enemy Giant Rat",
+                "    spawn 3",
+                "    stat HEALTH_POINT 10 5",
+                "    stat AGILITY 8 0",
+                "    stat CONSTITUTION 2 1",
+                "    stat STRENGTH 3 1",
+                "    action LIGHT_ATTACK HIGH",
+                "    action NASTY_STRIKE 10",
+                "    damage_modifier ACTIVE_ON_DEFENCE -0.5 REQUIRED POISON_DAMAGE",
+                "enemy Bat",
+                "    stat HEALTH_POINT 5 0",
+                "    stat AGILITY 12 0",
+                "    stat CONSTITUTION 1 0",
+                "    stat STRENGTH 1 0",
+                "    action LIGHT_ATTACK DEFAULT",
+                "    action Blood Drain HIGH",
+                "skill Blood Drain",
+                "    description Sharp teeth drink the blood of the target",
+                "    hit_chance 0.9",
+                "    tag OFFENSIVE",
+                "    damage 2 NORMAL_DAMAGE IGNORES_MODIFIERS",
+                "    status WEAKENED 2",
+                "item Salve",
+                "    id 100",
+                "    description A soothing ointment",
+                "    usable false true",
+                "    heal 0.1",
+                "item Iron Ring",
+                "    id -100",
+                "    description A plain ring",
+                "    equipable RING",
+                "    resistance FIRE_DAMAGE 2"))));
+        assertEquals(Arrays.asList("Giant Rat", "Bat"), catalog.getEnemyNames());
+        final EnemyDefinition rat = catalog.getEnemy("Giant Rat");
+        assertTrue(rat == catalog.getEnemy("Giant Rat"));
+        final CatalogEnemy first = new CatalogEnemy(rat);
+        final CatalogEnemy second = new CatalogEnemy(rat);
+        final int health = first.getStat(Statistic.HEALTH_POINT).getMax();
+        assertTrue(health >= 10 && health <= 15);
+        assertEquals(8, first.getStat(Statistic.AGILITY).getActual());
+        assertEquals(2, first.getActionCatalog().size());
+        assertTrue(first.getEffectModifiers().containsAll(rat.getEffectModifiers()));
+        assertTrue(second.getEffectModifiers().containsAll(rat.getEffectModifiers()));
+        assertEquals("Giant Rat", first.getName());
+        assertTrue(catalog.getEnemyNames().contains(catalog.getRandomEnemy(new Random()).getName()));
+
+        final Action drain = catalog.getSkill("Blood Drain");
+        assertTrue(drain == catalog.getSkill("Blood Drain"));
+        assertEquals(0.9, drain.getBaseHitChance(), 0);
+        assertEquals(2, drain.getEffects().size());
+        final CatalogEnemy bat = new CatalogEnemy(catalog.getEnemy("Bat"));
+        assertTrue(bat.getActionCatalog().stream().anyMatch(a -> a.getName().equals("Blood Drain")));
+
+        assertEquals(Arrays.asList("Salve", "Iron Ring"), catalog.getItemNames());
+        final Item salve = catalog.createItem("Salve", ItemRarityImpl.UNCOMMON);
+        assertFalse(salve.isEquipable());
+        assertFalse(((UsableItem) salve).isUsableInCombat());
+        assertEquals(new HealingEffect(0.2).getDescription(), salve.getEffectDescription());
+        final EquipableItem ring = (EquipableItem) catalog.createItem("Iron Ring", ItemRarityImpl.RARE);
+        assertEquals(EquipableItemType.RING, ring.getType());
+        assertEquals(1, ring.getActionEffects().size());
+        assertEquals(ring.getActionEffects(), ring.getCopy().getActionEffects());
+        try {
+            CatalogCompiler.compile(Arrays.asList("enemy Bat", "    stat HEALTH_POINT 5 0", "    stat AGILITY 12 0",
+                    "    stat CONSTITUTION 1 0", "    stat STRENGTH 1 0", "    action Blood Drain HIGH"));
+            fail("An enemy can't use an unknown skill");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("unknown action Blood Drain"));
+        }
+        //The items of the game catalog are items of the game
+        final String catalogItem = CatalogLoader.getDefault().getItemNames().get(0);
+        assertEquals(catalogItem, ItemFactory.createItem(catalogItem, ItemRarityImpl.COMMON).getBaseName());
+    }
+
+    private List<CombatEvent> readJournal(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return BinaryCombatJournal.readEvents(channel);
+        }
+    }
+
     private void executeNextAction() {
         logic.setNextAction();
         assertTrue(logic.evaluateCurrentAction().isPresent());
@@ -3,13 +3,45 @@ package test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.junit.Test;
+import thedd.controller.session.GameSession;
+import thedd.controller.session.GameSessionImpl;
+import thedd.controller.session.SessionManager;
+import thedd.controller.session.SessionManagerImpl;
+import thedd.model.Model;
+import thedd.model.ModelImpl;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.status.defensive.DefensiveStatus;
+import thedd.model.combat.tag.StatusTag;
+import thedd.model.item.Item;
+import thedd.model.item.ItemRarityImpl;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemImpl;
+import thedd.model.item.equipableitem.EquipableItemType;
+import thedd.model.item.equipableitem.implementations.EquipableItemSword;
 import thedd.model.roomevent.RoomEvent;
+import thedd.model.roomevent.RoomEventType;
 import thedd.model.roomevent.combatevent.CombatEvent;
 import thedd.model.roomevent.floorchanger.Stairs;
 import thedd.model.roomevent.interactableactionperformer.Contraption;
 import thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer;
+import thedd.model.roomevent.interactableactionperformer.TreasureChest;
+import thedd.model.savegame.AutoSaver;
+import thedd.model.savegame.AutoSaverImpl;
+import thedd.model.savegame.SaveGameManager;
+import thedd.model.savegame.SaveGameManagerImpl;
+import thedd.model.savegame.SessionCodec;
+import thedd.model.savegame.SessionCodecImpl;
 import thedd.model.world.Difficulty;
 import thedd.model.world.environment.Environment;
 import thedd.model.world.environment.EnvironmentImpl;
@@ -18,6 +50,9 @@ import thedd.model.world.floor.FloorDetailsFactory;
 import thedd.model.world.floor.FloorDetailsFactoryImpl;
 import thedd.model.world.floor.details.FloorDetails;
 import thedd.model.world.room.Room;
+import thedd.model.world.room.RoomContent;
+import thedd.model.world.room.RoomContentDistributor;
+import thedd.model.world.room.RoomContentDistributorImpl;
 import thedd.model.world.room.RoomFactory;
 import thedd.model.world.room.RoomFactoryImpl;
 
@@ -146,6 +181,271 @@ public class EnvironmentTest {
         }
     }
 
+    /**
+     * Test of RoomContentDistributor.
+     */
+    @Test
+    public void testRoomContentDistributor() {
+        final FloorDetailsFactory factory = new FloorDetailsFactoryImpl();
+        for (final Difficulty diff : Difficulty.values()) {
+            for (int i = EnvironmentImpl.MIN_NUMBER_OF_ROOMS; i < NUMBER_OF_TEST * NUMBER_OF_TEST; i++) {
+                final FloorDetails details = factory.createFloorDetails(diff, i, false);
+                final RoomContentDistributor distributor = new RoomContentDistributorImpl(details);
+                int numberOfEnemies = 0;
+                int numberOfContraption = 0;
+                int numberOfTreasure = 0;
+                assertEquals(i - 1, distributor.getNumberOfBaseRooms());
+                for (int j = 0; j < distributor.getNumberOfBaseRooms(); j++) {
+                    final int enemies = distributor.getQuantity(j, RoomContent.ENEMY);
+                    final int interactable = distributor.getQuantity(j, RoomContent.CONTRAPTION)
+                                             + distributor.getQuantity(j, RoomContent.TREASURE);
+                    assertTrue(enemies <= RoomFactoryImpl.MAX_ENEMIES_PER_ROOM);
+                    assertTrue(interactable <= RoomFactoryImpl.MAX_INTERACTABLE_ACTIONS_PER_ROOM);
+                    numberOfEnemies += enemies;
+                    numberOfContraption += distributor.getQuantity(j, RoomContent.CONTRAPTION);
+                    numberOfTreasure += distributor.getQuantity(j, RoomContent.TREASURE);
+                }
+                assertEquals(details.getNumberOfEnemies(), numberOfEnemies);
+                assertEquals(details.getNumberOfTreasures(), numberOfTreasure);
+                assertEquals(details.getNumberOfContraptions(), numberOfContraption);
+            }
+        }
+    }
+
+    /**
+     * Test of SaveGameManager.
+     * 
+     * @throws IOException if the save game can't be written or read
+     */
+    @Test
+    public void testSaveGame() throws IOException {
+        final SaveGameManager manager = new SaveGameManagerImpl();
+        final Path file = Files.createTempFile("thedd", ".sav");
+        final Model model = new ModelImpl();
+        model.initGame(Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        model.getEnvironment().setNextFloor(model.getEnvironment().getFloorOptions().get(0));
+        model.getEnvironment().getCurrentFloor().nextRoom();
+        manager.save(model, file);
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")));
+        final Model loaded = manager.load(file);
+        Files.delete(file);
+        assertEquals(model.getEnvironment().getCurrentFloorIndex(), loaded.getEnvironment().getCurrentFloorIndex());
+        final Floor floor = model.getEnvironment().getCurrentFloor();
+        final Floor loadedFloor = loaded.getEnvironment().getCurrentFloor();
+        assertEquals(floor.getCurrentRoomIndex(), loadedFloor.getCurrentRoomIndex());
+        assertEquals(describe(floor.getCurrentRoom().getEvents()), describe(loadedFloor.getCurrentRoom().getEvents()));
+        assertEquals(getNumberOfEnemies(floor.getCurrentRoom().getEvents()),
+                     getNumberOfEnemies(loadedFloor.getCurrentRoom().getEvents()));
+        for (int i = 0; i < floor.getContentDistributor().getNumberOfBaseRooms(); i++) {
+            for (final RoomContent content : RoomContent.values()) {
+                assertEquals(floor.getContentDistributor().getQuantity(i, content),
+                             loadedFloor.getContentDistributor().getQuantity(i, content));
+            }
+        }
+        assertEquals(model.getPlayerCharacter().getName(), loaded.getPlayerCharacter().getName());
+        assertEquals(model.getPlayerCharacter().getAllStat().toString(), loaded.getPlayerCharacter().getAllStat().toString());
+        assertEquals(model.getPlayerCharacter().getInventory(), loaded.getPlayerCharacter().getInventory());
+        assertEquals(model.getPlayerCharacter().getEquipmentSummary(), loaded.getPlayerCharacter().getEquipmentSummary());
+    }
+
+    /**
+     * Test of SaveGameManager with an item missing its innate effect and with a
+     * status lasting more than its default duration.
+     * 
+     * @throws IOException if the save game can't be written or read
+     */
+    @Test
+    public void testSaveGameRecords() throws IOException {
+        final SaveGameManager manager = new SaveGameManagerImpl();
+        final Model model = new ModelImpl();
+        model.initGame(Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        final String baseName = EquipableItemSword.getNewInstance(ItemRarityImpl.COMMON).getBaseName();
+        final EquipableItemImpl bare = new EquipableItemImpl(0, baseName, EquipableItemType.ONE_HANDED,
+                                                             ItemRarityImpl.COMMON, "Bare");
+        model.getPlayerCharacter().getInventory().addItem(bare);
+        final int duration = 3;
+        model.getPlayerCharacter().addStatus(new DefensiveStatus(duration));
+        final Model loaded = manager.fromBytes(manager.toBytes(model));
+        assertEquals(model.getPlayerCharacter().getInventory(), loaded.getPlayerCharacter().getInventory());
+        final Item loadedBare = loaded.getPlayerCharacter().getInventory().getAll().stream()
+                                      .filter(i -> "Bare".equals(i.getDescription()))
+                                      .findFirst().get();
+        assertEquals(bare, loadedBare);
+        assertEquals(bare.getId(), loadedBare.getId());
+        assertEquals(bare.getType(), ((EquipableItem) loadedBare).getType());
+        assertEquals(bare.getActionEffects(), ((EquipableItem) loadedBare).getActionEffects());
+        assertTrue(loaded.getPlayerCharacter().getStatuses().stream()
+                         .anyMatch(st -> st.getTags().contains(StatusTag.DEFENSIVE) && st.getCurrentDuration() == duration));
+    }
+
+    /**
+     * Test of AutoSaver: only changed parts are appended, and the current room is
+     * restored with the completion of its events.
+     * 
+     * @throws IOException if the autosave can't be written or read
+     */
+    @Test
+    public void testAutoSave() throws IOException {
+        final Path file = Files.createTempFile("thedd", ".autosave");
+        final AutoSaver autoSaver = new AutoSaverImpl(file);
+        final Model model = new ModelImpl();
+        model.initGame(Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        model.getEnvironment().setNextFloor(model.getEnvironment().getFloorOptions().get(0));
+        model.getEnvironment().getCurrentFloor().nextRoom();
+        autoSaver.autosave(model);
+        autoSaver.restore();
+        final long fullSize = Files.size(file);
+        autoSaver.autosave(model);
+        autoSaver.restore();
+        assertEquals(fullSize, Files.size(file));
+        model.getPlayerCharacter().getStat(Statistic.HEALTH_POINT).updateActual(-1);
+        final InteractableActionPerformer chest = new TreasureChest();
+        model.getEnvironment().getCurrentFloor().getCurrentRoom().addEvent(chest);
+        autoSaver.autosave(model);
+        chest.complete();
+        autoSaver.autosave(model);
+        final Model loaded = autoSaver.restore();
+        autoSaver.close();
+        Files.delete(file);
+        assertEquals(describe(model.getEnvironment().getCurrentFloor().getCurrentRoom().getEvents()),
+                     describe(loaded.getEnvironment().getCurrentFloor().getCurrentRoom().getEvents()));
+        assertEquals(model.getPlayerCharacter().getStat(Statistic.HEALTH_POINT).getActual(),
+                     loaded.getPlayerCharacter().getStat(Statistic.HEALTH_POINT).getActual());
+        assertEquals(model.getPlayerCharacter().getInventory(), loaded.getPlayerCharacter().getInventory());
+        assertEquals(model.getEnvironment().getCurrentFloor().getCurrentRoomIndex(),
+                     loaded.getEnvironment().getCurrentFloor().getCurrentRoomIndex());
+    }
+
+    /**
+     * Test of SessionCodec and of parked sessions: the current room and the plan
+     * of the following rooms are restored as they were.
+     * 
+     * @throws IOException if the game can't be encoded or decoded
+     */
+    @Test
+    public void testParkedSession() throws IOException {
+        final SessionCodec codec = new SessionCodecImpl();
+        final Model model = new ModelImpl();
+        model.initGame(Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        model.getEnvironment().getCurrentFloor().nextRoom();
+        model.getPlayerCharacter().getStat(Statistic.HEALTH_POINT).updateActual(-1);
+        final Model loaded = codec.decode(codec.encode(model));
+        final Floor floor = model.getEnvironment().getCurrentFloor();
+        final Floor loadedFloor = loaded.getEnvironment().getCurrentFloor();
+        assertEquals(model.getEnvironment().getFloorOptions(), loaded.getEnvironment().getFloorOptions());
+        assertEquals(floor.getFloorDetails(), loadedFloor.getFloorDetails());
+        assertEquals(floor.getCurrentRoomIndex(), loadedFloor.getCurrentRoomIndex());
+        for (int i = 0; i < floor.getContentDistributor().getNumberOfBaseRooms(); i++) {
+            for (final RoomContent content : RoomContent.values()) {
+                assertEquals(floor.getContentDistributor().getQuantity(i, content),
+                             loadedFloor.getContentDistributor().getQuantity(i, content));
+            }
+        }
+        assertEquals(describe(floor.getCurrentRoom().getEvents()), describe(loadedFloor.getCurrentRoom().getEvents()));
+        assertEquals(getNumberOfEnemies(floor.getCurrentRoom().getEvents()),
+                     getNumberOfEnemies(loadedFloor.getCurrentRoom().getEvents()));
+        assertEquals(model.getPlayerCharacter().getAllStat().toString(), loaded.getPlayerCharacter().getAllStat().toString());
+        assertEquals(model.getPlayerCharacter().getInventory(), loaded.getPlayerCharacter().getInventory());
+
+        final GameSession session = new GameSessionImpl(1, Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        session.execute("NEXT_ROOM");
+        if (session.execute("STATUS").contains("combat")) {
+            session.execute("AUTO");
+        }
+        final String state = session.execute("STATUS") + session.execute("EVENTS");
+        assertTrue(session.park());
+        assertTrue(session.isParked());
+        assertEquals(state, session.execute("STATUS") + session.execute("EVENTS"));
+        assertFalse(session.isParked());
+    }
+
+    /**
+     * Test of SessionManager: the sessions restored by a command are parked again
+     * when too many sessions are active.
+     * 
+     * @throws InterruptedException if the test is interrupted
+     * @throws IOException          if the manager can't be closed
+     */
+    @Test
+    public void testActiveSessionsBudget() throws InterruptedException, IOException {
+        final int maxActive = 2;
+        final SessionManager manager = new SessionManagerImpl(NUMBER_OF_TEST, maxActive, TimeUnit.DAYS.toMillis(1),
+                                                              Long.MAX_VALUE);
+        final List<GameSession> sessions = new ArrayList<>();
+        for (int i = 0; i <= maxActive; i++) {
+            sessions.add(manager.create(Optional.of("Player"), 2, 2));
+        }
+        assertTrue(manager.getNumberOfActiveSessions() <= maxActive);
+        assertTrue(manager.getParkedBytes() > 0);
+        for (final GameSession session : sessions) {
+            if (session.isParked()) {
+                session.execute("STATUS");
+            }
+        }
+        final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (manager.getNumberOfActiveSessions() > maxActive && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(manager.getNumberOfActiveSessions() <= maxActive);
+        sessions.forEach(s -> manager.remove(s.getId()));
+        assertEquals(0, manager.getParkedBytes());
+        manager.close();
+    }
+
+    /**
+     * Test of the generator of a game session: two sessions drawn with the same
+     * seed build the same floors and are played the same way, even when one of
+     * them is parked between the rooms.
+     */
+    @Test
+    public void testSeededSession() {
+        final long seed = 42;
+        final Model model = new ModelImpl(new Random(seed));
+        final Model other = new ModelImpl(new Random(seed));
+        model.initGame(Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        other.initGame(Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST);
+        assertEquals(model.getPlayerCharacter().getAllStat().toString(), other.getPlayerCharacter().getAllStat().toString());
+        final RoomContentDistributor distributor = model.getEnvironment().getCurrentFloor().getContentDistributor();
+        final RoomContentDistributor otherDistributor = other.getEnvironment().getCurrentFloor().getContentDistributor();
+        for (int i = 0; i < distributor.getNumberOfBaseRooms(); i++) {
+            for (final RoomContent content : RoomContent.values()) {
+                assertEquals(distributor.getQuantity(i, content), otherDistributor.getQuantity(i, content));
+            }
+        }
+        assertEquals(model.getEnvironment().getFloorOptions().toString(), other.getEnvironment().getFloorOptions().toString());
+
+        final GameSession session = new GameSessionImpl(1, Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST,
+                                                        new Random(seed));
+        final GameSession replay = new GameSessionImpl(2, Optional.of("Player"), NUMBER_OF_TEST, NUMBER_OF_TEST,
+                                                       new Random(seed));
+        for (int i = 1; i < NUMBER_OF_TEST && !session.isOver(); i++) {
+            assertEquals(play(session), play(replay));
+            assertTrue(replay.park());
+        }
+    }
+
+    /*
+     * Enters the next room, fights its combat and interacts with everything in
+     * it, returning what happened.
+     */
+    private String play(final GameSession session) {
+        final StringBuilder played = new StringBuilder(session.execute("NEXT_ROOM"));
+        if (session.execute("STATUS").contains("combat")) {
+            played.append(session.execute("AUTO"));
+        }
+        while (!session.isOver() && Arrays.stream(session.execute("EVENTS").split("\n"))
+                                          .anyMatch(e -> e.contains(RoomEventType.INTERACTABLE_ACTION_PERFORMER.name())
+                                                         && !e.endsWith(" completed"))) {
+            played.append(session.execute("INTERACT 0"));
+        }
+        return played.append(session.execute("STATUS")).append(session.execute("EVENTS")).toString();
+    }
+
+    private List<String> describe(final List<RoomEvent> events) {
+        return events.stream().map(e -> e.getType() + " " + e.getName() + " " + e.isCompleted())
+                              .collect(Collectors.toList());
+    }
+
     private int getNumberOfContraption(final List<RoomEvent> events) {
         return (int) events.stream().filter(e -> e instanceof Contraption).count();
     }
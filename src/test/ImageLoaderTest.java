@@ -0,0 +1,41 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.Optional;
+import javafx.scene.image.WritableImage;
+import org.junit.Test;
+import thedd.view.imageloader.DirectoryPicker;
+import thedd.view.imageloader.Sprite;
+import thedd.view.imageloader.SpriteAtlas;
+
+/**
+ * This class allows to test the imageloader module.
+ */
+public class ImageLoaderTest {
+
+    private static final int WIDTH = 30;
+    private static final int HEIGHT = 20;
+
+    /**
+     * Test of SpriteAtlas: a packed image is found by the name of its resource.
+     */
+    @Test
+    public void testPackedSprite() {
+        final String door = DirectoryPicker.ROOM_CHANGER.getImageName("Door");
+        final String stairs = DirectoryPicker.ROOM_CHANGER.getImageName("stairs");
+        assertNotNull(getClass().getResource(door));
+        final Optional<SpriteAtlas> atlas = SpriteAtlas.pack(Arrays.asList(door, stairs),
+                                                             name -> new WritableImage(WIDTH, HEIGHT));
+        assertTrue(atlas.isPresent());
+        final Optional<Sprite> sprite = atlas.get().getSprite(DirectoryPicker.ROOM_CHANGER.getImageName("door"));
+        assertTrue(sprite.isPresent());
+        assertEquals(atlas.get().getTexture(), sprite.get().getImage());
+        assertEquals(WIDTH, sprite.get().getViewport().get().getWidth(), 0);
+        assertEquals(HEIGHT, sprite.get().getViewport().get().getHeight(), 0);
+        assertFalse(atlas.get().getSprite(getClass().getResource(door).toString()).isPresent());
+    }
+}
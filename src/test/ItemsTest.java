@@ -5,15 +5,31 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.Test;
+import thedd.controller.core.GameSnapshot;
+import thedd.controller.information.PlayerInformation;
+import thedd.controller.information.PlayerInformationImpl;
+import thedd.model.Model;
+import thedd.model.ModelImpl;
+import thedd.model.character.inventory.Inventory;
+import thedd.model.character.inventory.InventoryImpl;
+import thedd.model.character.inventory.InventoryOrder;
+import thedd.model.character.statistics.Statistic;
 import thedd.model.character.types.PlayerCharacter;
+import thedd.model.item.Item;
+import thedd.model.item.ItemFactory;
+import thedd.model.item.ItemInterner;
 import thedd.model.item.ItemRarityImpl;
 import thedd.model.item.equipableitem.EquipableItem;
 import thedd.model.item.equipableitem.EquipableItemImpl;
 import thedd.model.item.equipableitem.EquipableItemType;
+import thedd.model.item.equipableitem.implementations.EquipableItemAmulet;
 import thedd.model.item.usableitem.UsableItem;
 import thedd.model.item.usableitem.UsableItemImpl;
+import thedd.model.world.environment.EnvironmentImpl;
 
 /**
  * This class tests thedd.model.item package.
@@ -74,4 +90,125 @@ public class ItemsTest {
         equipable2.onEquip(new PlayerCharacter(Optional.empty()));
         assertNotEquals(equipable1, equipable2);
     }
+
+    /**
+     * Test of batch generation in ItemFactory.
+     */
+    @Test
+    public void testGenerateItems() {
+        final int numberOfItems = 1000;
+        final List<Item> items = ItemFactory.generateItems(numberOfItems, new Random());
+        assertEquals(numberOfItems, items.size());
+        items.stream().filter(Item::isEquipable).map(i -> (EquipableItem) i).forEach(i -> {
+            assertEquals(i.getAdditionalActions().size(), i.getAdditionalActions().stream().distinct().count());
+            assertTrue(i.getActionEffects().size() 
+                       <= i.getRarityModifiers().get(i.getRarity()).getLeft() + i.getNumOfInnateModifiers());
+        });
+        assertTrue(ItemFactory.generateItems(0, new Random()).isEmpty());
+    }
+
+    /**
+     * Test of ItemInterner.
+     */
+    @Test
+    public void testInternItems() {
+        final EquipableItem equipable1 = new EquipableItemImpl(0, NAME, EquipableItemType.AMULET, ItemRarityImpl.COMMON,
+                DESCRIPTION);
+        final EquipableItem equipable2 = equipable1.getCopy();
+        assertEquals(equipable1, equipable2);
+        assertTrue(ItemInterner.intern(equipable1) == ItemInterner.intern(equipable2));
+        final PlayerCharacter character = new PlayerCharacter(Optional.empty());
+        character.getInventory().addItem(equipable1);
+        assertTrue(character.equipItem(equipable1));
+        assertFalse(equipable1.isEquipped());
+        assertTrue(character.getEquippedItems().stream().anyMatch(EquipableItem::isEquipped));
+    }
+
+    /**
+     * Test of the shared items kept by ItemInterner.
+     */
+    @Test
+    public void testSharedItems() {
+        final EquipableItem amulet = (EquipableItem) ItemInterner.intern(
+                EquipableItemAmulet.getNewInstance(ItemRarityImpl.UNCOMMON));
+        final EquipableItem copy = amulet.getCopy();
+        assertTrue(copy instanceof EquipableItemAmulet);
+        assertEquals(amulet, copy);
+        boolean changed = true;
+        try {
+            amulet.addActionEffect(ItemFactory.createStatisticEffect(Statistic.STRENGTH, 1));
+        } catch (IllegalStateException e) {
+            changed = false;
+        }
+        assertFalse(changed);
+        copy.addActionEffect(ItemFactory.createStatisticEffect(Statistic.STRENGTH, 1));
+        assertNotEquals(amulet.getActionEffects().size(), copy.getActionEffects().size());
+        final Item described = new EquipableItemImpl(0, NAME, EquipableItemType.AMULET, ItemRarityImpl.RARE,
+                DESCRIPTION);
+        final Item otherDescription = new EquipableItemImpl(0, NAME, EquipableItemType.AMULET, ItemRarityImpl.RARE,
+                NAME);
+        final Item otherId = new EquipableItemImpl(1, NAME, EquipableItemType.AMULET, ItemRarityImpl.RARE,
+                DESCRIPTION);
+        assertTrue(ItemInterner.intern(described) != ItemInterner.intern(otherDescription));
+        assertTrue(ItemInterner.intern(described) != ItemInterner.intern(otherId));
+    }
+
+    /**
+     * Test of EquipmentSummary.
+     */
+    @Test
+    public void testEquipmentSummary() {
+        final PlayerCharacter character = new PlayerCharacter(Optional.empty());
+        final EquipableItem ring = new EquipableItemImpl(0, NAME, EquipableItemType.RING, ItemRarityImpl.COMMON,
+                DESCRIPTION);
+        ring.addActionEffect(ItemFactory.createStatisticEffect(Statistic.STRENGTH, 1));
+        for (int i = 0; i <= EquipableItemType.getMaxNumOfRings(); i++) {
+            character.getInventory().addItem(ring);
+        }
+        assertFalse(character.getEquipmentSummary().isOccupied(EquipableItemType.RING));
+        assertTrue(character.equipItem(ring));
+        assertTrue(character.equipItem(ring));
+        assertEquals(EquipableItemType.getMaxNumOfRings(), character.getEquipmentSummary().getCount(EquipableItemType.RING));
+        assertFalse(character.isItemEquipableOnEquipment(ring));
+        assertEquals(EquipableItemType.getMaxNumOfRings(), character.getEquipmentSummary().getStatBonus(Statistic.STRENGTH));
+        assertTrue(character.unequipItem(character.getEquippedItems().stream()
+                                                  .filter(i -> i.getType() == EquipableItemType.RING)
+                                                  .findFirst().get()));
+        assertTrue(character.isItemEquipableOnEquipment(ring));
+        assertEquals(1, character.getEquipmentSummary().getStatBonus(Statistic.STRENGTH));
+        final Model game = new ModelImpl(character, new EnvironmentImpl(2, 2));
+        final GameSnapshot snapshot = GameSnapshot.of(0, game, Optional.empty(), Optional.empty());
+        final PlayerInformation information = new PlayerInformationImpl(() -> snapshot);
+        assertTrue(character.getEquippedItems().stream().allMatch(information::isEquipped));
+        assertFalse(information.isEquipped(ring));
+        final PlayerCharacter other = new PlayerCharacter(Optional.empty());
+        other.getInventory().addItem(ring);
+        assertTrue(other.equipItem(ring));
+        assertFalse(other.getEquippedItems().stream().anyMatch(information::isEquipped));
+    }
+
+    /**
+     * Test of Inventory ids and indexes.
+     */
+    @Test
+    public void testInventoryIndexes() {
+        final Inventory inventory = new InventoryImpl();
+        final UsableItem usable = new UsableItemImpl(0, NAME, ItemRarityImpl.RARE, DESCRIPTION, false, false);
+        final EquipableItem equipable = new EquipableItemImpl(0, NAME, EquipableItemType.AMULET, ItemRarityImpl.COMMON,
+                DESCRIPTION);
+        inventory.addItem(usable);
+        inventory.addItem(equipable);
+        inventory.addItem(equipable.getCopy());
+        assertEquals(2, inventory.getAll().size());
+        assertEquals(2, inventory.getQuantity(equipable));
+        assertEquals(equipable, inventory.getItem(inventory.getId(equipable)));
+        assertEquals(1, inventory.getEquipable(EquipableItemType.AMULET).size());
+        assertTrue(inventory.getEquipable(EquipableItemType.RING).isEmpty());
+        assertEquals(1, inventory.getUsable().size());
+        assertEquals(usable, inventory.getSorted(InventoryOrder.RARITY).get(0));
+        inventory.removeItem(usable);
+        assertEquals(0, inventory.getQuantity(usable));
+        assertTrue(inventory.getUsable().isEmpty());
+        assertEquals(1, inventory.getSorted(InventoryOrder.NAME).size());
+    }
 }
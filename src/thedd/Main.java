@@ -1,6 +1,23 @@
 package thedd;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import javafx.application.Application;
+import thedd.controller.session.GameServer;
+import thedd.controller.session.GameServerImpl;
+import thedd.controller.session.SessionManagerImpl;
+import thedd.model.balance.BalanceSweep;
+import thedd.model.balance.SweepGrid;
+import thedd.model.balance.SweepResult;
+import thedd.model.balance.SweptCharacter;
+import thedd.model.catalog.CatalogCompiler;
+import thedd.model.catalog.CatalogLoader;
 import thedd.view.ViewImpl;
 
 /**
@@ -8,15 +25,52 @@ import thedd.view.ViewImpl;
  */
 public final class Main {
 
+    private static final String SERVER_OPTION = "--server";
+    private static final String SWEEP_OPTION = "--sweep";
+    private static final String CATALOG_OPTION = "--catalog";
+    private static final int DEFAULT_FIGHTS = 100;
+    private static final int DEFAULT_PORT = 8080;
+    private static final int MAX_SESSIONS = 10_000;
+    private static final int MAX_ACTIVE_SESSIONS = 1_000;
+    private static final long IDLE_MILLIS = 60_000;
+    private static final long MAX_PARKED_BYTES = 64L * 1024 * 1024;
+
     private Main() { }
 
     /**
-     * The entry point of application.
+     * The entry point of application. With the option --server [port] the game
+     * sessions are hosted by a local {@link GameServer} instead of the view. With
+     * the option --sweep grid csv [fights [enemies...]] a {@link BalanceSweep} of
+     * the grid file is written to the csv file. With the option --catalog source
+     * compiled the source of a game catalog is compiled to the binary form loaded
+     * by {@link CatalogLoader}.
      * 
      * @param args passed
+     * @throws IOException if the server can't be started or the sweep or the
+     *         catalog can't be read or written
+     * @throws InterruptedException if the sweep is interrupted
      */
-    public static void main(final String[] args) {
-        Application.launch(ViewImpl.class, args);
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && SERVER_OPTION.equals(args[0])) {
+            final int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+            final GameServer server = new GameServerImpl(port, Runtime.getRuntime().availableProcessors(),
+                    new SessionManagerImpl(MAX_SESSIONS, MAX_ACTIVE_SESSIONS, IDLE_MILLIS, MAX_PARKED_BYTES));
+            server.start();
+        } else if (args.length > 2 && SWEEP_OPTION.equals(args[0])) {
+            final int fights = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_FIGHTS;
+            final List<SweptCharacter> enemies = args.length > 4
+                    ? Arrays.stream(args, 4, args.length).map(SweptCharacter::valueOf).collect(Collectors.toList())
+                    : Collections.singletonList(SweptCharacter.GOBLIN);
+            final SweepGrid grid = SweepGrid.parse(Files.readAllLines(Paths.get(args[1])));
+            final SweepResult result = new BalanceSweep(grid, enemies, fights, Runtime.getRuntime().availableProcessors()).run();
+            try (Writer writer = Files.newBufferedWriter(Paths.get(args[2]))) {
+                result.writeCsv(writer);
+            }
+        } else if (args.length > 2 && CATALOG_OPTION.equals(args[0])) {
+            Files.write(Paths.get(args[2]), CatalogCompiler.compile(Files.readAllLines(Paths.get(args[1]))));
+        } else {
+            Application.launch(ViewImpl.class, args);
+        }
     }
 
 }
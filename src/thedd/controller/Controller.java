@@ -2,17 +2,19 @@ package thedd.controller;
 
 import java.util.List;
 
+import thedd.controller.core.ActionSnapshot;
+import thedd.controller.core.ActorSnapshot;
+import thedd.controller.core.GameSnapshot;
+import thedd.controller.core.TargetSnapshot;
 import thedd.controller.information.PlayerInformation;
 import thedd.controller.information.StatisticsInformation;
-import thedd.model.combat.action.Action;
-import thedd.model.combat.actor.ActionActor;
-import thedd.model.character.BasicCharacter;
 import thedd.model.item.Item;
-import thedd.model.roomevent.RoomEvent;
 import thedd.model.world.floor.details.FloorDetails;
 
 /**
  * Interface describing the controller of the pattern MVC of this application.
+ * The view reads the state of the game only from the snapshots of the game,
+ * and changes it only through the controller.
  */
 public interface Controller {
 
@@ -26,6 +28,16 @@ public interface Controller {
      */
     boolean newGame(String playerName, String numberOfRooms, String numberOfFloors);
 
+    /**
+     * Continue the game session left in a combat when the application stopped,
+     * from the end of the last round played, and show it. If no combat was left,
+     * the game session is continued from the last autosave, taken when the
+     * player last entered a room or a floor.
+     * 
+     * @return true if a game session has been restored
+     */
+    boolean continueGame();
+
     /**
      * Close application.
      */
@@ -93,25 +105,21 @@ public interface Controller {
      * 
      * @param target the target to assign to the current action
      */
-    void targetSelected(ActionActor target);
+    void targetSelected(TargetSnapshot target);
 
     /**
-     * Sets the ActionExecutor as a OutOfCombatActionExecutor and
-     * starts it passing the provided action.
+     * Lets the player interact with an object of the current room, out of combat.
      * 
-     * @param action the action to execute
-     */
-    void executeSingleAction(Action action);
-
-    /**
-     * Execute the last evaluated action by the ActionExecutor.
+     * @param index the index of the object, as given by
+     *              {@link GameSnapshot#getInteractables()}
      */
-    void executeCurrentAction();
+    void interact(int index);
 
     /**
-     * Updates the execution status and the game according to it.
+     * Lets the game go on once the view has shown the result of the last
+     * executed action.
      */
-    void evaluateExecutionState();
+    void resumeExecution();
 
     /**
      * Sets the provided action as the player's selected action and prompts the view
@@ -119,15 +127,15 @@ public interface Controller {
      * 
      * @param action the selected action
      */
-    void selectAction(Action action);
+    void selectAction(ActionSnapshot action);
 
     /**
      * This method enable to set the targeted character to show its statistics
      * informations.
      * 
-     * @param character a BasicCharacter.
+     * @param character the snapshot of a character.
      */
-    void updateStatistics(BasicCharacter character);
+    void updateStatistics(ActorSnapshot character);
 
     /**
      * Try to move into next room.
@@ -137,7 +145,7 @@ public interface Controller {
     boolean nextRoom();
 
     /**
-     * Try to move into next floor.
+     * Try to move into next floor and into its first room.
      * 
      * @param floorDetails that describe the selected floor
      * @return true only if is possibile to change floor and the FloorDetails is
@@ -145,13 +153,6 @@ public interface Controller {
      */
     boolean nextFloor(FloorDetails floorDetails);
 
-    /**
-     * Get all RoomEvent of current room.
-     * 
-     * @return list of RoomEvent conteined inside the room
-     */
-    List<RoomEvent> getRoomEvents();
-
     /**
      * Get stairs options of last room.
      * 
@@ -188,10 +189,12 @@ public interface Controller {
     boolean hasPlayerWon();
 
     /**
-     * This method return the player.
-     * @return the player
+     * Gets the last snapshot of the game, which holds the statistics of the player
+     * and of the enemies as the last shown action left them.
+     * 
+     * @return the last snapshot of the game
      */
-    BasicCharacter getPlayer();
+    GameSnapshot getSnapshot();
 
     /**
      * This method allows to know if the number of rooms inserted by the player is valid.
@@ -1,51 +1,90 @@
 package thedd.controller;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import javafx.application.Platform;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import thedd.controller.core.ActionSnapshot;
+import thedd.controller.core.ActorSnapshot;
+import thedd.controller.core.GameCore;
+import thedd.controller.core.GameCoreImpl;
+import thedd.controller.core.GameEvent;
+import thedd.controller.core.GameLoop;
+import thedd.controller.core.GameSnapshot;
+import thedd.controller.core.TargetSnapshot;
 import thedd.controller.information.PlayerInformation;
 import thedd.controller.information.PlayerInformationImpl;
 import thedd.controller.information.StatisticsInformation;
 import thedd.controller.information.StatisticsInformationImpl;
 import thedd.model.Model;
 import thedd.model.ModelImpl;
-import thedd.model.character.BasicCharacter;
 import thedd.model.combat.action.Action;
-import thedd.model.combat.action.TargetType;
-import thedd.model.combat.action.result.ActionResult;
 import thedd.model.combat.actionexecutor.ActionExecutor;
-import thedd.model.combat.actionexecutor.OutOfCombatActionExecutor;
-import thedd.model.combat.actionexecutor.StatusUpdateActionExecutor;
-import thedd.model.combat.actor.ActionActor;
-import thedd.model.combat.encounter.HostileEncounter;
 import thedd.model.combat.instance.ActionExecutionInstance;
 import thedd.model.combat.instance.ExecutionStatus;
-import thedd.model.combat.instance.ExecutionInstanceImpl;
+import thedd.model.combat.journal.CombatJournal;
+import thedd.model.combat.journal.FileCombatJournal;
 import thedd.model.item.Item;
-import thedd.model.item.usableitem.UsableItem;
-import thedd.model.roomevent.RoomEvent;
-import thedd.model.roomevent.RoomEventType;
-import thedd.model.roomevent.combatevent.CombatEvent;
+import thedd.model.savegame.AutoSaver;
+import thedd.model.savegame.AutoSaverImpl;
+import thedd.model.savegame.CombatCheckpointer;
+import thedd.model.savegame.CombatCheckpointerImpl;
 import thedd.model.world.environment.EnvironmentImpl;
 import thedd.model.world.floor.details.FloorDetails;
-import thedd.model.world.room.Room;
 import thedd.view.ApplicationViewState;
 import thedd.view.View;
 
 /**
  * Implementation of the {@link Controller}.
+ * <p>
+ * The game is played by a {@link thedd.controller.core.GameCore}, which runs on
+ * its own {@link thedd.controller.core.GameLoop}: the controller gives it the
+ * commands of the player and shows the events it emits. The model is changed
+ * only by the commands of the core, and read by the controller only from the
+ * observer of the core, on the thread of the loop, to save the game. The events
+ * are handed to the JavaFX application thread with the snapshot of the game
+ * they left, and shown once per pulse: the view reads only the snapshot of the
+ * last event shown, so the game can get ahead of the view, but the view never
+ * shows the game ahead of the events. The time between two actions is given
+ * in milliseconds by the system property thedd.loop.stepMillis, 0 by default
+ * to play as fast as possible.
  */
 public class ControllerImpl implements Controller {
 
     private static final String SELECT_ACTION = "Select an action";
     private static final String SELECT_TARGET = "Select a target";
+    private static final String AUTOSAVE_FILE = ".thedd-autosave";
+    private static final String CHECKPOINT_FILE = ".thedd-combat";
+    private static final String JOURNAL_FILE = ".thedd-journal";
+    private static final String ERROR_NOGAME = "No game has been started";
+    private static final String STEP_PROPERTY = "thedd.loop.stepMillis";
+    private static final long DEFAULT_STEP_MILLIS = 0;
     private final View view;
-    private final Model model;
-    private PlayerInformation playerInfo;
-    private StatisticsInformation statisticsInfo;
-    private Optional<ActionExecutor> actionExecutor = Optional.empty();
+    private final AutoSaver autoSaver;
+    private final CombatCheckpointer checkpointer;
+    private final Path journalFile;
+    private Optional<FileCombatJournal> journal = Optional.empty();
+    private Optional<GameLoop> loop = Optional.empty();
+    private Queue<Pair<Optional<GameEvent>, GameSnapshot>> pendingEvents;
+    private final AtomicBoolean drainScheduled;
+    private boolean displayPaused;
+    private Optional<GameSnapshot> shown = Optional.empty();
+    private final PlayerInformation playerInfo;
+    private Optional<StatisticsInformation> statisticsInfo = Optional.empty();
+    private Optional<GameCore> core = Optional.empty();
+    private Optional<Action> selectedAction = Optional.empty();
 
     /**
      * Create a new Controller instance.
@@ -55,7 +94,12 @@ public class ControllerImpl implements Controller {
     public ControllerImpl(final View view) {
         Objects.requireNonNull(view);
         this.view = view;
-        this.model = new ModelImpl();
+        this.autoSaver = new AutoSaverImpl(Paths.get(System.getProperty("user.home"), AUTOSAVE_FILE));
+        this.checkpointer = new CombatCheckpointerImpl(Paths.get(System.getProperty("user.home"), CHECKPOINT_FILE));
+        this.journalFile = Paths.get(System.getProperty("user.home"), JOURNAL_FILE);
+        this.pendingEvents = new ConcurrentLinkedQueue<>();
+        this.drainScheduled = new AtomicBoolean();
+        this.playerInfo = new PlayerInformationImpl(this::getSnapshot);
     }
 
     /**
@@ -66,14 +110,64 @@ public class ControllerImpl implements Controller {
         if (this.isValidNumberOfRooms(numberOfRooms) && this.isValidNumberOfFloors(numberOfFloors)) {
             final int numOfRooms = Integer.parseInt(numberOfRooms);
             final int numOfFloors = Integer.parseInt(numberOfFloors);
-            this.model.initGame(Optional.ofNullable(playerName), numOfFloors, numOfRooms);
-            this.playerInfo = new PlayerInformationImpl(this.model.getPlayerCharacter());
-            this.statisticsInfo = new StatisticsInformationImpl(this.model.getPlayerCharacter());
+            final Model game = new ModelImpl();
+            game.initGame(Optional.ofNullable(playerName), numOfFloors, numOfRooms);
+            this.startGame(game);
             return true;
         }
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean continueGame() {
+        Optional<Pair<Model, ActionExecutor>> restored;
+        try {
+            restored = this.checkpointer.restore();
+        } catch (IOException e) {
+            //A checkpoint which can't be read can't be continued, the autosave is used instead
+            this.clearCheckpoint();
+            restored = Optional.empty();
+        }
+        final Model game;
+        if (restored.isPresent()) {
+            game = restored.get().getLeft();
+        } else {
+            try {
+                game = this.autoSaver.restore();
+            } catch (IOException e) {
+                //There is no autosave, or it can't be read: there is nothing to continue
+                return false;
+            }
+        }
+        this.startGame(game);
+        this.view.setState(ApplicationViewState.GAME);
+        getCore().resumeRoom();
+        return true;
+    }
+
+    /*
+     * Every game has its own loop and its own queue of events, so the events of
+     * the previous game still being played are never shown.
+     */
+    private void startGame(final Model game) {
+        this.loop.ifPresent(GameLoop::stop);
+        final GameLoop gameLoop = new GameLoop(Long.getLong(STEP_PROPERTY, DEFAULT_STEP_MILLIS));
+        final Queue<Pair<Optional<GameEvent>, GameSnapshot>> events = new ConcurrentLinkedQueue<>();
+        this.loop = Optional.of(gameLoop);
+        this.pendingEvents = events;
+        this.displayPaused = false;
+        this.selectedAction = Optional.empty();
+        this.playerInfo.resetUsedItem();
+        final GameCore gameCore = new GameCoreImpl(game, gameLoop, this::openJournal);
+        gameCore.bindObserver(e -> e.ifPresent(event -> this.onGameEvent(game, gameCore, events, event)));
+        this.core = Optional.of(gameCore);
+        this.shown = Optional.of(gameCore.getSnapshot());
+        this.statisticsInfo = Optional.of(new StatisticsInformationImpl(gameCore.getSnapshot().getPlayer()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,6 +201,18 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final void closeApplication() {
+        this.loop.ifPresent(GameLoop::stop);
+        this.closeJournal();
+        try {
+            this.autoSaver.close();
+        } catch (IOException e) {
+            System.err.println("The last autosave has been lost: " + e.getMessage());
+        }
+        try {
+            this.checkpointer.close();
+        } catch (IOException e) {
+            System.err.println("The last combat checkpoint has been lost: " + e.getMessage());
+        }
         Platform.exit();
     }
 
@@ -115,7 +221,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public boolean isCombatActive() {
-        return this.model.getPlayerCharacter().isInCombat();
+        return getSnapshot().isInCombat();
     }
 
     /**
@@ -123,8 +229,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void deleteItem(final Item item) {
-        this.model.getPlayerCharacter().getInventory().removeItem(item);
-        this.view.update();
+        this.showWhenDone(getCore().removeItem(item));
     }
 
     /**
@@ -133,15 +238,9 @@ public class ControllerImpl implements Controller {
     @Override
     public void useItem(final Item item) {
         if (item.isUsable()) {
-            final UsableItem usable = (UsableItem) item;
+            this.selectedAction = Optional.empty();
             playerInfo.setUsedItem(item);
-            final Action itemAction = usable.getAction();
-            itemAction.setSource(getPlayer());
-            if (getPlayer().isInCombat()) {
-                this.selectAction(itemAction);
-            } else {
-                this.executeSingleAction(itemAction);
-            }
+            getCore().getTargets(item).thenAccept(t -> Platform.runLater(() -> this.showTargets(t)));
         }
     }
 
@@ -150,9 +249,12 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public boolean equipItem(final Item item) {
-        final boolean ret = this.model.getPlayerCharacter().equipItem(item);
-        this.view.update();
-        return ret;
+        final GameSnapshot snapshot = getCore().getSnapshot();
+        if (snapshot.isInCombat() || !snapshot.getInventory().isEquipable(item)) {
+            return false;
+        }
+        this.showWhenDone(getCore().equipItem(item));
+        return true;
     }
 
     /**
@@ -160,8 +262,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void unequipItem(final Item item) {
-        this.model.getPlayerCharacter().unequipItem(item);
-        this.view.update();
+        this.showWhenDone(getCore().unequipItem(item));
     }
 
     /**
@@ -177,15 +278,15 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public StatisticsInformation getStatisticsInformation() {
-        return this.statisticsInfo;
+        return this.statisticsInfo.orElseThrow(() -> new IllegalStateException(ERROR_NOGAME));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void updateStatistics(final BasicCharacter character) {
-        this.statisticsInfo.setCharacter(character);
+    public void updateStatistics(final ActorSnapshot character) {
+        getStatisticsInformation().setCharacter(character);
         view.partialUpdate();
     }
 
@@ -194,8 +295,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void undoActionSelection() {
-        final ActionActor playerActor = this.model.getPlayerCharacter();
-        playerActor.resetSelectedAction();
+        this.selectedAction = Optional.empty();
         playerInfo.resetUsedItem();
         if (isCombatActive()) {
             view.showMessage(SELECT_ACTION);
@@ -209,21 +309,18 @@ public class ControllerImpl implements Controller {
      * {@inheritDoc}
      */
     @Override
-    public void targetSelected(final ActionActor target) {
+    public void targetSelected(final TargetSnapshot target) {
         view.hideMessage();
         view.disableInteraction();
-        final ActionActor playerActor = this.model.getPlayerCharacter();
-        final ActionExecutor currentExecutor = actionExecutor.get();
-        playerActor.getSelectedAction().ifPresent(a -> {
-            playerInfo.getUsedItem().ifPresent(i -> {
-                this.model.getPlayerCharacter().getInventory().removeItem(i);
-                playerInfo.resetUsedItem();
-            });
-            a.setTargets(target, a.getValidTargets(currentExecutor.getExecutionInstance()));
-            currentExecutor.addActorToQueue(playerActor);
-        });
-        if (currentExecutor.isRoundReady()) {
-            evaluateNextAction();
+        final Optional<Action> selected = this.selectedAction;
+        final Optional<Item> usedItem = playerInfo.getUsedItem();
+        this.selectedAction = Optional.empty();
+        playerInfo.resetUsedItem();
+        //The core queues the action of the player, or executes it out of combat
+        if (usedItem.isPresent()) {
+            getCore().useItem(usedItem.get(), target.getTarget());
+        } else if (selected.isPresent()) {
+            getCore().selectAction(selected.get(), target.getTarget());
         }
     }
 
@@ -231,19 +328,23 @@ public class ControllerImpl implements Controller {
      * {@inheritDoc}
      */
     @Override
-    public void executeSingleAction(final Action action) {
-        final ActionActor playerActor = this.model.getPlayerCharacter();
-        final ActionExecutionInstance instance = new ExecutionInstanceImpl();
-        actionExecutor = Optional.of(new OutOfCombatActionExecutor(action));
-        instance.addPlayerPartyMember(playerActor);
-        actionExecutor.get().setExecutionInstance(instance);
-        if (action.getTargets().isEmpty()) {
-            model.getPlayerCharacter().addActionToQueue(action, true);
-            view.showMessage(SELECT_TARGET);
-            final List<ActionActor> targetables = action.getValidTargets(instance);
-            view.showActionTargets(targetables, instance.getPlayerParty(), instance.getNPCsParty(), action);
+    public void interact(final int index) {
+        this.showWhenDone(getCore().interact(index));
+    }
+
+    /*
+     * An action which can target only the player, in combat, doesn't need the
+     * player to choose its target.
+     */
+    private void showTargets(final List<TargetSnapshot> targets) {
+        final List<TargetSnapshot> targetables = targets.stream().filter(TargetSnapshot::isTargetable)
+                                                        .collect(Collectors.toList());
+        if (isCombatActive() && targetables.size() == 1 && targetables.get(0).isAllied()
+                && targetables.get(0).getPosition() == 0) {
+            targetSelected(targetables.get(0));
         } else {
-            evaluateNextAction();
+            view.showActionTargets(targets);
+            view.showMessage(SELECT_TARGET);
         }
     }
 
@@ -251,32 +352,112 @@ public class ControllerImpl implements Controller {
      * {@inheritDoc}
      */
     @Override
-    public void executeCurrentAction() {
-        if (!actionExecutor.isPresent()) {
+    public void resumeExecution() {
+        this.displayPaused = false;
+        view.update();
+        this.showPending();
+    }
+
+    /*
+     * Called by the core from the thread of its loop, which is the thread changing
+     * the model, so the autosaves and the checkpoints read the model while no
+     * command is changing it: they are taken at once, before the game goes on.
+     * The event is then handed to the JavaFX application thread.
+     */
+    private void onGameEvent(final Model game, final GameCore gameCore,
+                             final Queue<Pair<Optional<GameEvent>, GameSnapshot>> events, final GameEvent event) {
+        switch (event.getType()) {
+        case ROUND_ENDED:
+            this.checkpoint(game, event.getInstance().get());
             return;
+        case ROOM_ENTERED:
+        case FLOOR_CHANGED:
+            this.autoSaver.autosave(game);
+            break;
+        case EXECUTION_ENDED:
+            //The events of the room completed by the execution are kept by the autosave as well
+            if (event.getStatus().get() != ExecutionStatus.PLAYER_LOST) {
+                this.autoSaver.autosave(game);
+            }
+            if (event.getStatus().get() == ExecutionStatus.PLAYER_LOST
+                    || event.getStatus().get() == ExecutionStatus.PLAYER_WON) {
+                this.clearCheckpoint();
+                this.closeJournal();
+            }
+            break;
+        default:
+            break;
         }
-        final ActionExecutor executor = actionExecutor.get();
-        executor.executeCurrentAction();
-        view.showActionResult(executor.getLastActionResult().get());
+        this.enqueue(events, Optional.of(event), gameCore.getSnapshot());
     }
 
-    /**
-     * {@inheritDoc}
+    /*
+     * The commands which emit no event are shown once they are done, after the
+     * events given before them.
      */
-    @Override
-    public void evaluateExecutionState() {
-        if (!actionExecutor.isPresent()) {
-            return;
+    private void showWhenDone(final CompletableFuture<?> command) {
+        final GameCore gameCore = getCore();
+        final Queue<Pair<Optional<GameEvent>, GameSnapshot>> events = this.pendingEvents;
+        command.whenComplete((r, e) -> this.enqueue(events, Optional.empty(), gameCore.getSnapshot()));
+    }
+
+    /*
+     * Called from any thread. At most one drain of the events is scheduled at a
+     * time, so the events given between two pulses are shown together.
+     */
+    private void enqueue(final Queue<Pair<Optional<GameEvent>, GameSnapshot>> events,
+                         final Optional<GameEvent> event, final GameSnapshot snapshot) {
+        events.add(new ImmutablePair<>(event, snapshot));
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::showPending);
         }
-        final ActionExecutor executor = actionExecutor.get();
-        executor.updateExecutionStatus();
-        final ExecutionStatus status = executor.getExecutionStatus();
-        switch (status) {
-        case COMBAT_ENDED:
-            actionExecutor = Optional.empty();
-            view.hideMessage();
+    }
+
+    /*
+     * Runs on the JavaFX application thread. While the result of an action is
+     * being shown, the following events wait for it to be shown: the pacing of
+     * the view only holds what is shown, never the game.
+     */
+    private void showPending() {
+        this.drainScheduled.set(false);
+        while (!this.displayPaused && !this.pendingEvents.isEmpty()) {
+            final Pair<Optional<GameEvent>, GameSnapshot> next = this.pendingEvents.poll();
+            this.shown = Optional.of(next.getRight());
+            if (next.getLeft().isPresent()) {
+                this.showEvent(next.getLeft().get());
+            } else {
+                view.update();
+            }
+        }
+    }
+
+    private void showEvent(final GameEvent event) {
+        switch (event.getType()) {
+        case COMBAT_STARTED:
             view.update();
             break;
+        case ACTION_EVALUATED:
+            view.visualizeAction(event.getActionName().get());
+            break;
+        case ACTION_EXECUTED:
+            this.displayPaused = true;
+            view.showActionResult(event.getLog());
+            break;
+        case ACTION_SELECTION_REQUIRED:
+            view.showMessage(SELECT_ACTION);
+            view.showActionSelector();
+            view.update();
+            break;
+        case EXECUTION_ENDED:
+            showExecutionEnd(event.getStatus().get());
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void showExecutionEnd(final ExecutionStatus status) {
+        switch (status) {
         case PLAYER_LOST:
             view.update();
             this.view.setState(ApplicationViewState.END_GAME);
@@ -289,79 +470,66 @@ public class ControllerImpl implements Controller {
             view.hideMessage();
             view.update();
             break;
-        case ROUND_IN_PROGRESS:
-            view.update();
-            evaluateNextAction();
-            break;
-        case ROUND_PAUSED:
-            view.showMessage(SELECT_ACTION);
-            view.showActionSelector();
-            view.update();
-            break;
-        case ROUND_ENDED:
-            view.showMessage(SELECT_ACTION);
-            view.showActionSelector();
-            executor.prepareNextRound();
-            view.update();
-            break;
         default:
+            view.hideMessage();
+            view.update();
             break;
         }
     }
 
-    private void startCombat(final HostileEncounter encounter) {
-        final ActionActor playerActor = this.model.getPlayerCharacter();
-        final ActionExecutionInstance instance = new ExecutionInstanceImpl();
-        final ActionExecutor combatExecutor = encounter.getCombatLogic();
-        instance.addPlayerPartyMember(playerActor);
-        instance.addNPCsPartyMembers(encounter.getNPCs());
-        combatExecutor.setExecutionInstance(instance);
-        combatExecutor.startExecutor();
-        actionExecutor = Optional.of(combatExecutor);
-        if (combatExecutor.isRoundReady()) {
-            evaluateNextAction();
-        } else {
-            view.showActionSelector();
-            view.showMessage(SELECT_ACTION);
+    private void checkpoint(final Model game, final ActionExecutionInstance instance) {
+        try {
+            this.checkpointer.checkpoint(game, instance);
+        } catch (IOException e) {
+            //The previous checkpoint is kept, the combat goes on anyway
         }
     }
 
-    private void evaluateNextAction() {
-        actionExecutor.ifPresent(a -> {
-            a.setNextAction();
-            final Optional<ActionResult> result = a.evaluateCurrentAction();
-            if (result.isPresent()) {
-                view.visualizeAction(result.get());
-            } else {
-                evaluateExecutionState();
+    private void clearCheckpoint() {
+        try {
+            this.checkpointer.clear();
+        } catch (IOException e) {
+            //A stale checkpoint is overwritten by the next combat
+        }
+    }
+
+    /*
+     * The journal of the last combat is kept, so that the combat can be played
+     * again with a CombatReplayer: every combat is written to the file while it
+     * is fought. A combat restored from a checkpoint has no journal, since it
+     * can't be played again from its start.
+     */
+    private synchronized Optional<CombatJournal> openJournal() {
+        this.closeJournal();
+        this.journal = Optional.of(new FileCombatJournal(this.journalFile));
+        return this.journal.map(j -> j);
+    }
+
+    private synchronized void closeJournal() {
+        final Optional<FileCombatJournal> last = this.journal;
+        this.journal = Optional.empty();
+        if (last.isPresent()) {
+            try {
+                last.get().close();
+            } catch (IOException e) {
+                System.err.println("The journal of the last combat has been lost: " + e.getMessage());
             }
-        });
+        }
     }
 
-    private void updateStatuses() {
-        final ActionExecutor executor = new StatusUpdateActionExecutor();
-        final ActionExecutionInstance instance = new ExecutionInstanceImpl();
-        instance.addPlayerPartyMember(model.getPlayerCharacter());
-        executor.setExecutionInstance(instance);
-        executor.startExecutor();
-        actionExecutor = Optional.of(executor);
-        evaluateNextAction();
+    private GameCore getCore() {
+        return this.core.orElseThrow(() -> new IllegalStateException(ERROR_NOGAME));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void selectAction(final Action action) {
-        model.getPlayerCharacter().addActionToQueue(action, true);
-        final ActionExecutionInstance aei = actionExecutor.get().getExecutionInstance();
-        if (action.getTargetType() == TargetType.SELF) {
-            targetSelected(action.getSource().get());
-        } else {
-            final List<ActionActor> targetables = action.getValidTargets(aei);
-            view.showActionTargets(targetables, aei.getPlayerParty(), aei.getNPCsParty(), action);
-            view.showMessage(SELECT_TARGET);
-        }
+    public void selectAction(final ActionSnapshot action) {
+        final Action selected = action.getAction();
+        playerInfo.resetUsedItem();
+        this.selectedAction = Optional.of(selected);
+        getCore().getTargets(selected).thenAccept(t -> Platform.runLater(() -> this.showTargets(t)));
     }
 
     /**
@@ -369,40 +537,40 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final boolean nextRoom() {
-        final boolean isChanged = this.model.getEnvironment().getCurrentFloor().nextRoom();
-        if (isChanged) {
-            final Room room = this.model.getEnvironment().getCurrentFloor().getCurrentRoom();
-            if (room.getEvents().stream().anyMatch(e -> e instanceof CombatEvent)) {
-                final CombatEvent combat = room.getEvents().stream().filter(e -> e.getType() == RoomEventType.COMBAT_EVENT)
-                                                                    .findFirst()
-                                                                    .map(e -> (CombatEvent) e)
-                                                                    .get();
-                this.startCombat(combat.getHostileEncounter());
-                this.view.update();
-            } else {
-                this.updateStatuses();
-            }
+        if (!canMoveOn(getCore().getSnapshot()) || getCore().getSnapshot().isLastRoom()) {
+            return false;
         }
-        return isChanged;
+        this.showWhenDone(getCore().nextRoom());
+        return true;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The first room of the new floor is entered as well.
      */
     @Override
     public final boolean nextFloor(final FloorDetails floorDetails) {
-        return this.model.getEnvironment().setNextFloor(floorDetails);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public final List<RoomEvent> getRoomEvents() {
-        if (this.model.getEnvironment().getCurrentFloor().getCurrentRoomIndex() >= 0) {
-            return this.model.getEnvironment().getCurrentFloor().getCurrentRoom().getEvents();
+        final GameSnapshot snapshot = getCore().getSnapshot();
+        if (!canMoveOn(snapshot) || !snapshot.isLastRoom() || snapshot.isLastFloor()
+                || !snapshot.getStairs().contains(floorDetails)) {
+            return false;
         }
-        return Collections.emptyList();
+        final GameCore gameCore = getCore();
+        this.showWhenDone(gameCore.nextFloor(floorDetails)
+                                  .thenCompose(changed -> changed ? gameCore.nextRoom()
+                                                                  : CompletableFuture.completedFuture(false)));
+        return true;
+    }
+
+    /*
+     * The commands run on the loop, so their outcome is not known when they are
+     * given: the player can move on only from the state of the game when the
+     * command is given, which is the state the command will find, since the core
+     * waits for the player while exploring.
+     */
+    private static boolean canMoveOn(final GameSnapshot snapshot) {
+        return !snapshot.isOver() && !snapshot.isExecuting() && !snapshot.isInCombat() && snapshot.isRoomCompleted();
     }
 
     /**
@@ -410,7 +578,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final List<FloorDetails> getStairsOptions() {
-        return this.model.getEnvironment().getFloorOptions();
+        return getSnapshot().getStairs();
     }
 
     /**
@@ -418,7 +586,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final boolean isCurrentLastFloor() {
-        return this.model.getEnvironment().isCurrentLastFloor();
+        return getSnapshot().isLastFloor();
     }
 
     /**
@@ -426,7 +594,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final boolean isCurrentLastRoom() {
-        return !this.model.getEnvironment().getCurrentFloor().hasNextRoom();
+        return getSnapshot().isLastRoom();
     }
 
     /**
@@ -434,7 +602,7 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final boolean isCurrentRoomCompleted() {
-        return this.model.getEnvironment().getCurrentFloor().getCurrentRoom().checkToMoveOn();
+        return getSnapshot().isRoomCompleted();
     }
 
     /**
@@ -442,15 +610,16 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public final boolean hasPlayerWon() {
-        return this.model.hasPlayerWon();
+        final GameSnapshot snapshot = getSnapshot();
+        return snapshot.isOver() && snapshot.getPlayer().isAlive();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public final BasicCharacter getPlayer() {
-        return this.model.getPlayerCharacter();
+    public final GameSnapshot getSnapshot() {
+        return this.shown.orElseThrow(() -> new IllegalStateException(ERROR_NOGAME));
     }
 
 }
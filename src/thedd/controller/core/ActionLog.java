@@ -0,0 +1,62 @@
+package thedd.controller.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.types.DarkDestructor;
+import thedd.model.character.types.PlayerCharacter;
+import thedd.model.combat.action.result.ActionResult;
+
+/**
+ * The lines describing the result of an executed action to the player, written
+ * from the thread executing the commands of a core, while the result still
+ * holds the state the action left.
+ */
+final class ActionLog {
+
+    private ActionLog() {
+    }
+
+    static List<String> describe(final ActionResult result) {
+        final List<String> lines = new ArrayList<>();
+        //If an action result exists but doesn't contain results, it means that
+        //the actor has become unable to execute the action he originally selected.
+        if (result.getResults().isEmpty()) {
+            lines.add(result.getAction().getSource().get().getName()
+                      + " was unable to execute "
+                      + result.getAction().getName()
+                      + " action");
+        }
+        result.getResults().forEach(r -> {
+            switch (r.getRight()) {
+            case HIT:
+                lines.add(result.getAction().getLogMessage(r.getLeft(), true));
+                result.getAction().getEffects().forEach(e -> {
+                    e.setTarget(r.getLeft());
+                    lines.add(e.getLogMessage());
+                });
+                break;
+            case MISSED:
+                lines.add(result.getAction().getLogMessage(r.getLeft(), false));
+                break;
+            case PARRIED:
+                lines.add(r.getLeft().getName() + " parried " + result.getAction().getSource().get().getName() + "'s action");
+                break;
+            default:
+                break;
+            }
+            if (r.getLeft() instanceof BasicCharacter && !((BasicCharacter) r.getLeft()).isAlive()) {
+                lines.add(r.getLeft().getName() + " has been defeated.");
+                if (r.getLeft() instanceof DarkDestructor) {
+                    lines.add("You have completed your mission, brave knight!");
+                }
+                if (r.getLeft() instanceof PlayerCharacter) {
+                    lines.add("May Morr watch over your soul, fallen one.");
+                }
+            }
+        });
+        return Collections.unmodifiableList(lines);
+    }
+}
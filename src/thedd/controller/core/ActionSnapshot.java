@@ -0,0 +1,146 @@
+package thedd.controller.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.ActionCategory;
+import thedd.model.combat.action.TargetType;
+
+/**
+ * An immutable description of an action of the player at a given time, which
+ * can be read from any thread. The action itself is only given back to the
+ * commands of a {@link thedd.controller.core.GameCore}, as a copy.
+ */
+public final class ActionSnapshot {
+
+    private final Action action;
+    private final String name;
+    private final ActionCategory category;
+    private final TargetType targetType;
+    private final String description;
+    private final List<String> tags;
+    private final String effectsPreview;
+    private final double baseHitChance;
+    private final List<String> requirements;
+    private final boolean selectable;
+
+    private ActionSnapshot(final Action action) {
+        this.action = action;
+        this.name = action.getName();
+        this.category = action.getCategory();
+        this.targetType = action.getTargetType();
+        this.description = action.getDescription();
+        this.tags = Collections.unmodifiableList(action.getTags().stream()
+                                                                .filter(t -> !t.isHidden())
+                                                                .map(t -> t.getLiteral())
+                                                                .collect(Collectors.toList()));
+        this.effectsPreview = action.getEffectsPreview(null);
+        this.baseHitChance = action.getBaseHitChance();
+        this.requirements = Collections.unmodifiableList(action.getRequirements().stream()
+                                                                        .map(Object::toString)
+                                                                        .collect(Collectors.toList()));
+        this.selectable = action.getRequirements().stream().allMatch(r -> r.isFulfilled(action));
+    }
+
+    /**
+     * Describe an action of the catalog of an actor, as given by
+     * {@link thedd.model.combat.actor.ActionActor#getActionCatalog()}. Must be
+     * called from the thread changing the actor.
+     * 
+     * @param action is the action, which must not be changed afterwards
+     * @return the snapshot of the action
+     */
+    public static ActionSnapshot of(final Action action) {
+        return new ActionSnapshot(Objects.requireNonNull(action));
+    }
+
+    /**
+     * Gets a copy of the action, to be given to the commands of a core. The copy
+     * must not be read by the caller: its state is described by this snapshot.
+     * 
+     * @return a new copy of the action at every call
+     */
+    public Action getAction() {
+        return this.action.getCopy();
+    }
+
+    /**
+     * 
+     * @return the name of the action
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * 
+     * @return the category of the action
+     */
+    public ActionCategory getCategory() {
+        return this.category;
+    }
+
+    /**
+     * 
+     * @return the type of the targets of the action
+     */
+    public TargetType getTargetType() {
+        return this.targetType;
+    }
+
+    /**
+     * 
+     * @return the description of the action
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * 
+     * @return the literals of the tags of the action which are not hidden
+     */
+    public List<String> getTags() {
+        return this.tags;
+    }
+
+    /**
+     * 
+     * @return the preview of the effects of the action, without a target
+     */
+    public String getEffectsPreview() {
+        return this.effectsPreview;
+    }
+
+    /**
+     * 
+     * @return the base chance of the action to hit, between 0 and 1
+     */
+    public double getBaseHitChance() {
+        return this.baseHitChance;
+    }
+
+    /**
+     * 
+     * @return the descriptions of the requirements of the action
+     */
+    public List<String> getRequirements() {
+        return this.requirements;
+    }
+
+    /**
+     * 
+     * @return true if all the requirements of the action were fulfilled
+     */
+    public boolean isSelectable() {
+        return this.selectable;
+    }
+
+    @Override
+    public String toString() {
+        return "ActionSnapshot [name=" + name + "]";
+    }
+}
@@ -0,0 +1,198 @@
+package thedd.controller.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.equipment.EquipmentSummary;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.status.Status;
+import thedd.model.combat.tag.EffectTag;
+
+/**
+ * An immutable copy of the state of an {@link ActionActor} at a given time,
+ * which can be read from any thread. Two snapshots are equal if they hold the
+ * same state, so a view can show again only the actors which changed.
+ */
+public final class ActorSnapshot {
+
+    private final String name;
+    private final String type;
+    private final boolean alive;
+    private final Map<Statistic, Integer> actualValues;
+    private final Map<Statistic, Integer> maxValues;
+    private final Map<Statistic, Integer> equipmentBonuses;
+    private final Map<EffectTag, Double> resistances;
+    private final List<String> statuses;
+    private final Optional<String> nextAction;
+    private final Optional<Integer> initiative;
+
+    private ActorSnapshot(final ActionActor actor) {
+        final Map<Statistic, Integer> actual = new EnumMap<>(Statistic.class);
+        final Map<Statistic, Integer> max = new EnumMap<>(Statistic.class);
+        final Map<Statistic, Integer> bonuses = new EnumMap<>(Statistic.class);
+        final Map<EffectTag, Double> resisted = new EnumMap<>(EffectTag.class);
+        boolean isAlive = true;
+        if (actor instanceof BasicCharacter) {
+            final BasicCharacter character = (BasicCharacter) actor;
+            final EquipmentSummary equipment = character.getEquipmentSummary();
+            isAlive = character.isAlive();
+            for (final Statistic stat : Statistic.values()) {
+                actual.put(stat, character.getStat(stat).getActual());
+                max.put(stat, character.getStat(stat).getMax());
+                bonuses.put(stat, equipment.getStatBonus(stat));
+            }
+            for (final EffectTag tag : EffectTag.values()) {
+                if (equipment.getResistanceBonus(tag) != 0) {
+                    resisted.put(tag, equipment.getResistanceBonus(tag));
+                }
+            }
+        }
+        final List<String> names = new ArrayList<>();
+        for (final Status status : actor.getStatuses()) {
+            names.add(status.getName());
+        }
+        this.name = actor.getName();
+        this.type = actor.getClass().getSimpleName();
+        this.alive = isAlive;
+        this.actualValues = Collections.unmodifiableMap(actual);
+        this.maxValues = Collections.unmodifiableMap(max);
+        this.equipmentBonuses = Collections.unmodifiableMap(bonuses);
+        this.resistances = Collections.unmodifiableMap(resisted);
+        this.statuses = Collections.unmodifiableList(names);
+        this.nextAction = actor.getSelectedAction().map(Action::getName);
+        this.initiative = actor.getTurnInitiative();
+    }
+
+    /**
+     * Copy the state of an actor. Must be called from the thread changing the
+     * actor.
+     * 
+     * @param actor is the actor to copy
+     * @return the snapshot of the actor
+     */
+    public static ActorSnapshot of(final ActionActor actor) {
+        return new ActorSnapshot(Objects.requireNonNull(actor));
+    }
+
+    /**
+     * 
+     * @return the name of the actor
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * 
+     * @return the simple name of the class of the actor, as DarkDestructor
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * 
+     * @return true if the actor was alive. Actors which are not characters are
+     *         always alive
+     */
+    public boolean isAlive() {
+        return this.alive;
+    }
+
+    /**
+     * Gets the actual value of a statistic of the actor.
+     * 
+     * @param stat is the statistic
+     * @return the actual value, or 0 if the actor is not a character
+     */
+    public int getActual(final Statistic stat) {
+        return this.actualValues.getOrDefault(Objects.requireNonNull(stat), 0);
+    }
+
+    /**
+     * Gets the max value of a statistic of the actor.
+     * 
+     * @param stat is the statistic
+     * @return the max value, or 0 if the actor is not a character
+     */
+    public int getMax(final Statistic stat) {
+        return this.maxValues.getOrDefault(Objects.requireNonNull(stat), 0);
+    }
+
+    /**
+     * Gets the bonus to a statistic given by the equipment of the actor.
+     * 
+     * @param stat is the statistic
+     * @return the bonus, or 0 if the actor is not a character
+     */
+    public int getEquipmentBonus(final Statistic stat) {
+        return this.equipmentBonuses.getOrDefault(Objects.requireNonNull(stat), 0);
+    }
+
+    /**
+     * 
+     * @return the flat resistances given by the equipment of the actor, only for
+     *         the types of damage it resists
+     */
+    public Map<EffectTag, Double> getResistances() {
+        return this.resistances;
+    }
+
+    /**
+     * 
+     * @return the names of the statuses afflicting the actor
+     */
+    public List<String> getStatuses() {
+        return this.statuses;
+    }
+
+    /**
+     * 
+     * @return the name of the action selected by the actor, if any
+     */
+    public Optional<String> getNextAction() {
+        return this.nextAction;
+    }
+
+    /**
+     * 
+     * @return the initiative of the actor in the current round, if any
+     */
+    public Optional<Integer> getInitiative() {
+        return this.initiative;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ActorSnapshot)) {
+            return false;
+        }
+        final ActorSnapshot other = (ActorSnapshot) obj;
+        return this.name.equals(other.name) && this.type.equals(other.type) && this.alive == other.alive
+                && this.actualValues.equals(other.actualValues) && this.maxValues.equals(other.maxValues)
+                && this.equipmentBonuses.equals(other.equipmentBonuses) && this.resistances.equals(other.resistances)
+                && this.statuses.equals(other.statuses) && this.nextAction.equals(other.nextAction)
+                && this.initiative.equals(other.initiative);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, alive, actualValues, statuses, nextAction, initiative);
+    }
+
+    @Override
+    public String toString() {
+        return "ActorSnapshot [name=" + name + ", alive=" + alive + "]";
+    }
+}
@@ -0,0 +1,208 @@
+package thedd.controller.core;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import thedd.model.combat.action.Action;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.autobattle.BattleSummary;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.item.Item;
+import thedd.model.world.floor.details.FloorDetails;
+import thedd.utils.observer.Observer;
+
+/**
+ * Interface that define the logic of a game independently from how the game
+ * is shown. Commands are accepted at any time and executed one at a time, in
+ * the order they have been given; what happens in the game is emitted as
+ * {@link thedd.controller.core.GameEvent} to the bound observers, from the
+ * thread executing the commands.
+ * <p>
+ * Actions are executed as soon as they are evaluated, one per task given to the
+ * executor of the commands, so the pace of a game is set by that executor and
+ * not by the observers: a game can be played as fast as its commands are given.
+ * <p>
+ * The model is changed only by the thread executing the commands. Other
+ * threads read the state of the game from the immutable
+ * {@link thedd.controller.core.GameSnapshot} published after every change: a
+ * command or an action which changes nothing publishes no snapshot. The parts
+ * of the model given to other threads, as the actions of the snapshots and the
+ * targets of the player, are only handles to give back to the commands.
+ */
+public interface GameCore {
+
+    /**
+     * This method allows to bind an observer to the events of the game.
+     * 
+     * @param observer is the observer to bind
+     */
+    void bindObserver(Observer<GameEvent> observer);
+
+    /**
+     * This method allows to remove an observer of the events of the game.
+     * 
+     * @param observer is the observer to remove
+     */
+    void removeObserver(Observer<GameEvent> observer);
+
+    /**
+     * This method allows to move the player to the next room of the floor,
+     * starting its combat if any.
+     * 
+     * @return a future completed with true if the player has moved, false if the
+     *         current room hasn't been completed. It completes exceptionally with
+     *         IllegalStateException if the player is in combat or in the last room
+     */
+    CompletableFuture<Boolean> nextRoom();
+
+    /**
+     * This method allows to move the player to the next floor and to its first
+     * room.
+     * 
+     * @param floorDetails is the details of the next floor
+     * @return a future completed with true if the player has moved. It completes
+     *         exceptionally with IllegalStateException if the player is in combat
+     */
+    CompletableFuture<Boolean> nextFloor(FloorDetails floorDetails);
+
+    /**
+     * This method allows to start again the combat of the current room, if it
+     * hasn't been completed, as for a restored game. A combat restored from a
+     * checkpoint goes on from the round following the saved one.
+     * 
+     * @return a future completed with true if a combat has been started, false
+     *         if there's no combat to resume or the player is dead
+     */
+    CompletableFuture<Boolean> resumeRoom();
+
+    /**
+     * This method allows to execute an action out of combat. If the action has no
+     * target, the player is its target.
+     * 
+     * @param action is the action to execute
+     * @return a future completed when the action has been executed. It completes
+     *         exceptionally with IllegalStateException if the player is in combat
+     */
+    CompletableFuture<Void> executeSingleAction(Action action);
+
+    /**
+     * This method allows the player to interact with an object of the current
+     * room: the action of the object is executed on the player and the object is
+     * completed.
+     * 
+     * @param index is the index of the object among the ones the player can still
+     *              interact with, as given by
+     *              {@link thedd.controller.core.GameSnapshot#getInteractables()}
+     * @return a future completed when the action has been executed. It completes
+     *         exceptionally with IllegalStateException if the player is in combat,
+     *         or with IllegalArgumentException if there's no such object
+     */
+    CompletableFuture<Void> interact(int index);
+
+    /**
+     * This method allows the player to equip an item of its inventory.
+     * 
+     * @param item is the item to equip
+     * @return a future completed with true if the item has been equipped
+     */
+    CompletableFuture<Boolean> equipItem(Item item);
+
+    /**
+     * This method allows the player to unequip an item.
+     * 
+     * @param item is the item to unequip
+     * @return a future completed when the item has been unequipped
+     */
+    CompletableFuture<Void> unequipItem(Item item);
+
+    /**
+     * This method allows the player to throw away an item of its inventory.
+     * 
+     * @param item is the item to remove
+     * @return a future completed when the item has been removed
+     */
+    CompletableFuture<Void> removeItem(Item item);
+
+    /**
+     * This method allows to know which actors an action of the player can target,
+     * in the current execution or, out of combat, in the party of the player. An
+     * action which targets the player can target only the player.
+     * 
+     * @param action is the action of the player
+     * @return a future completed with the actors of the player party followed by
+     *         the ones of the enemy party
+     */
+    CompletableFuture<List<TargetSnapshot>> getTargets(Action action);
+
+    /**
+     * This method allows to know which actors the action of a usable item can
+     * target, as {@link #getTargets(Action)}.
+     * 
+     * @param item is the usable item of the player
+     * @return a future completed with the actors of the player party followed by
+     *         the ones of the enemy party
+     * @throws IllegalArgumentException if the item is not usable
+     */
+    CompletableFuture<List<TargetSnapshot>> getTargets(Item item);
+
+    /**
+     * This method allows to select the action of the player for the current round
+     * of the combat. The round is played until the player has to select again.
+     * 
+     * @param action is the action of the player
+     * @param target is the selected target of the action
+     * @return a future completed when the player has to select again or the combat
+     *         is over. It completes exceptionally with IllegalStateException if the
+     *         player is not in combat or the round is still being played
+     */
+    CompletableFuture<Void> selectAction(Action action, ActionActor target);
+
+    /**
+     * This method allows the player to use an item. In combat, the action of the
+     * item is selected for the current round and the item is removed from the
+     * inventory once the action has been queued, then the round is played until
+     * the player has to select again. Out of combat, the action is executed at
+     * once and the item is removed.
+     * 
+     * @param item   is the usable item of the player
+     * @param target is the selected target of the action of the item
+     * @return a future completed when the player has to select again, the combat
+     *         is over or the action out of combat has been executed. It completes
+     *         exceptionally with IllegalStateException if the round is still
+     *         being played
+     * @throws IllegalArgumentException if the item is not usable
+     */
+    CompletableFuture<Void> useItem(Item item, ActionActor target);
+
+    /**
+     * This method allows to resolve the current combat at once, letting the
+     * player select its moves as the NPCs do. No event is emitted for the single
+     * actions, only for the end of the combat.
+     * 
+     * @return a future completed with the summary of the combat. It completes
+     *         exceptionally with IllegalStateException if the player is not in
+     *         combat or the round is still being played
+     */
+    CompletableFuture<BattleSummary> autoBattle();
+
+    /**
+     * This method allows to read the state of the game from any thread, without
+     * waiting for the pending commands.
+     * 
+     * @return the last snapshot published. A snapshot is published, if the game
+     *         changed, before the observers are notified of an event and after
+     *         every command
+     */
+    GameSnapshot getSnapshot();
+
+    /**
+     * This method allows the observers, and the thread executing the commands, to
+     * reach the current execution. The instance is part of the model: other
+     * threads read {@link #getSnapshot()}.
+     * 
+     * @return the instance of the current execution, or Optional.empty if no action is
+     *         being executed
+     */
+    Optional<ActionExecutionInstance> getExecutionInstance();
+}
@@ -0,0 +1,607 @@
+package thedd.controller.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import thedd.model.Model;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.PreviewCache;
+import thedd.model.combat.action.TargetType;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actionexecutor.OutOfCombatActionExecutor;
+import thedd.model.combat.actionexecutor.StatusUpdateActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.autobattle.AutoBattle;
+import thedd.model.combat.autobattle.BattleSummary;
+import thedd.model.combat.encounter.HostileEncounter;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionInstanceImpl;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.combat.journal.CombatJournal;
+import thedd.model.combat.journal.JournalingCombatActionExecutor;
+import thedd.model.item.Item;
+import thedd.model.item.usableitem.UsableItem;
+import thedd.model.roomevent.RoomEvent;
+import thedd.model.roomevent.RoomEventType;
+import thedd.model.roomevent.combatevent.CombatEvent;
+import thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer;
+import thedd.model.world.environment.Environment;
+import thedd.model.world.floor.Floor;
+import thedd.model.world.floor.details.FloorDetails;
+import thedd.utils.observer.Observer;
+
+/**
+ * Implementation of {@link thedd.controller.core.GameCore}.
+ * <p>
+ * The core is the only flow of a game: {@link thedd.controller.ControllerImpl}
+ * gives it the commands of the player and shows the events it emits. Every
+ * action is executed right after its evaluation has been emitted.
+ * Commands run on the executor given at construction, which can be shared by
+ * many cores, such as a {@link thedd.controller.core.GameLoop}. Every action of
+ * an execution is played by its own task, so a loop plays one action per step.
+ * The commands of a single core never overlap, so the model has a
+ * single writer at any time. The snapshots are swapped in an
+ * {@link AtomicReference}, so readers never block the commands. The current
+ * executor and whether a round is being played are kept in volatile fields, so
+ * that a command reads the state left by the previous one even when the
+ * executor of the commands hands them to another thread.
+ */
+public final class GameCoreImpl implements GameCore {
+
+    private static final int AUTOBATTLE_ROUNDS = 500;
+    private static final String ERROR_INCOMBAT = "The player is in combat";
+    private static final String ERROR_NOTINCOMBAT = "The player is not in combat";
+    private static final String ERROR_PLAYING = "The current round is being played";
+    private static final String ERROR_NOTUSABLE = "The item is not usable";
+    private static final String ERROR_LASTROOM = "This is the last room of the floor, take the stairs";
+    private static final String ERROR_NOOBJECT = "There's no object to interact with at ";
+
+    private final Model model;
+    private final Executor commands;
+    private final List<Observer<GameEvent>> observers;
+    private final AtomicReference<GameSnapshot> snapshot;
+    private final ChangeStamp published;
+    private final Supplier<Optional<CombatJournal>> journals;
+    private volatile Optional<ActionExecutor> actionExecutor;
+    private List<ActionActor> enemies;
+    private volatile boolean playing;
+    private int rounds;
+    private long version;
+
+    /**
+     * GameCoreImpl constructor.
+     * 
+     * @param model    is the model of an already started game
+     * @param executor is the executor running the commands
+     */
+    public GameCoreImpl(final Model model, final Executor executor) {
+        this(model, executor, Optional::empty);
+    }
+
+    /**
+     * GameCoreImpl constructor.
+     * 
+     * @param model    is the model of an already started game
+     * @param executor is the executor running the commands
+     * @param journals is called when the combat of a room starts, and gives the
+     *                 journal where the combat is recorded if its executor is a
+     *                 {@link JournalingCombatActionExecutor}; if it gives
+     *                 Optional.empty the combat keeps its own journal
+     */
+    public GameCoreImpl(final Model model, final Executor executor,
+                        final Supplier<Optional<CombatJournal>> journals) {
+        this.model = Objects.requireNonNull(model);
+        this.journals = Objects.requireNonNull(journals);
+        this.commands = new SerialExecutor(executor);
+        this.observers = new CopyOnWriteArrayList<>();
+        this.actionExecutor = Optional.empty();
+        this.enemies = Collections.emptyList();
+        this.published = new ChangeStamp();
+        this.published.update(model, this.actionExecutor, this.enemies, this.rounds);
+        this.snapshot = new AtomicReference<>(GameSnapshot.of(0, model, Optional.empty(), Optional.empty()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindObserver(final Observer<GameEvent> observer) {
+        this.observers.add(Objects.requireNonNull(observer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeObserver(final Observer<GameEvent> observer) {
+        this.observers.remove(observer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> nextRoom() {
+        return submit(() -> {
+            checkExploring();
+            final Floor floor = this.model.getEnvironment().getCurrentFloor();
+            if (!floor.hasNextRoom()) {
+                throw new IllegalStateException(ERROR_LASTROOM);
+            } else if (!floor.nextRoom()) {
+                return CompletableFuture.completedFuture(false);
+            }
+            emit(GameEvent.of(GameEventType.ROOM_ENTERED));
+            final CompletableFuture<Void> played = startRoomCombat().orElseGet(() -> {
+                final ActionExecutor executor = new StatusUpdateActionExecutor(this.model.getRandom());
+                executor.setExecutionInstance(createPlayerInstance());
+                executor.startExecutor();
+                this.actionExecutor = Optional.of(executor);
+                return runUntilSelection();
+            });
+            return played.thenApply(v -> true);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> nextFloor(final FloorDetails floorDetails) {
+        Objects.requireNonNull(floorDetails);
+        return submit(() -> {
+            checkExploring();
+            final boolean isChanged = this.model.getEnvironment().setNextFloor(floorDetails);
+            if (isChanged) {
+                emit(GameEvent.of(GameEventType.FLOOR_CHANGED));
+            }
+            return CompletableFuture.completedFuture(isChanged);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> resumeRoom() {
+        return submit(() -> {
+            if (this.actionExecutor.isPresent() || !this.model.getPlayerCharacter().isAlive()) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return startRoomCombat().map(c -> c.thenApply(v -> true)).orElseGet(() -> CompletableFuture.completedFuture(false));
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> executeSingleAction(final Action action) {
+        Objects.requireNonNull(action);
+        return submit(() -> {
+            checkExploring();
+            final ActionExecutionInstance instance = createPlayerInstance();
+            if (action.getTargets().isEmpty()) {
+                action.setTargets(this.model.getPlayerCharacter(), action.getValidTargets(instance));
+            }
+            final ActionExecutor executor = new OutOfCombatActionExecutor(action, this.model.getRandom());
+            executor.setExecutionInstance(instance);
+            this.actionExecutor = Optional.of(executor);
+            return runUntilSelection();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> interact(final int index) {
+        return submit(() -> {
+            checkExploring();
+            final List<InteractableActionPerformer> objects = getRoomEvents().stream()
+                    .filter(e -> e.getType() == RoomEventType.INTERACTABLE_ACTION_PERFORMER && !e.isCompleted())
+                    .map(e -> (InteractableActionPerformer) e)
+                    .collect(Collectors.toList());
+            if (index < 0 || index >= objects.size()) {
+                throw new IllegalArgumentException(ERROR_NOOBJECT + index);
+            }
+            final Action action = objects.get(index).getAvailableActionsList().get(0);
+            action.setTargets(this.model.getPlayerCharacter(), Collections.emptyList());
+            final ActionExecutor executor = new OutOfCombatActionExecutor(action, this.model.getRandom());
+            executor.setExecutionInstance(createPlayerInstance());
+            this.actionExecutor = Optional.of(executor);
+            objects.get(index).complete();
+            return runUntilSelection();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> equipItem(final Item item) {
+        Objects.requireNonNull(item);
+        return submit(() -> CompletableFuture.completedFuture(this.model.getPlayerCharacter().equipItem(item)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> unequipItem(final Item item) {
+        Objects.requireNonNull(item);
+        return submit(() -> {
+            this.model.getPlayerCharacter().unequipItem(item);
+            return CompletableFuture.<Void>completedFuture(null);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> removeItem(final Item item) {
+        Objects.requireNonNull(item);
+        return submit(() -> {
+            this.model.getPlayerCharacter().getInventory().removeItem(item);
+            return CompletableFuture.<Void>completedFuture(null);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<TargetSnapshot>> getTargets(final Action action) {
+        Objects.requireNonNull(action);
+        return submit(() -> CompletableFuture.completedFuture(describeTargets(action)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<TargetSnapshot>> getTargets(final Item item) {
+        Objects.requireNonNull(item);
+        if (!item.isUsable()) {
+            throw new IllegalArgumentException(ERROR_NOTUSABLE);
+        }
+        return submit(() -> CompletableFuture.completedFuture(describeTargets(getItemAction(item))));
+    }
+
+    private List<TargetSnapshot> describeTargets(final Action action) {
+        final ActionExecutionInstance instance = getExecutionInstance().orElseGet(this::createPlayerInstance);
+        final List<ActionActor> targetables = action.getTargetType() == TargetType.SELF
+                ? Collections.singletonList(this.model.getPlayerCharacter())
+                : action.getValidTargets(instance);
+        final List<TargetSnapshot> targets = new ArrayList<>();
+        final List<ActionActor> allies = instance.getPlayerParty();
+        final List<ActionActor> opponents = instance.getNPCsParty();
+        for (int i = 0; i < allies.size(); i++) {
+            targets.add(describeTarget(action, allies.get(i), true, i, targetables));
+        }
+        for (int i = 0; i < opponents.size(); i++) {
+            targets.add(describeTarget(action, opponents.get(i), false, i, targetables));
+        }
+        return Collections.unmodifiableList(targets);
+    }
+
+    private static TargetSnapshot describeTarget(final Action action, final ActionActor actor, final boolean allied,
+                                                 final int position, final List<ActionActor> targetables) {
+        final boolean targetable = targetables.contains(actor);
+        return new TargetSnapshot(actor, allied, position, targetable, targetable ? action.getHitChance(actor) : 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> selectAction(final Action action, final ActionActor target) {
+        Objects.requireNonNull(action);
+        Objects.requireNonNull(target);
+        return submit(() -> {
+            final ActionExecutor executor = this.actionExecutor.orElseThrow(() -> new IllegalStateException(ERROR_NOTINCOMBAT));
+            if (this.playing) {
+                throw new IllegalStateException(ERROR_PLAYING);
+            }
+            queuePlayerAction(executor, action, target);
+            return executor.isRoundReady() ? runUntilSelection() : CompletableFuture.<Void>completedFuture(null);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The item is removed after its action has been queued, so a
+     * {@link thedd.model.combat.journal.JournalingCombatActionExecutor} can record
+     * the position of the item in the inventory.
+     */
+    @Override
+    public CompletableFuture<Void> useItem(final Item item, final ActionActor target) {
+        Objects.requireNonNull(item);
+        Objects.requireNonNull(target);
+        if (!item.isUsable()) {
+            throw new IllegalArgumentException(ERROR_NOTUSABLE);
+        }
+        return submit(() -> {
+            if (this.playing) {
+                throw new IllegalStateException(ERROR_PLAYING);
+            }
+            final Action action = getItemAction(item);
+            if (!this.actionExecutor.isPresent()) {
+                final ActionExecutionInstance instance = createPlayerInstance();
+                action.setTargets(target, action.getValidTargets(instance));
+                final ActionExecutor executor = new OutOfCombatActionExecutor(action, this.model.getRandom());
+                executor.setExecutionInstance(instance);
+                this.actionExecutor = Optional.of(executor);
+                this.model.getPlayerCharacter().getInventory().removeItem(item);
+                return runUntilSelection();
+            }
+            final ActionExecutor executor = this.actionExecutor.get();
+            queuePlayerAction(executor, action, target);
+            this.model.getPlayerCharacter().getInventory().removeItem(item);
+            return executor.isRoundReady() ? runUntilSelection() : CompletableFuture.<Void>completedFuture(null);
+        });
+    }
+
+    private Action getItemAction(final Item item) {
+        final Action action = ((UsableItem) item).getAction();
+        action.setSource(this.model.getPlayerCharacter());
+        return action;
+    }
+
+    private void queuePlayerAction(final ActionExecutor executor, final Action action, final ActionActor target) {
+        final ActionActor player = this.model.getPlayerCharacter();
+        player.addActionToQueue(action, true);
+        action.setTargets(target, action.getValidTargets(executor.getExecutionInstance()));
+        executor.addActorToQueue(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<BattleSummary> autoBattle() {
+        return submit(() -> {
+            final ActionExecutor executor = this.actionExecutor.orElseThrow(() -> new IllegalStateException(ERROR_NOTINCOMBAT));
+            if (this.playing) {
+                throw new IllegalStateException(ERROR_PLAYING);
+            }
+            final BattleSummary summary = new AutoBattle(AUTOBATTLE_ROUNDS).resolve(executor);
+            if (summary.isOver()) {
+                this.actionExecutor = Optional.empty();
+                emit(GameEvent.ofEnd(summary.getStatus()));
+            } else {
+                emit(GameEvent.ofInstance(GameEventType.ACTION_SELECTION_REQUIRED, executor.getExecutionInstance()));
+            }
+            return CompletableFuture.completedFuture(summary);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameSnapshot getSnapshot() {
+        return this.snapshot.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ActionExecutionInstance> getExecutionInstance() {
+        return this.actionExecutor.map(ActionExecutor::getExecutionInstance);
+    }
+
+    /*
+     * The future given by a command completes once the steps it started have been
+     * played.
+     */
+    private <T> CompletableFuture<T> submit(final Supplier<CompletableFuture<T>> command) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return command.get();
+            } finally {
+                publish();
+            }
+        }, this.commands).thenCompose(Function.identity());
+    }
+
+    private void emit(final GameEvent event) {
+        publish();
+        this.observers.forEach(o -> o.trigger(Optional.of(event)));
+    }
+
+    /*
+     * Called only by the thread executing the commands, so the version needs no
+     * synchronization. A new snapshot is copied only if the game changed since
+     * the last one.
+     */
+    private void publish() {
+        if (this.published.update(this.model, this.actionExecutor, this.enemies, this.rounds)) {
+            this.version++;
+            this.snapshot.set(GameSnapshot.of(this.version, this.model, getExecutionInstance(), Optional.of(this.snapshot.get())));
+        }
+    }
+
+    private List<RoomEvent> getRoomEvents() {
+        final Floor floor = this.model.getEnvironment().getCurrentFloor();
+        return floor.getCurrentRoomIndex() < 0 ? Collections.emptyList() : floor.getCurrentRoom().getEvents();
+    }
+
+    private Optional<CompletableFuture<Void>> startRoomCombat() {
+        return getRoomEvents().stream()
+                .filter(e -> e.getType() == RoomEventType.COMBAT_EVENT && !e.isCompleted())
+                .map(e -> (CombatEvent) e)
+                .findFirst()
+                .map(c -> startCombat(c.getHostileEncounter()));
+    }
+
+    /*
+     * A combat restored from a checkpoint already has its instance, and goes on
+     * from the end of its last round.
+     */
+    private CompletableFuture<Void> startCombat(final HostileEncounter encounter) {
+        final ActionExecutor combatExecutor = encounter.getCombatLogic();
+        this.enemies = new ArrayList<>(encounter.getNPCs());
+        if (combatExecutor.getExecutionStatus() == ExecutionStatus.ROUND_ENDED) {
+            combatExecutor.prepareNextRound();
+        } else {
+            final ActionExecutionInstance instance = createPlayerInstance();
+            instance.addNPCsPartyMembers(encounter.getNPCs());
+            combatExecutor.setExecutionInstance(instance);
+            if (combatExecutor instanceof JournalingCombatActionExecutor) {
+                this.journals.get().ifPresent(((JournalingCombatActionExecutor) combatExecutor)::setJournal);
+            }
+            combatExecutor.startExecutor();
+        }
+        this.actionExecutor = Optional.of(combatExecutor);
+        emit(GameEvent.ofInstance(GameEventType.COMBAT_STARTED, combatExecutor.getExecutionInstance()));
+        if (combatExecutor.isRoundReady()) {
+            return runUntilSelection();
+        }
+        emit(GameEvent.ofInstance(GameEventType.ACTION_SELECTION_REQUIRED, combatExecutor.getExecutionInstance()));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * Plays the actions of the current executor, one per task given to the
+     * executor of the commands, until the player has to select an action or the
+     * execution is over.
+     */
+    private CompletableFuture<Void> runUntilSelection() {
+        final CompletableFuture<Void> selection = new CompletableFuture<>();
+        this.playing = true;
+        this.commands.execute(() -> step(selection));
+        return selection;
+    }
+
+    private void step(final CompletableFuture<Void> selection) {
+        boolean isPlaying = false;
+        try {
+            isPlaying = playNextAction();
+        } catch (RuntimeException e) {
+            selection.completeExceptionally(e);
+        } finally {
+            this.playing = isPlaying;
+            publish();
+        }
+        if (isPlaying) {
+            this.commands.execute(() -> step(selection));
+        } else {
+            selection.complete(null);
+        }
+    }
+
+    /*
+     * Plays the next action of the current executor, returning false if the player
+     * has to select an action or the execution is over.
+     */
+    private boolean playNextAction() {
+        if (!this.actionExecutor.isPresent()) {
+            return false;
+        }
+        final ActionExecutor executor = this.actionExecutor.get();
+        executor.setNextAction();
+        executor.evaluateCurrentAction().ifPresent(r -> {
+            emit(GameEvent.ofAction(GameEventType.ACTION_EVALUATED, r));
+            executor.executeCurrentAction();
+            executor.getLastActionResult().ifPresent(e -> emit(GameEvent.ofAction(GameEventType.ACTION_EXECUTED, e)));
+        });
+        executor.updateExecutionStatus();
+        final ExecutionStatus status = executor.getExecutionStatus();
+        switch (status) {
+        case COMBAT_ENDED:
+        case PLAYER_WON:
+        case PLAYER_LOST:
+            this.actionExecutor = Optional.empty();
+            emit(GameEvent.ofEnd(status));
+            return false;
+        case ROUND_ENDED:
+            emit(GameEvent.ofInstance(GameEventType.ROUND_ENDED, executor.getExecutionInstance()));
+            executor.prepareNextRound();
+            this.rounds++;
+            emit(GameEvent.ofInstance(GameEventType.ACTION_SELECTION_REQUIRED, executor.getExecutionInstance()));
+            return false;
+        case ROUND_PAUSED:
+            emit(GameEvent.ofInstance(GameEventType.ACTION_SELECTION_REQUIRED, executor.getExecutionInstance()));
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    private ActionExecutionInstance createPlayerInstance() {
+        final ActionExecutionInstance instance = new ExecutionInstanceImpl();
+        instance.addPlayerPartyMember(this.model.getPlayerCharacter());
+        return instance;
+    }
+
+    private void checkExploring() {
+        if (this.actionExecutor.isPresent()) {
+            throw new IllegalStateException(ERROR_INCOMBAT);
+        }
+    }
+
+    /*
+     * The state of the game a snapshot was copied from. The versions of the actors
+     * only grow, so their sum changes whenever one of them does. A new round may
+     * change neither the actors nor the status of the executor, so the rounds
+     * played by the core are counted as well, as the changes of the inventory
+     * and the completed events of the room, which are not part of the actors.
+     */
+    private static final class ChangeStamp {
+
+        private int floorIndex;
+        private int roomIndex;
+        private Optional<ActionExecutor> executor = Optional.empty();
+        private Optional<ExecutionStatus> status = Optional.empty();
+        private long versions;
+        private boolean over;
+        private int rounds;
+        private int inventory;
+        private long completed;
+
+        boolean update(final Model model, final Optional<ActionExecutor> executor, final List<ActionActor> enemies,
+                       final int roundsPlayed) {
+            final Environment environment = model.getEnvironment();
+            final int floor = environment.getCurrentFloorIndex();
+            final int room = environment.getCurrentFloor().getCurrentRoomIndex();
+            final Optional<ExecutionStatus> executionStatus = executor.map(ActionExecutor::getExecutionStatus);
+            long actorVersions = PreviewCache.getVersion(model.getPlayerCharacter());
+            if (executor.isPresent()) {
+                for (final ActionActor enemy : enemies) {
+                    actorVersions += PreviewCache.getVersion(enemy);
+                }
+            }
+            final boolean isOver = !model.getPlayerCharacter().isAlive() || model.hasPlayerWon();
+            final int inventoryChanges = model.getPlayerCharacter().getInventory().getModificationCount();
+            final long completedEvents = room < 0 ? 0
+                    : environment.getCurrentFloor().getCurrentRoom().getEvents().stream().filter(RoomEvent::isCompleted).count();
+            final boolean changed = floor != this.floorIndex || room != this.roomIndex
+                    || !executor.equals(this.executor) || !executionStatus.equals(this.status)
+                    || actorVersions != this.versions || isOver != this.over || roundsPlayed != this.rounds
+                    || inventoryChanges != this.inventory || completedEvents != this.completed;
+            this.floorIndex = floor;
+            this.roomIndex = room;
+            this.executor = executor;
+            this.status = executionStatus;
+            this.versions = actorVersions;
+            this.over = isOver;
+            this.rounds = roundsPlayed;
+            this.inventory = inventoryChanges;
+            this.completed = completedEvents;
+            return changed;
+        }
+    }
+}
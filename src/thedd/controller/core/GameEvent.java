@@ -0,0 +1,140 @@
+package thedd.controller.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import thedd.model.combat.action.result.ActionResult;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionStatus;
+
+/**
+ * An event of a game, emitted by a {@link thedd.controller.core.GameCore} to
+ * its observers. Depending on its type, an event carries the result of an
+ * action, the instance of the current execution or its final status.
+ * <p>
+ * The result of an action and the instance of an execution are part of the
+ * model, so they're read only by the observers, from the thread executing the
+ * commands. An event about an action also carries the name of the action and,
+ * once the action has been executed, the lines describing its result, which
+ * can be read from any thread.
+ */
+public final class GameEvent {
+
+    private final GameEventType type;
+    private final Optional<ActionResult> actionResult;
+    private final Optional<ActionExecutionInstance> instance;
+    private final Optional<ExecutionStatus> status;
+    private final Optional<String> actionName;
+    private final List<String> log;
+
+    private GameEvent(final GameEventType type, final Optional<ActionResult> actionResult,
+            final Optional<ActionExecutionInstance> instance, final Optional<ExecutionStatus> status) {
+        this.type = Objects.requireNonNull(type);
+        this.actionResult = actionResult;
+        this.instance = instance;
+        this.status = status;
+        this.actionName = actionResult.map(r -> r.getAction().getName());
+        this.log = type == GameEventType.ACTION_EXECUTED && actionResult.isPresent()
+                ? ActionLog.describe(actionResult.get())
+                : Collections.emptyList();
+    }
+
+    /**
+     * Create an event without content.
+     * 
+     * @param type is the type of the event
+     * @return the new event
+     */
+    public static GameEvent of(final GameEventType type) {
+        return new GameEvent(type, Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Create an event about an action. Must be called from the thread executing
+     * the action.
+     * 
+     * @param type   is the type of the event
+     * @param result is the result of the action
+     * @return the new event
+     */
+    public static GameEvent ofAction(final GameEventType type, final ActionResult result) {
+        return new GameEvent(type, Optional.of(result), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Create an event about the current execution.
+     * 
+     * @param type     is the type of the event
+     * @param instance is the instance of the execution
+     * @return the new event
+     */
+    public static GameEvent ofInstance(final GameEventType type, final ActionExecutionInstance instance) {
+        return new GameEvent(type, Optional.empty(), Optional.of(instance), Optional.empty());
+    }
+
+    /**
+     * Create an event about the end of the current execution.
+     * 
+     * @param status is the final status of the execution
+     * @return the new event
+     */
+    public static GameEvent ofEnd(final ExecutionStatus status) {
+        return new GameEvent(GameEventType.EXECUTION_ENDED, Optional.empty(), Optional.empty(), Optional.of(status));
+    }
+
+    /**
+     * 
+     * @return the type of the event
+     */
+    public GameEventType getType() {
+        return this.type;
+    }
+
+    /**
+     * 
+     * @return the result of the action, for the events about an action
+     */
+    public Optional<ActionResult> getActionResult() {
+        return this.actionResult;
+    }
+
+    /**
+     * 
+     * @return the instance of the execution, for the events about the current execution
+     */
+    public Optional<ActionExecutionInstance> getInstance() {
+        return this.instance;
+    }
+
+    /**
+     * 
+     * @return the final status of the execution, for the events about its end
+     */
+    public Optional<ExecutionStatus> getStatus() {
+        return this.status;
+    }
+
+    /**
+     * 
+     * @return the name of the action, for the events about an action
+     */
+    public Optional<String> getActionName() {
+        return this.actionName;
+    }
+
+    /**
+     * 
+     * @return the lines describing the result of the action, for the events about
+     *         an executed action; an empty list otherwise
+     */
+    public List<String> getLog() {
+        return this.log;
+    }
+
+    @Override
+    public String toString() {
+        return "GameEvent [type=" + type + "]";
+    }
+}
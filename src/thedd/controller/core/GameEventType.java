@@ -0,0 +1,41 @@
+package thedd.controller.core;
+
+/**
+ * The types of {@link thedd.controller.core.GameEvent} emitted by a
+ * {@link thedd.controller.core.GameCore}.
+ */
+public enum GameEventType {
+    /**
+     * The player has entered a new room.
+     */
+    ROOM_ENTERED,
+    /**
+     * The player has reached a new floor.
+     */
+    FLOOR_CHANGED,
+    /**
+     * A combat has started, the instance of the event contains its parties.
+     */
+    COMBAT_STARTED,
+    /**
+     * An action has been evaluated and it's about to be executed.
+     */
+    ACTION_EVALUATED,
+    /**
+     * An action has been executed, the event contains its result.
+     */
+    ACTION_EXECUTED,
+    /**
+     * The current round of a combat has ended and the next one is about to be
+     * prepared, the instance of the event contains the ended round.
+     */
+    ROUND_ENDED,
+    /**
+     * The player has to select an action for the current round.
+     */
+    ACTION_SELECTION_REQUIRED,
+    /**
+     * The current execution has ended, the event contains its final status.
+     */
+    EXECUTION_ENDED
+}
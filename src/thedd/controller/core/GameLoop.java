@@ -0,0 +1,122 @@
+package thedd.controller.core;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed-step game loop: an {@link Executor} running its tasks on its own
+ * thread, at most one every step. Given to a
+ * {@link thedd.controller.core.GameCoreImpl}, it plays one action of the
+ * current execution per step, so the pace of a game depends only on the step
+ * of its loop and not on how long the view takes to show it.
+ * <p>
+ * With a step of zero the loop is unbounded and runs its tasks as soon as they
+ * are given, as fast mode.
+ */
+public final class GameLoop implements Executor {
+
+    private final BlockingQueue<Runnable> tasks;
+    private final Thread thread;
+    private volatile long stepNanos;
+    private volatile boolean running;
+
+    /**
+     * GameLoop constructor. The loop thread is a daemon thread, started at once.
+     * 
+     * @param stepMillis is the time between two tasks, in milliseconds, or 0 to
+     *                   run the tasks as soon as they are given
+     * @throws IllegalArgumentException if the step is negative
+     */
+    public GameLoop(final long stepMillis) {
+        this.tasks = new LinkedBlockingQueue<>();
+        this.running = true;
+        setStep(stepMillis);
+        this.thread = new Thread(this::loop, "game-loop");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws RejectedExecutionException if the loop has been stopped
+     */
+    @Override
+    public void execute(final Runnable task) {
+        Objects.requireNonNull(task);
+        if (!this.running) {
+            throw new RejectedExecutionException("The game loop has been stopped");
+        }
+        this.tasks.add(task);
+    }
+
+    /**
+     * This method allows to change the time between two tasks. The new step is
+     * used from the next task on.
+     * 
+     * @param stepMillis is the time between two tasks, in milliseconds, or 0 to
+     *                   run the tasks as soon as they are given
+     * @throws IllegalArgumentException if the step is negative
+     */
+    public void setStep(final long stepMillis) {
+        if (stepMillis < 0) {
+            throw new IllegalArgumentException("The step can't be negative");
+        }
+        this.stepNanos = TimeUnit.MILLISECONDS.toNanos(stepMillis);
+    }
+
+    /**
+     * 
+     * @return the time between two tasks, in milliseconds. 0 if the loop is
+     *         unbounded
+     */
+    public long getStep() {
+        return TimeUnit.NANOSECONDS.toMillis(this.stepNanos);
+    }
+
+    /**
+     * This method allows to stop the loop. The tasks not yet started are
+     * discarded.
+     */
+    public void stop() {
+        this.running = false;
+        this.thread.interrupt();
+    }
+
+    /*
+     * Ticks are counted from the time of the previous tick and not from the end of
+     * its task, so that slow tasks don't slow the loop down. A loop late by more
+     * than a step starts counting again instead of running the late tasks in a burst.
+     */
+    private void loop() {
+        long nextTick = System.nanoTime();
+        while (this.running) {
+            final Runnable task;
+            try {
+                task = this.tasks.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            final long step = this.stepNanos;
+            long now = System.nanoTime();
+            while (step > 0 && now < nextTick && this.running) {
+                LockSupport.parkNanos(this, nextTick - now);
+                now = System.nanoTime();
+            }
+            if (!this.running) {
+                return;
+            }
+            nextTick = now - nextTick > step ? now + step : nextTick + step;
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                //The failures of the commands are given to their futures, the loop goes on
+            }
+        }
+    }
+}
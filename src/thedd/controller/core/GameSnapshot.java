@@ -0,0 +1,261 @@
+package thedd.controller.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import thedd.model.Model;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.roomevent.RoomEventType;
+import thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer;
+import thedd.model.world.environment.Environment;
+import thedd.model.world.floor.Floor;
+import thedd.model.world.floor.details.FloorDetails;
+
+/**
+ * An immutable copy of the state of a game, published by a
+ * {@link thedd.controller.core.GameCore} after every change. Snapshots can be
+ * read from any thread without locks, so that views, autosaves and metrics
+ * never touch the model while a command is changing it.
+ * <p>
+ * The descriptions of the actions and of the items of the player are kept from
+ * the previous snapshot while the catalog of the actions, or the inventory, of
+ * the player doesn't change: equipping an item changes the inventory as well.
+ */
+public final class GameSnapshot {
+
+    private final long version;
+    private final int floorIndex;
+    private final int numberOfFloors;
+    private final int roomIndex;
+    private final int numberOfRooms;
+    private final boolean over;
+    private final ActorSnapshot player;
+    private final Optional<Integer> roundNumber;
+    private final List<ActorSnapshot> enemies;
+    private final boolean inCombat;
+    private final boolean lastFloor;
+    private final boolean lastRoom;
+    private final boolean roomCompleted;
+    private final List<FloorDetails> stairs;
+    private final List<Pair<String, String>> interactables;
+    private final InventorySnapshot inventory;
+    private final int inventoryVersion;
+    private final List<Action> catalog;
+    private final List<ActionSnapshot> actions;
+
+    private GameSnapshot(final long version, final Model model, final Optional<ActionExecutionInstance> instance,
+                         final Optional<GameSnapshot> previous) {
+        final Environment environment = model.getEnvironment();
+        final Floor floor = environment.getCurrentFloor();
+        this.version = version;
+        this.floorIndex = environment.getCurrentFloorIndex();
+        this.numberOfFloors = environment.getNumberOfFloors();
+        this.roomIndex = floor.getCurrentRoomIndex();
+        this.numberOfRooms = environment.getNumberOfRooms();
+        this.over = !model.getPlayerCharacter().isAlive() || model.hasPlayerWon();
+        this.player = ActorSnapshot.of(model.getPlayerCharacter());
+        this.roundNumber = instance.map(ActionExecutionInstance::getRoundNumber);
+        this.enemies = instance.isPresent()
+                ? Collections.unmodifiableList(instance.get().getNPCsParty().stream().map(ActorSnapshot::of).collect(Collectors.toList()))
+                : Collections.emptyList();
+        this.inCombat = model.getPlayerCharacter().isInCombat();
+        this.lastFloor = environment.isCurrentLastFloor();
+        this.lastRoom = !floor.hasNextRoom();
+        this.roomCompleted = this.roomIndex < 0 || floor.getCurrentRoom().checkToMoveOn();
+        this.stairs = this.lastRoom && !this.lastFloor
+                ? Collections.unmodifiableList(environment.getFloorOptions())
+                : Collections.emptyList();
+        this.interactables = this.roomIndex < 0
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(floor.getCurrentRoom().getEvents().stream()
+                        .filter(e -> e.getType() == RoomEventType.INTERACTABLE_ACTION_PERFORMER && !e.isCompleted())
+                        .map(e -> (InteractableActionPerformer) e)
+                        .map(e -> new ImmutablePair<>(e.getName(), e.getAvailableActionsList().get(0).getDescription()))
+                        .collect(Collectors.toList()));
+        this.inventoryVersion = model.getPlayerCharacter().getInventory().getModificationCount();
+        this.inventory = previous.isPresent() && previous.get().inventoryVersion == this.inventoryVersion
+                ? previous.get().inventory
+                : InventorySnapshot.of(model.getPlayerCharacter());
+        this.catalog = model.getPlayerCharacter().getActionCatalog();
+        this.actions = previous.isPresent() && previous.get().catalog == this.catalog
+                ? previous.get().actions
+                : Collections.unmodifiableList(this.catalog.stream().map(ActionSnapshot::of).collect(Collectors.toList()));
+    }
+
+    /**
+     * Copy the state of a game. Must be called from the thread changing the
+     * game.
+     * 
+     * @param version  is the number of the snapshot, increasing with every copy
+     * @param model    is the model of the game
+     * @param instance is the instance of the current execution, if any
+     * @param previous is the last snapshot of the game, if any
+     * @return the snapshot of the game
+     */
+    public static GameSnapshot of(final long version, final Model model, final Optional<ActionExecutionInstance> instance,
+                                  final Optional<GameSnapshot> previous) {
+        return new GameSnapshot(version, Objects.requireNonNull(model), Objects.requireNonNull(instance),
+                                Objects.requireNonNull(previous));
+    }
+
+    /**
+     * 
+     * @return the number of the snapshot. Later snapshots have greater numbers
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * 
+     * @return the index of the current floor
+     */
+    public int getFloorIndex() {
+        return this.floorIndex;
+    }
+
+    /**
+     * 
+     * @return the number of floors of the game
+     */
+    public int getNumberOfFloors() {
+        return this.numberOfFloors;
+    }
+
+    /**
+     * 
+     * @return the index of the current room, or -1 at the entrance of the floor
+     */
+    public int getRoomIndex() {
+        return this.roomIndex;
+    }
+
+    /**
+     * 
+     * @return the number of rooms of each floor
+     */
+    public int getNumberOfRooms() {
+        return this.numberOfRooms;
+    }
+
+    /**
+     * 
+     * @return true if the player has died or won
+     */
+    public boolean isOver() {
+        return this.over;
+    }
+
+    /**
+     * 
+     * @return the snapshot of the player character
+     */
+    public ActorSnapshot getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * 
+     * @return true if an action was being executed
+     */
+    public boolean isExecuting() {
+        return this.roundNumber.isPresent();
+    }
+
+    /**
+     * 
+     * @return the round number of the current execution, or Optional.empty if no
+     *         action was being executed
+     */
+    public Optional<Integer> getRoundNumber() {
+        return this.roundNumber;
+    }
+
+    /**
+     * 
+     * @return the snapshots of the enemies of the current execution
+     */
+    public List<ActorSnapshot> getEnemies() {
+        return this.enemies;
+    }
+
+    /**
+     * 
+     * @return true if the player was in combat
+     */
+    public boolean isInCombat() {
+        return this.inCombat;
+    }
+
+    /**
+     * 
+     * @return true if the current floor is the last one
+     */
+    public boolean isLastFloor() {
+        return this.lastFloor;
+    }
+
+    /**
+     * 
+     * @return true if the current room is the last one of the floor
+     */
+    public boolean isLastRoom() {
+        return this.lastRoom;
+    }
+
+    /**
+     * 
+     * @return true if the events of the current room which must be completed have
+     *         been, or the player is at the entrance of the floor
+     */
+    public boolean isRoomCompleted() {
+        return this.roomCompleted;
+    }
+
+    /**
+     * 
+     * @return the details of the floors the stairs of the last room lead to, or an
+     *         empty list if the player is not in the last room or on the last floor
+     */
+    public List<FloorDetails> getStairs() {
+        return this.stairs;
+    }
+
+    /**
+     * 
+     * @return the names of the objects of the current room the player can still
+     *         interact with, each with the description of its action
+     */
+    public List<Pair<String, String>> getInteractables() {
+        return this.interactables;
+    }
+
+    /**
+     * 
+     * @return the snapshot of the items of the player
+     */
+    public InventorySnapshot getInventory() {
+        return this.inventory;
+    }
+
+    /**
+     * 
+     * @return the descriptions of the available actions of the player. The same
+     *         list is kept until the actions or the modifiers of the player change
+     */
+    public List<ActionSnapshot> getActions() {
+        return this.actions;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot [version=" + version + ", floor=" + floorIndex + ", room=" + roomIndex + "]";
+    }
+}
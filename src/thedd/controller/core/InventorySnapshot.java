@@ -0,0 +1,109 @@
+package thedd.controller.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.inventory.InventoryOrder;
+import thedd.model.item.Item;
+import thedd.model.item.equipableitem.EquipableItem;
+
+/**
+ * An immutable copy of the items of a character at a given time, which can be
+ * read from any thread. The items are given back to the commands of a
+ * {@link thedd.controller.core.GameCore}: only their names, descriptions and
+ * usability, which never change, may be read; their effects, whether they are
+ * equipped and how many of them are held are kept by the snapshot.
+ */
+public final class InventorySnapshot {
+
+    private final List<Item> items;
+    private final Map<Item, Integer> quantities;
+    private final Map<Item, Boolean> equipped;
+    private final Map<Item, Boolean> equipable;
+    private final Map<Item, String> effects;
+
+    private InventorySnapshot(final BasicCharacter character) {
+        final List<Item> all = new ArrayList<>(character.getEquippedItems());
+        all.addAll(character.getInventory().getSorted(InventoryOrder.NAME));
+        this.items = Collections.unmodifiableList(all);
+        this.quantities = new IdentityHashMap<>();
+        this.equipped = new IdentityHashMap<>();
+        this.equipable = new IdentityHashMap<>();
+        this.effects = new IdentityHashMap<>();
+        for (final Item item : all) {
+            this.quantities.put(item, character.getInventory().getQuantity(item));
+            this.effects.put(item, item.getEffectDescription());
+            if (item.isEquipable()) {
+                final EquipableItem equipableItem = (EquipableItem) item;
+                this.equipped.put(item, equipableItem.isEquipped() && character.getEquipmentSummary().isHeld(equipableItem));
+                this.equipable.put(item, character.isItemEquipableOnEquipment(equipableItem));
+            }
+        }
+    }
+
+    /**
+     * Copy the items of a character. Must be called from the thread changing the
+     * character.
+     * 
+     * @param character is the character
+     * @return the snapshot of its items
+     */
+    public static InventorySnapshot of(final BasicCharacter character) {
+        return new InventorySnapshot(Objects.requireNonNull(character));
+    }
+
+    /**
+     * 
+     * @return the equipped items followed by the items of the inventory, sorted
+     *         by name
+     */
+    public List<Item> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Gets how many copies of an item were in the inventory.
+     * 
+     * @param item is one of the items of the snapshot
+     * @return the quantity, or 0 if the item is not part of the snapshot
+     */
+    public int getQuantity(final Item item) {
+        return this.quantities.getOrDefault(Objects.requireNonNull(item), 0);
+    }
+
+    /**
+     * Gets the description of the effects of an item.
+     * 
+     * @param item is one of the items of the snapshot
+     * @return the description, or an empty string if the item is not part of the
+     *         snapshot
+     */
+    public String getEffectDescription(final Item item) {
+        return this.effects.getOrDefault(Objects.requireNonNull(item), "");
+    }
+
+    /**
+     * Gets whether an item was equipped.
+     * 
+     * @param item is one of the items of the snapshot
+     * @return true if the item was equipped
+     */
+    public boolean isEquipped(final Item item) {
+        return this.equipped.getOrDefault(Objects.requireNonNull(item), false);
+    }
+
+    /**
+     * Gets whether an item could be equipped, having a free slot.
+     * 
+     * @param item is one of the items of the snapshot
+     * @return true if the item is equipable and had a free slot
+     */
+    public boolean isEquipable(final Item item) {
+        return this.equipable.getOrDefault(Objects.requireNonNull(item), false);
+    }
+}
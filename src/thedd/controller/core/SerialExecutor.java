@@ -0,0 +1,57 @@
+package thedd.controller.core;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Executes its tasks one at a time, in order, on another executor, so that many
+ * serial executors can share the same threads.
+ */
+final class SerialExecutor implements Executor {
+
+    private final Queue<Runnable> tasks;
+    private final Executor executor;
+    private boolean running;
+
+    SerialExecutor(final Executor executor) {
+        this.tasks = new ArrayDeque<>();
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        Objects.requireNonNull(task);
+        final boolean idle;
+        synchronized (this) {
+            this.tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            idle = !this.running;
+            this.running = true;
+        }
+        if (idle) {
+            scheduleNext();
+        }
+    }
+
+    /*
+     * The next task is handed over outside of the lock, so that an executor which
+     * runs tasks in the calling thread doesn't hold it while running them.
+     */
+    private void scheduleNext() {
+        final Runnable next;
+        synchronized (this) {
+            next = this.tasks.poll();
+            this.running = next != null;
+        }
+        if (next != null) {
+            this.executor.execute(next);
+        }
+    }
+}
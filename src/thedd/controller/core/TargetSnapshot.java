@@ -0,0 +1,98 @@
+package thedd.controller.core;
+
+import java.util.Objects;
+
+import thedd.model.combat.actor.ActionActor;
+
+/**
+ * An immutable description of a possible target of an action of the player,
+ * given by {@link thedd.controller.core.GameCore#getTargets}. Every actor of the
+ * execution is described, whether it can be targeted or not, so a view can show
+ * the parties as they are.
+ */
+public final class TargetSnapshot {
+
+    private final ActionActor target;
+    private final ActorSnapshot actor;
+    private final boolean allied;
+    private final int position;
+    private final boolean targetable;
+    private final double hitChance;
+
+    /**
+     * TargetSnapshot constructor. Must be called from the thread changing the
+     * actor.
+     * 
+     * @param target     is the actor
+     * @param allied     is true if the actor is in the party of the player
+     * @param position   is the position of the actor in its party
+     * @param targetable is true if the action can target the actor
+     * @param hitChance  is the chance of the action to hit the actor, between 0
+     *                   and 1
+     */
+    TargetSnapshot(final ActionActor target, final boolean allied, final int position,
+                   final boolean targetable, final double hitChance) {
+        this.target = Objects.requireNonNull(target);
+        this.actor = ActorSnapshot.of(target);
+        this.allied = allied;
+        this.position = position;
+        this.targetable = targetable;
+        this.hitChance = hitChance;
+    }
+
+    /**
+     * Gets the actor, to be given back to the commands of a core. It must not be
+     * read by the caller: its state is given by {@link #getActor()}.
+     * 
+     * @return the actor
+     */
+    public ActionActor getTarget() {
+        return this.target;
+    }
+
+    /**
+     * 
+     * @return the snapshot of the actor
+     */
+    public ActorSnapshot getActor() {
+        return this.actor;
+    }
+
+    /**
+     * 
+     * @return true if the actor is in the party of the player
+     */
+    public boolean isAllied() {
+        return this.allied;
+    }
+
+    /**
+     * 
+     * @return the position of the actor in its party
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * 
+     * @return true if the action can target the actor
+     */
+    public boolean isTargetable() {
+        return this.targetable;
+    }
+
+    /**
+     * 
+     * @return the chance of the action to hit the actor, or 0 if it can't be
+     *         targeted
+     */
+    public double getHitChance() {
+        return this.hitChance;
+    }
+
+    @Override
+    public String toString() {
+        return "TargetSnapshot [actor=" + actor.getName() + ", allied=" + allied + ", position=" + position + "]";
+    }
+}
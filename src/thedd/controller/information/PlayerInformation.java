@@ -3,13 +3,14 @@ package thedd.controller.information;
 import java.util.List;
 import java.util.Optional;
 
-import thedd.model.combat.action.Action;
+import thedd.controller.core.ActionSnapshot;
 import thedd.model.item.Item;
 
 /**
  * This class represent an informations wrapper for the player character. This
  * class contains informations about the player character and inventory
  * view-controller will ask from this class all the required informations.
+ * The informations are read from the last snapshot of the game.
  */
 public interface PlayerInformation {
 
@@ -28,6 +29,14 @@ public interface PlayerInformation {
      */
     List<Item> getAllItemsList();
 
+    /**
+     * Returns the description of the effects of the specified item.
+     * 
+     * @param item the specified item
+     * @return the description
+     */
+    String getItemEffectDescription(Item item);
+
     /**
      * This method returns true if the item is equipped, otherwise false.
      * 
@@ -56,11 +65,12 @@ public interface PlayerInformation {
     void resetUsedItem();
 
     /**
-     * This method returns a list of player's available actions.
+     * This method returns a list of player's available actions. The list is
+     * shared until the actions or the modifiers of the player change.
      * 
-     * @return a a list of Action
+     * @return a a list of ActionSnapshot
      */
-    List<Action> getPlayerActions();
+    List<ActionSnapshot> getPlayerActions();
 
     /**
      * This method returns if the specified item is equipable in player's
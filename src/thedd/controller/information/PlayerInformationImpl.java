@@ -1,53 +1,51 @@
 package thedd.controller.information;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import thedd.controller.core.ActionSnapshot;
+import thedd.controller.core.GameSnapshot;
 import thedd.model.item.Item;
-import thedd.model.item.equipableitem.EquipableItem;
-import thedd.model.character.BasicCharacter;
-import thedd.model.combat.action.Action;
 
 /**
  * Implementations of {@link thedd.controller.information.PlayerInformation}.
  */
 public final class PlayerInformationImpl implements PlayerInformation {
 
-    private final BasicCharacter character;
+    private final Supplier<GameSnapshot> snapshot;
     private Optional<Item> usedItem;
 
     /**
      * ControllerImpl's constructor.
      * 
-     * @param playerCharacter the player character of which the view load
-     *                        informations.
+     * @param snapshot gives the last snapshot of the game, from which the view
+     *                 load informations.
      */
-    public PlayerInformationImpl(final BasicCharacter playerCharacter) {
-        this.character = playerCharacter;
+    public PlayerInformationImpl(final Supplier<GameSnapshot> snapshot) {
+        this.snapshot = Objects.requireNonNull(snapshot);
         this.usedItem = Optional.empty();
     }
 
     @Override
     public String getInventoryItemQuantity(final Item item) {
-        return String.valueOf(this.character.getInventory().getQuantity(item));
+        return String.valueOf(this.snapshot.get().getInventory().getQuantity(item));
     }
 
     @Override
     public List<Item> getAllItemsList() {
-        final List<Item> allItemsList = new ArrayList<>();
-        allItemsList.addAll(this.character.getEquippedItems());
-        allItemsList.addAll(this.character.getInventory().getAll());
-        return Collections.unmodifiableList(allItemsList);
+        return this.snapshot.get().getInventory().getItems();
+    }
+
+    @Override
+    public String getItemEffectDescription(final Item item) {
+        return this.snapshot.get().getInventory().getEffectDescription(item);
     }
 
     @Override
     public boolean isEquipped(final Item item) {
-        if (item.isUsable()) {
-            return false;
-        }
-        return this.character.getEquippedItems().contains(item);
+        return this.snapshot.get().getInventory().isEquipped(item);
     }
 
     @Override
@@ -66,15 +64,12 @@ public final class PlayerInformationImpl implements PlayerInformation {
     }
 
     @Override
-    public List<Action> getPlayerActions() {
-        return this.character.getAvailableActionsList();
+    public List<ActionSnapshot> getPlayerActions() {
+        return this.snapshot.get().getActions();
     }
 
     @Override
     public boolean isItemEquipableOnEquipment(final Item item) {
-        if (item.isEquipable()) {
-            return this.character.isItemEquipableOnEquipment((EquipableItem) item);
-        }
-        return false;
+        return this.snapshot.get().getInventory().isEquipable(item);
     }
 }
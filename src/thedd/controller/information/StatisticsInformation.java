@@ -2,13 +2,13 @@ package thedd.controller.information;
 
 import java.util.List;
 
-import thedd.model.character.BasicCharacter;
-import thedd.model.combat.status.Status;
+import thedd.controller.core.ActorSnapshot;
+import thedd.model.character.statistics.Statistic;
 
 /**
  * This class represent an informations wrapper for a specified character's
  * statistics. The Statistics view-controller will ask from this class all the
- * required informations.
+ * required informations, read from the snapshot of the character.
  */
 public interface StatisticsInformation {
 
@@ -16,9 +16,9 @@ public interface StatisticsInformation {
      * This method allows to update the current character from the one statistic's
      * information are taken.
      * 
-     * @param character the character.
+     * @param character the snapshot of the character.
      */
-    void setCharacter(BasicCharacter character);
+    void setCharacter(ActorSnapshot character);
 
     /**
      * This method returns a String representation of the type of the Character.
@@ -28,11 +28,11 @@ public interface StatisticsInformation {
     String getCharacterType();
 
     /**
-     * This method returns actual selected charatcer's statuses.
+     * This method returns the names of actual selected charatcer's statuses.
      * 
-     * @return a list of Status
+     * @return a list of String
      */
-    List<Status> getCharacterStatuses();
+    List<String> getCharacterStatuses();
 
     /**
      * Return the actual value of character's health points.
@@ -89,4 +89,20 @@ public interface StatisticsInformation {
      * @return a String
      */
     String getAgilityMaxValue();
+
+    /**
+     * Return the bonus to a statistic provided by the character's equipment.
+     * 
+     * @param stat the statistic.
+     * @return a String, empty if there is no bonus
+     */
+    String getEquipmentBonus(Statistic stat);
+
+    /**
+     * Return the flat damage resistances provided by the character's equipment,
+     * one per line.
+     * 
+     * @return a String, empty if there are no resistances
+     */
+    String getEquipmentResistances();
 }
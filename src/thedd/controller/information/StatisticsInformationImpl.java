@@ -1,83 +1,99 @@
 package thedd.controller.information;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-import thedd.model.character.BasicCharacter;
+import thedd.controller.core.ActorSnapshot;
 import thedd.model.character.statistics.Statistic;
-import thedd.model.combat.status.Status;
+import thedd.model.combat.tag.EffectTag;
 
 /**
  * Implementation of {@link StatisticsInformation}.
  */
 public final class StatisticsInformationImpl implements StatisticsInformation {
 
-    private BasicCharacter character;
-    // This static int represent the number of characters to skip in class path name
-    // in getType() method.
-    private static final int SUBSTRING_STEPS = 28;
+    private ActorSnapshot character;
 
     /**
      * StatisticsInformationImpl's constructor.
      * 
-     * @param character the character.
+     * @param character the snapshot of the character.
      */
-    public StatisticsInformationImpl(final BasicCharacter character) {
-        this.character = character;
+    public StatisticsInformationImpl(final ActorSnapshot character) {
+        this.character = Objects.requireNonNull(character);
     }
 
     @Override
-    public List<Status> getCharacterStatuses() {
-        return Collections.unmodifiableList(this.character.getStatuses());
+    public List<String> getCharacterStatuses() {
+        return this.character.getStatuses();
     }
 
     @Override
-    public void setCharacter(final BasicCharacter character) {
-        this.character = character;
+    public void setCharacter(final ActorSnapshot character) {
+        this.character = Objects.requireNonNull(character);
     }
 
     @Override
     public String getHealthPointValue() {
-        return String.valueOf(this.character.getStat(Statistic.HEALTH_POINT).getActual());
+        return String.valueOf(this.character.getActual(Statistic.HEALTH_POINT));
     }
 
     @Override
     public String getConstitutionValue() {
-        return String.valueOf(this.character.getStat(Statistic.CONSTITUTION).getActual());
+        return String.valueOf(this.character.getActual(Statistic.CONSTITUTION));
     }
 
     @Override
     public String getStrengthValue() {
-        return String.valueOf(this.character.getStat(Statistic.STRENGTH).getActual());
+        return String.valueOf(this.character.getActual(Statistic.STRENGTH));
     }
 
     @Override
     public String getAgilityValue() {
-        return String.valueOf(this.character.getStat(Statistic.AGILITY).getActual());
+        return String.valueOf(this.character.getActual(Statistic.AGILITY));
     }
 
     @Override
     public String getHealthPointMaxValue() {
-        return String.valueOf(this.character.getStat(Statistic.HEALTH_POINT).getMax());
+        return String.valueOf(this.character.getMax(Statistic.HEALTH_POINT));
     }
 
     @Override
     public String getConstitutionMaxValue() {
-        return String.valueOf(this.character.getStat(Statistic.CONSTITUTION).getMax());
+        return String.valueOf(this.character.getMax(Statistic.CONSTITUTION));
     }
 
     @Override
     public String getStrengthMaxValue() {
-        return String.valueOf(this.character.getStat(Statistic.STRENGTH).getMax());
+        return String.valueOf(this.character.getMax(Statistic.STRENGTH));
     }
 
     @Override
     public String getAgilityMaxValue() {
-        return String.valueOf(this.character.getStat(Statistic.AGILITY).getMax());
+        return String.valueOf(this.character.getMax(Statistic.AGILITY));
     }
 
     @Override
     public String getCharacterType() {
-        return this.character.getClass().getName().substring(SUBSTRING_STEPS);
+        return this.character.getType();
+    }
+
+    @Override
+    public String getEquipmentBonus(final Statistic stat) {
+        final int bonus = this.character.getEquipmentBonus(stat);
+        if (bonus == 0) {
+            return "";
+        }
+        return " (" + (bonus > 0 ? "+" : "") + bonus + ")";
+    }
+
+    @Override
+    public String getEquipmentResistances() {
+        final Map<EffectTag, Double> resistances = this.character.getResistances();
+        return resistances.keySet().stream()
+                          .map(t -> "Resists " + resistances.get(t) + " " + t.getLiteral())
+                          .collect(Collectors.joining("\n"));
     }
 }
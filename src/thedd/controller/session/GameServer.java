@@ -0,0 +1,33 @@
+package thedd.controller.session;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Interface that define a local server which lets remote clients play game
+ * sessions through HTTP.
+ * <p>
+ * The served requests are:
+ * <ul>
+ * <li>POST /sessions with body "name floors rooms": starts a session and returns its identifier</li>
+ * <li>POST /sessions/id with a {@link GameSession} command as body: executes the command</li>
+ * <li>DELETE /sessions/id: ends the session</li>
+ * </ul>
+ */
+public interface GameServer extends Closeable {
+
+    /**
+     * This method allows to start serving requests.
+     * 
+     * @throws IOException           if the server can't be bound
+     * @throws IllegalStateException if the server has already been started
+     */
+    void start() throws IOException;
+
+    /**
+     * 
+     * @return the port the server is bound to
+     * @throws IllegalStateException if the server hasn't been started yet
+     */
+    int getPort();
+}
@@ -0,0 +1,183 @@
+package thedd.controller.session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Implementation of {@link thedd.controller.session.GameServer}, bound to the
+ * loopback address.
+ * <p>
+ * Requests are served by a fixed pool of threads shared by all the sessions:
+ * a session uses a thread only while one of its commands is executed, so the
+ * number of hosted sessions doesn't depend on the number of threads.
+ */
+public final class GameServerImpl implements GameServer {
+
+    private static final String CONTEXT = "/sessions";
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int NO_CONTENT = 204;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int CONFLICT = 409;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final int MAX_BODY = 4096;
+
+    private final int port;
+    private final int threads;
+    private final SessionManager sessions;
+    private Optional<HttpServer> server;
+    private Optional<ExecutorService> executor;
+
+    /**
+     * GameServerImpl constructor.
+     * 
+     * @param port     is the port to bind, zero to pick any free port
+     * @param threads  is the number of threads serving the requests
+     * @param sessions is the container of the hosted sessions
+     * @throws IllegalArgumentException if the port or the number of threads is not valid
+     */
+    public GameServerImpl(final int port, final int threads, final SessionManager sessions) {
+        if (port < 0 || threads <= 0) {
+            throw new IllegalArgumentException("Invalid port or number of threads");
+        }
+        this.port = port;
+        this.threads = threads;
+        this.sessions = Objects.requireNonNull(sessions);
+        this.server = Optional.empty();
+        this.executor = Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start() throws IOException {
+        if (this.server.isPresent()) {
+            throw new IllegalStateException("Server already started");
+        }
+        final HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), this.port), 0);
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        http.createContext(CONTEXT, this::handle);
+        http.setExecutor(pool);
+        http.start();
+        this.server = Optional.of(http);
+        this.executor = Optional.of(pool);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getPort() {
+        return this.server.orElseThrow(() -> new IllegalStateException("Server not started")).getAddress().getPort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.server.ifPresent(s -> s.stop(0));
+        this.executor.ifPresent(ExecutorService::shutdownNow);
+        this.server = Optional.empty();
+        this.executor = Optional.empty();
+        this.sessions.close();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String path = StringUtils.removeEnd(exchange.getRequestURI().getPath(), "/");
+            final String method = exchange.getRequestMethod();
+            if (path.equals(CONTEXT)) {
+                if ("POST".equals(method)) {
+                    createSession(exchange);
+                } else {
+                    reply(exchange, METHOD_NOT_ALLOWED, "");
+                }
+                return;
+            }
+            final Optional<GameSession> session = getSession(path);
+            if (!session.isPresent()) {
+                reply(exchange, NOT_FOUND, "No such session");
+            } else if ("POST".equals(method)) {
+                reply(exchange, OK, session.get().execute(readBody(exchange)));
+            } else if ("DELETE".equals(method)) {
+                this.sessions.remove(session.get().getId());
+                reply(exchange, NO_CONTENT, "");
+            } else {
+                reply(exchange, METHOD_NOT_ALLOWED, "");
+            }
+        } catch (IllegalArgumentException e) {
+            reply(exchange, BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            reply(exchange, CONFLICT, e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void createSession(final HttpExchange exchange) throws IOException {
+        final String[] words = readBody(exchange).trim().split("\\s+");
+        if (words.length != 3 || !StringUtils.isNumeric(words[1]) || !StringUtils.isNumeric(words[2])) {
+            throw new IllegalArgumentException("Expected: name floors rooms");
+        }
+        final GameSession session;
+        try {
+            session = this.sessions.create(Optional.of(words[0]), Integer.parseInt(words[1]), Integer.parseInt(words[2]));
+        } catch (IllegalStateException e) {
+            reply(exchange, SERVICE_UNAVAILABLE, e.getMessage());
+            return;
+        }
+        reply(exchange, CREATED, Long.toString(session.getId()));
+    }
+
+    private Optional<GameSession> getSession(final String path) {
+        final String id = StringUtils.removeStart(path, CONTEXT + "/");
+        if (id.isEmpty() || id.length() > String.valueOf(Long.MAX_VALUE).length() - 1 || !StringUtils.isNumeric(id)) {
+            return Optional.empty();
+        }
+        return this.sessions.get(Long.parseLong(id));
+    }
+
+    private static String readBody(final HttpExchange exchange) throws IOException {
+        final byte[] buffer = new byte[MAX_BODY];
+        int length = 0;
+        try (InputStream body = exchange.getRequestBody()) {
+            int read = body.read(buffer, length, buffer.length - length);
+            while (read > 0) {
+                length += read;
+                if (length == buffer.length) {
+                    throw new IllegalArgumentException("Request too long");
+                }
+                read = body.read(buffer, length, buffer.length - length);
+            }
+        }
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static void reply(final HttpExchange exchange, final int status, final String text) throws IOException {
+        final byte[] body = text == null ? new byte[0] : text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package thedd.controller.session;
+
+/**
+ * Interface that define a game session played without a view, driven by text
+ * commands. Every session has its own model and its own action executors, so
+ * that many sessions can be played at the same time.
+ * <p>
+ * The accepted commands are:
+ * <ul>
+ * <li>STATUS: the floor, the room and the health of the player</li>
+ * <li>EVENTS: the events of the current room</li>
+ * <li>NEXT_ROOM: moves to the next room, starting its combat if any</li>
+ * <li>STAIRS index: takes the stairs to the given floor option</li>
+ * <li>INTERACT index: interacts with the given object of the room</li>
+ * <li>ACTIONS: the actions available to the player</li>
+ * <li>TARGETS action: the valid targets of the given action</li>
+ * <li>ACT action target: selects the action of the player for the current round</li>
+ * <li>AUTO: resolves the current combat at once, selecting the moves of the player
+ * as the NPCs do, and summarizes it</li>
+ * </ul>
+ */
+public interface GameSession {
+
+    /**
+     * 
+     * @return the identifier of the session
+     */
+    long getId();
+
+    /**
+     * This method allows to execute a command. Commands of the same session are
+     * executed one at a time.
+     * 
+     * @param command is the command to execute
+     * @return the text describing the outcome of the command
+     * @throws IllegalArgumentException if the command is unknown or malformed
+     * @throws IllegalStateException    if the command can't be executed now
+     */
+    String execute(String command);
+
+    /**
+     * 
+     * @return true if the player has won or lost the game
+     */
+    boolean isOver();
+
+    /**
+     * 
+     * @return the time of the last executed command, in milliseconds
+     */
+    long getLastAccess();
+
+    /**
+     * This method allows to release the model of an idle session, keeping only its
+     * encoded game in memory. The model is restored as it was by the next command.
+     * Sessions in combat are never parked.
+     * 
+     * @return true if the session has been parked
+     */
+    boolean park();
+
+    /**
+     * 
+     * @return true if the session is parked
+     */
+    boolean isParked();
+}
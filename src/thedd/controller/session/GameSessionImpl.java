@@ -0,0 +1,412 @@
+package thedd.controller.session;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import thedd.controller.core.GameCore;
+import thedd.controller.core.GameCoreImpl;
+import thedd.controller.core.GameEvent;
+import thedd.controller.core.GameSnapshot;
+import thedd.controller.core.TargetSnapshot;
+import thedd.model.Model;
+import thedd.model.ModelImpl;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.result.ActionResult;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.autobattle.BattleSummary;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.roomevent.RoomEvent;
+import thedd.model.savegame.SessionCodec;
+import thedd.model.savegame.SessionCodecImpl;
+import thedd.model.world.floor.Floor;
+
+/**
+ * Implementation of {@link thedd.controller.session.GameSession}.
+ * <p>
+ * The commands are given to a {@link thedd.controller.core.GameCore} running
+ * them in the calling thread, and the events it emits are described in the
+ * text returned by the command. Since the session is the only writer of its
+ * game, it reads the model of the game between the commands it gives. A parked session keeps its game encoded by a
+ * {@link thedd.model.savegame.SessionCodec}, so it's restored exactly as it was.
+ * Every session draws with its own generator, which survives parking, so the
+ * sessions don't contend on a shared generator and a seeded session can be
+ * played again.
+ */
+public final class GameSessionImpl implements GameSession {
+
+    private static final String ERROR_UNKNOWNCOMMAND = "Unknown command";
+    private static final String ERROR_WRONGARGUMENTS = "Wrong number of arguments";
+    private static final String ERROR_NOTINCOMBAT = "The player is not in combat";
+    private static final String ERROR_GAMEOVER = "The game is over";
+    private static final String ERROR_ROOMNOTCOMPLETED = "The current room hasn't been completed";
+    private static final String ERROR_NOTLASTROOM = "The stairs are in the last room of the floor";
+    private static final String ERROR_PARKED = "The session can't be restored";
+    private static final String ERROR_DISCARDED = "The session has been removed";
+    private static final String SEPARATOR = " ";
+
+    private final long id;
+    private final SessionCodec codec;
+    private final Random random;
+    private final ParkingListener listener;
+    private final StringBuilder out;
+    private Optional<GameCore> core;
+    private Optional<Model> model;
+    private Optional<byte[]> parked;
+    private volatile long lastAccess;
+    private boolean discarded;
+
+    /**
+     * GameSessionImpl constructor.
+     * 
+     * @param id             is the identifier of the session
+     * @param playerName     is the name of the player character
+     * @param numberOfFloors is the number of floors of the game
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @throws IllegalArgumentException if the number of floors or rooms is not valid
+     */
+    public GameSessionImpl(final long id, final Optional<String> playerName, final int numberOfFloors,
+            final int numberOfRooms) {
+        this(id, playerName, numberOfFloors, numberOfRooms, new Random());
+    }
+
+    /**
+     * GameSessionImpl constructor for a session drawn with the given generator.
+     * 
+     * @param id             is the identifier of the session
+     * @param playerName     is the name of the player character
+     * @param numberOfFloors is the number of floors of the game
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @param random         is the generator the session is drawn with
+     * @throws IllegalArgumentException if the number of floors or rooms is not valid
+     */
+    public GameSessionImpl(final long id, final Optional<String> playerName, final int numberOfFloors,
+            final int numberOfRooms, final Random random) {
+        this(id, playerName, numberOfFloors, numberOfRooms, random, new ParkingListener() {
+            @Override
+            public void parked(final GameSession session, final int size) { }
+
+            @Override
+            public void restored(final GameSession session, final int size) { }
+        });
+    }
+
+    /**
+     * GameSessionImpl constructor used by a
+     * {@link thedd.controller.session.SessionManager} to account its sessions.
+     * 
+     * @param id             is the identifier of the session
+     * @param playerName     is the name of the player character
+     * @param numberOfFloors is the number of floors of the game
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @param random         is the generator the session is drawn with
+     * @param listener       is notified when the session is parked or restored
+     * @throws IllegalArgumentException if the number of floors or rooms is not valid
+     */
+    GameSessionImpl(final long id, final Optional<String> playerName, final int numberOfFloors,
+            final int numberOfRooms, final Random random, final ParkingListener listener) {
+        this.random = Objects.requireNonNull(random);
+        final Model game = new ModelImpl(random);
+        if (!game.initGame(Objects.requireNonNull(playerName), numberOfFloors, numberOfRooms)) {
+            throw new IllegalArgumentException("Invalid number of floors or rooms");
+        }
+        this.id = id;
+        this.codec = new SessionCodecImpl();
+        this.listener = Objects.requireNonNull(listener);
+        this.out = new StringBuilder();
+        this.core = Optional.empty();
+        this.model = Optional.empty();
+        this.start(game);
+        this.parked = Optional.empty();
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String execute(final String command) {
+        final String[] words = Objects.requireNonNull(command).trim().split("\\s+");
+        this.lastAccess = System.currentTimeMillis();
+        final GameCore game = this.getCore();
+        this.out.setLength(0);
+        switch (words[0].toUpperCase()) {
+        case "STATUS":
+            checkArguments(words, 0);
+            describeStatus(game);
+            break;
+        case "EVENTS":
+            checkArguments(words, 0);
+            final List<RoomEvent> events = getRoomEvents();
+            for (int i = 0; i < events.size(); i++) {
+                this.out.append(i).append(SEPARATOR).append(events.get(i).getType()).append(SEPARATOR)
+                        .append(events.get(i).getName()).append(events.get(i).isCompleted() ? " completed" : "").append('\n');
+            }
+            break;
+        case "NEXT_ROOM":
+            checkArguments(words, 0);
+            checkNotOver(game);
+            if (!await(game.nextRoom())) {
+                throw new IllegalStateException(ERROR_ROOMNOTCOMPLETED);
+            }
+            break;
+        case "STAIRS":
+            checkArguments(words, 1);
+            checkNotOver(game);
+            if (this.model.get().getEnvironment().getCurrentFloor().hasNextRoom()) {
+                throw new IllegalStateException(ERROR_NOTLASTROOM);
+            }
+            if (await(game.nextFloor(select(this.model.get().getEnvironment().getFloorOptions(), words[1])))) {
+                await(game.nextRoom());
+            }
+            break;
+        case "INTERACT":
+            checkArguments(words, 1);
+            checkNotOver(game);
+            await(game.interact(parseIndex(game.getSnapshot().getInteractables(), words[1])));
+            break;
+        case "ACTIONS":
+            checkArguments(words, 0);
+            final List<Action> actions = this.model.get().getPlayerCharacter().getAvailableActionsList();
+            for (int i = 0; i < actions.size(); i++) {
+                this.out.append(i).append(SEPARATOR).append(actions.get(i).getName()).append('\n');
+            }
+            break;
+        case "TARGETS":
+            checkArguments(words, 1);
+            final List<TargetSnapshot> targets = getTargets(game, getAction(words[1]));
+            for (int i = 0; i < targets.size(); i++) {
+                this.out.append(i).append(SEPARATOR).append(targets.get(i).getActor().getName()).append('\n');
+            }
+            break;
+        case "ACT":
+            checkArguments(words, 2);
+            final Action action = getAction(words[1]);
+            await(game.selectAction(action, select(getTargets(game, action), words[2]).getTarget()));
+            break;
+        case "AUTO":
+            checkArguments(words, 0);
+            final BattleSummary summary = await(game.autoBattle());
+            this.out.append("rounds ").append(summary.getRounds())
+                    .append(" dealt ").append(summary.getDamageDealt())
+                    .append(" taken ").append(summary.getDamageTaken())
+                    .append(" statuses ").append(summary.getStatusesApplied().size())
+                    .append(" items ").append(summary.getItemsConsumed().values().stream().mapToInt(Integer::intValue).sum())
+                    .append('\n');
+            break;
+        default:
+            throw new IllegalArgumentException(ERROR_UNKNOWNCOMMAND);
+        }
+        return this.out.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isOver() {
+        return this.core.isPresent() && this.core.get().getSnapshot().isOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLastAccess() {
+        return this.lastAccess;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean park() {
+        if (this.discarded || this.parked.isPresent() || this.core.get().getSnapshot().isExecuting()) {
+            return false;
+        }
+        try {
+            this.parked = Optional.of(this.codec.encode(this.model.get()));
+        } catch (IOException e) {
+            return false;
+        }
+        this.core = Optional.empty();
+        this.model = Optional.empty();
+        this.listener.parked(this, this.parked.get().length);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean isParked() {
+        return this.parked.isPresent();
+    }
+
+    /**
+     * This method allows to release the session once it has been removed from its
+     * manager: the following commands are refused and the listener isn't notified
+     * anymore.
+     * 
+     * @return the size in bytes of the session if it was parked, zero otherwise
+     */
+    synchronized int discard() {
+        final int size = this.parked.map(p -> p.length).orElse(0);
+        this.discarded = true;
+        this.core = Optional.empty();
+        this.model = Optional.empty();
+        this.parked = Optional.empty();
+        return size;
+    }
+
+    private GameCore getCore() {
+        if (this.discarded) {
+            throw new IllegalStateException(ERROR_DISCARDED);
+        }
+        if (this.parked.isPresent()) {
+            final int size = this.parked.get().length;
+            try {
+                this.start(this.codec.decode(this.parked.get(), this.random));
+            } catch (IOException e) {
+                throw new IllegalStateException(ERROR_PARKED, e);
+            }
+            this.parked = Optional.empty();
+            this.listener.restored(this, size);
+        }
+        return this.core.get();
+    }
+
+    private void start(final Model game) {
+        final GameCore created = new GameCoreImpl(game, Runnable::run);
+        created.bindObserver(e -> e.ifPresent(this::describeEvent));
+        this.core = Optional.of(created);
+        this.model = Optional.of(game);
+    }
+
+    private void describeEvent(final GameEvent event) {
+        switch (event.getType()) {
+        case COMBAT_STARTED:
+            this.out.append("combat against ")
+                    .append(event.getInstance().get().getNPCsParty().stream().map(ActionActor::getName).collect(Collectors.joining(", ")))
+                    .append('\n');
+            break;
+        case ACTION_EXECUTED:
+            describeResult(event.getActionResult().get());
+            break;
+        case EXECUTION_ENDED:
+            if (event.getStatus().get() != ExecutionStatus.COMBAT_ENDED) {
+                this.out.append(event.getStatus().get()).append('\n');
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void describeStatus(final GameCore game) {
+        final GameSnapshot state = game.getSnapshot();
+        this.out.append("floor ").append(state.getFloorIndex() + 1).append('/').append(state.getNumberOfFloors())
+                .append(" room ").append(state.getRoomIndex() + 1).append('/').append(state.getNumberOfRooms())
+                .append(" health ").append(state.getPlayer().getActual(Statistic.HEALTH_POINT))
+                .append('/').append(state.getPlayer().getMax(Statistic.HEALTH_POINT))
+                .append(state.isExecuting() ? " combat" : "")
+                .append(state.isOver() ? " over" : "").append('\n');
+    }
+
+    private void describeResult(final ActionResult result) {
+        final Action action = result.getAction();
+        if (result.getResults().isEmpty()) {
+            this.out.append(action.getSource().get().getName()).append(" was unable to execute ").append(action.getName()).append('\n');
+        }
+        result.getResults().forEach(r -> {
+            switch (r.getRight()) {
+            case HIT:
+                this.out.append(action.getLogMessage(r.getLeft(), true)).append('\n');
+                break;
+            case MISSED:
+                this.out.append(action.getLogMessage(r.getLeft(), false)).append('\n');
+                break;
+            case PARRIED:
+                this.out.append(r.getLeft().getName()).append(" parried ").append(action.getSource().get().getName()).append('\n');
+                break;
+            default:
+                break;
+            }
+        });
+    }
+
+    private List<TargetSnapshot> getTargets(final GameCore game, final Action action) {
+        if (!game.getSnapshot().isExecuting()) {
+            throw new IllegalStateException(ERROR_NOTINCOMBAT);
+        }
+        return await(game.getTargets(action)).stream().filter(TargetSnapshot::isTargetable).collect(Collectors.toList());
+    }
+
+    private Action getAction(final String index) {
+        return select(this.model.get().getPlayerCharacter().getAvailableActionsList(), index);
+    }
+
+    private List<RoomEvent> getRoomEvents() {
+        final Floor floor = this.model.get().getEnvironment().getCurrentFloor();
+        return floor.getCurrentRoomIndex() >= 0 ? floor.getCurrentRoom().getEvents() : Collections.emptyList();
+    }
+
+    private static void checkNotOver(final GameCore game) {
+        if (game.getSnapshot().isOver()) {
+            throw new IllegalStateException(ERROR_GAMEOVER);
+        }
+    }
+
+    /*
+     * The core runs the commands in the calling thread, so the future is already
+     * completed and its failure is thrown as it is.
+     */
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void checkArguments(final String[] words, final int arguments) {
+        if (words.length != arguments + 1) {
+            throw new IllegalArgumentException(ERROR_WRONGARGUMENTS);
+        }
+    }
+
+    private static <T> T select(final List<T> options, final String word) {
+        return options.get(parseIndex(options, word));
+    }
+
+    private static int parseIndex(final List<?> options, final String word) {
+        final int index;
+        try {
+            index = Integer.parseInt(word);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not an index: " + word, e);
+        }
+        if (index < 0 || index >= options.size()) {
+            throw new IllegalArgumentException("No option " + index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,26 @@
+package thedd.controller.session;
+
+/**
+ * Listener of the parking of a {@link thedd.controller.session.GameSession},
+ * through which a {@link thedd.controller.session.SessionManager} accounts the
+ * memory of its sessions. It's notified while the session is locked, so it must
+ * not wait for other sessions.
+ */
+interface ParkingListener {
+
+    /**
+     * This method is called when a session has been parked.
+     * 
+     * @param session is the parked session
+     * @param size    is the size in bytes of the parked session
+     */
+    void parked(GameSession session, int size);
+
+    /**
+     * This method is called when a parked session has been restored by a command.
+     * 
+     * @param session is the restored session
+     * @param size    is the size in bytes the session had while parked
+     */
+    void restored(GameSession session, int size);
+}
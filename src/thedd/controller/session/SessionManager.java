@@ -0,0 +1,56 @@
+package thedd.controller.session;
+
+import java.io.Closeable;
+import java.util.Optional;
+
+/**
+ * Interface that define the container of the game sessions hosted at the same
+ * time, which keeps their memory within a budget.
+ */
+public interface SessionManager extends Closeable {
+
+    /**
+     * This method allows to start a new game session.
+     * 
+     * @param playerName     is the name of the player character
+     * @param numberOfFloors is the number of floors of the game
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @return the new session
+     * @throws IllegalArgumentException if the number of floors or rooms is not valid
+     * @throws IllegalStateException    if the maximum number of sessions has been reached
+     */
+    GameSession create(Optional<String> playerName, int numberOfFloors, int numberOfRooms);
+
+    /**
+     * 
+     * @param id is the identifier of the session
+     * @return the session, or Optional.empty if there's no session with that identifier
+     */
+    Optional<GameSession> get(long id);
+
+    /**
+     * This method allows to end a game session.
+     * 
+     * @param id is the identifier of the session
+     * @return true if the session existed
+     */
+    boolean remove(long id);
+
+    /**
+     * 
+     * @return the number of hosted sessions
+     */
+    int getNumberOfSessions();
+
+    /**
+     * 
+     * @return the number of hosted sessions which are not parked
+     */
+    int getNumberOfActiveSessions();
+
+    /**
+     * 
+     * @return the number of bytes held by the parked sessions
+     */
+    long getParkedBytes();
+}
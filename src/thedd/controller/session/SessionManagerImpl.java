@@ -0,0 +1,221 @@
+package thedd.controller.session;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link thedd.controller.session.SessionManager}.
+ * <p>
+ * The memory budget is given by the number of sessions kept active, each holding
+ * its whole model, and by the bytes held by the parked sessions, which only keep
+ * their encoded game. Sessions idle for longer than the given time are parked by
+ * a background sweep, and when too many sessions are active, because they have
+ * been created or restored by a command, the least recently used ones are parked
+ * too. New sessions are refused while the maximum number of sessions or the
+ * bytes of the parked sessions are exceeded. Sessions don't own threads, so idle
+ * sessions cost no thread at all.
+ */
+public final class SessionManagerImpl implements SessionManager {
+
+    private static final int PARKED_FRACTION = 4;
+
+    private final int maxSessions;
+    private final int maxActiveSessions;
+    private final long idleMillis;
+    private final long maxParkedBytes;
+    private final Map<Long, GameSessionImpl> sessions;
+    private final AtomicLong nextId;
+    private final AtomicInteger reserved;
+    private final AtomicInteger headroom;
+    private final AtomicLong parkedBytes;
+    private final ParkingListener listener;
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * SessionManagerImpl constructor.
+     * 
+     * @param maxSessions       is the maximum number of sessions
+     * @param maxActiveSessions is the maximum number of sessions which are not parked
+     * @param idleMillis        is the time after which an idle session is parked
+     * @param maxParkedBytes    is the maximum number of bytes held by the parked
+     *                          sessions
+     * @throws IllegalArgumentException if any argument is not positive or there are
+     *                                  more active sessions than sessions
+     */
+    public SessionManagerImpl(final int maxSessions, final int maxActiveSessions, final long idleMillis,
+                              final long maxParkedBytes) {
+        if (maxSessions <= 0 || maxActiveSessions <= 0 || maxActiveSessions > maxSessions || idleMillis <= 0
+                || maxParkedBytes <= 0) {
+            throw new IllegalArgumentException("Invalid session budget");
+        }
+        this.maxSessions = maxSessions;
+        this.maxActiveSessions = maxActiveSessions;
+        this.idleMillis = idleMillis;
+        this.maxParkedBytes = maxParkedBytes;
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong();
+        this.reserved = new AtomicInteger();
+        this.headroom = new AtomicInteger(maxActiveSessions);
+        this.parkedBytes = new AtomicLong();
+        this.listener = new ParkingListener() {
+            @Override
+            public void parked(final GameSession session, final int size) {
+                parkedBytes.addAndGet(size);
+            }
+
+            @Override
+            public void restored(final GameSession session, final int size) {
+                parkedBytes.addAndGet(-size);
+                if (headroom.decrementAndGet() < 0) {
+                    scheduleParking();
+                }
+            }
+        };
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::parkIdleSessions, idleMillis, idleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameSession create(final Optional<String> playerName, final int numberOfFloors, final int numberOfRooms) {
+        if (this.parkedBytes.get() > this.maxParkedBytes) {
+            throw new IllegalStateException("Too much memory held by the parked sessions");
+        }
+        if (this.reserved.incrementAndGet() > this.maxSessions) {
+            this.reserved.decrementAndGet();
+            throw new IllegalStateException("Too many sessions");
+        }
+        final GameSessionImpl session;
+        try {
+            session = new GameSessionImpl(this.nextId.incrementAndGet(), playerName, numberOfFloors, numberOfRooms,
+                                          new Random(), this.listener);
+        } catch (RuntimeException e) {
+            this.reserved.decrementAndGet();
+            throw e;
+        }
+        this.sessions.put(session.getId(), session);
+        if (this.headroom.decrementAndGet() < 0) {
+            parkLeastRecentlyUsed();
+        }
+        return session;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GameSession> get(final long id) {
+        return Optional.ofNullable(this.sessions.get(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final long id) {
+        final GameSessionImpl session = this.sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        this.parkedBytes.addAndGet(-session.discard());
+        this.reserved.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfSessions() {
+        return this.sessions.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfActiveSessions() {
+        return (int) this.sessions.values().stream().filter(s -> !s.isParked()).count();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        this.sweeper.shutdownNow();
+        this.sessions.keySet().forEach(this::remove);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getParkedBytes() {
+        return this.parkedBytes.get();
+    }
+
+    private void parkIdleSessions() {
+        final long limit = System.currentTimeMillis() - this.idleMillis;
+        this.sessions.values().stream()
+                              .filter(s -> s.getLastAccess() < limit && !s.isParked())
+                              .forEach(GameSession::park);
+    }
+
+    /*
+     * A session is restored while it's locked by its command, so its manager can't
+     * park the other sessions in the same thread without risking a deadlock with a
+     * concurrent parking: they are parked by the sweeper instead.
+     */
+    private void scheduleParking() {
+        try {
+            this.sweeper.execute(this::parkLeastRecentlyUsed);
+        } catch (RejectedExecutionException e) {
+            // the manager has been closed, so there's nothing to park
+        }
+    }
+
+    /*
+     * Counting the active sessions visits all of them, so it's done only when the
+     * sessions created since the last count may have exceeded the budget, and then
+     * the active sessions are brought down to three quarters of the budget.
+     * Sessions in combat can't be parked, so the active sessions may stay above the
+     * budget until their combats end.
+     */
+    private synchronized void parkLeastRecentlyUsed() {
+        if (this.headroom.get() >= 0) {
+            return;
+        }
+        final int target = this.maxActiveSessions - this.maxActiveSessions / PARKED_FRACTION;
+        int exceeding = getNumberOfActiveSessions() - target;
+        final List<GameSession> active = this.sessions.values().stream()
+                                                               .filter(s -> !s.isParked())
+                                                               .sorted(Comparator.comparingLong(GameSession::getLastAccess))
+                                                               .collect(Collectors.toList());
+        for (final GameSession session : active) {
+            if (exceeding <= 0) {
+                break;
+            } else if (session.park()) {
+                exceeding--;
+            }
+        }
+        this.headroom.set(this.maxActiveSessions - target - exceeding);
+    }
+}
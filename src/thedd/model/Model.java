@@ -1,6 +1,7 @@
 package thedd.model;
 
 import java.util.Optional;
+import java.util.Random;
 import thedd.model.character.BasicCharacter;
 import thedd.model.world.environment.Environment;
 
@@ -41,4 +42,12 @@ public interface Model {
      */
     boolean hasPlayerWon();
 
+    /**
+     * This method allows to get the generator every random draw of the game
+     * session is made with: its floors, rooms, enemies, treasures and rolls.
+     * 
+     * @return the random generator of the game session
+     */
+    Random getRandom();
+
 }
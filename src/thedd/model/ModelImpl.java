@@ -2,6 +2,7 @@ package thedd.model;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import thedd.model.character.BasicCharacter;
 import thedd.model.character.types.PlayerCharacter;
 import thedd.model.world.environment.Environment;
@@ -16,13 +17,54 @@ public final class ModelImpl implements Model {
 
     private Optional<Environment> environment;
     private Optional<BasicCharacter> playerCharacter;
+    private final Random random;
 
     /**
      * ModelImpl constructor.
      */
     public ModelImpl() {
+        this(new Random());
+    }
+
+    /**
+     * ModelImpl constructor whose game sessions are drawn with the given
+     * generator, so that the same seed always plays the same session.
+     * 
+     * @param random is the generator of the game session
+     * @throws NullPointerException if random is null
+     */
+    public ModelImpl(final Random random) {
         this.environment = Optional.empty();
         this.playerCharacter = Optional.empty();
+        this.random = Objects.requireNonNull(random);
+    }
+
+    /**
+     * ModelImpl constructor for an already started game session, as a restored
+     * saved game.
+     * 
+     * @param playerCharacter is the player character of the session
+     * @param environment     is the environment of the session
+     * @throws NullPointerException if any argument is null
+     */
+    public ModelImpl(final BasicCharacter playerCharacter, final Environment environment) {
+        this(playerCharacter, environment, new Random());
+    }
+
+    /**
+     * ModelImpl constructor for an already started game session, which goes on
+     * drawing with the given generator.
+     * 
+     * @param playerCharacter is the player character of the session
+     * @param environment     is the environment of the session
+     * @param random          is the generator of the game session, the same
+     *                        the environment draws its floors with
+     * @throws NullPointerException if any argument is null
+     */
+    public ModelImpl(final BasicCharacter playerCharacter, final Environment environment, final Random random) {
+        this.playerCharacter = Optional.of(Objects.requireNonNull(playerCharacter));
+        this.environment = Optional.of(Objects.requireNonNull(environment));
+        this.random = Objects.requireNonNull(random);
     }
 
     /**
@@ -47,6 +89,14 @@ public final class ModelImpl implements Model {
         return this.environment.get();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random getRandom() {
+        return this.random;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -69,8 +119,8 @@ public final class ModelImpl implements Model {
         if (numOfLevels < EnvironmentImpl.MIN_NUMBER_OF_FLOORS || numOfRooms < EnvironmentImpl.MIN_NUMBER_OF_ROOMS) {
             return false;
         }
-        this.playerCharacter = Optional.of(new PlayerCharacter(playerCharacterName));
-        this.environment = Optional.of(new EnvironmentImpl(numOfLevels, numOfRooms));
+        this.playerCharacter = Optional.of(new PlayerCharacter(playerCharacterName, this.random));
+        this.environment = Optional.of(new EnvironmentImpl(numOfLevels, numOfRooms, this.random));
         return true;
     }
 
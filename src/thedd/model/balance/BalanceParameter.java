@@ -0,0 +1,147 @@
+package thedd.model.balance;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import thedd.model.character.CommonModifier;
+import thedd.model.character.statistics.Statistic;
+
+/**
+ * A parameter of the balance of the game that can be swept: the base value or
+ * the variation of a statistic of a character, or the value of a
+ * {@link CommonModifier}.
+ * <p>
+ * A statistic is drawn as during the game, as its base value plus a random
+ * amount up to its variation. When the base value of a statistic is swept, its
+ * variation is the swept one or 0, so the variation can't be swept alone.
+ */
+public final class BalanceParameter {
+
+    private static final String SEPARATOR = ".";
+    private static final String BASE = "BASE";
+    private static final String VARIATION = "VARIATION";
+
+    private final String name;
+    private final Optional<SweptCharacter> character;
+    private final Optional<Statistic> statistic;
+    private final boolean variation;
+    private final Optional<CommonModifier> modifier;
+
+    private BalanceParameter(final Optional<SweptCharacter> character, final Optional<Statistic> statistic,
+            final boolean variation, final Optional<CommonModifier> modifier) {
+        this.character = character;
+        this.statistic = statistic;
+        this.variation = variation;
+        this.modifier = modifier;
+        this.name = modifier.isPresent() ? modifier.get().name()
+                : character.get().name() + SEPARATOR + statistic.get().name() + SEPARATOR + (variation ? VARIATION : BASE);
+    }
+
+    /**
+     * Creates the parameter of the base value of a statistic of a character.
+     * 
+     * @param character the character
+     * @param statistic the statistic
+     * @return the parameter
+     */
+    public static BalanceParameter base(final SweptCharacter character, final Statistic statistic) {
+        return new BalanceParameter(Optional.of(character), Optional.of(statistic), false, Optional.empty());
+    }
+
+    /**
+     * Creates the parameter of the variation of a statistic of a character.
+     * 
+     * @param character the character
+     * @param statistic the statistic
+     * @return the parameter
+     */
+    public static BalanceParameter variation(final SweptCharacter character, final Statistic statistic) {
+        return new BalanceParameter(Optional.of(character), Optional.of(statistic), true, Optional.empty());
+    }
+
+    /**
+     * Creates the parameter of the value of a modifier, for all the characters.
+     * 
+     * @param modifier the modifier
+     * @return the parameter
+     */
+    public static BalanceParameter modifier(final CommonModifier modifier) {
+        return new BalanceParameter(Optional.empty(), Optional.empty(), false, Optional.of(modifier));
+    }
+
+    /**
+     * Gets the parameter with the given name, as given by {@link #getName()}.
+     * 
+     * @param name the name of the parameter, such as GOBLIN.HEALTH_POINT.BASE or
+     *             STR_DAMAGE_ATK_PERC
+     * @return the parameter
+     * @throws IllegalArgumentException if no parameter has the name
+     */
+    public static BalanceParameter parse(final String name) {
+        final String[] parts = Objects.requireNonNull(name).trim().split("\\.");
+        if (parts.length == 1) {
+            return modifier(CommonModifier.valueOf(parts[0]));
+        }
+        if (parts.length != 3 || !BASE.equals(parts[2]) && !VARIATION.equals(parts[2])) {
+            throw new IllegalArgumentException("Unknown parameter " + name);
+        }
+        final SweptCharacter character = SweptCharacter.valueOf(parts[0]);
+        final Statistic statistic = Statistic.valueOf(parts[1]);
+        return VARIATION.equals(parts[2]) ? variation(character, statistic) : base(character, statistic);
+    }
+
+    /**
+     * 
+     * @return the name of the parameter
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * 
+     * @return the character whose statistic is swept, or Optional.empty for a modifier
+     */
+    public Optional<SweptCharacter> getCharacter() {
+        return this.character;
+    }
+
+    /**
+     * 
+     * @return the statistic swept, or Optional.empty for a modifier
+     */
+    public Optional<Statistic> getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * 
+     * @return true if the variation of a statistic is swept
+     */
+    public boolean isVariation() {
+        return this.variation;
+    }
+
+    /**
+     * 
+     * @return the modifier swept, or Optional.empty for a statistic
+     */
+    public Optional<CommonModifier> getModifier() {
+        return this.modifier;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof BalanceParameter && ((BalanceParameter) obj).name.equals(this.name);
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,184 @@
+package thedd.model.balance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.statistics.StatValues;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actionexecutor.DefaultCombatActionExecutor;
+import thedd.model.combat.autobattle.AutoBattle;
+import thedd.model.combat.autobattle.BattleSummary;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionInstanceImpl;
+import thedd.model.combat.instance.ExecutionStatus;
+
+/**
+ * Simulates fights of the player against a party of enemies for every point of
+ * a {@link SweepGrid}, to tune the balance of the game.
+ * <p>
+ * Every fight is resolved by an {@link AutoBattle} on new characters, whose
+ * statistics and modifiers are set to the values of the point. The fights of
+ * every point are split in batches spread over a pool of threads, so even a
+ * grid with fewer points than threads keeps every thread busy.
+ * <p>
+ * The characters of a fight are never shared, but fights in different threads
+ * do share some state, which is safe only as long as it stays as follows:
+ * <ul>
+ * <li>the prototypes of {@link thedd.model.item.ItemInterner} can't be
+ * changed once interned;</li>
+ * <li>the modifiers of the {@link thedd.model.catalog.GameCatalog}
+ * definitions and those of the equipment effects are added to every actor
+ * using them: they get the requirement against modifier-ignoring actions only
+ * once, and their requirements are kept in a copy-on-write list;</li>
+ * <li>damage is computed in a {@link thedd.model.combat.action.effect.DamageComputation}
+ * of the thread.</li>
+ * </ul>
+ */
+public final class BalanceSweep {
+
+    private static final int MAX_ROUNDS = 200;
+
+    private final SweepGrid grid;
+    private final List<SweptCharacter> enemies;
+    private final int fights;
+    private final int threads;
+
+    /**
+     * Public constructor.
+     * 
+     * @param grid    the grid to sweep
+     * @param enemies the party the player fights against
+     * @param fights  the number of fights simulated for every point
+     * @param threads the number of threads simulating the fights
+     * @throws IllegalArgumentException if the party is empty, the numbers are
+     *         not positive or the grid sweeps a variation without its base value
+     */
+    public BalanceSweep(final SweepGrid grid, final List<SweptCharacter> enemies, final int fights, final int threads) {
+        this.grid = Objects.requireNonNull(grid);
+        this.enemies = new ArrayList<>(Objects.requireNonNull(enemies));
+        if (this.enemies.isEmpty() || this.enemies.contains(SweptCharacter.PLAYER) || fights <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Invalid party of enemies or number of fights or threads");
+        }
+        for (final BalanceParameter parameter : grid.getParameters()) {
+            if (parameter.isVariation() && !grid.getParameters().contains(
+                    BalanceParameter.base(parameter.getCharacter().get(), parameter.getStatistic().get()))) {
+                throw new IllegalArgumentException("The variation " + parameter + " is swept without its base value");
+            }
+        }
+        this.fights = fights;
+        this.threads = threads;
+    }
+
+    /**
+     * Simulates the fights of every point of the grid.
+     * 
+     * @return the results of the sweep
+     * @throws InterruptedException if the thread is interrupted while waiting for
+     *         the fights
+     */
+    public SweepResult run() throws InterruptedException {
+        final SweepResult result = new SweepResult(this.grid, this.fights);
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads, r -> {
+            final Thread thread = new Thread(r, "balance-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final int batches = Math.min(this.fights, this.threads);
+            final List<Callable<Void>> tasks = new ArrayList<>(this.grid.size() * batches);
+            for (int point = 0; point < this.grid.size(); point++) {
+                for (int batch = 0; batch < batches; batch++) {
+                    final int index = point;
+                    final int batchFights = this.fights / batches + (batch < this.fights % batches ? 1 : 0);
+                    tasks.add(() -> {
+                        simulate(index, batchFights, result);
+                        return null;
+                    });
+                }
+            }
+            for (final Future<Void> done : pool.invokeAll(tasks)) {
+                done.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A fight of the sweep failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return result;
+    }
+
+    /**
+     * 
+     * @return the party the player fights against
+     */
+    public List<SweptCharacter> getEnemies() {
+        return Collections.unmodifiableList(this.enemies);
+    }
+
+    private void simulate(final int point, final int batchFights, final SweepResult result) {
+        final AutoBattle autoBattle = new AutoBattle(MAX_ROUNDS);
+        for (int i = 0; i < batchFights; i++) {
+            final BasicCharacter player = create(SweptCharacter.PLAYER, point);
+            final ActionExecutionInstance instance = new ExecutionInstanceImpl();
+            instance.addPlayerPartyMember(player);
+            for (final SweptCharacter enemy : this.enemies) {
+                instance.addNPCsPartyMember(create(enemy, point));
+            }
+            final ActionExecutor executor = new DefaultCombatActionExecutor();
+            executor.setExecutionInstance(instance);
+            executor.startExecutor();
+            final BattleSummary summary = autoBattle.resolve(executor);
+            result.record(point, summary.getStatus() == ExecutionStatus.PLAYER_WON,
+                          summary.getStatus() == ExecutionStatus.PLAYER_LOST, summary.getRounds(),
+                          summary.getDamageDealt(), summary.getDamageTaken(),
+                          player.getStat(Statistic.HEALTH_POINT).getActual());
+        }
+    }
+
+    /*
+     * The statistics are drawn again from the swept base value and variation, the
+     * modifiers are set on every character.
+     */
+    private BasicCharacter create(final SweptCharacter type, final int point) {
+        final BasicCharacter character = type.create();
+        final List<BalanceParameter> parameters = this.grid.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            final BalanceParameter parameter = parameters.get(i);
+            if (parameter.getModifier().isPresent()) {
+                character.setCommonModifierValue(parameter.getModifier().get(), this.grid.getValue(point, i));
+            } else if (parameter.getCharacter().get() == type && !parameter.isVariation()) {
+                final Statistic statistic = parameter.getStatistic().get();
+                final int variation = (int) getValue(point, BalanceParameter.variation(type, statistic));
+                final int value = (int) this.grid.getValue(point, i)
+                                  + ThreadLocalRandom.current().nextInt(Math.max(0, variation) + 1);
+                setStatistic(character.getStat(statistic), statistic, value);
+            }
+        }
+        return character;
+    }
+
+    private double getValue(final int point, final BalanceParameter parameter) {
+        final int index = this.grid.getParameters().indexOf(parameter);
+        return index < 0 ? 0 : this.grid.getValue(point, index);
+    }
+
+    private static void setStatistic(final StatValues values, final Statistic statistic, final int value) {
+        if (statistic == Statistic.HEALTH_POINT) {
+            final int max = Math.max(1, value);
+            values.updateMax(max - values.getMax());
+            values.updateActual(max - values.getActual());
+        } else {
+            values.updateActual(Math.max(0, value) - values.getActual());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package thedd.model.balance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A grid of values of {@link BalanceParameter}s: every combination of the
+ * values of the parameters is a point of the grid.
+ * <p>
+ * Points are not stored, they are computed from their index, the last
+ * parameter changing fastest, so the size of a grid doesn't depend on its
+ * number of points.
+ */
+public final class SweepGrid {
+
+    private static final String ASSIGNMENT = "=";
+    private static final String LIST_SEPARATOR = ",";
+    private static final String RANGE_SEPARATOR = ":";
+    private static final String COMMENT = "#";
+
+    private final List<BalanceParameter> parameters = new ArrayList<>();
+    private final List<double[]> values = new ArrayList<>();
+    private int size = 1;
+
+    /**
+     * Adds a parameter to the grid.
+     * 
+     * @param parameter the parameter
+     * @param parameterValues the values the parameter takes
+     * @return this grid
+     * @throws IllegalArgumentException if the parameter is already in the grid, it
+     *         has no values or the grid would have too many points
+     */
+    public SweepGrid add(final BalanceParameter parameter, final double... parameterValues) {
+        Objects.requireNonNull(parameter);
+        if (this.parameters.contains(parameter) || parameterValues.length == 0) {
+            throw new IllegalArgumentException("Parameter " + parameter + " already added or without values");
+        }
+        if ((long) this.size * parameterValues.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many points");
+        }
+        this.parameters.add(parameter);
+        this.values.add(parameterValues.clone());
+        this.size *= parameterValues.length;
+        return this;
+    }
+
+    /**
+     * Parses a grid, one parameter per line, in the form NAME=v1,v2,v3 or
+     * NAME=from:to:step. Empty lines and lines starting with # are ignored.
+     * 
+     * @param lines the lines of the grid
+     * @return the grid
+     * @throws IllegalArgumentException if a line is not valid
+     */
+    public static SweepGrid parse(final List<String> lines) {
+        final SweepGrid grid = new SweepGrid();
+        for (final String line : lines) {
+            final String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith(COMMENT)) {
+                continue;
+            }
+            final String[] assignment = trimmed.split(ASSIGNMENT);
+            if (assignment.length != 2) {
+                throw new IllegalArgumentException("Invalid line " + line);
+            }
+            grid.add(BalanceParameter.parse(assignment[0]), parseValues(assignment[1].trim()));
+        }
+        return grid;
+    }
+
+    /**
+     * 
+     * @return the number of points of the grid
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * 
+     * @return the parameters of the grid, in the order they have been added
+     */
+    public List<BalanceParameter> getParameters() {
+        return Collections.unmodifiableList(this.parameters);
+    }
+
+    /**
+     * Gets the value of a parameter at a point of the grid.
+     * 
+     * @param point the index of the point
+     * @param parameter the index of the parameter
+     * @return the value of the parameter
+     * @throws IndexOutOfBoundsException if the point or the parameter doesn't exist
+     */
+    public double getValue(final int point, final int parameter) {
+        if (point < 0 || point >= this.size) {
+            throw new IndexOutOfBoundsException("No point " + point);
+        }
+        int stride = 1;
+        for (int i = this.parameters.size() - 1; i > parameter; i--) {
+            stride *= this.values.get(i).length;
+        }
+        final double[] parameterValues = this.values.get(parameter);
+        return parameterValues[point / stride % parameterValues.length];
+    }
+
+    private static double[] parseValues(final String text) {
+        if (text.contains(RANGE_SEPARATOR)) {
+            final String[] range = text.split(RANGE_SEPARATOR);
+            if (range.length != 3) {
+                throw new IllegalArgumentException("Invalid range " + text);
+            }
+            final double from = Double.parseDouble(range[0].trim());
+            final double to = Double.parseDouble(range[1].trim());
+            final double step = Double.parseDouble(range[2].trim());
+            if (step <= 0 || to < from) {
+                throw new IllegalArgumentException("Invalid range " + text);
+            }
+            //Rounded, so that a range ending on a step isn't cut by the error of the division
+            final int count = (int) Math.floor((to - from) / step + 1e-9) + 1;
+            final double[] parsed = new double[count];
+            for (int i = 0; i < count; i++) {
+                parsed[i] = from + i * step;
+            }
+            return parsed;
+        }
+        final String[] list = text.split(LIST_SEPARATOR);
+        final double[] parsed = new double[list.length];
+        for (int i = 0; i < list.length; i++) {
+            parsed[i] = Double.parseDouble(list[i].trim());
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,150 @@
+package thedd.model.balance;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The results of a {@link BalanceSweep}, stored by column: every metric has
+ * an array indexed by the point of the grid.
+ */
+public final class SweepResult {
+
+    private static final String SEPARATOR = ",";
+    private static final String[] METRICS = {"fights", "wins", "losses", "unresolved", "mean_rounds",
+                                             "mean_damage_dealt", "mean_damage_taken", "mean_health_left"};
+
+    private final SweepGrid grid;
+    private final int fights;
+    private final int[] wins;
+    private final int[] losses;
+    private final int[] unresolved;
+    private final long[] rounds;
+    private final long[] damageDealt;
+    private final long[] damageTaken;
+    private final long[] healthLeft;
+
+    SweepResult(final SweepGrid grid, final int fights) {
+        this.grid = grid;
+        this.fights = fights;
+        this.wins = new int[grid.size()];
+        this.losses = new int[grid.size()];
+        this.unresolved = new int[grid.size()];
+        this.rounds = new long[grid.size()];
+        this.damageDealt = new long[grid.size()];
+        this.damageTaken = new long[grid.size()];
+        this.healthLeft = new long[grid.size()];
+    }
+
+    /*
+     * The fights of a point are recorded by many threads, so recording is
+     * synchronized: it takes far less than a fight. The arrays are read only
+     * once the sweep is over.
+     */
+    synchronized void record(final int point, final boolean won, final boolean lost, final int fightRounds, final int dealt,
+            final int taken, final int health) {
+        if (won) {
+            this.wins[point]++;
+        } else if (lost) {
+            this.losses[point]++;
+        } else {
+            this.unresolved[point]++;
+        }
+        this.rounds[point] += fightRounds;
+        this.damageDealt[point] += dealt;
+        this.damageTaken[point] += taken;
+        this.healthLeft[point] += health;
+    }
+
+    /**
+     * 
+     * @return the grid swept
+     */
+    public SweepGrid getGrid() {
+        return this.grid;
+    }
+
+    /**
+     * 
+     * @return the number of fights simulated for every point
+     */
+    public int getFights() {
+        return this.fights;
+    }
+
+    /**
+     * Gets the number of fights won by the player at a point.
+     * 
+     * @param point the index of the point
+     * @return the number of fights won
+     */
+    public int getWins(final int point) {
+        return this.wins[point];
+    }
+
+    /**
+     * Gets the number of fights lost by the player at a point.
+     * 
+     * @param point the index of the point
+     * @return the number of fights lost
+     */
+    public int getLosses(final int point) {
+        return this.losses[point];
+    }
+
+    /**
+     * Gets the number of fights stopped at the limit of rounds at a point.
+     * 
+     * @param point the index of the point
+     * @return the number of fights neither won nor lost
+     */
+    public int getUnresolved(final int point) {
+        return this.unresolved[point];
+    }
+
+    /**
+     * Gets the mean number of rounds of the fights at a point.
+     * 
+     * @param point the index of the point
+     * @return the mean number of rounds
+     */
+    public double getMeanRounds(final int point) {
+        return (double) this.rounds[point] / this.fights;
+    }
+
+    /**
+     * Writes the results as CSV: a header, then a row per point with the values
+     * of the parameters followed by the metrics.
+     * 
+     * @param writer the writer of the CSV
+     * @throws IOException if the writer fails
+     */
+    public void writeCsv(final Writer writer) throws IOException {
+        Objects.requireNonNull(writer);
+        final int parameters = this.grid.getParameters().size();
+        final StringBuilder row = new StringBuilder();
+        for (int i = 0; i < parameters; i++) {
+            row.append(this.grid.getParameters().get(i).getName()).append(SEPARATOR);
+        }
+        row.append(String.join(SEPARATOR, METRICS)).append('\n');
+        writer.write(row.toString());
+        for (int point = 0; point < this.grid.size(); point++) {
+            row.setLength(0);
+            for (int i = 0; i < parameters; i++) {
+                row.append(format(this.grid.getValue(point, i))).append(SEPARATOR);
+            }
+            row.append(this.fights).append(SEPARATOR).append(this.wins[point]).append(SEPARATOR)
+               .append(this.losses[point]).append(SEPARATOR).append(this.unresolved[point]).append(SEPARATOR)
+               .append(format((double) this.rounds[point] / this.fights)).append(SEPARATOR)
+               .append(format((double) this.damageDealt[point] / this.fights)).append(SEPARATOR)
+               .append(format((double) this.damageTaken[point] / this.fights)).append(SEPARATOR)
+               .append(format((double) this.healthLeft[point] / this.fights)).append('\n');
+            writer.write(row.toString());
+        }
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
@@ -0,0 +1,44 @@
+package thedd.model.balance;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.types.DarkDestructor;
+import thedd.model.character.types.Goblin;
+import thedd.model.character.types.Headless;
+import thedd.model.character.types.PlayerCharacter;
+
+/**
+ * Enumeration of the characters whose statistics can be swept.
+ */
+public enum SweptCharacter {
+
+    /** The player character. */
+    PLAYER(() -> new PlayerCharacter(Optional.empty())),
+
+    /** The Goblin enemy. */
+    GOBLIN(Goblin::new),
+
+    /** The Headless enemy. */
+    HEADLESS(Headless::new),
+
+    /** The final boss. */
+    DARK_DESTRUCTOR(DarkDestructor::new);
+
+    private final Supplier<BasicCharacter> factory;
+
+    SweptCharacter(final Supplier<BasicCharacter> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new character of this type, with its statistics drawn as during
+     * the game.
+     * 
+     * @return the new character
+     */
+    public BasicCharacter create() {
+        return this.factory.get();
+    }
+}
@@ -0,0 +1,56 @@
+package thedd.model.catalog;
+
+import java.util.function.Supplier;
+
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.TargetType;
+import thedd.model.combat.action.implementations.ActiveDefence;
+import thedd.model.combat.action.implementations.FieryTouch;
+import thedd.model.combat.action.implementations.HeavyAttack;
+import thedd.model.combat.action.implementations.LightAttack;
+import thedd.model.combat.action.implementations.NastyStrike;
+
+/**
+ * Enumeration of the actions the enemies of a {@link GameCatalog} can perform.
+ * <p>
+ * Every action has a single shared prototype, created the first time it is
+ * needed. Actors add a copy of the prototype to their available actions, so the
+ * prototype itself is never modified.
+ */
+public enum CatalogAction {
+
+    /** A {@link LightAttack} against a foe. */
+    LIGHT_ATTACK(() -> new LightAttack(TargetType.FOE)),
+
+    /** A {@link HeavyAttack} against a foe. */
+    HEAVY_ATTACK(() -> new HeavyAttack(TargetType.FOE)),
+
+    /** A {@link NastyStrike} against a foe. */
+    NASTY_STRIKE(() -> new NastyStrike(TargetType.FOE)),
+
+    /** A {@link FieryTouch} against a foe. */
+    FIERY_TOUCH(() -> new FieryTouch(TargetType.FOE)),
+
+    /** An {@link ActiveDefence}. */
+    ACTIVE_DEFENCE(ActiveDefence::new);
+
+    private final Supplier<Action> factory;
+    private Action prototype;
+
+    CatalogAction(final Supplier<Action> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Gets the shared prototype of the action. It must not be modified: actors
+     * copy it when it is added to their available actions.
+     *
+     * @return the prototype of the action
+     */
+    public synchronized Action getPrototype() {
+        if (prototype == null) {
+            prototype = factory.get();
+        }
+        return prototype;
+    }
+}
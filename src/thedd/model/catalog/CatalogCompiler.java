@@ -0,0 +1,634 @@
+package thedd.model.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.ActionCategory;
+import thedd.model.combat.action.TargetType;
+import thedd.model.combat.modifier.ModifierActivation;
+import thedd.model.combat.requirements.tags.TagRequirementType;
+import thedd.model.combat.tag.ActionTag;
+import thedd.model.combat.tag.EffectTag;
+import thedd.model.combat.tag.StatusTag;
+import thedd.model.item.equipableitem.EquipableItemType;
+import thedd.utils.randomcollections.RandomPrority;
+
+/**
+ * Compiles the source of a {@link GameCatalog} to the binary form read by
+ * {@link GameCatalogImpl}.
+ * <p>
+ * The source is made of the sections of the enemies, the skills and the items,
+ * each one starting with the line naming it and holding one property per line.
+ * Empty lines and lines starting with # are ignored.
+ * <pre>
+ * skill Venomous Bite
+ *     description Fangs dripping with venom pierce the skin of the target.
+ *     category SPECIAL
+ *     hit_chance 0.7
+ *     tag OFFENSIVE
+ *     damage 4 NORMAL_DAMAGE
+ *     status POISONED 2
+ *
+ * enemy Goblin
+ *     spawn 1
+ *     stat HEALTH_POINT 25 12
+ *     stat AGILITY 6 2
+ *     stat CONSTITUTION 4 2
+ *     stat STRENGTH 4 3
+ *     action LIGHT_ATTACK VERY_HIGH
+ *     action Venomous Bite LOW
+ *     damage_modifier ACTIVE_ON_DEFENCE -0.8 REQUIRED POISON_DAMAGE
+ *
+ * item Herbal Tonic
+ *     id 2
+ *     description A bitter brew of healing herbs
+ *     usable false true
+ *     heal 0.2
+ *
+ * item Studded Bracers
+ *     id -10
+ *     description Leather bracers that make every blow a little heavier
+ *     equipable GLOVES
+ *     statistic STRENGTH 1
+ * </pre>
+ * The spawn weight of an enemy is optional and defaults to 1; every statistic
+ * needs a base value and a variation, and every enemy needs at least one
+ * action, either a {@link CatalogAction} or a skill of the catalog, weighted by
+ * a {@link RandomPrority} or a number. Modifiers are written as
+ * kind activation value requirement tags..., where the kind is damage_modifier
+ * or hit_chance_modifier and the tags are {@link EffectTag} names.
+ * <p>
+ * A skill needs a description, a hit chance and at least one effect; its
+ * {@link ActionCategory} defaults to STANDARD, its {@link TargetType} to FOE and
+ * its {@link ActionTag}s are optional. Its effects are written as
+ * damage value tags..., heal fraction or status tag duration, where the
+ * fraction is of the maximum health points and the status is a
+ * {@link StatusTag} name.
+ * <p>
+ * An item needs an id, unique among the items of the catalog, and a
+ * description. It is either usable, in and out of combat, with the effects of
+ * the skills multiplied by its rarity as the code items do (a heal never
+ * restoring more than the maximum health points), or equipable in an
+ * {@link EquipableItemType} slot with at most one innate effect, written as
+ * statistic stat value, damage_adder tag value or resistance tag value.
+ * <p>
+ * The binary form starts with a header and an index holding the offset and the
+ * spawn weight of every enemy and the offset of every skill and item, followed
+ * by the records. Enumerations are written by ordinal, so the {@link #VERSION}
+ * changes whenever one of them does.
+ */
+public final class CatalogCompiler {
+
+    /**
+     * The first integer of every compiled catalog.
+     */
+    public static final int MAGIC = 0x54444443;
+    /**
+     * The version of the binary form written by the compiler.
+     */
+    public static final short VERSION = 2;
+    /**
+     * The size in bytes of the header of a compiled catalog.
+     */
+    public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + 3 * Integer.BYTES;
+    /**
+     * The size in bytes of the index entry of an enemy.
+     */
+    public static final int INDEX_ENTRY_SIZE = Integer.BYTES + Double.BYTES;
+
+    private static final String COMMENT = "#";
+    private static final String SEPARATOR = "\\s+";
+    private static final String ENEMY = "enemy";
+    private static final String SKILL = "skill";
+    private static final String ITEM = "item";
+    private static final String SPAWN = "spawn";
+    private static final String STAT = "stat";
+    private static final String ACTION = "action";
+    private static final String DESCRIPTION = "description";
+    private static final String CATEGORY = "category";
+    private static final String HIT_CHANCE = "hit_chance";
+    private static final String TARGET = "target";
+    private static final String TAG = "tag";
+    private static final String ID = "id";
+    private static final String USABLE = "usable";
+    private static final String EQUIPABLE = "equipable";
+    private static final int MAX_COUNT = 0xFF;
+    private static final int MAX_TEXT = 0xFFFF;
+    private static final int FIRST_TAG = 4;
+    private static final int FIRST_DAMAGE_TAG = 2;
+
+    private CatalogCompiler() {
+    }
+
+    /**
+     * Compiles the source of a catalog.
+     *
+     * @param lines the lines of the source
+     * @return the compiled catalog
+     * @throws IllegalArgumentException if the source is not valid
+     */
+    public static byte[] compile(final List<String> lines) {
+        Objects.requireNonNull(lines);
+        final List<EnemySource> enemies = new ArrayList<>();
+        final List<SkillSource> skills = new ArrayList<>();
+        final List<ItemSource> items = new ArrayList<>();
+        final Set<String> enemyNames = new HashSet<>();
+        final Set<String> skillNames = new HashSet<>();
+        final Set<String> itemNames = new HashSet<>();
+        Optional<Source> current = Optional.empty();
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT)) {
+                continue;
+            }
+            try {
+                final String[] tokens = line.split(SEPARATOR);
+                final String value = line.substring(tokens[0].length()).trim();
+                if (ENEMY.equals(tokens[0]) || SKILL.equals(tokens[0]) || ITEM.equals(tokens[0])) {
+                    current.ifPresent(Source::check);
+                    final Source section;
+                    if (ENEMY.equals(tokens[0])) {
+                        section = add(enemies, new EnemySource(checkName(value, enemyNames, ENEMY)));
+                    } else if (SKILL.equals(tokens[0])) {
+                        section = add(skills, new SkillSource(checkName(value, skillNames, SKILL)));
+                    } else {
+                        section = add(items, new ItemSource(checkName(value, itemNames, ITEM)));
+                    }
+                    current = Optional.of(section);
+                } else if (!current.isPresent()) {
+                    throw new IllegalArgumentException("Property outside of an enemy, skill or item");
+                } else {
+                    current.get().parse(tokens, value);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        current.ifPresent(Source::check);
+        final List<String> skillOrder = skills.stream().map(s -> s.name).collect(Collectors.toList());
+        enemies.forEach(e -> e.resolve(skillOrder));
+        final Set<Integer> ids = new HashSet<>();
+        for (final ItemSource item : items) {
+            if (!ids.add(item.id.get())) {
+                throw new IllegalArgumentException("Item " + item.name + ": repeated id " + item.id.get());
+            }
+        }
+        return write(enemies, skills, items);
+    }
+
+    private static <T extends Source> T add(final List<T> sections, final T section) {
+        sections.add(section);
+        return section;
+    }
+
+    private static String checkName(final String name, final Set<String> names, final String section) {
+        if (name.isEmpty() || !names.add(name)) {
+            throw new IllegalArgumentException("Missing or repeated " + section + " name");
+        }
+        if (SKILL.equals(section) && Arrays.stream(CatalogAction.values()).anyMatch(a -> a.name().equals(name))) {
+            throw new IllegalArgumentException("Skill " + name + " has the name of an action");
+        }
+        return name;
+    }
+
+    private static byte[] write(final List<EnemySource> enemies, final List<SkillSource> skills,
+            final List<ItemSource> items) {
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        final ByteArrayOutputStream catalog = new ByteArrayOutputStream();
+        try (DataOutputStream recordOut = new DataOutputStream(records);
+             DataOutputStream out = new DataOutputStream(catalog)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(enemies.size());
+            out.writeInt(skills.size());
+            out.writeInt(items.size());
+            for (final EnemySource enemy : enemies) {
+                out.writeInt(recordOut.size());
+                out.writeDouble(enemy.spawn);
+                enemy.write(recordOut);
+            }
+            for (final Source section : concat(skills, items)) {
+                out.writeInt(recordOut.size());
+                section.write(recordOut);
+            }
+            recordOut.flush();
+            records.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("This should not happen", e);
+        }
+        return catalog.toByteArray();
+    }
+
+    private static List<Source> concat(final List<? extends Source> first, final List<? extends Source> second) {
+        final List<Source> sections = new ArrayList<>(first);
+        sections.addAll(second);
+        return sections;
+    }
+
+    private static void writeText(final DataOutputStream out, final String text) throws IOException {
+        final byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        if (encoded.length > MAX_TEXT) {
+            throw new IllegalArgumentException("Text too long: " + text);
+        }
+        out.writeShort(encoded.length);
+        out.write(encoded);
+    }
+
+    private static double parseWeight(final String token) {
+        try {
+            return RandomPrority.valueOf(token).getWeight();
+        } catch (IllegalArgumentException e) {
+            return parsePositive(token);
+        }
+    }
+
+    private static double parsePositive(final String token) {
+        final double value = Double.parseDouble(token);
+        if (!(value > 0)) {
+            throw new IllegalArgumentException("Not a positive number: " + token);
+        }
+        return value;
+    }
+
+    private static double parseChance(final String token) {
+        final double value = Double.parseDouble(token);
+        if (!(value >= 0 && value <= 1)) {
+            throw new IllegalArgumentException("Not a chance between 0 and 1: " + token);
+        }
+        return value;
+    }
+
+    private static int parseShort(final String token) {
+        final int value = Integer.parseInt(token);
+        if (value < 0 || value > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Value out of range: " + token);
+        }
+        return value;
+    }
+
+    private static boolean parseBoolean(final String token) {
+        if (!Boolean.TRUE.toString().equals(token) && !Boolean.FALSE.toString().equals(token)) {
+            throw new IllegalArgumentException("Not true or false: " + token);
+        }
+        return Boolean.parseBoolean(token);
+    }
+
+    private static String parseText(final String[] tokens, final String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Expected a text for " + tokens[0]);
+        }
+        return value;
+    }
+
+    private static void checkTokens(final String[] tokens, final int count) {
+        if (tokens.length != count) {
+            throw new IllegalArgumentException("Expected " + (count - 1) + " values for " + tokens[0]);
+        }
+    }
+
+    private static Optional<CatalogEffect> findEffect(final String keyword) {
+        return Arrays.stream(CatalogEffect.values()).filter(e -> e.getKeyword().equals(keyword)).findFirst();
+    }
+
+    private interface Source {
+
+        void parse(String[] tokens, String value);
+
+        void check();
+
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static final class EnemySource implements Source {
+
+        private final String name;
+        private final int[] baseValues = new int[Statistic.values().length];
+        private final int[] variations = new int[Statistic.values().length];
+        private final List<String> actionNames = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+        private final List<Integer> actions = new ArrayList<>();
+        private final List<ModifierSource> modifiers = new ArrayList<>();
+        private double spawn = 1;
+
+        EnemySource(final String name) {
+            this.name = name;
+            Arrays.fill(baseValues, -1);
+        }
+
+        @Override
+        public void parse(final String[] tokens, final String value) {
+            if (SPAWN.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                spawn = parsePositive(tokens[1]);
+            } else if (STAT.equals(tokens[0])) {
+                checkTokens(tokens, 4);
+                final Statistic stat = Statistic.valueOf(tokens[1]);
+                baseValues[stat.ordinal()] = parseShort(tokens[2]);
+                variations[stat.ordinal()] = parseShort(tokens[3]);
+            } else if (ACTION.equals(tokens[0])) {
+                if (tokens.length < 3) {
+                    throw new IllegalArgumentException("Expected an action and a weight for " + tokens[0]);
+                }
+                //The name of a skill can have spaces, the weight is the last token
+                actionNames.add(String.join(" ", Arrays.asList(tokens).subList(1, tokens.length - 1)));
+                weights.add(parseWeight(tokens[tokens.length - 1]));
+            } else if (Arrays.stream(CatalogModifier.values()).anyMatch(m -> m.getKeyword().equals(tokens[0]))) {
+                modifiers.add(new ModifierSource(tokens));
+            } else {
+                throw new IllegalArgumentException("Unknown property " + tokens[0]);
+            }
+        }
+
+        @Override
+        public void check() {
+            for (final Statistic stat : Statistic.values()) {
+                if (baseValues[stat.ordinal()] < 0) {
+                    throw new IllegalArgumentException("Enemy " + name + " has no " + stat);
+                }
+            }
+            if (actionNames.isEmpty() || actionNames.size() > MAX_COUNT || modifiers.size() > MAX_COUNT) {
+                throw new IllegalArgumentException("Enemy " + name + " must have between 1 and "
+                        + MAX_COUNT + " actions and at most " + MAX_COUNT + " modifiers");
+            }
+        }
+
+        /*
+         * Skills are encoded by their index, after the actions of CatalogAction.
+         */
+        void resolve(final List<String> skills) {
+            for (final String action : actionNames) {
+                final int skill = skills.indexOf(action);
+                if (skill >= 0) {
+                    actions.add(CatalogAction.values().length + skill);
+                } else if (Arrays.stream(CatalogAction.values()).anyMatch(a -> a.name().equals(action))) {
+                    actions.add(CatalogAction.valueOf(action).ordinal());
+                } else {
+                    throw new IllegalArgumentException("Enemy " + name + ": unknown action " + action);
+                }
+            }
+        }
+
+        @Override
+        public void write(final DataOutputStream out) throws IOException {
+            writeText(out, name);
+            for (final Statistic stat : Statistic.values()) {
+                out.writeShort(baseValues[stat.ordinal()]);
+                out.writeShort(variations[stat.ordinal()]);
+            }
+            out.writeByte(actions.size());
+            for (int i = 0; i < actions.size(); i++) {
+                out.writeInt(actions.get(i));
+                out.writeDouble(weights.get(i));
+            }
+            out.writeByte(modifiers.size());
+            for (final ModifierSource modifier : modifiers) {
+                modifier.write(out);
+            }
+        }
+    }
+
+    private static final class SkillSource implements Source {
+
+        private final String name;
+        private final List<ActionTag> tags = new ArrayList<>();
+        private final List<EffectSource> effects = new ArrayList<>();
+        private String description = "";
+        private ActionCategory category = ActionCategory.STANDARD;
+        private TargetType target = TargetType.FOE;
+        private double hitChance = -1;
+
+        SkillSource(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void parse(final String[] tokens, final String value) {
+            final Optional<CatalogEffect> effect = findEffect(tokens[0]);
+            if (DESCRIPTION.equals(tokens[0])) {
+                description = parseText(tokens, value);
+            } else if (CATEGORY.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                category = ActionCategory.valueOf(tokens[1]);
+            } else if (HIT_CHANCE.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                hitChance = parseChance(tokens[1]);
+            } else if (TARGET.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                target = TargetType.valueOf(tokens[1]);
+            } else if (TAG.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                tags.add(ActionTag.valueOf(tokens[1]));
+            } else if (effect.isPresent() && !effect.get().isEquipment()) {
+                effects.add(new EffectSource(effect.get(), tokens));
+            } else {
+                throw new IllegalArgumentException("Unknown property " + tokens[0]);
+            }
+        }
+
+        @Override
+        public void check() {
+            if (description.isEmpty() || hitChance < 0) {
+                throw new IllegalArgumentException("Skill " + name + " needs a description and a hit chance");
+            }
+            if (effects.isEmpty() || effects.size() > MAX_COUNT || tags.size() > MAX_COUNT) {
+                throw new IllegalArgumentException("Skill " + name + " must have between 1 and "
+                        + MAX_COUNT + " effects and at most " + MAX_COUNT + " tags");
+            }
+        }
+
+        @Override
+        public void write(final DataOutputStream out) throws IOException {
+            writeText(out, name);
+            writeText(out, description);
+            out.writeByte(category.ordinal());
+            out.writeByte(target.ordinal());
+            out.writeDouble(hitChance);
+            out.writeByte(tags.size());
+            for (final ActionTag tag : tags) {
+                out.writeByte(tag.ordinal());
+            }
+            out.writeByte(effects.size());
+            for (final EffectSource effect : effects) {
+                effect.write(out);
+            }
+        }
+    }
+
+    private static final class ItemSource implements Source {
+
+        private final String name;
+        private final List<EffectSource> effects = new ArrayList<>();
+        private String description = "";
+        private Optional<Integer> id = Optional.empty();
+        private Optional<EquipableItemType> type = Optional.empty();
+        private boolean usable;
+        private boolean usableInCombat;
+        private boolean usableOutOfCombat;
+
+        ItemSource(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void parse(final String[] tokens, final String value) {
+            final Optional<CatalogEffect> effect = findEffect(tokens[0]);
+            if (ID.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                id = Optional.of(Integer.parseInt(tokens[1]));
+            } else if (DESCRIPTION.equals(tokens[0])) {
+                description = parseText(tokens, value);
+            } else if (USABLE.equals(tokens[0])) {
+                checkTokens(tokens, 3);
+                usable = true;
+                usableInCombat = parseBoolean(tokens[1]);
+                usableOutOfCombat = parseBoolean(tokens[2]);
+            } else if (EQUIPABLE.equals(tokens[0])) {
+                checkTokens(tokens, 2);
+                type = Optional.of(EquipableItemType.valueOf(tokens[1]));
+            } else if (effect.isPresent()) {
+                effects.add(new EffectSource(effect.get(), tokens));
+            } else {
+                throw new IllegalArgumentException("Unknown property " + tokens[0]);
+            }
+        }
+
+        @Override
+        public void check() {
+            if (!id.isPresent() || description.isEmpty()) {
+                throw new IllegalArgumentException("Item " + name + " needs an id and a description");
+            }
+            if (usable == type.isPresent()) {
+                throw new IllegalArgumentException("Item " + name + " must be either usable or equipable");
+            }
+            if (usable && (effects.isEmpty() || effects.size() > MAX_COUNT
+                           || effects.stream().anyMatch(e -> e.kind.isEquipment()))) {
+                throw new IllegalArgumentException("Item " + name + " must have between 1 and "
+                        + MAX_COUNT + " effects of a usable item");
+            }
+            //Equipable items have a single innate modifier, see EquipableItemImpl
+            if (!usable && (effects.size() > 1 || effects.stream().anyMatch(e -> !e.kind.isEquipment()))) {
+                throw new IllegalArgumentException("Item " + name + " can have at most one effect of an equipable item");
+            }
+        }
+
+        @Override
+        public void write(final DataOutputStream out) throws IOException {
+            writeText(out, name);
+            writeText(out, description);
+            out.writeInt(id.get());
+            out.writeByte(type.map(t -> t.ordinal() + 1).orElse(0));
+            out.writeBoolean(usableInCombat);
+            out.writeBoolean(usableOutOfCombat);
+            out.writeByte(effects.size());
+            for (final EffectSource effect : effects) {
+                effect.write(out);
+            }
+        }
+    }
+
+    private static final class EffectSource {
+
+        private final CatalogEffect kind;
+        private final double value;
+        private final int subject;
+        private final List<EffectTag> tags = new ArrayList<>();
+
+        EffectSource(final CatalogEffect kind, final String[] tokens) {
+            this.kind = kind;
+            switch (kind) {
+            case DAMAGE:
+                if (tokens.length <= FIRST_DAMAGE_TAG) {
+                    throw new IllegalArgumentException("Expected a value and at least one tag for " + tokens[0]);
+                }
+                value = parsePositive(tokens[1]);
+                subject = 0;
+                Arrays.stream(tokens, FIRST_DAMAGE_TAG, tokens.length).map(EffectTag::valueOf).forEach(tags::add);
+                break;
+            case HEAL:
+                checkTokens(tokens, 2);
+                value = parsePositive(tokens[1]);
+                if (value > 1) {
+                    throw new IllegalArgumentException("Can't heal more than the maximum health points");
+                }
+                subject = 0;
+                break;
+            case STATUS:
+                checkTokens(tokens, 3);
+                subject = StatusTag.valueOf(tokens[1]).ordinal();
+                value = parseShort(tokens[2]);
+                if (value == 0) {
+                    throw new IllegalArgumentException("A status must last at least one round");
+                }
+                break;
+            case STATISTIC:
+                checkTokens(tokens, 3);
+                subject = Statistic.valueOf(tokens[1]).ordinal();
+                value = parseShort(tokens[2]);
+                break;
+            default:
+                checkTokens(tokens, 3);
+                subject = 0;
+                tags.add(EffectTag.valueOf(tokens[1]));
+                value = parsePositive(tokens[2]);
+                break;
+            }
+            if (tags.size() > MAX_COUNT) {
+                throw new IllegalArgumentException("Too many tags for " + tokens[0]);
+            }
+        }
+
+        void write(final DataOutputStream out) throws IOException {
+            out.writeByte(kind.ordinal());
+            out.writeDouble(value);
+            out.writeByte(subject);
+            out.writeByte(tags.size());
+            for (final EffectTag tag : tags) {
+                out.writeByte(tag.ordinal());
+            }
+        }
+    }
+
+    private static final class ModifierSource {
+
+        private final CatalogModifier kind;
+        private final ModifierActivation activation;
+        private final double value;
+        private final TagRequirementType requirement;
+        private final List<EffectTag> tags = new ArrayList<>();
+
+        ModifierSource(final String[] tokens) {
+            if (tokens.length <= FIRST_TAG) {
+                throw new IllegalArgumentException("Expected at least one tag for " + tokens[0]);
+            }
+            kind = Arrays.stream(CatalogModifier.values())
+                         .filter(m -> m.getKeyword().equals(tokens[0]))
+                         .findFirst().get();
+            activation = ModifierActivation.valueOf(tokens[1]);
+            value = Double.parseDouble(tokens[2]);
+            requirement = TagRequirementType.valueOf(tokens[3]);
+            Arrays.stream(tokens, FIRST_TAG, tokens.length).map(EffectTag::valueOf).forEach(tags::add);
+        }
+
+        void write(final DataOutputStream out) throws IOException {
+            out.writeByte(kind.ordinal());
+            out.writeByte(activation.ordinal());
+            out.writeDouble(value);
+            out.writeByte(requirement.ordinal());
+            out.writeByte(tags.size());
+            for (final EffectTag tag : tags) {
+                out.writeByte(tag.ordinal());
+            }
+        }
+    }
+}
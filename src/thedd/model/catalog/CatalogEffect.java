@@ -0,0 +1,58 @@
+package thedd.model.catalog;
+
+/**
+ * The kinds of effect the skills and the items of the catalog can have, with
+ * the keyword introducing them in the source of the catalog.
+ */
+enum CatalogEffect {
+
+    /**
+     * Damage dealt to the target, of the given types.
+     */
+    DAMAGE("damage", false),
+
+    /**
+     * A percentage of the maximum health points of the target restored.
+     */
+    HEAL("heal", false),
+
+    /**
+     * A status given to the target for a number of rounds.
+     */
+    STATUS("status", false),
+
+    /**
+     * Points added to a statistic of the wearer of an equipable item.
+     */
+    STATISTIC("statistic", true),
+
+    /**
+     * Damage of a type added to the actions of the wearer of an equipable item.
+     */
+    DAMAGE_ADDER("damage_adder", true),
+
+    /**
+     * Resistance to a type of damage given to the wearer of an equipable item.
+     */
+    RESISTANCE("resistance", true);
+
+    private final String keyword;
+    private final boolean equipment;
+
+    CatalogEffect(final String keyword, final boolean equipment) {
+        this.keyword = keyword;
+        this.equipment = equipment;
+    }
+
+    String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * @return true if the effect belongs to equipable items, false if it belongs
+     *         to skills and usable items
+     */
+    boolean isEquipment() {
+        return equipment;
+    }
+}
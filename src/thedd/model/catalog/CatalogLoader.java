@@ -0,0 +1,110 @@
+package thedd.model.catalog;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the {@link GameCatalog} of the game.
+ * <p>
+ * The default catalog is read once, the first time it is needed, from the
+ * compiled resource {@value #COMPILED_RESOURCE} when it exists, otherwise by
+ * compiling the source resource {@value #SOURCE_RESOURCE}.
+ */
+public final class CatalogLoader {
+
+    /**
+     * The resource holding the compiled catalog of the game.
+     */
+    public static final String COMPILED_RESOURCE = "catalog/catalog.bin";
+    /**
+     * The resource holding the source of the catalog of the game.
+     */
+    public static final String SOURCE_RESOURCE = "catalog/catalog.txt";
+    private static final int BUFFER_SIZE = 4096;
+
+    private CatalogLoader() {
+    }
+
+    /**
+     * Gets the catalog of the game.
+     *
+     * @return the catalog of the game
+     * @throws UncheckedIOException if the catalog resources can't be read
+     * @throws IllegalStateException if no catalog resource exists
+     */
+    public static GameCatalog getDefault() {
+        return DefaultCatalog.CATALOG;
+    }
+
+    /**
+     * Reads a compiled catalog.
+     *
+     * @param input the stream the catalog is read from
+     * @return the catalog read
+     * @throws IOException if the stream can't be read
+     * @throws IllegalArgumentException if the stream does not contain a compiled catalog
+     */
+    public static GameCatalog load(final InputStream input) throws IOException {
+        Objects.requireNonNull(input);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read = input.read(buffer);
+        while (read >= 0) {
+            bytes.write(buffer, 0, read);
+            read = input.read(buffer);
+        }
+        return new GameCatalogImpl(ByteBuffer.wrap(bytes.toByteArray()).asReadOnlyBuffer());
+    }
+
+    /**
+     * Compiles and reads the source of a catalog.
+     *
+     * @param input the stream the source is read from, in UTF-8
+     * @return the catalog read
+     * @throws IOException if the stream can't be read
+     * @throws IllegalArgumentException if the source is not valid
+     */
+    public static GameCatalog compile(final InputStream input) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(input),
+                                                                              StandardCharsets.UTF_8))) {
+            final byte[] compiled = CatalogCompiler.compile(reader.lines().collect(Collectors.toList()));
+            return new GameCatalogImpl(ByteBuffer.wrap(compiled).asReadOnlyBuffer());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static GameCatalog loadDefault() {
+        final ClassLoader loader = CatalogLoader.class.getClassLoader();
+        try (InputStream compiled = loader.getResourceAsStream(COMPILED_RESOURCE)) {
+            if (compiled != null) {
+                return load(compiled);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (InputStream source = loader.getResourceAsStream(SOURCE_RESOURCE)) {
+            if (source == null) {
+                throw new IllegalStateException("No catalog resource found");
+            }
+            return compile(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Holder of the default catalog, loaded when the class is first used.
+     */
+    private static final class DefaultCatalog {
+        private static final GameCatalog CATALOG = loadDefault();
+    }
+}
@@ -0,0 +1,28 @@
+package thedd.model.catalog;
+
+/**
+ * The kinds of permanent modifier an enemy of the catalog can have, with the
+ * keyword introducing them in the source of the catalog.
+ */
+enum CatalogModifier {
+
+    /**
+     * A percentage of the base damage of the effects whose tags fulfill the requirement.
+     */
+    DAMAGE("damage_modifier"),
+
+    /**
+     * A percentage of the base hit chance of the actions whose effects' tags fulfill the requirement.
+     */
+    HIT_CHANCE("hit_chance_modifier");
+
+    private final String keyword;
+
+    CatalogModifier(final String keyword) {
+        this.keyword = keyword;
+    }
+
+    String getKeyword() {
+        return keyword;
+    }
+}
@@ -0,0 +1,41 @@
+package thedd.model.catalog;
+
+import java.util.List;
+import java.util.function.DoubleFunction;
+
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.ActionBuilder;
+import thedd.model.combat.action.ActionCategory;
+import thedd.model.combat.action.LogMessageTypeImpl;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.item.ItemRarity;
+import thedd.model.item.usableitem.UsableItemImpl;
+
+/**
+ * A usable item defined by a {@link GameCatalog}.
+ * <p>
+ * As for the usable items of the game, the effects of the item are multiplied
+ * by the effect multiplier of its rarity.
+ */
+final class CatalogUsableItem extends UsableItemImpl {
+
+    CatalogUsableItem(final int id, final String name, final ItemRarity rarity, final String description,
+            final boolean usableInCombat, final boolean usableOutOfCombat,
+            final List<DoubleFunction<ActionEffect>> effects) {
+        super(id, name, rarity, description, usableInCombat, usableOutOfCombat);
+        effects.forEach(e -> addActionEffect(e.apply(getEffectsMultiplier().get(rarity))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Action buildAction() {
+        return new ActionBuilder().setName(this.getName())
+                .setCategory(ActionCategory.ITEM)
+                .setBaseHitChance(1d)
+                .setDescription(this.getDescription())
+                .setLogMessage(LogMessageTypeImpl.ITEM_ACTION)
+                .build();
+    }
+}
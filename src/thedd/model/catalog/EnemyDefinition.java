@@ -0,0 +1,153 @@
+package thedd.model.catalog;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.modifier.Modifier;
+
+/**
+ * The definition of a kind of enemy, read from a {@link GameCatalog}.
+ * <p>
+ * Definitions are shared by every enemy of their kind: the actions are given as
+ * the prototypes of {@link CatalogAction}s and of the skills of the catalog,
+ * and the permanent modifiers are shared instances, so creating an enemy never
+ * copies the definition.
+ */
+public final class EnemyDefinition {
+
+    private final String name;
+    private final int[] baseValues;
+    private final int[] variations;
+    private final List<Pair<Action, Double>> actions;
+    private final List<Modifier<Action>> actionModifiers;
+    private final List<Modifier<ActionEffect>> effectModifiers;
+
+    EnemyDefinition(final String name, final int[] baseValues, final int[] variations,
+            final List<Pair<Action, Double>> actions, final List<Modifier<Action>> actionModifiers,
+            final List<Modifier<ActionEffect>> effectModifiers) {
+        this.name = Objects.requireNonNull(name);
+        this.baseValues = baseValues.clone();
+        this.variations = variations.clone();
+        this.actions = Collections.unmodifiableList(actions);
+        this.actionModifiers = Collections.unmodifiableList(actionModifiers);
+        this.effectModifiers = Collections.unmodifiableList(effectModifiers);
+    }
+
+    /**
+     *
+     * @return the name of the enemy
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the lowest value a statistic of the enemy can start with.
+     *
+     * @param stat the statistic
+     * @return the base value of the statistic
+     */
+    public int getBaseValue(final Statistic stat) {
+        return baseValues[Objects.requireNonNull(stat).ordinal()];
+    }
+
+    /**
+     * Gets the most that can be randomly added to the base value of a statistic.
+     *
+     * @param stat the statistic
+     * @return the variation of the statistic
+     */
+    public int getVariation(final Statistic stat) {
+        return variations[Objects.requireNonNull(stat).ordinal()];
+    }
+
+    /**
+     * Draws the starting value of a statistic, between its base value and its
+     * base value plus its variation.
+     *
+     * @param stat the statistic
+     * @return the starting value of the statistic
+     */
+    public int rollValue(final Statistic stat) {
+        return getBaseValue(stat) + RandomUtils.nextInt(0, getVariation(stat) + 1);
+    }
+
+    /**
+     * Draws the starting value of a statistic with the given generator, as
+     * {@link #rollValue(Statistic)} does.
+     *
+     * @param stat   the statistic
+     * @param random the generator the value is drawn with
+     * @return the starting value of the statistic
+     */
+    public int rollValue(final Statistic stat, final Random random) {
+        return getBaseValue(stat) + random.nextInt(getVariation(stat) + 1);
+    }
+
+    /**
+     * Draws the starting value of every statistic.
+     *
+     * @return the starting values of the statistics
+     */
+    public Map<Statistic, Integer> rollValues() {
+        final Map<Statistic, Integer> values = new EnumMap<>(Statistic.class);
+        for (final Statistic stat : Statistic.values()) {
+            values.put(stat, rollValue(stat));
+        }
+        return values;
+    }
+
+    /**
+     * Draws the starting value of every statistic with the given generator.
+     *
+     * @param random the generator the values are drawn with
+     * @return the starting values of the statistics
+     */
+    public Map<Statistic, Integer> rollValues(final Random random) {
+        Objects.requireNonNull(random);
+        final Map<Statistic, Integer> values = new EnumMap<>(Statistic.class);
+        for (final Statistic stat : Statistic.values()) {
+            values.put(stat, rollValue(stat, random));
+        }
+        return values;
+    }
+
+    /**
+     *
+     * @return the actions of the enemy, with the weight they are chosen with
+     */
+    public List<Pair<Action, Double>> getActions() {
+        return actions;
+    }
+
+    /**
+     *
+     * @return the permanent modifiers of the actions performed against or by the enemy
+     */
+    public List<Modifier<Action>> getActionModifiers() {
+        return actionModifiers;
+    }
+
+    /**
+     *
+     * @return the permanent modifiers of the effects received or applied by the enemy
+     */
+    public List<Modifier<ActionEffect>> getEffectModifiers() {
+        return effectModifiers;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,78 @@
+package thedd.model.catalog;
+
+import java.util.List;
+import java.util.Random;
+
+import thedd.model.combat.action.Action;
+import thedd.model.item.Item;
+import thedd.model.item.ItemRarity;
+
+/**
+ * The catalog of the kinds of enemy that can be met in the game, of the skills
+ * they can perform and of the items that can be found.
+ */
+public interface GameCatalog {
+
+    /**
+     *
+     * @return the number of kinds of enemy in the catalog
+     */
+    int size();
+
+    /**
+     *
+     * @return the names of the enemies of the catalog, in the order of their source
+     */
+    List<String> getEnemyNames();
+
+    /**
+     * Gets the definition of an enemy.
+     *
+     * @param name the name of the enemy
+     * @return the shared definition of the enemy
+     * @throws IllegalArgumentException if the catalog has no enemy with that name
+     */
+    EnemyDefinition getEnemy(String name);
+
+    /**
+     * Gets the definition of a random enemy, each one being drawn with a
+     * probability proportional to its spawn weight.
+     *
+     * @param random the random generator used for the extraction
+     * @return the shared definition of the enemy
+     * @throws IllegalStateException if the catalog is empty
+     */
+    EnemyDefinition getRandomEnemy(Random random);
+
+    /**
+     *
+     * @return the names of the skills of the catalog, in the order of their source
+     */
+    List<String> getSkillNames();
+
+    /**
+     * Gets a skill, an action defined by the catalog.
+     *
+     * @param name the name of the skill
+     * @return the shared prototype of the skill; it must not be modified: actors
+     *         copy it when it is added to their available actions
+     * @throws IllegalArgumentException if the catalog has no skill with that name
+     */
+    Action getSkill(String name);
+
+    /**
+     *
+     * @return the base names of the items of the catalog, in the order of their source
+     */
+    List<String> getItemNames();
+
+    /**
+     * Creates an item of the catalog, without any additional effect or action.
+     *
+     * @param name   the base name of the item
+     * @param rarity the rarity of the item
+     * @return a new instance of the item
+     * @throws IllegalArgumentException if the catalog has no item with that name
+     */
+    Item createItem(String name, ItemRarity rarity);
+}
@@ -0,0 +1,390 @@
+package thedd.model.catalog;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.ActionBuilder;
+import thedd.model.combat.action.ActionCategory;
+import thedd.model.combat.action.TargetType;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.action.effect.DamageEffect;
+import thedd.model.combat.action.effect.HealingEffect;
+import thedd.model.combat.action.effect.StatusGiverEffect;
+import thedd.model.combat.modifier.DamageModifier;
+import thedd.model.combat.modifier.HitChanceModifier;
+import thedd.model.combat.modifier.Modifier;
+import thedd.model.combat.modifier.ModifierActivation;
+import thedd.model.combat.requirements.tags.EffectTagsRequirement;
+import thedd.model.combat.requirements.tags.TagRequirement;
+import thedd.model.combat.requirements.tags.TagRequirementType;
+import thedd.model.combat.status.Status;
+import thedd.model.combat.status.defensive.DefensiveStatus;
+import thedd.model.combat.status.poison.PoisonStatus;
+import thedd.model.combat.status.weakness.WeaknessStatus;
+import thedd.model.combat.tag.ActionTag;
+import thedd.model.combat.tag.EffectTag;
+import thedd.model.combat.tag.StatusTag;
+import thedd.model.combat.tag.Tag;
+import thedd.model.item.Item;
+import thedd.model.item.ItemFactory;
+import thedd.model.item.ItemRarity;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemImpl;
+import thedd.model.item.equipableitem.EquipableItemType;
+
+/**
+ * Implementation of {@link GameCatalog} reading the binary form written by
+ * {@link CatalogCompiler}.
+ * <p>
+ * Loading reads only the index of the catalog: every enemy, skill and item is
+ * decoded the first time it is asked for and its definition is then kept and
+ * shared, so the time taken to load a catalog does not depend on how many
+ * entries it holds.
+ */
+public final class GameCatalogImpl implements GameCatalog {
+
+    private static final Statistic[] STATISTICS = Statistic.values();
+    private static final CatalogAction[] ACTIONS = CatalogAction.values();
+    private static final CatalogModifier[] MODIFIERS = CatalogModifier.values();
+    private static final CatalogEffect[] EFFECTS = CatalogEffect.values();
+    private static final ModifierActivation[] ACTIVATIONS = ModifierActivation.values();
+    private static final TagRequirementType[] REQUIREMENTS = TagRequirementType.values();
+    private static final EffectTag[] TAGS = EffectTag.values();
+    private static final ActionTag[] ACTION_TAGS = ActionTag.values();
+    private static final StatusTag[] STATUSES = StatusTag.values();
+    private static final ActionCategory[] CATEGORIES = ActionCategory.values();
+    private static final TargetType[] TARGETS = TargetType.values();
+    private static final EquipableItemType[] TYPES = EquipableItemType.values();
+
+    private final ByteBuffer records;
+    private final double[] cumulativeSpawns;
+    private final Section<EnemyDefinition> enemies;
+    private final Section<Action> skills;
+    private final Section<Function<ItemRarity, Item>> items;
+
+    /**
+     * Public constructor.
+     *
+     * @param catalog the compiled catalog; its content must not change afterwards
+     * @throws IllegalArgumentException if the buffer does not contain a catalog
+     *         of the current version
+     */
+    public GameCatalogImpl(final ByteBuffer catalog) {
+        final ByteBuffer input = Objects.requireNonNull(catalog).duplicate();
+        final int[] enemyOffsets;
+        final int[] skillOffsets;
+        final int[] itemOffsets;
+        try {
+            if (input.getInt() != CatalogCompiler.MAGIC || input.getShort() != CatalogCompiler.VERSION) {
+                throw new IllegalArgumentException("Not a catalog of version " + CatalogCompiler.VERSION);
+            }
+            final int size = input.getInt();
+            final int skillCount = input.getInt();
+            final int itemCount = input.getInt();
+            if (size < 0 || skillCount < 0 || itemCount < 0
+                    || size > input.remaining() / CatalogCompiler.INDEX_ENTRY_SIZE
+                    || (long) skillCount + itemCount > (input.remaining() - (long) size * CatalogCompiler.INDEX_ENTRY_SIZE)
+                                                       / Integer.BYTES) {
+                throw new IllegalArgumentException("Invalid catalog size " + size);
+            }
+            enemyOffsets = new int[size];
+            cumulativeSpawns = new double[size];
+            double total = 0;
+            for (int i = 0; i < size; i++) {
+                enemyOffsets[i] = input.getInt();
+                total += input.getDouble();
+                cumulativeSpawns[i] = total;
+            }
+            skillOffsets = readOffsets(input, skillCount);
+            itemOffsets = readOffsets(input, itemCount);
+            records = input.slice();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated catalog", e);
+        }
+        if (Arrays.stream(new int[][] {enemyOffsets, skillOffsets, itemOffsets})
+                  .flatMapToInt(Arrays::stream)
+                  .anyMatch(o -> o < 0 || o >= records.limit())) {
+            throw new IllegalArgumentException("Invalid catalog index");
+        }
+        enemies = new Section<>("enemy", enemyOffsets, this::decodeEnemy);
+        skills = new Section<>("skill", skillOffsets, GameCatalogImpl::decodeSkill);
+        items = new Section<>("item", itemOffsets, GameCatalogImpl::decodeItem);
+    }
+
+    @Override
+    public int size() {
+        return cumulativeSpawns.length;
+    }
+
+    @Override
+    public List<String> getEnemyNames() {
+        return enemies.getNames();
+    }
+
+    @Override
+    public EnemyDefinition getEnemy(final String name) {
+        return enemies.get(name);
+    }
+
+    @Override
+    public EnemyDefinition getRandomEnemy(final Random random) {
+        Objects.requireNonNull(random);
+        final int size = size();
+        if (size == 0) {
+            throw new IllegalStateException("The catalog is empty");
+        }
+        final double drawn = random.nextDouble() * cumulativeSpawns[size - 1];
+        final int found = Arrays.binarySearch(cumulativeSpawns, drawn);
+        //The enemy drawn is the first one whose cumulative weight is greater than the value
+        return enemies.get(Math.min(found >= 0 ? found + 1 : -found - 1, size - 1));
+    }
+
+    @Override
+    public List<String> getSkillNames() {
+        return skills.getNames();
+    }
+
+    @Override
+    public Action getSkill(final String name) {
+        return skills.get(name);
+    }
+
+    @Override
+    public List<String> getItemNames() {
+        return items.getNames();
+    }
+
+    @Override
+    public Item createItem(final String name, final ItemRarity rarity) {
+        Objects.requireNonNull(rarity);
+        return items.get(name).apply(rarity);
+    }
+
+    private static int[] readOffsets(final ByteBuffer input, final int count) {
+        final int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = input.getInt();
+        }
+        return offsets;
+    }
+
+    private EnemyDefinition decodeEnemy(final ByteBuffer record) {
+        final String name = readText(record);
+        final int[] baseValues = new int[STATISTICS.length];
+        final int[] variations = new int[STATISTICS.length];
+        for (int i = 0; i < STATISTICS.length; i++) {
+            baseValues[i] = record.getShort();
+            variations[i] = record.getShort();
+        }
+        final List<Pair<Action, Double>> actions = new ArrayList<>();
+        for (int i = readCount(record); i > 0; i--) {
+            //The skills of the catalog follow the actions of CatalogAction
+            final int action = record.getInt();
+            actions.add(new ImmutablePair<>(action < ACTIONS.length ? ACTIONS[action].getPrototype()
+                                                                    : skills.get(action - ACTIONS.length),
+                                            record.getDouble()));
+        }
+        final List<Modifier<Action>> actionModifiers = new ArrayList<>();
+        final List<Modifier<ActionEffect>> effectModifiers = new ArrayList<>();
+        for (int i = readCount(record); i > 0; i--) {
+            final CatalogModifier kind = MODIFIERS[record.get()];
+            final ModifierActivation activation = ACTIVATIONS[record.get()];
+            final double value = record.getDouble();
+            final TagRequirementType requirement = REQUIREMENTS[record.get()];
+            final List<Tag> tags = new ArrayList<>();
+            for (int j = readCount(record); j > 0; j--) {
+                tags.add(TAGS[record.get()]);
+            }
+            if (kind == CatalogModifier.DAMAGE) {
+                final DamageModifier modifier = new DamageModifier(value, true, true, activation);
+                modifier.addRequirement(new TagRequirement<>(false, requirement, tags));
+                effectModifiers.add(modifier);
+            } else {
+                final HitChanceModifier modifier = new HitChanceModifier(value, true, activation);
+                modifier.addRequirement(new EffectTagsRequirement<>(true, requirement, tags));
+                actionModifiers.add(modifier);
+            }
+        }
+        return new EnemyDefinition(name, baseValues, variations, actions, actionModifiers, effectModifiers);
+    }
+
+    private static Action decodeSkill(final ByteBuffer record) {
+        final String name = readText(record);
+        final String description = readText(record);
+        final ActionCategory category = CATEGORIES[record.get()];
+        final TargetType target = TARGETS[record.get()];
+        final Action skill = new ActionBuilder().setName(name)
+                                                .setDescription(description)
+                                                .setCategory(category)
+                                                .setTargetType(target)
+                                                .setBaseHitChance(record.getDouble())
+                                                .build();
+        for (int i = readCount(record); i > 0; i--) {
+            skill.addTag(ACTION_TAGS[record.get()], true);
+        }
+        readEffects(record).forEach(e -> skill.addEffect(e.apply(1)));
+        return skill;
+    }
+
+    private static Function<ItemRarity, Item> decodeItem(final ByteBuffer record) {
+        final String name = readText(record);
+        final String description = readText(record);
+        final int id = record.getInt();
+        final int type = readCount(record);
+        final boolean usableInCombat = record.get() != 0;
+        final boolean usableOutOfCombat = record.get() != 0;
+        final List<DoubleFunction<ActionEffect>> effects = readEffects(record);
+        if (type == 0) {
+            return r -> new CatalogUsableItem(id, name, r, description, usableInCombat, usableOutOfCombat, effects);
+        }
+        final EquipableItemType slot = TYPES[type - 1];
+        return r -> {
+            final EquipableItem item = new EquipableItemImpl(id, name, slot, r, description);
+            effects.forEach(e -> item.addActionEffect(e.apply(1)));
+            return item;
+        };
+    }
+
+    /*
+     * Every effect is read as a function of the multiplier of its value, which
+     * is the effect multiplier of the rarity for the usable items and 1 otherwise.
+     */
+    private static List<DoubleFunction<ActionEffect>> readEffects(final ByteBuffer record) {
+        final List<DoubleFunction<ActionEffect>> effects = new ArrayList<>();
+        for (int i = readCount(record); i > 0; i--) {
+            final CatalogEffect kind = EFFECTS[record.get()];
+            final double value = record.getDouble();
+            final int subject = readCount(record);
+            final List<EffectTag> tags = new ArrayList<>();
+            for (int j = readCount(record); j > 0; j--) {
+                tags.add(TAGS[record.get()]);
+            }
+            switch (kind) {
+            case DAMAGE:
+                effects.add(m -> {
+                    final DamageEffect damage = new DamageEffect(value * m);
+                    tags.forEach(t -> damage.addTag(t, true));
+                    return damage;
+                });
+                break;
+            case HEAL:
+                effects.add(m -> new HealingEffect(Math.min(value * m, 1)));
+                break;
+            case STATUS:
+                final StatusTag status = STATUSES[subject];
+                effects.add(m -> new StatusGiverEffect(createStatus(status, (int) value)));
+                break;
+            case STATISTIC:
+                final Statistic stat = STATISTICS[subject];
+                effects.add(m -> ItemFactory.createStatisticEffect(stat, (int) value));
+                break;
+            case DAMAGE_ADDER:
+                effects.add(m -> ItemFactory.createDamageAdderEffect(tags.get(0), value));
+                break;
+            default:
+                effects.add(m -> ItemFactory.createResistanceEffect(tags.get(0), value));
+                break;
+            }
+        }
+        return effects;
+    }
+
+    private static Status createStatus(final StatusTag status, final int duration) {
+        switch (status) {
+        case POISONED:
+            return new PoisonStatus(duration);
+        case WEAKENED:
+            return new WeaknessStatus(duration);
+        default:
+            return new DefensiveStatus(duration);
+        }
+    }
+
+    private static int readCount(final ByteBuffer record) {
+        return Byte.toUnsignedInt(record.get());
+    }
+
+    private static String readText(final ByteBuffer record) {
+        final byte[] text = new byte[Short.toUnsignedInt(record.getShort())];
+        record.get(text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * The entries of one kind: every entry is decoded the first time it is asked
+     * for, and the names only when an entry is first asked for by name.
+     */
+    private final class Section<T> {
+
+        private final String kind;
+        private final int[] offsets;
+        private final Function<ByteBuffer, T> decoder;
+        private final AtomicReferenceArray<T> decoded;
+        private Optional<Map<String, Integer>> indexes = Optional.empty();
+
+        Section(final String kind, final int[] offsets, final Function<ByteBuffer, T> decoder) {
+            this.kind = kind;
+            this.offsets = offsets;
+            this.decoder = decoder;
+            this.decoded = new AtomicReferenceArray<>(offsets.length);
+        }
+
+        List<String> getNames() {
+            return Collections.unmodifiableList(new ArrayList<>(getIndexes().keySet()));
+        }
+
+        T get(final String name) {
+            final Integer index = getIndexes().get(Objects.requireNonNull(name));
+            if (index == null) {
+                throw new IllegalArgumentException("Unknown " + kind + " " + name);
+            }
+            return get(index);
+        }
+
+        T get(final int index) {
+            final T known = decoded.get(index);
+            if (known != null) {
+                return known;
+            }
+            final ByteBuffer record = records.duplicate();
+            record.position(offsets[index]);
+            try {
+                decoded.compareAndSet(index, null, decoder.apply(record));
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IllegalStateException("Corrupted record of " + kind + " " + index, e);
+            }
+            return decoded.get(index);
+        }
+
+        private synchronized Map<String, Integer> getIndexes() {
+            if (!indexes.isPresent()) {
+                final Map<String, Integer> names = new LinkedHashMap<>();
+                for (int i = 0; i < offsets.length; i++) {
+                    final ByteBuffer record = records.duplicate();
+                    record.position(offsets[i]);
+                    names.put(readText(record), i);
+                }
+                indexes = Optional.of(names);
+            }
+            return indexes.get();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package thedd.model.change;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import thedd.model.combat.actor.ActionActor;
+
+/**
+ * The changes of the game since they were last collected by a
+ * {@link thedd.model.change.ChangeTracker}: the changes of every observed
+ * actor, whether the player moved to another room and whether the observed
+ * actors are not the same of the last time.
+ */
+public final class ChangeSet {
+
+    private final Map<ActionActor, Set<ChangeType>> changes;
+    private final boolean roomChanged;
+    private final boolean actorsChanged;
+
+    ChangeSet(final Map<ActionActor, Set<ChangeType>> changes, final boolean roomChanged, final boolean actorsChanged) {
+        this.changes = new IdentityHashMap<>(Objects.requireNonNull(changes));
+        this.roomChanged = roomChanged;
+        this.actorsChanged = actorsChanged;
+    }
+
+    /**
+     * 
+     * @param actor is an observed actor
+     * @return the changes of the actor, empty if it didn't change
+     */
+    public Set<ChangeType> getChanges(final ActionActor actor) {
+        final Set<ChangeType> actorChanges = this.changes.get(Objects.requireNonNull(actor));
+        return actorChanges == null ? Collections.emptySet() : Collections.unmodifiableSet(actorChanges);
+    }
+
+    /**
+     * 
+     * @param actor is an observed actor
+     * @return true if the actor changed
+     */
+    public boolean isChanged(final ActionActor actor) {
+        return this.changes.containsKey(Objects.requireNonNull(actor));
+    }
+
+    /**
+     * 
+     * @return true if the player moved to another room or floor
+     */
+    public boolean isRoomChanged() {
+        return this.roomChanged;
+    }
+
+    /**
+     * 
+     * @return true if the observed actors are not the same, in the same order, of
+     *         the last time
+     */
+    public boolean isActorsChanged() {
+        return this.actorsChanged;
+    }
+
+    /**
+     * 
+     * @return true if nothing changed
+     */
+    public boolean isEmpty() {
+        return this.changes.isEmpty() && !this.roomChanged && !this.actorsChanged;
+    }
+
+    static Set<ChangeType> allChanges() {
+        return EnumSet.allOf(ChangeType.class);
+    }
+}
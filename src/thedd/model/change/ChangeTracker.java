@@ -0,0 +1,22 @@
+package thedd.model.change;
+
+import java.util.List;
+
+import thedd.model.Model;
+import thedd.model.combat.actor.ActionActor;
+
+/**
+ * Interface that define how the changes of a game are collected, so that only
+ * what changed has to be shown again.
+ */
+public interface ChangeTracker {
+
+    /**
+     * This method allows to collect the changes since the last call.
+     * 
+     * @param model  is the model of the game session
+     * @param actors is the list of the observed actors, in the order they are shown
+     * @return the changes since the last call; the first time everything is changed
+     */
+    ChangeSet collect(Model model, List<ActionActor> actors);
+}
@@ -0,0 +1,128 @@
+package thedd.model.change;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import thedd.model.Model;
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.statistics.StatValues;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.world.environment.Environment;
+
+/**
+ * Implementation of {@link thedd.model.change.ChangeTracker}.
+ * <p>
+ * The tracker keeps a snapshot of the counters of every observed actor and
+ * compares it with the current one, so collecting the changes costs the same
+ * for every actor however it is shown.
+ */
+public final class ChangeTrackerImpl implements ChangeTracker {
+
+    private static final int NONE = -2;
+
+    private final Map<ActionActor, ActorState> states;
+    private List<ActionActor> actors;
+    private int floorIndex;
+    private int roomIndex;
+
+    /**
+     * ChangeTrackerImpl constructor.
+     */
+    public ChangeTrackerImpl() {
+        this.states = new IdentityHashMap<>();
+        this.actors = new ArrayList<>();
+        this.floorIndex = NONE;
+        this.roomIndex = NONE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ChangeSet collect(final Model model, final List<ActionActor> observed) {
+        Objects.requireNonNull(observed);
+        final Environment environment = Objects.requireNonNull(model).getEnvironment();
+        final int floor = environment.getCurrentFloorIndex();
+        final int room = environment.getCurrentFloor().getCurrentRoomIndex();
+        final boolean roomChanged = floor != this.floorIndex || room != this.roomIndex;
+        final boolean actorsChanged = !isSameList(observed, this.actors);
+        final Map<ActionActor, Set<ChangeType>> changes = new IdentityHashMap<>();
+        final Map<ActionActor, ActorState> current = new IdentityHashMap<>();
+        for (final ActionActor actor : observed) {
+            final ActorState state = new ActorState(actor);
+            final ActorState previous = this.states.get(actor);
+            final Set<ChangeType> actorChanges = previous == null ? ChangeSet.allChanges() : state.compare(previous);
+            if (!actorChanges.isEmpty()) {
+                changes.put(actor, actorChanges);
+            }
+            current.put(actor, state);
+        }
+        this.states.clear();
+        this.states.putAll(current);
+        this.actors = new ArrayList<>(observed);
+        this.floorIndex = floor;
+        this.roomIndex = room;
+        return new ChangeSet(changes, roomChanged, actorsChanged);
+    }
+
+    private static boolean isSameList(final List<ActionActor> first, final List<ActionActor> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class ActorState {
+
+        private final int healthCount;
+        private final boolean alive;
+        private final int modificationCount;
+        private final Optional<Action> selectedAction;
+        private final Optional<Integer> initiative;
+
+        ActorState(final ActionActor actor) {
+            if (actor instanceof BasicCharacter) {
+                final StatValues health = ((BasicCharacter) actor).getStat(Statistic.HEALTH_POINT);
+                this.healthCount = health.getModificationCount();
+                this.alive = health.getActual() > 0;
+            } else {
+                this.healthCount = 0;
+                this.alive = true;
+            }
+            this.modificationCount = actor.getModificationCount();
+            this.selectedAction = actor.getSelectedAction();
+            this.initiative = actor.getTurnInitiative();
+        }
+
+        Set<ChangeType> compare(final ActorState previous) {
+            final Set<ChangeType> changes = EnumSet.noneOf(ChangeType.class);
+            if (this.healthCount != previous.healthCount) {
+                changes.add(ChangeType.HEALTH);
+            }
+            if (!this.alive && previous.alive) {
+                changes.add(ChangeType.DEATH);
+            }
+            if (this.modificationCount != previous.modificationCount) {
+                changes.add(ChangeType.STATUSES);
+            }
+            if (this.selectedAction.orElse(null) != previous.selectedAction.orElse(null)
+                    || !this.initiative.equals(previous.initiative)) {
+                changes.add(ChangeType.INTENT);
+            }
+            return changes;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package thedd.model.change;
+
+/**
+ * The kinds of change of an actor reported by a
+ * {@link thedd.model.change.ChangeSet}.
+ */
+public enum ChangeType {
+    /**
+     * The actual or maximum health points of the actor changed.
+     */
+    HEALTH,
+    /**
+     * A status or a modifier of the actor has been added or removed.
+     */
+    STATUSES,
+    /**
+     * The actor has been defeated.
+     */
+    DEATH,
+    /**
+     * The selected action or the turn initiative of the actor changed.
+     */
+    INTENT
+}
@@ -3,6 +3,7 @@ package thedd.model.character;
 import java.util.EnumMap;
 import java.util.List;
 
+import thedd.model.character.equipment.EquipmentSummary;
 import thedd.model.character.inventory.Inventory;
 import thedd.model.character.statistics.StatValues;
 import thedd.model.character.statistics.Statistic;
@@ -71,6 +72,13 @@ public interface BasicCharacter extends AutomaticActionActor {
      */
     List<EquipableItem> getEquippedItems();
 
+    /**
+     * This method returns the aggregated view of character's equipments.
+     * 
+     * @return the EquipmentSummary of the character
+     */
+    EquipmentSummary getEquipmentSummary();
+
     /**
      * This method returns true if the specified EquipableItem is equipable on
      * character's equipments.
@@ -79,4 +87,14 @@ public interface BasicCharacter extends AutomaticActionActor {
      * @return true if is equipable, otherwise false.
      */
     boolean isItemEquipableOnEquipment(EquipableItem item);
+
+    /**
+     * This method allows to change the value of one of the modifiers the
+     * character gets from its statistics, to tune the balance of the game.
+     * 
+     * @param modifier the modifier to change
+     * @param value    the new value of the modifier, per point of its statistic
+     * @throws NullPointerException if modifier is null.
+     */
+    void setCommonModifierValue(CommonModifier modifier, double value);
 }
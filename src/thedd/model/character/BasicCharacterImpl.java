@@ -5,8 +5,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
+import thedd.model.character.equipment.EquipmentSummary;
+import thedd.model.character.equipment.EquipmentSummaryImpl;
 import thedd.model.character.inventory.Inventory;
 import thedd.model.character.inventory.InventoryImpl;
 import thedd.model.character.statistics.StatValues;
@@ -17,7 +21,6 @@ import thedd.model.combat.action.effect.ActionEffect;
 import thedd.model.combat.actor.automatic.AbstractAutomaticActor;
 import thedd.model.combat.modifier.DamageModifier;
 import thedd.model.combat.modifier.HitChanceModifier;
-import thedd.model.combat.modifier.Modifier;
 import thedd.model.combat.modifier.ModifierActivation;
 import thedd.model.combat.modifier.StatBasedModifier;
 import thedd.model.combat.requirements.tags.EffectTagsRequirement;
@@ -26,8 +29,8 @@ import thedd.model.combat.requirements.tags.TagRequirementType;
 import thedd.model.combat.tag.EffectTag;
 import thedd.model.combat.tag.Tag;
 import thedd.model.item.Item;
+import thedd.model.item.ItemInterner;
 import thedd.model.item.equipableitem.EquipableItem;
-import thedd.model.item.equipableitem.EquipableItemType;
 
 /**
  * Implementation of {@link thedd.model.character.BasicCharacter}.
@@ -37,13 +40,8 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
     private final EnumMap<Statistic, StatValues> stat;
     private final Inventory inventory;
     private final List<EquipableItem> equipment;
-    private int hash;
-    // Modifier constants
-    private static final double COS_POISON_RESISTANCE_PERC = -0.05;
-    private static final double STR_DAMAGE_ATK_PERC = 0.05;
-    private static final double DEX_HIT_CHANCE_ATK_PERC = 0.025;
-    private static final double DEX_HIT_CHANCE_DEF_PERC = -0.025;
-    private static final double COS_DMG_RES_DEF = -0.02;
+    private final EquipmentSummaryImpl equipmentSummary;
+    private final EnumMap<CommonModifier, StatBasedModifier<?>> commonModifiers;
     /**
      * BasicCharacterImpl's constructor.
      * 
@@ -51,11 +49,32 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
      * @param isInPlayerParty true if the actor is part of the player's party
      */
     protected BasicCharacterImpl(final String name, final boolean isInPlayerParty) {
+        this(name, isInPlayerParty, Optional.empty());
+    }
+
+    /**
+     * BasicCharacterImpl's constructor for characters whose statistics are known
+     * in advance, instead of being given by the base value methods.
+     * 
+     * @param name            the name of the character.
+     * @param isInPlayerParty true if the actor is part of the player's party
+     * @param baseValues      the base value of every statistic
+     * @throws IllegalArgumentException if a statistic has no base value
+     */
+    protected BasicCharacterImpl(final String name, final boolean isInPlayerParty,
+            final Map<Statistic, Integer> baseValues) {
+        this(name, isInPlayerParty, Optional.of(baseValues));
+    }
+
+    private BasicCharacterImpl(final String name, final boolean isInPlayerParty,
+            final Optional<Map<Statistic, Integer>> baseValues) {
         super(name, isInPlayerParty);
         this.stat = new EnumMap<>(Statistic.class);
-        initStat();
+        initStat(baseValues.orElseGet(this::getBaseValues));
         this.inventory = new InventoryImpl();
         this.equipment = new ArrayList<>();
+        this.equipmentSummary = new EquipmentSummaryImpl();
+        this.commonModifiers = new EnumMap<>(CommonModifier.class);
         setCommonStatBasedModifiers();
     }
 
@@ -86,11 +105,12 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
     public final boolean equipItem(final Item item) {
         Objects.requireNonNull(item);
         if (item.isEquipable()) {
-            final EquipableItem equipItem = (EquipableItem) item;
-            if (isItemEquipableOnEquipment(equipItem)) {
+            if (isItemEquipableOnEquipment((EquipableItem) item)) {
                 inventory.removeItem(item);
+                final EquipableItem equipItem = ((EquipableItem) item).getCopy();
                 equipItem.onEquip(this);
                 equipment.add(equipItem);
+                equipmentSummary.add(equipItem);
                 return true;
             }
         }
@@ -105,7 +125,8 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
             return false;
         }
         equipment.get(index).onUnequip(this);
-        inventory.addItem(equipment.remove(index));
+        equipmentSummary.remove(equipment.get(index));
+        inventory.addItem(ItemInterner.intern(equipment.remove(index)));
         return true;
     }
 
@@ -114,6 +135,11 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
         return Collections.unmodifiableList(equipment);
     }
 
+    @Override
+    public final EquipmentSummary getEquipmentSummary() {
+        return equipmentSummary;
+    }
+
     @Override
     public final Inventory getInventory() {
         return inventory;
@@ -141,10 +167,7 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
      */
     @Override
     public int hashCode() {
-        if (hash == 0) {
-            hash = equipment.hashCode() ^ inventory.hashCode() ^ stat.hashCode() ^ super.hashCode();
-        }
-        return hash;
+        return equipmentSummary.hashCode() ^ super.hashCode();
     }
 
     /**
@@ -165,19 +188,16 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
      */
     @Override
     public boolean isItemEquipableOnEquipment(final EquipableItem item) {
-        if (item.getType().isWeapon()) {
-            if (this.getEquippedItems().stream().noneMatch(it -> it.getType() == EquipableItemType.TWO_HANDED)) {
-                final int oneHandWeapons = (int) this.getEquippedItems().stream()
-                        .filter(it -> it.getType() == EquipableItemType.ONE_HANDED).count();
-                return (oneHandWeapons == 0 || (oneHandWeapons == 1 && item.getType() == EquipableItemType.ONE_HANDED));
-            }
-            return false;
-        } else if (item.getType() == EquipableItemType.RING) {
-            return ((int) this.getEquippedItems().stream().filter(it -> it.getType() == EquipableItemType.RING)
-                    .count() < EquipableItemType.getMaxNumOfRings());
-        } else {
-            return this.getEquippedItems().stream().noneMatch(it -> it.getType() == item.getType());
-        }
+        return equipmentSummary.canEquip(item.getType());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void setCommonModifierValue(final CommonModifier modifier, final double value) {
+        commonModifiers.get(Objects.requireNonNull(modifier)).setValue(value);
+        modifiersChanged();
     }
 
     private void setCommonStatBasedModifiers() {
@@ -186,30 +206,35 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
         List<Tag> requiredTags = new ArrayList<Tag>();
         List<Tag> allowedTags = new ArrayList<Tag>();
         // Resistance to poison per CONSTITUTION point
-        final Modifier<ActionEffect> cosPoisonResistance = new StatBasedModifier<>(Statistic.CONSTITUTION, this,
-                new DamageModifier(COS_POISON_RESISTANCE_PERC, true, true, defensive));
+        final StatBasedModifier<ActionEffect> cosPoisonResistance = new StatBasedModifier<>(Statistic.CONSTITUTION, this,
+                new DamageModifier(CommonModifier.COS_POISON_RESISTANCE_PERC.getDefaultValue(), true, true, defensive));
         requiredTags = Arrays.asList(EffectTag.POISON_DAMAGE);
         cosPoisonResistance.addRequirement(new TagRequirement<>(false, TagRequirementType.REQUIRED, requiredTags));
         // Bonus to damage per STRENGTH point
-        final Modifier<ActionEffect> strDamage = new StatBasedModifier<>(Statistic.STRENGTH, this,
-                new DamageModifier(STR_DAMAGE_ATK_PERC, true, true, offensive));
+        final StatBasedModifier<ActionEffect> strDamage = new StatBasedModifier<>(Statistic.STRENGTH, this,
+                new DamageModifier(CommonModifier.STR_DAMAGE_ATK_PERC.getDefaultValue(), true, true, offensive));
         requiredTags = Arrays.asList(EffectTag.NORMAL_DAMAGE);
         strDamage.addRequirement(new TagRequirement<>(false, TagRequirementType.REQUIRED, requiredTags));
         // Bonus to hit chance per AGILITY point
-        final Modifier<Action> dexHitChance = new StatBasedModifier<>(Statistic.AGILITY, this,
-                new HitChanceModifier(DEX_HIT_CHANCE_ATK_PERC, false, offensive));
+        final StatBasedModifier<Action> dexHitChance = new StatBasedModifier<>(Statistic.AGILITY, this,
+                new HitChanceModifier(CommonModifier.DEX_HIT_CHANCE_ATK_PERC.getDefaultValue(), false, offensive));
         requiredTags = Arrays.asList(EffectTag.NORMAL_DAMAGE);
         dexHitChance.addRequirement(new EffectTagsRequirement<>(false, TagRequirementType.REQUIRED, requiredTags));
         // Bonus to chances of being missed by a physical attack per AGILITY point
-        final Modifier<Action> dexMissChance = new StatBasedModifier<>(Statistic.AGILITY, this,
-                new HitChanceModifier(DEX_HIT_CHANCE_DEF_PERC, false, defensive));
+        final StatBasedModifier<Action> dexMissChance = new StatBasedModifier<>(Statistic.AGILITY, this,
+                new HitChanceModifier(CommonModifier.DEX_HIT_CHANCE_DEF_PERC.getDefaultValue(), false, defensive));
         requiredTags = Arrays.asList(EffectTag.NORMAL_DAMAGE);
         dexMissChance.addRequirement(new EffectTagsRequirement<>(false, TagRequirementType.REQUIRED, requiredTags));
         // Resistance to physical damage per CONSTITUTION point
-        final Modifier<ActionEffect> cosDmgResistance = new StatBasedModifier<>(Statistic.CONSTITUTION, this,
-                new DamageModifier(COS_DMG_RES_DEF, true, true, defensive));
+        final StatBasedModifier<ActionEffect> cosDmgResistance = new StatBasedModifier<>(Statistic.CONSTITUTION, this,
+                new DamageModifier(CommonModifier.COS_DMG_RES_DEF.getDefaultValue(), true, true, defensive));
         allowedTags = Arrays.asList(EffectTag.NORMAL_DAMAGE);
         cosDmgResistance.addRequirement(new TagRequirement<>(false, TagRequirementType.ALLOWED, allowedTags));
+        commonModifiers.put(CommonModifier.COS_POISON_RESISTANCE_PERC, cosPoisonResistance);
+        commonModifiers.put(CommonModifier.STR_DAMAGE_ATK_PERC, strDamage);
+        commonModifiers.put(CommonModifier.DEX_HIT_CHANCE_ATK_PERC, dexHitChance);
+        commonModifiers.put(CommonModifier.DEX_HIT_CHANCE_DEF_PERC, dexMissChance);
+        commonModifiers.put(CommonModifier.COS_DMG_RES_DEF, cosDmgResistance);
         addActionModifier(dexMissChance, true);
         addActionModifier(dexHitChance, true);
         addEffectModifier(cosDmgResistance, true);
@@ -217,11 +242,24 @@ public abstract class BasicCharacterImpl extends AbstractAutomaticActor implemen
         addEffectModifier(cosPoisonResistance, true);
     }
 
-    private void initStat() {
-        this.stat.put(Statistic.HEALTH_POINT, StatValuesImpl.buildWithMax(this.getHealthPointBaseValue()));
-        this.stat.put(Statistic.AGILITY, StatValuesImpl.buildWithoutMax(this.getAgilityStatBaseValue()));
-        this.stat.put(Statistic.CONSTITUTION, StatValuesImpl.buildWithoutMax(this.getConstitutionStatBaseValue()));
-        this.stat.put(Statistic.STRENGTH, StatValuesImpl.buildWithoutMax(this.getStrengthStatBaseValue()));
+    private Map<Statistic, Integer> getBaseValues() {
+        final Map<Statistic, Integer> values = new EnumMap<>(Statistic.class);
+        values.put(Statistic.HEALTH_POINT, this.getHealthPointBaseValue());
+        values.put(Statistic.AGILITY, this.getAgilityStatBaseValue());
+        values.put(Statistic.CONSTITUTION, this.getConstitutionStatBaseValue());
+        values.put(Statistic.STRENGTH, this.getStrengthStatBaseValue());
+        return values;
+    }
+
+    private void initStat(final Map<Statistic, Integer> baseValues) {
+        for (final Statistic s : Statistic.values()) {
+            final Integer value = baseValues.get(s);
+            if (value == null) {
+                throw new IllegalArgumentException("No base value for " + s);
+            }
+            this.stat.put(s, s == Statistic.HEALTH_POINT ? StatValuesImpl.buildWithMax(value)
+                                                         : StatValuesImpl.buildWithoutMax(value));
+        }
     }
 
     /**
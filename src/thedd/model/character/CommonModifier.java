@@ -0,0 +1,37 @@
+package thedd.model.character;
+
+/**
+ * Enumeration of the modifiers every character gets from its statistics. The
+ * value of a modifier is multiplied by the statistic it depends on.
+ */
+public enum CommonModifier {
+
+    /** Resistance to poison per CONSTITUTION point. */
+    COS_POISON_RESISTANCE_PERC(-0.05),
+
+    /** Bonus to damage per STRENGTH point. */
+    STR_DAMAGE_ATK_PERC(0.05),
+
+    /** Bonus to hit chance per AGILITY point. */
+    DEX_HIT_CHANCE_ATK_PERC(0.025),
+
+    /** Bonus to chances of being missed by a physical attack per AGILITY point. */
+    DEX_HIT_CHANCE_DEF_PERC(-0.025),
+
+    /** Resistance to physical damage per CONSTITUTION point. */
+    COS_DMG_RES_DEF(-0.02);
+
+    private final double defaultValue;
+
+    CommonModifier(final double defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * 
+     * @return the value of the modifier given to every new character
+     */
+    public double getDefaultValue() {
+        return this.defaultValue;
+    }
+}
@@ -1,28 +1,39 @@
 package thedd.model.character;
 
-import thedd.model.character.types.EnemyCharacterType;
-import thedd.model.character.types.Goblin;
-import thedd.model.character.types.Headless;
+import java.util.Random;
+
+import thedd.model.catalog.CatalogLoader;
+import thedd.model.character.types.CatalogEnemy;
 
 /**
  * Implementation of character's factory.
  */
 public final class RandomEnemyFactory {
 
+    private static final Random RSEED = new Random();
+
     private RandomEnemyFactory() {
 
     }
 
     /**
-     * Method that create a new random (non-boss) Enemy Character.
+     * Method that create a new random (non-boss) Enemy Character, drawn from the
+     * game catalog according to the spawn weight of every enemy.
      * 
      * @return a new random Enemy Character.
      */
     public static BasicCharacter createRandomEnemy() {
-        final EnemyCharacterType type = EnemyCharacterType.getRandom();
-        if (type == EnemyCharacterType.GOBLIN) {
-            return new Goblin();
-        }
-        return new Headless();
+        return createRandomEnemy(RSEED);
+    }
+
+    /**
+     * Method that create a new random (non-boss) Enemy Character, drawn with the
+     * given generator, as {@link #createRandomEnemy()} does.
+     * 
+     * @param random is the generator the enemy is drawn with
+     * @return a new random Enemy Character.
+     */
+    public static BasicCharacter createRandomEnemy(final Random random) {
+        return new CatalogEnemy(CatalogLoader.getDefault().getRandomEnemy(random), random);
     }
 }
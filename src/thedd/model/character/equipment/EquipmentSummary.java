@@ -0,0 +1,63 @@
+package thedd.model.character.equipment;
+
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.tag.EffectTag;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemType;
+
+/**
+ * Interface that gives an aggregated view of the items equipped by a character.
+ * Every query takes constant time.
+ */
+public interface EquipmentSummary {
+
+    /**
+     * This method allows to know if at least an item of a type is equipped.
+     * 
+     * @param type the type of item.
+     * @return true if the slot of the type is occupied.
+     */
+    boolean isOccupied(EquipableItemType type);
+
+    /**
+     * Return the number of equipped items of a type.
+     * 
+     * @param type the type of item.
+     * @return the number of equipped items.
+     */
+    int getCount(EquipableItemType type);
+
+    /**
+     * This method allows to know if the given item is one of the equipped items.
+     * Items are compared by identity, since equal copies can be in the inventory.
+     * 
+     * @param item the item.
+     * @return true if the item is held in the slot of its type.
+     */
+    boolean isHeld(EquipableItem item);
+
+    /**
+     * This method allows to know if an item of the specified type can be equipped
+     * together with the items already equipped.
+     * 
+     * @param type the type of the item to equip.
+     * @return true if there is a free slot for the type.
+     */
+    boolean canEquip(EquipableItemType type);
+
+    /**
+     * Return the sum of the bonuses to a statistic provided by the equipped items.
+     * 
+     * @param stat the statistic.
+     * @return the total bonus.
+     */
+    int getStatBonus(Statistic stat);
+
+    /**
+     * Return the sum of the flat damage resistances to a tag provided by the equipped items.
+     * 
+     * @param tag the resisted tag.
+     * @return the total resistance.
+     */
+    double getResistanceBonus(EffectTag tag);
+}
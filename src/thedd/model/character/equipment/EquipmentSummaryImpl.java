@@ -0,0 +1,155 @@
+package thedd.model.character.equipment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.action.effect.DamageResistanceAdderEffect;
+import thedd.model.combat.action.effect.EquipmentStatisticChangerEffect;
+import thedd.model.combat.tag.EffectTag;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemType;
+
+/**
+ * Implementation of {@link thedd.model.character.equipment.EquipmentSummary}.
+ * It is updated every time an item is equipped or unequipped.
+ * Slots are kept in a bitmask indexed by the ordinal of the item type.
+ */
+public final class EquipmentSummaryImpl implements EquipmentSummary {
+
+    private final int[] counts;
+    private final Map<EquipableItemType, List<EquipableItem>> held;
+    private final int[] statBonuses;
+    private final double[] resistanceBonuses;
+    private int occupied;
+
+    /**
+     * EquipmentSummary constructor, with no equipped items.
+     */
+    public EquipmentSummaryImpl() {
+        this.counts = new int[EquipableItemType.values().length];
+        this.held = new EnumMap<>(EquipableItemType.class);
+        Arrays.stream(EquipableItemType.values()).forEach(t -> this.held.put(t, new ArrayList<>()));
+        this.statBonuses = new int[Statistic.values().length];
+        this.resistanceBonuses = new double[EffectTag.values().length];
+        this.occupied = 0;
+    }
+
+    /**
+     * This method registers an item that has just been equipped.
+     * 
+     * @param item the equipped item.
+     * @throws NullPointerException if item is null.
+     */
+    public void add(final EquipableItem item) {
+        Objects.requireNonNull(item);
+        this.counts[item.getType().ordinal()]++;
+        this.occupied |= bit(item.getType());
+        this.held.get(item.getType()).add(item);
+        item.getActionEffects().forEach(e -> this.aggregate(e, 1));
+    }
+
+    /**
+     * This method unregisters an item that has just been unequipped.
+     * 
+     * @param item the unequipped item.
+     * @throws NullPointerException if item is null.
+     * @throws IllegalStateException if no item of the same type is registered.
+     */
+    public void remove(final EquipableItem item) {
+        Objects.requireNonNull(item);
+        final int index = item.getType().ordinal();
+        if (this.counts[index] == 0) {
+            throw new IllegalStateException();
+        }
+        this.counts[index]--;
+        this.held.get(item.getType()).removeIf(i -> i == item);
+        if (this.counts[index] == 0) {
+            this.occupied &= ~bit(item.getType());
+        }
+        item.getActionEffects().forEach(e -> this.aggregate(e, -1));
+    }
+
+    @Override
+    public boolean isOccupied(final EquipableItemType type) {
+        return (this.occupied & bit(type)) != 0;
+    }
+
+    @Override
+    public int getCount(final EquipableItemType type) {
+        return this.counts[type.ordinal()];
+    }
+
+    @Override
+    public boolean isHeld(final EquipableItem item) {
+        return this.held.get(item.getType()).stream().anyMatch(i -> i == item);
+    }
+
+    @Override
+    public boolean canEquip(final EquipableItemType type) {
+        if (type.isWeapon()) {
+            if (this.isOccupied(EquipableItemType.TWO_HANDED)) {
+                return false;
+            }
+            final int oneHandWeapons = this.getCount(EquipableItemType.ONE_HANDED);
+            return oneHandWeapons == 0 || (oneHandWeapons == 1 && type == EquipableItemType.ONE_HANDED);
+        } else if (type == EquipableItemType.RING) {
+            return this.getCount(EquipableItemType.RING) < EquipableItemType.getMaxNumOfRings();
+        }
+        return !this.isOccupied(type);
+    }
+
+    @Override
+    public int getStatBonus(final Statistic stat) {
+        return this.statBonuses[stat.ordinal()];
+    }
+
+    @Override
+    public double getResistanceBonus(final EffectTag tag) {
+        return this.resistanceBonuses[tag.ordinal()];
+    }
+
+    @Override
+    public int hashCode() {
+        return this.occupied ^ Arrays.hashCode(this.counts) ^ Arrays.hashCode(this.statBonuses);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof EquipmentSummaryImpl) {
+            final EquipmentSummaryImpl other = (EquipmentSummaryImpl) obj;
+            return this.occupied == other.occupied && Arrays.equals(this.counts, other.counts)
+                    && Arrays.equals(this.statBonuses, other.statBonuses)
+                    && Arrays.equals(this.resistanceBonuses, other.resistanceBonuses);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "EquipmentSummary [counts=" + Arrays.toString(this.counts) + ", statBonuses="
+                + Arrays.toString(this.statBonuses) + ", resistanceBonuses=" + Arrays.toString(this.resistanceBonuses)
+                + "]";
+    }
+
+    private void aggregate(final ActionEffect effect, final int sign) {
+        if (effect instanceof EquipmentStatisticChangerEffect) {
+            final EquipmentStatisticChangerEffect statEffect = (EquipmentStatisticChangerEffect) effect;
+            this.statBonuses[statEffect.getStatistic().ordinal()] += sign * statEffect.getValue();
+        } else if (effect instanceof DamageResistanceAdderEffect) {
+            final DamageResistanceAdderEffect resEffect = (DamageResistanceAdderEffect) effect;
+            if (!resEffect.isPercentage()) {
+                this.resistanceBonuses[resEffect.getResistedTag().ordinal()] += sign * resEffect.getValue();
+            }
+        }
+    }
+
+    private static int bit(final EquipableItemType type) {
+        return 1 << type.ordinal();
+    }
+}
@@ -3,6 +3,7 @@ package thedd.model.character.inventory;
 import java.util.List;
 
 import thedd.model.item.Item;
+import thedd.model.item.equipableitem.EquipableItemType;
 
 /**
  * Interface that manage an inventory of items.
@@ -42,4 +43,56 @@ public interface Inventory {
      * @throws NullPointerException if item is null.
      */
     int getQuantity(Item item);
+
+    /**
+     * Return the id of the specified Item. The id does not change as long as the
+     * item stays in the inventory.
+     * 
+     * @param item the Item
+     * @return the id of the item.
+     * @throws NullPointerException if item is null.
+     * @throws IllegalArgumentException if item isn't in the inventory.
+     */
+    int getId(Item item);
+
+    /**
+     * Return the Item with the specified id.
+     * 
+     * @param id the id of the item
+     * @return the item.
+     * @throws IllegalArgumentException if no item has that id.
+     */
+    Item getItem(int id);
+
+    /**
+     * Returns the equipable items of the specified type.
+     * 
+     * @param type the type of the items.
+     * @return an unmodifiable view of the items.
+     */
+    List<Item> getEquipable(EquipableItemType type);
+
+    /**
+     * Returns the usable items.
+     * 
+     * @return an unmodifiable view of the items.
+     */
+    List<Item> getUsable();
+
+    /**
+     * Returns the items sorted in the specified order.
+     * 
+     * @param order the order of the items.
+     * @return an unmodifiable view of the sorted items.
+     */
+    List<Item> getSorted(InventoryOrder order);
+
+    /**
+     * Returns the number of changes of the inventory. It changes every time an
+     * item is added or removed, so it allows to know whether the inventory
+     * changed since it was last read.
+     * 
+     * @return the number of changes.
+     */
+    int getModificationCount();
 }
@@ -1,92 +1,224 @@
 package thedd.model.character.inventory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
 import thedd.model.item.Item;
+import thedd.model.item.ItemInterner;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemType;
 
 /**
  * Implementation of {@link thedd.model.character.inventory.Inventory}.
- *
+ * <p>
+ * Every distinct item is stored once, as its shared instance given by
+ * {@link thedd.model.item.ItemInterner}, and gets an integer id used to index
+ * its quantity. Lookups compare items by identity, so item hash codes are never
+ * computed; category indexes and sort orders are updated only when a new item
+ * enters or leaves the inventory.
  */
 public final class InventoryImpl implements Inventory {
 
-    private final Map<Item, Integer> items;
-    private int hash;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Item, Integer> ids;
+    private final List<Item> slots;
+    private final Deque<Integer> freeIds;
+    private int[] quantities;
+    private final Map<EquipableItemType, List<Item>> equipable;
+    private final List<Item> usable;
+    private final Map<InventoryOrder, List<Item>> sorted;
+    private int totalQuantity;
+    private int modificationCount;
+    private Optional<List<Item>> all;
 
     /**
      * InventoryImpl constructor.
      */
     public InventoryImpl() {
-        items = new HashMap<>();
+        ids = new IdentityHashMap<>();
+        slots = new ArrayList<>();
+        freeIds = new ArrayDeque<>();
+        quantities = new int[INITIAL_CAPACITY];
+        equipable = new EnumMap<>(EquipableItemType.class);
+        Arrays.stream(EquipableItemType.values()).forEach(t -> equipable.put(t, new ArrayList<>()));
+        usable = new ArrayList<>();
+        sorted = new EnumMap<>(InventoryOrder.class);
+        Arrays.stream(InventoryOrder.values()).forEach(o -> sorted.put(o, new ArrayList<>()));
+        totalQuantity = 0;
+        all = Optional.empty();
     }
 
     @Override
     public void addItem(final Item item) {
         Objects.requireNonNull(item);
-        if (items.containsKey(item)) {
-            items.put(item, items.get(item) + 1);
+        final Item shared = ids.containsKey(item) ? item : ItemInterner.intern(item);
+        final Integer id = ids.get(shared);
+        if (id != null) {
+            quantities[id]++;
         } else {
-            items.put(item, 1);
+            insert(shared);
         }
+        totalQuantity++;
+        modificationCount++;
     }
 
     @Override
     public void removeItem(final Item item) {
         Objects.requireNonNull(item);
-        if (!items.containsKey(item)) {
+        final Optional<Integer> id = find(item);
+        if (!id.isPresent()) {
             throw new IllegalArgumentException();
         }
-        items.put(item, items.get(item) - 1);
-        if (items.get(item) <= 0) {
-            items.remove(item);
+        quantities[id.get()]--;
+        totalQuantity--;
+        modificationCount++;
+        if (quantities[id.get()] <= 0) {
+            delete(id.get());
         }
     }
 
     @Override
     public String toString() {
-        String ret = "";
-        for (final Map.Entry<Item, Integer> pair : items.entrySet()) {
-            ret = ret + "[ Item: " + pair.getKey().toString() + " - Number: " + pair.getValue() + "]\n";
-        }
-        if (ret.equals("")) {
-            ret = "Empty\n";
+        final StringBuilder ret = new StringBuilder();
+        for (final Item item : getAll()) {
+            ret.append("[ Item: ").append(item).append(" - Number: ").append(quantities[ids.get(item)]).append("]\n");
         }
-        return ret;
+        return ret.length() == 0 ? "Empty\n" : ret.toString();
     }
 
     @Override
     public List<Item> getAll() {
-        return Collections.unmodifiableList(items.keySet().stream().collect(Collectors.toList()));
+        if (!all.isPresent()) {
+            final List<Item> snapshot = new ArrayList<>(ids.size());
+            slots.stream().filter(Objects::nonNull).forEach(snapshot::add);
+            all = Optional.of(Collections.unmodifiableList(snapshot));
+        }
+        return all.get();
     }
 
     @Override
     public int getQuantity(final Item item) {
         Objects.requireNonNull(item);
-        if (!items.containsKey(item)) {
-            return 0;
-        } else {
-            return items.get(item);
+        final Optional<Integer> id = find(item);
+        return id.isPresent() ? quantities[id.get()] : 0;
+    }
+
+    @Override
+    public int getId(final Item item) {
+        Objects.requireNonNull(item);
+        return find(item).orElseThrow(IllegalArgumentException::new);
+    }
+
+    @Override
+    public Item getItem(final int id) {
+        if (id < 0 || id >= slots.size() || slots.get(id) == null) {
+            throw new IllegalArgumentException();
         }
+        return slots.get(id);
+    }
+
+    @Override
+    public List<Item> getEquipable(final EquipableItemType type) {
+        return Collections.unmodifiableList(equipable.get(Objects.requireNonNull(type)));
+    }
+
+    @Override
+    public List<Item> getUsable() {
+        return Collections.unmodifiableList(usable);
+    }
+
+    @Override
+    public List<Item> getSorted(final InventoryOrder order) {
+        return Collections.unmodifiableList(sorted.get(Objects.requireNonNull(order)));
+    }
+
+    @Override
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     @Override
     public int hashCode() {
-        if (hash == 0) {
-            hash = items.hashCode();
-        }
-        return hash;
+        return ids.size() * 31 + totalQuantity;
     }
 
     @Override
     public boolean equals(final Object obj) {
         if (obj instanceof InventoryImpl) {
             final InventoryImpl other = (InventoryImpl) obj;
-            return getAll().equals(other.getAll());
+            return ids.size() == other.ids.size() && totalQuantity == other.totalQuantity
+                    && ids.entrySet().stream().allMatch(e -> quantities[e.getValue()] == other.getQuantity(e.getKey()));
         }
         return false;
     }
+
+    private Optional<Integer> find(final Item item) {
+        final Integer id = ids.get(item);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        return ItemInterner.lookup(item).map(ids::get);
+    }
+
+    private void insert(final Item item) {
+        final int id;
+        if (freeIds.isEmpty()) {
+            id = slots.size();
+            slots.add(item);
+            if (id == quantities.length) {
+                quantities = Arrays.copyOf(quantities, quantities.length * 2);
+            }
+        } else {
+            id = freeIds.pop();
+            slots.set(id, item);
+        }
+        ids.put(item, id);
+        quantities[id] = 1;
+        getCategory(item).add(item);
+        for (final InventoryOrder order : InventoryOrder.values()) {
+            final List<Item> list = sorted.get(order);
+            list.add(-Collections.binarySearch(list, item, getComparator(order)) - 1, item);
+        }
+        all = Optional.empty();
+    }
+
+    private void delete(final int id) {
+        final Item item = slots.get(id);
+        for (final InventoryOrder order : InventoryOrder.values()) {
+            final List<Item> list = sorted.get(order);
+            list.remove(Collections.binarySearch(list, item, getComparator(order)));
+        }
+        final List<Item> category = getCategory(item);
+        for (int i = 0; i < category.size(); i++) {
+            if (category.get(i) == item) {
+                category.remove(i);
+                break;
+            }
+        }
+        ids.remove(item);
+        slots.set(id, null);
+        freeIds.push(id);
+        all = Optional.empty();
+    }
+
+    private List<Item> getCategory(final Item item) {
+        return item.isEquipable() ? equipable.get(((EquipableItem) item).getType()) : usable;
+    }
+
+    /*
+     * Items equal for the order are ranked by id, so that each item has exactly one position.
+     */
+    private Comparator<Item> getComparator(final InventoryOrder order) {
+        return order.getComparator().thenComparingInt(ids::get);
+    }
 }
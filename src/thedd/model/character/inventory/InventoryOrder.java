@@ -0,0 +1,36 @@
+package thedd.model.character.inventory;
+
+import java.util.Comparator;
+
+import thedd.model.item.Item;
+
+/**
+ * The orders in which the items of an {@link Inventory} can be listed.
+ */
+public enum InventoryOrder {
+
+    /**
+     * Alphabetical order of the item names.
+     */
+    NAME(Comparator.comparing(Item::getName)),
+
+    /**
+     * From the rarest item to the most common one, then by name.
+     */
+    RARITY(Comparator.<Item>comparingInt(i -> i.getRarity().getBaseWeight()).thenComparing(Item::getName));
+
+    private final Comparator<Item> comparator;
+
+    InventoryOrder(final Comparator<Item> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Return the comparator that defines the order.
+     * 
+     * @return the comparator of the order.
+     */
+    public Comparator<Item> getComparator() {
+        return comparator;
+    }
+}
@@ -34,4 +34,13 @@ public interface StatValues {
      */
     int getMax();
 
+    /**
+     * Getter for the number of updates of the values. It changes every time the
+     * values are updated, so it allows to know whether they changed since it was
+     * last read.
+     * 
+     * @return the number of updates.
+     */
+    int getModificationCount();
+
 }
@@ -7,6 +7,7 @@ public final class StatValuesImpl implements StatValues {
 
     private int actual;
     private int max;
+    private int modificationCount;
     /**
      * Value used to not set the maximum field.
      */
@@ -29,6 +30,7 @@ public final class StatValuesImpl implements StatValues {
 
     @Override
     public void updateActual(final int value) {
+        modificationCount++;
         if (actual + value <= 0) {
             actual = 0;
         } else {
@@ -42,6 +44,7 @@ public final class StatValuesImpl implements StatValues {
 
     @Override
     public void updateMax(final int value) {
+        modificationCount++;
         if (max != NO_MAX) {
             final int oldMax = max;
             max = max + value;
@@ -59,6 +62,11 @@ public final class StatValuesImpl implements StatValues {
         return max;
     }
 
+    @Override
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
         if (max == NO_MAX) {
@@ -0,0 +1,90 @@
+package thedd.model.character.types;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import thedd.model.catalog.EnemyDefinition;
+import thedd.model.character.BasicCharacterImpl;
+import thedd.model.character.statistics.Statistic;
+
+/**
+ * Extension of {@link thedd.model.character.BasicCharacterImpl} for the enemies
+ * defined by a {@link thedd.model.catalog.GameCatalog}.
+ * <p>
+ * The enemy keeps a reference to its shared definition: its actions are copies
+ * of the definition's prototypes and its permanent modifiers are the
+ * definition's own instances.
+ */
+public class CatalogEnemy extends BasicCharacterImpl {
+
+    private final EnemyDefinition definition;
+
+    /**
+     * CatalogEnemy's constructor.
+     *
+     * @param definition the definition of the enemy
+     */
+    public CatalogEnemy(final EnemyDefinition definition) {
+        this(definition, Objects.requireNonNull(definition).rollValues());
+    }
+
+    /**
+     * CatalogEnemy's constructor whose statistics are drawn with the given
+     * generator.
+     *
+     * @param definition the definition of the enemy
+     * @param random     the generator the statistics are drawn with
+     */
+    public CatalogEnemy(final EnemyDefinition definition, final Random random) {
+        this(definition, Objects.requireNonNull(definition).rollValues(random));
+    }
+
+    private CatalogEnemy(final EnemyDefinition definition, final Map<Statistic, Integer> values) {
+        super(definition.getName(), false, values);
+        this.definition = definition;
+        definition.getActions().forEach(a -> addWeightedAction(a.getLeft(), a.getRight()));
+        definition.getActionModifiers().forEach(m -> addActionModifier(m, true));
+        definition.getEffectModifiers().forEach(m -> addEffectModifier(m, true));
+    }
+
+    /**
+     *
+     * @return the definition of the enemy
+     */
+    public EnemyDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHealthPointBaseValue() {
+        return definition.rollValue(Statistic.HEALTH_POINT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getAgilityStatBaseValue() {
+        return definition.rollValue(Statistic.AGILITY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getConstitutionStatBaseValue() {
+        return definition.rollValue(Statistic.CONSTITUTION);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStrengthStatBaseValue() {
+        return definition.rollValue(Statistic.STRENGTH);
+    }
+}
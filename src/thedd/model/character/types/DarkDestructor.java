@@ -1,9 +1,14 @@
 package thedd.model.character.types;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
 import org.apache.commons.lang3.RandomUtils;
 import thedd.model.character.BasicCharacterImpl;
+import thedd.model.character.statistics.Statistic;
 import thedd.model.combat.action.Action;
 import thedd.model.combat.action.TargetType;
 import thedd.model.combat.action.effect.ActionEffect;
@@ -46,6 +51,27 @@ public class DarkDestructor extends BasicCharacterImpl {
         setPermanentModifiers();
     }
 
+    /**
+     * DarkDestructor's constructor whose statistics are drawn with the given
+     * generator.
+     * 
+     * @param random the generator the statistics are drawn with
+     */
+    public DarkDestructor(final Random random) {
+        super(DEFAULT_NAME, false, rollValues(random));
+        setPermanentModifiers();
+    }
+
+    private static Map<Statistic, Integer> rollValues(final Random random) {
+        Objects.requireNonNull(random);
+        final Map<Statistic, Integer> values = new EnumMap<>(Statistic.class);
+        values.put(Statistic.HEALTH_POINT, random.nextInt(VARIATION_HEALTH + 1) + BASE_HEALTH);
+        values.put(Statistic.AGILITY, random.nextInt(VARIATION_AGILITY + 1) + BASE_AGILITY);
+        values.put(Statistic.CONSTITUTION, random.nextInt(VARIATION_CONSTITUTION + 1) + BASE_CONSTITUTION);
+        values.put(Statistic.STRENGTH, random.nextInt(VARIATION_STRENGTH + 1) + BASE_STRENGTH);
+        return values;
+    }
+
     private void setPermanentModifiers() {
         final ModifierActivation defensive = ModifierActivation.ACTIVE_ON_DEFENCE;
         final List<Tag> requiredTags = new ArrayList<Tag>();
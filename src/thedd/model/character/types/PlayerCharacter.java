@@ -1,10 +1,15 @@
 package thedd.model.character.types;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 
 import org.apache.commons.lang3.RandomUtils;
 
 import thedd.model.character.BasicCharacterImpl;
+import thedd.model.character.statistics.Statistic;
 import thedd.model.combat.action.TargetType;
 import thedd.model.combat.action.implementations.ActiveDefence;
 import thedd.model.combat.action.implementations.DivineIntervention;
@@ -42,6 +47,23 @@ public class PlayerCharacter extends BasicCharacterImpl {
      */
     public PlayerCharacter(final Optional<String> name) {
         super((name.isPresent() && !name.get().equals("")) ? name.get() : DEFAULT_NAME, true);
+        initPlayer();
+    }
+
+    /**
+     * PlayerCharacter's constructor whose statistics are drawn with the given
+     * generator.
+     * 
+     * @param name   the string name of the player character. If this value is
+     *               Optional.empty then a default name value will be added.
+     * @param random the generator the statistics are drawn with
+     */
+    public PlayerCharacter(final Optional<String> name, final Random random) {
+        super((name.isPresent() && !name.get().equals("")) ? name.get() : DEFAULT_NAME, true, rollValues(random));
+        initPlayer();
+    }
+
+    private void initPlayer() {
         initInventory();
         addActionToAvailable(new LightAttack(TargetType.EVERYONE));
         addActionToAvailable(new HeavyAttack(TargetType.EVERYONE));
@@ -49,6 +71,16 @@ public class PlayerCharacter extends BasicCharacterImpl {
         addActionToAvailable(new DivineIntervention(TargetType.EVERYONE));
     }
 
+    private static Map<Statistic, Integer> rollValues(final Random random) {
+        Objects.requireNonNull(random);
+        final Map<Statistic, Integer> values = new EnumMap<>(Statistic.class);
+        values.put(Statistic.HEALTH_POINT, random.nextInt(VARIATION_HEALTH + 1) + BASE_HEALTH);
+        values.put(Statistic.AGILITY, random.nextInt(VARIATION_AGILITY + 1) + BASE_AGILITY);
+        values.put(Statistic.CONSTITUTION, random.nextInt(VARIATION_CONSTITUTION + 1) + BASE_CONSTITUTION);
+        values.put(Statistic.STRENGTH, random.nextInt(VARIATION_STRENGTH + 1) + BASE_STRENGTH);
+        return values;
+    }
+
     private void initInventory() {
         this.getInventory().addItem(UsableItemPotion.getNewInstance(ItemRarityImpl.COMMON));
         this.getInventory().addItem(EquipableItemSword.getNewInstance(ItemRarityImpl.COMMON));
@@ -1,6 +1,7 @@
 package thedd.model.combat.action;
 
 import java.util.List;
+import java.util.Random;
 
 import thedd.model.combat.action.effect.ActionEffect;
 import thedd.model.combat.action.executionpolicies.ExecutionPolicy;
@@ -107,6 +108,14 @@ public interface Action extends Modifiable, Taggable, SourceHolder, TargetHolder
      */
     void rollToHit(ActionActor target);
 
+    /**
+     * Makes a roll with the given generator to determine whether the provided
+     * target is hit or not by the action, as {@link #rollToHit(ActionActor)} does.
+     * @param target the target to hit
+     * @param random the generator the roll is drawn with
+     */
+    void rollToHit(ActionActor target, Random random);
+
     /**
      * Returns the list of valid targets for this action.
      * @param instance the instance in which this action is executed
@@ -147,7 +156,9 @@ public interface Action extends Modifiable, Taggable, SourceHolder, TargetHolder
     Action getCopy();
 
     /**
-     * Gets a preview of the effects of this action.
+     * Gets a preview of the effects of this action.<br>
+     * The preview is rendered again only when the action, its source or the
+     * target changed since it was last requested.
      * @param target the candidate target of this action
      * @return a preview of the effects of the action
      */
@@ -2,6 +2,7 @@ package thedd.model.combat.action;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 
 import thedd.model.combat.action.effect.ActionEffect;
@@ -139,6 +140,14 @@ public class ActionDecorator implements Action {
         action.rollToHit(target);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollToHit(final ActionActor target, final Random random) {
+        action.rollToHit(target, random);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -41,6 +41,8 @@ public class ActionImpl implements Action {
     private final ActionTargeting targeting;
     private final ExecutionPolicy effectPolicy;
     private final List<Requirement<Action>> requirements = new ArrayList<>();
+    private final PreviewCache previews = new PreviewCache();
+    private Optional<Set<Tag>> allTags = Optional.empty();
 
     /**
      * Public constructor.
@@ -130,6 +132,7 @@ public class ActionImpl implements Action {
     public void setSource(final ActionActor source) {
         this.source = Optional.of(source);
         effects.forEach(e -> e.setSource(source));
+        previews.invalidate();
     }
 
     /**
@@ -149,6 +152,7 @@ public class ActionImpl implements Action {
     public void addEffect(final ActionEffect effect) {
         effects.add(Objects.requireNonNull(effect));
         source.ifPresent(s -> effects.forEach(e -> e.setSource(s)));
+        previews.invalidate();
     }
 
     /**
@@ -177,13 +181,16 @@ public class ActionImpl implements Action {
      */
     @Override
     public String getEffectsPreview(final ActionActor target) {
-        this.applyModifiers(target);
-        final StringBuilder sb = new StringBuilder();
-        effects.stream().forEach((e) -> {
-            sb.append(e.getPreviewMessage());
-            sb.append('\n');
+        currentTarget = Optional.ofNullable(target);
+        return previews.get(source, currentTarget, () -> {
+            this.applyModifiers(target);
+            final StringBuilder sb = new StringBuilder();
+            effects.stream().forEach((e) -> {
+                sb.append(e.getPreviewMessage());
+                sb.append('\n');
+            });
+            return sb.toString();
         });
-        return sb.toString();
     }
 
     /**
@@ -298,11 +305,18 @@ public class ActionImpl implements Action {
      */
     @Override
     public void rollToHit(final ActionActor target) {
+        rollToHit(target, new Random());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollToHit(final ActionActor target, final Random random) {
         if (target == null) {
             targetHit = false;
         } else {
-            final Random dice = new Random();
-            targetHit = dice.nextDouble() < getHitChance(target);
+            targetHit = random.nextDouble() < getHitChance(target);
         }
     }
 
@@ -353,8 +367,11 @@ public class ActionImpl implements Action {
      */
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(Stream.concat(tags.stream(), permanentTags.stream())
-                .collect(Collectors.toSet()));
+        if (!allTags.isPresent()) {
+            allTags = Optional.of(Collections.unmodifiableSet(Stream.concat(tags.stream(), permanentTags.stream())
+                    .collect(Collectors.toSet())));
+        }
+        return allTags.get();
     }
 
     /**
@@ -367,6 +384,7 @@ public class ActionImpl implements Action {
         } else {
             this.tags.addAll(tags.stream().filter(permanentTags::contains).collect(Collectors.toSet()));
         }
+        tagsChanged();
     }
 
     /**
@@ -379,6 +397,7 @@ public class ActionImpl implements Action {
         } else if (!permanentTags.contains(tag)) {
             tags.add(tag);
         }
+        tagsChanged();
     }
 
     /**
@@ -386,6 +405,7 @@ public class ActionImpl implements Action {
      */
     @Override
     public boolean removeTag(final Tag tag) {
+        tagsChanged();
         return tags.remove(tag);
     }
 
@@ -439,6 +459,15 @@ public class ActionImpl implements Action {
         requirements.add(Objects.requireNonNull(requirement));
     }
 
+    /*
+     * Drops everything computed from the tags: they are read on every
+     * requirement check, so their union is built once per change.
+     */
+    private void tagsChanged() {
+        allTags = Optional.empty();
+        previews.invalidate();
+    }
+
     private void applyModifiers(final ActionActor target) {
         currentTarget =  Optional.ofNullable(target);
         if (source.isPresent()) {
@@ -0,0 +1,85 @@
+package thedd.model.combat.action;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.statistics.StatValues;
+import thedd.model.combat.actor.ActionActor;
+
+/**
+ * A cache of the text previewing the effects of an action or a status.<br>
+ * Previews depend on the modifiers, statuses and statistics of the source and
+ * the target, so every text is kept with their versions and rendered again
+ * only when one of them changed. The owner of the cache must invalidate it when
+ * its own state, as its effects or tags, changes.
+ */
+public final class PreviewCache {
+
+    private static final int MAX_TARGETS = 8;
+
+    //The null key holds the preview without target
+    private final Map<ActionActor, Preview> previews = new IdentityHashMap<>();
+
+    /**
+     * Gets the preview for the source and the target, rendering it if it isn't
+     * cached or if the source or the target changed since it was rendered.
+     * @param source the source of the previewed action, if any
+     * @param target the target of the previewed action, if any
+     * @param renderer the function rendering the preview
+     * @return the preview
+     */
+    public String get(final Optional<ActionActor> source, final Optional<ActionActor> target,
+                      final Supplier<String> renderer) {
+        Objects.requireNonNull(renderer);
+        final long sourceVersion = source.map(PreviewCache::getVersion).orElse(0L);
+        final long targetVersion = target.map(PreviewCache::getVersion).orElse(0L);
+        final ActionActor key = target.orElse(null);
+        final Preview cached = previews.get(key);
+        if (cached != null && cached.sourceVersion == sourceVersion && cached.targetVersion == targetVersion) {
+            return cached.text;
+        }
+        final String text = renderer.get();
+        if (cached == null && previews.size() >= MAX_TARGETS) {
+            previews.clear();
+        }
+        previews.put(key, new Preview(sourceVersion, targetVersion, text));
+        return text;
+    }
+
+    /**
+     * Removes all the cached previews.
+     */
+    public void invalidate() {
+        previews.clear();
+    }
+
+    /**
+     * Gets a number which changes every time the modifiers, the statuses or the
+     * statistics of the actor change.
+     * @param actor the actor
+     * @return the version of the actor
+     */
+    public static long getVersion(final ActionActor actor) {
+        final long statistics = actor instanceof BasicCharacter
+                ? ((BasicCharacter) actor).getAllStat().values().stream().mapToLong(StatValues::getModificationCount).sum()
+                : 0;
+        return ((long) actor.getModificationCount() << Integer.SIZE) + statistics;
+    }
+
+    private static final class Preview {
+
+        private final long sourceVersion;
+        private final long targetVersion;
+        private final String text;
+
+        Preview(final long sourceVersion, final long targetVersion, final String text) {
+            this.sourceVersion = sourceVersion;
+            this.targetVersion = targetVersion;
+            this.text = text;
+        }
+    }
+}
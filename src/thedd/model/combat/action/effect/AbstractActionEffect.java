@@ -69,7 +69,7 @@ public abstract class AbstractActionEffect implements ActionEffect {
     }
 
     @Override
-    public final void updateEffectByTarget(final ActionActor target) {
+    public void updateEffectByTarget(final ActionActor target) {
         target.getEffectModifiers().stream()
                                     .filter(m -> m.getModifierActivation() == ModifierActivation.ACTIVE_ON_DEFENCE)
                                     .filter(m -> m.accept(this))
@@ -77,7 +77,7 @@ public abstract class AbstractActionEffect implements ActionEffect {
     }
 
     @Override
-    public final void updateEffectBySource(final ActionActor source) {
+    public void updateEffectBySource(final ActionActor source) {
         source.getEffectModifiers().stream()
                                     .filter(m -> m.getModifierActivation() == ModifierActivation.ACTIVE_ON_ATTACK)
                                     .filter(m -> m.accept(this))
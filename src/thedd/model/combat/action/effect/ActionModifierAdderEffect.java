@@ -34,6 +34,15 @@ public final class ActionModifierAdderEffect extends AbstractActionEffect implem
         target = Optional.empty();
     }
 
+    /**
+     * Return the modifier added to the target.
+     * 
+     * @return the modifier
+     */
+    public Modifier<Action> getModifier() {
+        return modifier;
+    }
+
     @Override
     public String getDescription() {
         return modifier.toString();
@@ -0,0 +1,56 @@
+package thedd.model.combat.action.effect;
+
+/**
+ * The damage of a {@link DamageEffect} being computed from the modifiers of
+ * its source and target.<br>
+ * Every thread reuses a single computation, so computing damage never
+ * allocates and never changes the effect: a computation is valid only until
+ * the next one is started by the same thread.
+ */
+public final class DamageComputation {
+
+    private static final ThreadLocal<DamageComputation> CURRENT = ThreadLocal.withInitial(DamageComputation::new);
+
+    private int baseDamage;
+    private int damage;
+
+    private DamageComputation() {
+    }
+
+    /**
+     * Starts a new computation for the current thread.
+     * @param baseDamage the base damage of the effect
+     * @param damage the damage of the effect before the modifiers of the actors
+     * @return the computation of the current thread
+     */
+    static DamageComputation start(final int baseDamage, final int damage) {
+        final DamageComputation computation = CURRENT.get();
+        computation.baseDamage = baseDamage;
+        computation.damage = damage;
+        return computation;
+    }
+
+    /**
+     * Gets the base damage of the effect.
+     * @return the base damage
+     */
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+
+    /**
+     * Gets the damage computed so far.
+     * @return the current damage
+     */
+    public int getDamage() {
+        return damage;
+    }
+
+    /**
+     * Adds a value to the damage computed so far.
+     * @param value the amount to sum to the current damage
+     */
+    public void addToDamage(final double value) {
+        damage += value;
+    }
+}
@@ -1,15 +1,24 @@
 package thedd.model.combat.action.effect;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import thedd.model.character.BasicCharacter;
 import thedd.model.character.statistics.Statistic;
 import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.modifier.DamageComputationModifier;
+import thedd.model.combat.modifier.Modifier;
+import thedd.model.combat.modifier.ModifierActivation;
 
 
 /**
  * An {@link ActionEffect} which deals damage to a Character.
+ * <p>
+ * The damage dealt is computed every time from the modifiers of the source and
+ * the target in a {@link DamageComputation}, so applying, logging or previewing
+ * the effect never changes it and can be done by several threads at once, as
+ * long as the modifiers of the actors don't change meanwhile.
  */
 public class DamageEffect extends AbstractActionEffect {
 
@@ -31,37 +40,64 @@ public class DamageEffect extends AbstractActionEffect {
     @Override
     public final void apply(final ActionActor target) {
         if (target instanceof BasicCharacter) {
-            ((BasicCharacter) target).getStat(Statistic.HEALTH_POINT).updateActual(-damage);
+            ((BasicCharacter) target).getStat(Statistic.HEALTH_POINT).updateActual(-computeDamage(Optional.of(target)));
         }
-        damage = baseDamage;
     }
 
     @Override
     public final String getLogMessage() {
-        getSource().ifPresent(this::updateEffectBySource);
-        getTarget().ifPresent(this::updateEffectByTarget);
-        String result; 
-        if (damage >= 0) {
-            result =  "Dealt " + damage + " HP damage ";
+        final int dealt = computeDamage(getTarget());
+        final String result; 
+        if (dealt >= 0) {
+            result =  "Dealt " + dealt + " HP damage ";
         } else {
-            result =  "Healed " + -damage + " HP due to modifiers";
+            result =  "Healed " + -dealt + " HP due to modifiers";
         }
-
-        damage = baseDamage;
         return appendTags(result);
     }
 
     @Override
     public final String getPreviewMessage() {
-        getSource().ifPresent(this::updateEffectBySource);
-        getTarget().ifPresent(this::updateEffectByTarget);
-        final String result =  "Deals " + damage + " HP damage ";
-        damage = baseDamage;
-        return appendTags(result);
+        return appendTags("Deals " + computeDamage(getTarget()) + " HP damage ");
+    }
+
+    /**
+     * Does nothing: the modifiers of the source are applied every time the
+     * damage is computed.
+     */
+    @Override
+    public final void updateEffectBySource(final ActionActor source) {
+    }
+
+    /**
+     * Does nothing: the modifiers of the target are applied every time the
+     * damage is computed.
+     */
+    @Override
+    public final void updateEffectByTarget(final ActionActor target) {
+    }
+
+    /**
+     * Computes the damage dealt to the target, applying the modifiers of the
+     * source and of the target to the damage of the effect.
+     * @param target the target of the effect, if any
+     * @return the damage dealt
+     */
+    public int computeDamage(final Optional<ActionActor> target) {
+        final DamageComputation computation = DamageComputation.start(baseDamage, damage);
+        if (getSource().isPresent()) {
+            modify(computation, getSource().get(), ModifierActivation.ACTIVE_ON_ATTACK);
+        }
+        if (target.isPresent()) {
+            modify(computation, target.get(), ModifierActivation.ACTIVE_ON_DEFENCE);
+        }
+        return computation.getDamage();
     }
 
     /**
-     * Adds a value to the damage that is going to be dealt.
+     * Adds a value to the damage of the effect itself, before the modifiers of
+     * the actors. Meant for building actions, as the modifiers applied when
+     * retrieving them do.
      * @param damage the amount to sum to the current damage
      */
     public void addToDamage(final double damage) {
@@ -77,7 +113,7 @@ public class DamageEffect extends AbstractActionEffect {
     }
 
     /**
-     * Gets the current damage value.
+     * Gets the damage of the effect, before the modifiers of the actors.
      * @return the current damage
      */
     public double getDamage() {
@@ -125,6 +161,16 @@ public class DamageEffect extends AbstractActionEffect {
         return copy;
     }
 
+    private void modify(final DamageComputation computation, final ActionActor actor,
+                        final ModifierActivation activation) {
+        for (final Modifier<ActionEffect> modifier : actor.getEffectModifiers()) {
+            if (modifier.getModifierActivation() == activation && modifier instanceof DamageComputationModifier
+                    && modifier.accept(this)) {
+                ((DamageComputationModifier) modifier).modify(computation);
+            }
+        }
+    }
+
     private String appendTags(final String original) {
         if (getTags().stream().filter(t -> !t.isHidden()).count() <= 0) {
             return original;
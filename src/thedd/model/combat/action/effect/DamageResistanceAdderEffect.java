@@ -67,6 +67,33 @@ public final class DamageResistanceAdderEffect extends AbstractActionEffect impl
         this.target.get().addEffectModifier(modifier, isPermanent);
     }
 
+    /**
+     * Return the tag of the damage resisted.
+     * 
+     * @return the resisted tag
+     */
+    public EffectTag getResistedTag() {
+        return resistanceTag;
+    }
+
+    /**
+     * Return the amount of resistance provided.
+     * 
+     * @return the value of the resistance
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Return whether the resistance is a percentage.
+     * 
+     * @return true if the value is a percentage
+     */
+    public boolean isPercentage() {
+        return isPercentage;
+    }
+
     @Override
     public String getLogMessage() {
         return "Added additional resistance up to " + value + (isPercentage ? "% to " : " to ") + resistanceTag.getLiteral();
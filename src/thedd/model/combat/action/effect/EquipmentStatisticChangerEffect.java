@@ -66,6 +66,24 @@ public final class EquipmentStatisticChangerEffect extends AbstractActionEffect
         }
     }
 
+    /**
+     * Return the statistic changed by this effect.
+     * 
+     * @return the target statistic
+     */
+    public Statistic getStatistic() {
+        return targetStat;
+    }
+
+    /**
+     * Return the value added to the statistic.
+     * 
+     * @return the value of the effect
+     */
+    public int getValue() {
+        return effectValue;
+    }
+
     @Override
     public String getLogMessage() {
         return (effectValue > 0 ? "Added " : "Subtracted") + effectValue 
@@ -1,6 +1,8 @@
 package thedd.model.combat.action.effect;
 
 import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 
 import thedd.model.character.BasicCharacter;
 import thedd.model.combat.actor.ActionActor;
@@ -15,26 +17,42 @@ import thedd.model.item.ItemFactory;
 public final class ItemGiverEffect extends AbstractActionEffect {
     //If a luck-like statistic is implemented,
     //then the item can change based on that value with method updateEffectByTarget
-    private final Item itemGiven;
+    //The item is rolled only when first needed and it is shared with every copy of the effect
+    private final AtomicReference<Item> itemGiven;
+    private final Random random;
 
     /**
-     * Create a new effect which gives a random item to the target. 
+     * Create a new effect which gives a random item to the target.
+     * The item is extracted the first time the effect is applied.
      */
     public ItemGiverEffect() {
-        super();
-        itemGiven = Objects.requireNonNull(ItemFactory.getRandomItem());
+        this(new Random());
+    }
+
+    /**
+     * Create a new effect which gives a random item to the target.
+     * The item is extracted with the given generator the first time the effect is applied.
+     * @param random
+     *          the generator the item is extracted with
+     */
+    public ItemGiverEffect(final Random random) {
+        this(new AtomicReference<>(), random);
     }
 
-    private ItemGiverEffect(final Item itemGiven) {
+    private ItemGiverEffect(final AtomicReference<Item> itemGiven, final Random random) {
         super();
         this.itemGiven = Objects.requireNonNull(itemGiven);
+        this.random = Objects.requireNonNull(random);
     }
 
+    private Item getItemGiven() {
+        return itemGiven.updateAndGet(i -> i == null ? ItemFactory.generateItems(1, random).get(0) : i);
+    }
 
     @Override
     public void apply(final ActionActor target) {
         if (target instanceof BasicCharacter) {
-            ((BasicCharacter) target).getInventory().addItem(itemGiven);
+            ((BasicCharacter) target).getInventory().addItem(getItemGiven());
         } else {
             throw new IllegalArgumentException("This effect can be applied only to ActionActor of type Character");
         }
@@ -42,7 +60,7 @@ public final class ItemGiverEffect extends AbstractActionEffect {
 
     @Override
     public String getLogMessage() {
-        return "Found " + itemGiven.getName() + ".";
+        return "Found " + getItemGiven().getName() + ".";
     }
 
     @Override
@@ -57,7 +75,7 @@ public final class ItemGiverEffect extends AbstractActionEffect {
 
     @Override
     public ActionEffect getSpecializedCopy() {
-        return new ItemGiverEffect(itemGiven);
+        return new ItemGiverEffect(itemGiven, random);
     }
 
 }
@@ -2,6 +2,7 @@ package thedd.model.combat.actionexecutor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 import thedd.model.combat.action.result.ActionResult;
 import thedd.model.combat.actor.ActionActor;
@@ -101,4 +102,11 @@ public interface ActionExecutor {
      */
     Optional<ActionResult> getLastActionResult();
 
+    /**
+     * Gets the generator every roll of this executor is drawn with, so that
+     * the moves selected on its behalf are drawn with it as well.
+     * @return the random generator of the executor
+     */
+    Random getRandom();
+
 }
@@ -4,7 +4,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -45,6 +47,7 @@ public class DefaultCombatActionExecutor implements ActionExecutor {
     private final List<Action> actionsQueue = new LinkedList<>(); //A queue of actions that will be executed before the current actor's one
     private final List<ActionActor> actorsQueue = new LinkedList<>();
     private boolean roundEndStatusUpdated;
+    private final Random random;
     private final Comparator<ActionActor> actorsSortingOrder = new Comparator<ActionActor>() {
         @Override
         public int compare(final ActionActor a, final ActionActor b) {
@@ -89,6 +92,18 @@ public class DefaultCombatActionExecutor implements ActionExecutor {
      * @param partyMembers the List of Actors to placed in the player's party
      */
     public DefaultCombatActionExecutor(final Set<ActionActor> hostileNPCs, final Set<ActionActor> partyMembers) {
+        this(hostileNPCs, partyMembers, new Random());
+    }
+
+    /**
+     * Public constructor.
+     * @param hostileNPCs the List of Actors to placed in the party opposed to player's
+     * @param partyMembers the List of Actors to placed in the player's party
+     * @param random the generator every roll to hit and every move of the NPCs is drawn with
+     */
+    public DefaultCombatActionExecutor(final Set<ActionActor> hostileNPCs, final Set<ActionActor> partyMembers,
+                                       final Random random) {
+        this.random = Objects.requireNonNull(random);
         combatInstance.addNPCsPartyMembers(hostileNPCs);
         combatInstance.addPlayerPartyMembers(partyMembers);
     }
@@ -161,15 +176,9 @@ public class DefaultCombatActionExecutor implements ActionExecutor {
             }
             for (int i = 0; i < targets.size() && !interrupted; i++) {
                 final ActionActor target = targets.get(i);
-                action.rollToHit(target);
-                if (action.isTargetHit()) {
-                    result.addResult(target, ActionResultType.HIT);
-                } else if (canTargetParry(target)) {
-                    result.addResult(target, ActionResultType.PARRIED);
-                    interrupted = true;
-                } else {
-                    result.addResult(target, ActionResultType.MISSED);
-                }
+                final ActionResultType resultType = resolveTarget(action, target);
+                result.addResult(target, resultType);
+                interrupted = resultType == ActionResultType.PARRIED;
             }
             currentActionResult = Optional.of(result);
         } else {
@@ -360,10 +369,32 @@ public class DefaultCombatActionExecutor implements ActionExecutor {
      * @param actor the actor that will prepare its next move
      */
     protected void setNextAIMove(final AutomaticActionActor actor) {
-        actor.selectNextMove(combatInstance.getCopy());
+        actor.selectNextMove(combatInstance.getCopy(), random);
         addActorToQueue(actor);
     }
 
+    /**
+     * Determines whether the action hit, missed or was parried by one of its targets.
+     * @param action the action being evaluated
+     * @param target the target to be tested
+     * @return the result of the action against the target
+     */
+    protected ActionResultType resolveTarget(final Action action, final ActionActor target) {
+        action.rollToHit(target, random);
+        if (action.isTargetHit()) {
+            return ActionResultType.HIT;
+        }
+        return canTargetParry(target) ? ActionResultType.PARRIED : ActionResultType.MISSED;
+    }
+
+    /**
+     * Gets the assigned {@link ActionExecutionInstance} itself, rather than a copy.
+     * @return the current combat instance
+     */
+    protected ActionExecutionInstance getCombatInstance() {
+        return combatInstance;
+    }
+
     /**
      * Determines whether a target actor can actively block the 
      * current action.
@@ -501,4 +532,12 @@ public class DefaultCombatActionExecutor implements ActionExecutor {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
 }
@@ -3,7 +3,9 @@ package thedd.model.combat.actionexecutor;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 
 import thedd.model.character.BasicCharacter;
 import thedd.model.combat.action.Action;
@@ -31,12 +33,22 @@ public class OutOfCombatActionExecutor implements ActionExecutor {
     private final List<Status> statusQueue = new ArrayList<>();
     private Iterator<Status> iterator;
     private boolean roundStarted;
+    private final Random random;
 
     /**
      * @param action the action to be executed
      */
     public OutOfCombatActionExecutor(final Action action) {
+        this(action, new Random());
+    }
+
+    /**
+     * @param action the action to be executed
+     * @param random the generator the rolls to hit are drawn with
+     */
+    public OutOfCombatActionExecutor(final Action action, final Random random) {
         this.action = Optional.of(action);
+        this.random = Objects.requireNonNull(random);
     }
 
     /**
@@ -113,7 +125,7 @@ public class OutOfCombatActionExecutor implements ActionExecutor {
             final ActionResult result = new ActionResultImpl(a.getCopy());
             final List<ActionActor> targets = a.getTargets();
             targets.forEach(target -> {
-                a.rollToHit(target);
+                a.rollToHit(target, random);
                 if (a.isTargetHit()) {
                     result.addResult(target, ActionResultType.HIT);
                 } else {
@@ -213,4 +225,12 @@ public class OutOfCombatActionExecutor implements ActionExecutor {
                             });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
 }
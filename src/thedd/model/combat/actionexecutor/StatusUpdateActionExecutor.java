@@ -3,7 +3,9 @@ package thedd.model.combat.actionexecutor;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 
 import thedd.model.character.BasicCharacter;
 import thedd.model.combat.action.Action;
@@ -31,6 +33,22 @@ public class StatusUpdateActionExecutor implements ActionExecutor {
     private Optional<Action> currentAction = Optional.empty();
     private Optional<ActionResult> currentActionResult = Optional.empty();
     private Iterator<Status> iterator;
+    private final Random random;
+
+    /**
+     * Public constructor.
+     */
+    public StatusUpdateActionExecutor() {
+        this(new Random());
+    }
+
+    /**
+     * Public constructor.
+     * @param random the generator the rolls to hit are drawn with
+     */
+    public StatusUpdateActionExecutor(final Random random) {
+        this.random = Objects.requireNonNull(random);
+    }
 
     /**
      * {@inheritDoc}
@@ -107,7 +125,7 @@ public class StatusUpdateActionExecutor implements ActionExecutor {
             final ActionResult result = new ActionResultImpl(action.getCopy());
             final List<ActionActor> targets = action.getTargets();
             targets.forEach(target -> {
-                action.rollToHit(target);
+                action.rollToHit(target, random);
                 if (action.isTargetHit()) {
                     result.addResult(target, ActionResultType.HIT);
                 } else {
@@ -200,4 +218,12 @@ public class StatusUpdateActionExecutor implements ActionExecutor {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random getRandom() {
+        return random;
+    }
+
 }
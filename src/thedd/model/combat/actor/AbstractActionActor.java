@@ -1,7 +1,6 @@
 package thedd.model.combat.actor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -15,6 +14,7 @@ import thedd.model.combat.action.Action;
 import thedd.model.combat.action.effect.ActionEffect;
 import thedd.model.combat.modifier.Modifier;
 import thedd.model.combat.modifier.ModifierActivation;
+import thedd.model.combat.requirements.Requirement;
 import thedd.model.combat.requirements.tags.TagRequirement;
 import thedd.model.combat.requirements.tags.TagRequirementType;
 import thedd.model.combat.status.Status;
@@ -27,6 +27,15 @@ import thedd.model.combat.tag.Tag;
  */
 public abstract class AbstractActionActor implements ActionActor {
 
+    /*
+     * Modifiers are shared by every actor equipping the same item, so they get
+     * these requirements once instead of a new copy on every addition.
+     */
+    private static final Requirement<Action> UNLESS_ACTION_IGNORES = new TagRequirement<>(false,
+            TagRequirementType.UNALLOWED, ActionTag.IGNORES_MODIFIERS);
+    private static final Requirement<ActionEffect> UNLESS_EFFECT_IGNORES = new TagRequirement<>(false,
+            TagRequirementType.UNALLOWED, EffectTag.IGNORES_MODIFIERS);
+
     private final List<ImmutablePair<Modifier<Action>, Boolean>> actionModifiers = new ArrayList<>();
     private final List<ImmutablePair<Modifier<ActionEffect>, Boolean>> effectModifiers = new ArrayList<>();
     private final List<Status> statuses = new ArrayList<>();
@@ -39,6 +48,13 @@ public abstract class AbstractActionActor implements ActionActor {
     private boolean inCombat;
     private Optional<Action> selectedAction = Optional.empty();
     private Optional<Integer> turnInitiative = Optional.empty();
+    private int modificationCount;
+    private int actionsVersion;
+    private int catalogVersion;
+    private Optional<List<Action>> catalog = Optional.empty();
+    private int modifiersVersion = -1;
+    private Set<Modifier<Action>> actionModifierView = Collections.emptySet();
+    private Set<Modifier<ActionEffect>> effectModifierView = Collections.emptySet();
 
     @Override
     public abstract int getPriority();
@@ -121,6 +137,18 @@ public abstract class AbstractActionActor implements ActionActor {
         return actions;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Action> getActionCatalog() {
+        if (!catalog.isPresent() || catalogVersion != actionsVersion) {
+            catalog = Optional.of(Collections.unmodifiableList(getAvailableActionsList()));
+            catalogVersion = actionsVersion;
+        }
+        return catalog.get();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -145,6 +173,7 @@ public abstract class AbstractActionActor implements ActionActor {
         final Action copy = action.getCopy();
         copy.setSource(this);
         availableActions.add(copy);
+        actionsVersion++;
     }
 
     /**
@@ -152,7 +181,11 @@ public abstract class AbstractActionActor implements ActionActor {
      */
     @Override
     public boolean removeActionFromAvailable(final Action action) {
-        return availableActions.remove(action);
+        final boolean removed = availableActions.remove(action);
+        if (removed) {
+            actionsVersion++;
+        }
+        return removed;
     }
 
     /**
@@ -202,8 +235,11 @@ public abstract class AbstractActionActor implements ActionActor {
     @Override
     public void addActionModifier(final Modifier<Action> modifier, final boolean isPermanent) {
         actionModifiers.add(new ImmutablePair<>(modifier, isPermanent));
-        modifier.addRequirement(new TagRequirement<Action>(false,
-                TagRequirementType.UNALLOWED, Arrays.asList(ActionTag.IGNORES_MODIFIERS)));
+        modificationCount++;
+        actionsVersion++;
+        if (!modifier.getRequirements().contains(UNLESS_ACTION_IGNORES)) {
+            modifier.addRequirement(UNLESS_ACTION_IGNORES);
+        }
     }
 
     /**
@@ -212,30 +248,29 @@ public abstract class AbstractActionActor implements ActionActor {
     @Override
     public void addEffectModifier(final Modifier<ActionEffect> modifier, final boolean isPermanent) {
         effectModifiers.add(new ImmutablePair<>(modifier, isPermanent));
-        modifier.addRequirement(new TagRequirement<ActionEffect>(false,
-                TagRequirementType.UNALLOWED, Arrays.asList(EffectTag.IGNORES_MODIFIERS)));
+        modificationCount++;
+        actionsVersion++;
+        if (!modifier.getRequirements().contains(UNLESS_EFFECT_IGNORES)) {
+            modifier.addRequirement(UNLESS_EFFECT_IGNORES);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Set<Modifier<Action>> getActionModifiers() {
-        return Collections.unmodifiableSet(actionModifiers
-                .stream()
-                .map(m -> m.getKey())
-                .collect(Collectors.toSet()));
+    public synchronized Set<Modifier<Action>> getActionModifiers() {
+        updateModifierViews();
+        return actionModifierView;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Set<Modifier<ActionEffect>> getEffectModifiers() {
-        return Collections.unmodifiableSet(effectModifiers
-                .stream()
-                .map(m -> m.getKey())
-                .collect(Collectors.toSet()));
+    public synchronized Set<Modifier<ActionEffect>> getEffectModifiers() {
+        updateModifierViews();
+        return effectModifierView;
     }
 
     /**
@@ -247,7 +282,11 @@ public abstract class AbstractActionActor implements ActionActor {
                                                        .filter(m -> !m.getValue())
                                                        .filter(m -> m.getKey().equals(modifier))
                                                        .findFirst();
-        target.ifPresent(actionModifiers::remove);
+        target.ifPresent(m -> {
+            actionModifiers.remove(m);
+            modificationCount++;
+            actionsVersion++;
+        });
     }
 
     /**
@@ -259,7 +298,11 @@ public abstract class AbstractActionActor implements ActionActor {
                                                        .filter(m -> !m.getValue())
                                                        .filter(m -> m.getKey().equals(modifier))
                                                        .findFirst();
-        target.ifPresent(effectModifiers::remove);
+        target.ifPresent(m -> {
+            effectModifiers.remove(m);
+            modificationCount++;
+            actionsVersion++;
+        });
     }
 
     /**
@@ -277,6 +320,7 @@ public abstract class AbstractActionActor implements ActionActor {
     public void addStatus(final Status status) {
         final Status copy = status.getCopy();
         copy.setAfflictedActor(this);
+        modificationCount++;
         if (statuses.contains(copy)) {
             statuses.stream().filter(copy::equals).findFirst().get().resetCurrentDuration();
         } else {
@@ -291,7 +335,9 @@ public abstract class AbstractActionActor implements ActionActor {
     @Override
     public void removeStatus(final Status status) {
         tags.removeAll(status.getTags());
-        statuses.remove(status);
+        if (statuses.remove(status)) {
+            modificationCount++;
+        }
     }
 
     /**
@@ -358,6 +404,26 @@ public abstract class AbstractActionActor implements ActionActor {
         return Objects.hash(getName());
     }
 
+    /**
+     * The sets of modifiers are built again only when the modifiers change,
+     * since damage and hit chances read them for every effect. It's called
+     * holding the lock of the actor, so that the views read by previews in other
+     * threads are built once and published safely.
+     */
+    private void updateModifierViews() {
+        if (modifiersVersion != actionsVersion) {
+            actionModifierView = Collections.unmodifiableSet(actionModifiers
+                    .stream()
+                    .map(m -> m.getKey())
+                    .collect(Collectors.toSet()));
+            effectModifierView = Collections.unmodifiableSet(effectModifiers
+                    .stream()
+                    .map(m -> m.getKey())
+                    .collect(Collectors.toSet()));
+            modifiersVersion = actionsVersion;
+        }
+    }
+
     /**
      * Updates the action that has to be retrieved and all of its effects.
      * @param action the action to be updated
@@ -418,4 +484,21 @@ public abstract class AbstractActionActor implements ActionActor {
         return turnInitiative;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records a change in the values of the modifiers of the actor, so that what
+     * has been computed from them is computed again.
+     */
+    protected final void modifiersChanged() {
+        modificationCount++;
+        actionsVersion++;
+    }
+
 }
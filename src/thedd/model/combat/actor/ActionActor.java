@@ -92,6 +92,16 @@ public interface ActionActor extends Taggable {
      */
     List<Action> getAvailableActionsList();
 
+    /**
+     * Gets the actors' available actions, modified as the ones returned by
+     * {@link #getAvailableActionsList()}, as a read only list.<br>
+     * The list and its actions are built again only when the available actions
+     * or the modifiers of the actor change, otherwise the same list is returned:
+     * its actions must not be modified, their copies must be used instead.
+     * @return the catalog of the actions
+     */
+    List<Action> getActionCatalog();
+
     /**
      * Returns the actor's priority.
      * @return the actor's priority
@@ -211,4 +221,12 @@ public interface ActionActor extends Taggable {
      */
     Optional<Integer> getTurnInitiative();
 
+    /**
+     * Gets the number of changes of the statuses and modifiers of the actor.<br>
+     * It changes every time a status or a modifier is added or removed, so it
+     * allows to know whether they changed since it was last read.
+     * @return the number of changes
+     */
+    int getModificationCount();
+
 }
@@ -87,24 +87,36 @@ public abstract class AbstractAutomaticActor extends AbstractActionActor impleme
 
     /**
      * Randomly selects one action from a weighted list and assigns a random 
-     * available target.
+     * available target.<br>
+     * The action is drawn from the catalog of the actor and only the selected
+     * one is copied.
      */
     @Override
     public void selectNextMove(final ActionExecutionInstance combatInstance) {
-        final Action nextAction = getRandomSet().getNext();
+        selectNextMove(combatInstance, new Random());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void selectNextMove(final ActionExecutionInstance combatInstance, final Random random) {
+        final RandomSet<Action> catalog = new RandomSetImpl<>();
+        catalog.addAll(getActionCatalog());
+        final Action nextAction = catalog.getNext(random).getCopy();
         final List<ActionActor> availableTargets = nextAction.getValidTargets(combatInstance);
         addActionToQueue(nextAction, true);
-        final ActionActor nextTarget = setRandomTarget(availableTargets);
+        final ActionActor nextTarget = setRandomTarget(availableTargets, random);
         nextAction.setTargets(nextTarget, availableTargets);
     }
 
     /**
      * Sets a random ActionActor as the target of the current Action.
      * @param availableTargets the available targets
+     * @param random the generator the target is drawn with
      * @return the randomly selected actor
      */
-    protected ActionActor setRandomTarget(final List<ActionActor> availableTargets) {
-        final Random random = new Random();
+    protected ActionActor setRandomTarget(final List<ActionActor> availableTargets, final Random random) {
         final int targetIndex = random.nextInt(availableTargets.size());
         return availableTargets.get(targetIndex);
     }
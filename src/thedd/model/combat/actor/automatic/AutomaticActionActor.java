@@ -1,5 +1,7 @@
 package thedd.model.combat.actor.automatic;
 
+import java.util.Random;
+
 import thedd.model.combat.action.Action;
 import thedd.model.combat.actor.ActionActor;
 import thedd.model.combat.instance.ActionExecutionInstance;
@@ -50,4 +52,12 @@ public interface AutomaticActionActor extends ActionActor {
      * @param combatInstance the combat instance containing this actor
      */
     void selectNextMove(ActionExecutionInstance combatInstance);
+
+    /**
+     * Lets the actor decide its' next Action and Target(s), drawing them with
+     * the given generator.
+     * @param combatInstance the combat instance containing this actor
+     * @param random the generator the move is drawn with
+     */
+    void selectNextMove(ActionExecutionInstance combatInstance, Random random);
 }
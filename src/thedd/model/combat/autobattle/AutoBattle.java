@@ -0,0 +1,199 @@
+package thedd.model.combat.autobattle;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.statistics.StatValues;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.effect.HealingEffect;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.actor.automatic.AutomaticActionActor;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.combat.status.Status;
+import thedd.model.item.Item;
+import thedd.model.item.usableitem.UsableItem;
+
+/**
+ * Resolves a whole combat in one call, letting the actors of the party of the
+ * player select their moves as the NPCs do, through
+ * {@link AutomaticActionActor#selectNextMove(ActionExecutionInstance, java.util.Random)},
+ * drawing with the generator of the executor.
+ * <p>
+ * The combat is driven as the controller does during the game, without
+ * showing anything, and what happened is collected in a
+ * {@link BattleSummary}. To stop combats that can't end, the resolution stops
+ * when a round limit is reached, at the start of a round.
+ * <p>
+ * An actor of the party of the player whose health is below a threshold uses
+ * a healing item of its inventory instead of selecting a move, as long as it
+ * has one usable in combat.
+ */
+public final class AutoBattle {
+
+    private static final double HEALING_THRESHOLD = 0.3;
+
+    private final int maxRounds;
+
+    /**
+     * Public constructor.
+     * @param maxRounds the number of rounds after which the resolution stops
+     * @throws IllegalArgumentException if the number of rounds is not positive
+     */
+    public AutoBattle(final int maxRounds) {
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("The number of rounds must be positive");
+        }
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Resolves the combat of an executor, from its current state.
+     * @param executor the started executor of the combat. The actors of the party
+     *                 of the player must be {@link AutomaticActionActor}s
+     * @return the summary of the combat
+     * @throws IllegalStateException if an actor of the party of the player has to
+     *                               select a move but it's not automatic
+     */
+    public BattleSummary resolve(final ActionExecutor executor) {
+        Objects.requireNonNull(executor);
+        final ActionExecutionInstance instance = executor.getExecutionInstance();
+        final List<ActionActor> actors = instance.getAllParties();
+        final Map<Item, Integer> startingItems = countItems(instance.getPlayerParty());
+        final List<String> statusesApplied = new ArrayList<>();
+        final int[] health = new int[actors.size()];
+        final List<List<Status>> statuses = new ArrayList<>(actors.size());
+        int rounds = 0;
+        int actions = 0;
+        int damageDealt = 0;
+        int damageTaken = 0;
+        if (executor.getExecutionStatus() == ExecutionStatus.ROUND_PAUSED || !executor.isRoundReady()) {
+            selectPlayerPartyMoves(executor);
+        }
+        while (!isOver(executor.getExecutionStatus())) {
+            executor.setNextAction();
+            if (executor.evaluateCurrentAction().isPresent()) {
+                statuses.clear();
+                for (int i = 0; i < actors.size(); i++) {
+                    health[i] = getHealth(actors.get(i));
+                    statuses.add(new ArrayList<>(actors.get(i).getStatuses()));
+                }
+                executor.executeCurrentAction();
+                actions++;
+                for (int i = 0; i < actors.size(); i++) {
+                    final ActionActor actor = actors.get(i);
+                    final int lost = Math.max(0, health[i] - getHealth(actor));
+                    if (actor.isInPlayerParty()) {
+                        damageTaken += lost;
+                    } else {
+                        damageDealt += lost;
+                    }
+                    for (final Status status : actor.getStatuses()) {
+                        if (statuses.get(i).stream().noneMatch(s -> s == status)) {
+                            statusesApplied.add(status.getName());
+                        }
+                    }
+                }
+            }
+            executor.updateExecutionStatus();
+            final ExecutionStatus status = executor.getExecutionStatus();
+            if (status == ExecutionStatus.ROUND_ENDED) {
+                rounds++;
+                executor.prepareNextRound();
+                if (rounds >= this.maxRounds) {
+                    break;
+                }
+                selectPlayerPartyMoves(executor);
+            } else if (status == ExecutionStatus.ROUND_PAUSED) {
+                selectPlayerPartyMoves(executor);
+            }
+        }
+        if (isOver(executor.getExecutionStatus())) {
+            rounds++;
+        }
+        return new BattleSummary(executor.getExecutionStatus(), rounds, actions, damageDealt, damageTaken, statusesApplied, getConsumed(startingItems, countItems(instance.getPlayerParty())));
+    }
+
+    /*
+     * Only the actors which can act and whose selected action has been consumed or
+     * parried select a new move, as the player does through the view.
+     */
+    private static void selectPlayerPartyMoves(final ActionExecutor executor) {
+        final ActionExecutionInstance instance = executor.getExecutionInstance();
+        for (final ActionActor actor : instance.getPlayerParty()) {
+            if (executor.canActorAct(actor) && !actor.getSelectedAction().isPresent() && !useHealingItem(executor, actor)) {
+                if (!(actor instanceof AutomaticActionActor)) {
+                    throw new IllegalStateException(actor.getName() + " can't select its moves");
+                }
+                ((AutomaticActionActor) actor).selectNextMove(executor.getExecutionInstance(), executor.getRandom());
+                executor.addActorToQueue(actor);
+            }
+        }
+    }
+
+    /*
+     * The item is removed from the inventory after its action is queued, as the
+     * game core does when the player uses an item.
+     */
+    private static boolean useHealingItem(final ActionExecutor executor, final ActionActor actor) {
+        if (!(actor instanceof BasicCharacter)) {
+            return false;
+        }
+        final BasicCharacter character = (BasicCharacter) actor;
+        final StatValues health = character.getStat(Statistic.HEALTH_POINT);
+        if (health.getActual() >= health.getMax() * HEALING_THRESHOLD) {
+            return false;
+        }
+        final Optional<UsableItem> item = character.getInventory().getUsable().stream()
+                .map(i -> (UsableItem) i)
+                .filter(i -> i.isUsableInCombat()
+                             && i.getAction().getEffects().stream().anyMatch(e -> e instanceof HealingEffect))
+                .findFirst();
+        if (!item.isPresent()) {
+            return false;
+        }
+        final Action action = item.get().getAction();
+        action.setSource(actor);
+        actor.addActionToQueue(action, true);
+        action.setTargets(actor, action.getValidTargets(executor.getExecutionInstance()));
+        executor.addActorToQueue(actor);
+        character.getInventory().removeItem(item.get());
+        return true;
+    }
+
+    private static int getHealth(final ActionActor actor) {
+        return actor instanceof BasicCharacter ? ((BasicCharacter) actor).getStat(Statistic.HEALTH_POINT).getActual() : 0;
+    }
+
+    private static Map<Item, Integer> countItems(final List<ActionActor> party) {
+        final Map<Item, Integer> items = new IdentityHashMap<>();
+        party.stream().filter(a -> a instanceof BasicCharacter).map(a -> ((BasicCharacter) a).getInventory())
+                      .forEach(inventory -> inventory.getAll().forEach(i -> items.merge(i, inventory.getQuantity(i), Integer::sum)));
+        return items;
+    }
+
+    private static Map<Item, Integer> getConsumed(final Map<Item, Integer> before, final Map<Item, Integer> after) {
+        final Map<Item, Integer> consumed = new LinkedHashMap<>();
+        before.forEach((item, quantity) -> {
+            final int used = quantity - after.getOrDefault(item, 0);
+            if (used > 0) {
+                consumed.put(item, used);
+            }
+        });
+        return consumed;
+    }
+
+    private static boolean isOver(final ExecutionStatus status) {
+        return status == ExecutionStatus.PLAYER_WON
+                || status == ExecutionStatus.PLAYER_LOST
+                || status == ExecutionStatus.COMBAT_ENDED;
+    }
+}
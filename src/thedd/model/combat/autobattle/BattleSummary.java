@@ -0,0 +1,107 @@
+package thedd.model.combat.autobattle;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.item.Item;
+
+/**
+ * The summary of a combat resolved by an {@link AutoBattle}.
+ */
+public final class BattleSummary {
+
+    private final ExecutionStatus status;
+    private final int rounds;
+    private final int actions;
+    private final int damageDealt;
+    private final int damageTaken;
+    private final List<String> statusesApplied;
+    private final Map<Item, Integer> itemsConsumed;
+
+    BattleSummary(final ExecutionStatus status, final int rounds, final int actions, final int damageDealt,
+            final int damageTaken, final List<String> statusesApplied, final Map<Item, Integer> itemsConsumed) {
+        this.status = status;
+        this.rounds = rounds;
+        this.actions = actions;
+        this.damageDealt = damageDealt;
+        this.damageTaken = damageTaken;
+        this.statusesApplied = Collections.unmodifiableList(statusesApplied);
+        this.itemsConsumed = Collections.unmodifiableMap(itemsConsumed);
+    }
+
+    /**
+     * 
+     * @return the status of the execution when the resolution stopped
+     */
+    public ExecutionStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * 
+     * @return true if the combat is over, false if it stopped at the limit of rounds
+     */
+    public boolean isOver() {
+        return this.status == ExecutionStatus.PLAYER_WON
+                || this.status == ExecutionStatus.PLAYER_LOST
+                || this.status == ExecutionStatus.COMBAT_ENDED;
+    }
+
+    /**
+     * 
+     * @return the number of rounds played, counting the one the combat ended in
+     */
+    public int getRounds() {
+        return this.rounds;
+    }
+
+    /**
+     * 
+     * @return the number of actions executed
+     */
+    public int getActions() {
+        return this.actions;
+    }
+
+    /**
+     * 
+     * @return the total health points lost by the party opposed to the player
+     */
+    public int getDamageDealt() {
+        return this.damageDealt;
+    }
+
+    /**
+     * 
+     * @return the total health points lost by the party of the player
+     */
+    public int getDamageTaken() {
+        return this.damageTaken;
+    }
+
+    /**
+     * 
+     * @return the names of the statuses applied during the combat, in the order
+     *         they have been applied
+     */
+    public List<String> getStatusesApplied() {
+        return this.statusesApplied;
+    }
+
+    /**
+     * 
+     * @return the items consumed by the party of the player and their quantity
+     */
+    public Map<Item, Integer> getItemsConsumed() {
+        return this.itemsConsumed;
+    }
+
+    @Override
+    public String toString() {
+        return "BattleSummary [status=" + status + ", rounds=" + rounds + ", damageDealt=" + damageDealt
+                + ", damageTaken=" + damageTaken + ", statuses=" + statusesApplied.size()
+                + ", items=" + itemsConsumed.size() + "]";
+    }
+}
@@ -0,0 +1,172 @@
+package thedd.model.combat.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link CombatJournal} that writes every event as a fixed size binary record
+ * to a channel; the record of an {@link CombatEventType#ACTOR_STATE} event is
+ * followed by the state it carries.<p>
+ * Records are collected in a buffer and written as soon as a record of a later
+ * round is appended, so every round is written once it has ended. They are also
+ * written when the buffer is full, when {@link #flush()} is called or when the
+ * journal is closed.
+ */
+public final class BinaryCombatJournal implements CombatJournal, Closeable {
+
+    /**
+     * The size in bytes of a single record, without the state it may carry.
+     */
+    public static final int RECORD_SIZE = Byte.BYTES + Byte.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int BUFFER_RECORDS = 512;
+    private static final CombatEventType[] TYPES = CombatEventType.values();
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORDS);
+    private int round;
+
+    /**
+     * Public constructor.
+     * @param channel the channel the records are written to
+     */
+    public BinaryCombatJournal(final WritableByteChannel channel) {
+        this.channel = Objects.requireNonNull(channel);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws UncheckedIOException if the buffer can't be written to the channel
+     */
+    @Override
+    public void append(final CombatEvent event) {
+        Objects.requireNonNull(event);
+        final ByteBuffer state = event.getState();
+        if (event.getRound() != round || buffer.remaining() < RECORD_SIZE + state.remaining()) {
+            flush();
+            round = event.getRound();
+        }
+        buffer.put((byte) event.getType().ordinal())
+              .put((byte) event.getActor())
+              .putShort((short) event.getRound())
+              .putInt(event.getFirst())
+              .putInt(event.getSecond());
+        if (state.remaining() > buffer.remaining()) {
+            flush();
+            write(state);
+        } else {
+            buffer.put(state);
+        }
+    }
+
+    /**
+     * Writes all the buffered records to the channel.
+     * 
+     * @throws UncheckedIOException if the buffer can't be written to the channel
+     */
+    public void flush() {
+        buffer.flip();
+        try {
+            write(buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Flushes the buffered records and closes the channel.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void write(final ByteBuffer records) {
+        try {
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads all the records written by a journal.
+     * @param channel the channel the records are read from
+     * @return the events read, in the order they were appended
+     * @throws IOException if the channel can't be read or it does not contain a journal
+     */
+    public static List<CombatEvent> readEvents(final ReadableByteChannel channel) throws IOException {
+        Objects.requireNonNull(channel);
+        final List<CombatEvent> events = new ArrayList<>();
+        final ByteBuffer input = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORDS);
+        input.limit(0);
+        while (fill(channel, input, RECORD_SIZE)) {
+            final int type = input.get();
+            if (type < 0 || type >= TYPES.length) {
+                throw new IOException("Not a combat journal");
+            }
+            final int actor = input.get();
+            final int round = input.getShort();
+            final int first = input.getInt();
+            final int second = input.getInt();
+            if (TYPES[type] != CombatEventType.ACTOR_STATE) {
+                events.add(new CombatEvent(TYPES[type], round, actor, first, second));
+            } else if (first < 0) {
+                throw new IOException("Not a combat journal");
+            } else {
+                final byte[] state = new byte[first];
+                int read = 0;
+                while (read < state.length) {
+                    if (!fill(channel, input, 1)) {
+                        throw new IOException("Truncated combat journal");
+                    }
+                    final int chunk = Math.min(input.remaining(), state.length - read);
+                    input.get(state, read, chunk);
+                    read += chunk;
+                }
+                events.add(new CombatEvent(round, actor, state));
+            }
+        }
+        return events;
+    }
+
+    /*
+     * Reads from the channel until the buffer holds at least the given number of
+     * bytes, returning false if the channel ends at a record boundary.
+     */
+    private static boolean fill(final ReadableByteChannel channel, final ByteBuffer input, final int bytes)
+            throws IOException {
+        if (input.remaining() >= bytes) {
+            return true;
+        }
+        input.compact();
+        try {
+            while (input.position() < bytes) {
+                if (channel.read(input) < 0) {
+                    if (input.position() > 0) {
+                        throw new IOException("Truncated combat journal");
+                    }
+                    return false;
+                }
+            }
+        } finally {
+            input.flip();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,139 @@
+package thedd.model.combat.journal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A single record of a {@link CombatJournal}.<br>
+ * Actors are identified by their index in
+ * {@link thedd.model.combat.instance.ActionExecutionInstance#getAllParties()};
+ * the meaning of the two values depends on the {@link CombatEventType}. Only
+ * the events of type {@link CombatEventType#ACTOR_STATE} carry the state of
+ * their actor.
+ */
+public final class CombatEvent {
+
+    private final CombatEventType type;
+    private final int round;
+    private final int actor;
+    private final int first;
+    private final int second;
+    private final byte[] state;
+
+    /**
+     * Public constructor.
+     * @param type the type of the event
+     * @param round the round in which the event happened
+     * @param actor the index of the actor involved
+     * @param first the first value of the event
+     * @param second the second value of the event
+     * @throws IllegalArgumentException if the type is {@link CombatEventType#ACTOR_STATE}
+     */
+    public CombatEvent(final CombatEventType type, final int round, final int actor, final int first, final int second) {
+        this(type, round, actor, first, second, new byte[0]);
+        if (type == CombatEventType.ACTOR_STATE) {
+            throw new IllegalArgumentException("The state of the actor is missing");
+        }
+    }
+
+    /**
+     * Public constructor of an event of type {@link CombatEventType#ACTOR_STATE}.
+     * @param round the round in which the state has been recorded
+     * @param actor the index of the actor
+     * @param state the encoded state of the actor
+     */
+    public CombatEvent(final int round, final int actor, final byte[] state) {
+        this(CombatEventType.ACTOR_STATE, round, actor, state.length, 0, state.clone());
+    }
+
+    private CombatEvent(final CombatEventType type, final int round, final int actor, final int first, final int second,
+                        final byte[] state) {
+        this.type = Objects.requireNonNull(type);
+        this.round = round;
+        this.actor = actor;
+        this.first = first;
+        this.second = second;
+        this.state = state;
+    }
+
+    /**
+     * Gets the type of the event.
+     * @return the type of the event
+     */
+    public CombatEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the round in which the event happened.
+     * @return the round number
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the index of the actor involved in the event.
+     * @return the index of the actor
+     */
+    public int getActor() {
+        return actor;
+    }
+
+    /**
+     * Gets the first value of the event.
+     * @return the first value
+     */
+    public int getFirst() {
+        return first;
+    }
+
+    /**
+     * Gets the second value of the event.
+     * @return the second value
+     */
+    public int getSecond() {
+        return second;
+    }
+
+    /**
+     * Gets the state of the actor carried by the event.
+     * @return a read-only buffer with the encoded state, empty if the event carries no state
+     */
+    public ByteBuffer getState() {
+        return ByteBuffer.wrap(state).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, round, actor, first, second, Arrays.hashCode(state));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CombatEvent)) {
+            return false;
+        }
+        final CombatEvent other = (CombatEvent) obj;
+        return type == other.type && round == other.round && actor == other.actor
+                && first == other.first && second == other.second && Arrays.equals(state, other.state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return type + " [round=" + round + ", actor=" + actor + ", first=" + first + ", second=" + second + "]";
+    }
+}
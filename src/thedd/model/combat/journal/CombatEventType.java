@@ -0,0 +1,45 @@
+package thedd.model.combat.journal;
+
+/**
+ * The kinds of {@link CombatEvent} recorded by a {@link CombatJournal}.
+ */
+public enum CombatEventType {
+
+    /**
+     * An actor has been queued with its selected action.<br>
+     * First value: index of the action among the available ones of the actor,
+     * -1 if it is not one of them.<br>
+     * Second value: index of the first target of the action, -1 if none.
+     */
+    ACTOR_QUEUED,
+    /**
+     * The result of the current action against one of its targets has been decided.<br>
+     * The actor is the target, the first value is the ordinal of the
+     * {@link thedd.model.combat.action.result.ActionResultType}.
+     */
+    TARGET_RESULT,
+    /**
+     * The current action has been evaluated.<br>
+     * The actor is the source of the action, the first value is the number of targets evaluated.
+     */
+    ACTION_EVALUATED,
+    /**
+     * The effects of the current action have been resolved against one of its targets.<br>
+     * The actor is the target, the first value its health points afterwards, -1 if it has none.
+     */
+    EFFECTS_APPLIED,
+    /**
+     * The statuses of an actor have been updated.<br>
+     * The first value is the number of statuses of the actor, the second one
+     * its health points afterwards, -1 if it has none.
+     */
+    STATUSES_UPDATED,
+    /**
+     * The state of an actor when the combat started: its statistics, its
+     * inventory with the equipment and its statuses, as encoded by
+     * {@link thedd.model.savegame.ActorRecords}.<br>
+     * The first value is the size in bytes of the state, carried by the event.
+     */
+    ACTOR_STATE;
+
+}
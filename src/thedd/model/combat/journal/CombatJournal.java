@@ -0,0 +1,15 @@
+package thedd.model.combat.journal;
+
+/**
+ * Append-only sink of the {@link CombatEvent} produced by a
+ * {@link JournalingCombatActionExecutor}.
+ */
+public interface CombatJournal {
+
+    /**
+     * Appends an event to the journal.
+     * @param event the event to be appended
+     */
+    void append(CombatEvent event);
+
+}
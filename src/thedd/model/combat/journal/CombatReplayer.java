@@ -0,0 +1,194 @@
+package thedd.model.combat.journal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import thedd.model.character.BasicCharacter;
+
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.result.ActionResultType;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.actor.automatic.AutomaticActionActor;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.item.Item;
+import thedd.model.item.usableitem.UsableItem;
+import thedd.model.savegame.ActorRecords;
+
+/**
+ * Plays again a combat recorded by a {@link JournalingCombatActionExecutor}.<p>
+ * The combat is driven as the controller does during the game, but every
+ * choice that would be random, or made by the player, is taken from the
+ * journal: the actions selected by the actors, their targets and the result of
+ * every roll to hit. Every event produced along the way is checked against the
+ * recorded one, so any difference in the resulting state of the actors is
+ * reported at the first event where it happens.<br>
+ * The actors of the instance must be of the same kinds of the recorded ones:
+ * the state they had when the recorded combat started, items in their
+ * inventories included, is restored from the journal before the combat is
+ * played. An item used during the combat is taken by its recorded position and
+ * removed once its action has been queued, as the controller does.
+ */
+public final class CombatReplayer {
+
+    private final List<CombatEvent> events;
+    private int cursor;
+
+    /**
+     * Public constructor.
+     * @param events the recorded events
+     */
+    public CombatReplayer(final List<CombatEvent> events) {
+        this.events = new ArrayList<>(Objects.requireNonNull(events));
+    }
+
+    /**
+     * Replays the recorded combat on a new instance.
+     * @param instance the instance holding the actors of the combat
+     * @return the status of the combat when the journal ends
+     * @throws IllegalStateException if the replayed combat diverges from the recorded one
+     *                               or the state of an actor can't be restored
+     */
+    public ExecutionStatus replay(final ActionExecutionInstance instance) {
+        Objects.requireNonNull(instance);
+        restoreStates(instance);
+        cursor = 0;
+        final ReplayingExecutor executor = new ReplayingExecutor();
+        executor.setExecutionInstance(instance);
+        executor.startExecutor();
+        while (cursor < events.size() && !isOver(executor.getExecutionStatus())) {
+            final CombatEvent next = events.get(cursor);
+            if (next.getType() == CombatEventType.ACTOR_QUEUED) {
+                final ActionActor actor = getActor(instance, next);
+                final Optional<Item> item = selectRecordedMove(actor, next, executor);
+                executor.addActorToQueue(actor);
+                item.ifPresent(i -> ((BasicCharacter) actor).getInventory().removeItem(i));
+                if (!executor.isRoundReady()) {
+                    continue;
+                }
+            } else if (executor.getExecutionStatus() != ExecutionStatus.ROUND_IN_PROGRESS) {
+                throw diverged("an actor to be queued");
+            }
+            executor.setNextAction();
+            if (executor.evaluateCurrentAction().isPresent()) {
+                executor.executeCurrentAction();
+            }
+            executor.updateExecutionStatus();
+            if (executor.getExecutionStatus() == ExecutionStatus.ROUND_ENDED) {
+                executor.prepareNextRound();
+            }
+        }
+        return executor.getExecutionStatus();
+    }
+
+    /*
+     * The states are recorded when the combat starts, so they are the first events
+     * of the journal; they are recorded again, and checked, by the replay.
+     */
+    private void restoreStates(final ActionExecutionInstance instance) {
+        for (cursor = 0; cursor < events.size() && events.get(cursor).getType() == CombatEventType.ACTOR_STATE; cursor++) {
+            final ActionActor actor = getActor(instance, events.get(cursor));
+            if (!(actor instanceof BasicCharacter)) {
+                throw diverged("a character");
+            }
+            try {
+                ActorRecords.read(events.get(cursor).getState(), (BasicCharacter) actor);
+            } catch (IOException e) {
+                throw new IllegalStateException("The state recorded at event " + cursor + " can't be restored", e);
+            }
+        }
+    }
+
+    private boolean isOver(final ExecutionStatus status) {
+        return status == ExecutionStatus.PLAYER_WON
+                || status == ExecutionStatus.PLAYER_LOST
+                || status == ExecutionStatus.COMBAT_ENDED;
+    }
+
+    private CombatEvent peek(final CombatEventType type) {
+        if (cursor >= events.size() || events.get(cursor).getType() != type) {
+            throw diverged(type.toString());
+        }
+        return events.get(cursor);
+    }
+
+    private ActionActor getActor(final ActionExecutionInstance instance, final CombatEvent event) {
+        final List<ActionActor> actors = instance.getAllParties();
+        if (event.getActor() < 0 || event.getActor() >= actors.size()) {
+            throw diverged("an actor of the combat");
+        }
+        return actors.get(event.getActor());
+    }
+
+    private Optional<Item> selectRecordedMove(final ActionActor actor, final CombatEvent event,
+                                              final ActionExecutor executor) {
+        final List<Action> actions = actor.getAvailableActionsList();
+        final Optional<Item> item;
+        try {
+            item = JournalingCombatActionExecutor.getRecordedItem(actor, event.getFirst());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("The item recorded at event " + cursor + " is not in the inventory", e);
+        }
+        if (item.isPresent() && item.get().isUsable()) {
+            final Action action = ((UsableItem) item.get()).getAction();
+            action.setSource(actor);
+            actor.addActionToQueue(action, true);
+        } else if (!item.isPresent() && event.getFirst() >= 0 && event.getFirst() < actions.size()) {
+            actor.addActionToQueue(actions.get(event.getFirst()), true);
+        } else {
+            throw new IllegalStateException("The action recorded at event " + cursor + " can't be replayed");
+        }
+        if (event.getSecond() >= 0) {
+            final ActionExecutionInstance instance = executor.getExecutionInstance();
+            final Action action = actor.getSelectedAction().get();
+            action.setTargets(instance.getAllParties().get(event.getSecond()), action.getValidTargets(instance));
+        }
+        return item;
+    }
+
+    private IllegalStateException diverged(final String expected) {
+        return new IllegalStateException("Replay diverged at event " + cursor + ": expected " + expected
+                                         + ", recorded " + (cursor < events.size() ? events.get(cursor) : "nothing"));
+    }
+
+    /**
+     * Executor that takes random choices from the journal and checks each event it
+     * produces against the recorded one.
+     */
+    private final class ReplayingExecutor extends JournalingCombatActionExecutor {
+
+        ReplayingExecutor() {
+            super(event -> {
+                if (cursor >= events.size() || !events.get(cursor).equals(event)) {
+                    throw diverged(event.toString());
+                }
+                cursor++;
+            });
+        }
+
+        @Override
+        protected void setNextAIMove(final AutomaticActionActor actor) {
+            final CombatEvent event = peek(CombatEventType.ACTOR_QUEUED);
+            if (event.getActor() != getActorIndex(actor)) {
+                throw diverged("a move of actor " + getActorIndex(actor));
+            }
+            selectRecordedMove(actor, event, this);
+            addActorToQueue(actor);
+        }
+
+        @Override
+        protected ActionResultType resolveTarget(final Action action, final ActionActor target) {
+            final CombatEvent event = peek(CombatEventType.TARGET_RESULT);
+            if (event.getActor() != getActorIndex(target)
+                    || event.getFirst() < 0 || event.getFirst() >= ActionResultType.values().length) {
+                throw diverged("a result against actor " + getActorIndex(target));
+            }
+            cursor++;
+            return ActionResultType.values()[event.getFirst()];
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package thedd.model.combat.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link CombatJournal} that writes the events of a single combat to a file
+ * while the combat is fought, through a {@link BinaryCombatJournal}: every
+ * round is in the file once it has ended.<p>
+ * The file is replaced when the first event is appended. A journal which can't
+ * be written doesn't stop the combat: the events following the first failure
+ * are dropped, and the failure is thrown by {@link #close()}.
+ */
+public final class FileCombatJournal implements CombatJournal, Closeable {
+
+    private final Path file;
+    private Optional<BinaryCombatJournal> journal = Optional.empty();
+    private Optional<IOException> failure = Optional.empty();
+    private boolean closed;
+
+    /**
+     * Public constructor.
+     * @param file the file the events are written to
+     */
+    public FileCombatJournal(final Path file) {
+        this.file = Objects.requireNonNull(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the journal has been closed
+     */
+    @Override
+    public void append(final CombatEvent event) {
+        Objects.requireNonNull(event);
+        if (closed) {
+            throw new IllegalStateException("The journal has been closed");
+        } else if (failure.isPresent()) {
+            return;
+        }
+        try {
+            if (!journal.isPresent()) {
+                journal = Optional.of(new BinaryCombatJournal(FileChannel.open(file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)));
+            }
+            journal.get().append(event);
+        } catch (IOException e) {
+            failure = Optional.of(e);
+        } catch (UncheckedIOException e) {
+            failure = Optional.of(e.getCause());
+        }
+    }
+
+    /**
+     * Writes the events of the last round and closes the file.
+     *
+     * @throws IOException if any of the events couldn't be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (journal.isPresent()) {
+                journal.get().close();
+            }
+        } catch (IOException e) {
+            failure = Optional.of(failure.orElse(e));
+        }
+        journal = Optional.empty();
+        closed = true;
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package thedd.model.combat.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.result.ActionResult;
+import thedd.model.combat.action.result.ActionResultType;
+import thedd.model.combat.actionexecutor.DefaultCombatActionExecutor;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.item.Item;
+import thedd.model.item.usableitem.UsableItem;
+import thedd.model.savegame.ActorRecords;
+
+/**
+ * {@link DefaultCombatActionExecutor} that records everything it does in a
+ * {@link CombatJournal}: the state of every actor when the combat starts,
+ * queued actors, the result of every action against each target, the
+ * resolution of effects and the updates of statuses.<p>
+ * The combat itself is not affected: the journal only observes it, so that it
+ * can be played again with a {@link CombatReplayer}.<br>
+ * The action selected by an actor is recorded by its index among the available
+ * actions of the actor or, when it is the action of an item, by the position
+ * of the item in the inventory of the actor, which is kept when the state of
+ * the actor is restored.
+ */
+public class JournalingCombatActionExecutor extends DefaultCombatActionExecutor {
+
+    private static final int NONE = -1;
+    private static final int ITEM = -2;
+
+    private CombatJournal journal;
+
+    /**
+     * Public constructor.
+     * @param journal the journal where the events are recorded
+     */
+    public JournalingCombatActionExecutor(final CombatJournal journal) {
+        this(journal, Collections.<ActionActor>emptySet(), Collections.<ActionActor>emptySet());
+    }
+
+    /**
+     * Public constructor.
+     * @param journal the journal where the events are recorded
+     * @param hostileNPCs the List of Actors to placed in the party opposed to player's
+     */
+    public JournalingCombatActionExecutor(final CombatJournal journal, final Set<ActionActor> hostileNPCs) {
+        this(journal, hostileNPCs, Collections.<ActionActor>emptySet());
+    }
+
+    /**
+     * Public constructor.
+     * @param journal the journal where the events are recorded
+     * @param hostileNPCs the List of Actors to placed in the party opposed to player's
+     * @param partyMembers the List of Actors to placed in the player's party
+     */
+    public JournalingCombatActionExecutor(final CombatJournal journal, final Set<ActionActor> hostileNPCs,
+                                          final Set<ActionActor> partyMembers) {
+        this(journal, hostileNPCs, partyMembers, new Random());
+    }
+
+    /**
+     * Public constructor.
+     * @param journal the journal where the events are recorded
+     * @param hostileNPCs the List of Actors to placed in the party opposed to player's
+     * @param partyMembers the List of Actors to placed in the player's party
+     * @param random the generator every roll to hit and every move of the NPCs is drawn with
+     */
+    public JournalingCombatActionExecutor(final CombatJournal journal, final Set<ActionActor> hostileNPCs,
+                                          final Set<ActionActor> partyMembers, final Random random) {
+        super(hostileNPCs, partyMembers, random);
+        this.journal = Objects.requireNonNull(journal);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the state of an actor can't be encoded
+     */
+    @Override
+    public void startExecutor() {
+        getCombatInstance().getAllParties().forEach(a -> {
+            if (a instanceof BasicCharacter) {
+                try {
+                    journal.append(new CombatEvent(getCombatInstance().getRoundNumber(), getActorIndex(a),
+                                                   ActorRecords.write((BasicCharacter) a)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+        super.startExecutor();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addActorToQueue(final ActionActor actor) {
+        super.addActorToQueue(actor);
+        final Action action = actor.getSelectedAction().get();
+        final int target = action.getTargets().isEmpty() ? NONE : getActorIndex(action.getTargets().get(0));
+        record(CombatEventType.ACTOR_QUEUED, actor, getActionIndex(actor, action), target);
+    }
+
+    /**
+     * Gets the journal where the events are recorded.
+     * @return the journal
+     */
+    public final CombatJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Sets the journal where the events are recorded, such as a journal that
+     * writes them to a file while the combat is fought.
+     * @param journal the journal
+     * @throws IllegalStateException if the combat has already started
+     */
+    public final void setJournal(final CombatJournal journal) {
+        Objects.requireNonNull(journal);
+        if (getCombatInstance() != null && getExecutionStatus() != ExecutionStatus.NOT_STARTED) {
+            throw new IllegalStateException("The combat has already started");
+        }
+        this.journal = journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ActionResult> evaluateCurrentAction() {
+        final Optional<ActionResult> result = super.evaluateCurrentAction();
+        result.ifPresent(r -> record(CombatEventType.ACTION_EVALUATED, r.getAction().getSource().orElse(null),
+                                     r.getResults().size(), 0));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void executeCurrentAction() {
+        super.executeCurrentAction();
+        getLastActionResult().ifPresent(r -> r.getResults().forEach(p -> {
+            record(CombatEventType.EFFECTS_APPLIED, p.getKey(), getHealthPoints(p.getKey()), 0);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prepareNextRound() {
+        super.prepareNextRound();
+        recordStatuses();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateExecutionStatus() {
+        super.updateExecutionStatus();
+        recordStatuses();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ActionResultType resolveTarget(final Action action, final ActionActor target) {
+        final ActionResultType result = super.resolveTarget(action, target);
+        record(CombatEventType.TARGET_RESULT, target, result.ordinal(), 0);
+        return result;
+    }
+
+    /**
+     * Gets the index of an actor, as it is recorded in the journal.
+     * @param actor the actor
+     * @return the index of the actor among all the parties, -1 if it is not part of the combat
+     */
+    protected final int getActorIndex(final ActionActor actor) {
+        final List<ActionActor> actors = getCombatInstance().getAllParties();
+        for (int i = 0; i < actors.size(); i++) {
+            if (actors.get(i) == actor) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Gets the item whose action has been recorded by an event.
+     * @param actor the actor who selected the action
+     * @param recorded the recorded action, as in {@link CombatEvent#getFirst()}
+     * @return the item, if the recorded action is the action of an item of the actor
+     * @throws IllegalArgumentException if the actor has no item at the recorded position
+     */
+    static Optional<Item> getRecordedItem(final ActionActor actor, final int recorded) {
+        if (recorded > ITEM || !(actor instanceof BasicCharacter)) {
+            return Optional.empty();
+        }
+        final List<Item> items = ((BasicCharacter) actor).getInventory().getAll();
+        if (ITEM - recorded >= items.size()) {
+            throw new IllegalArgumentException();
+        }
+        return Optional.of(items.get(ITEM - recorded));
+    }
+
+    /*
+     * The action of an item is a new copy every time, so the item is the first
+     * one of the inventory whose action has the same name and effects.
+     */
+    private int getActionIndex(final ActionActor actor, final Action action) {
+        final int index = actor.getAvailableActionsList().indexOf(action);
+        if (index != NONE || !(actor instanceof BasicCharacter)) {
+            return index;
+        }
+        final List<Item> items = ((BasicCharacter) actor).getInventory().getAll();
+        final String effects = action.getEffects().stream()
+                                     .map(ActionEffect::getDescription)
+                                     .collect(Collectors.joining("\n"));
+        for (int i = 0; i < items.size(); i++) {
+            final Item item = items.get(i);
+            if (item.isUsable() && ((UsableItem) item).getAction().equals(action)
+                    && ((UsableItem) item).getEffectDescription().equals(effects)) {
+                return ITEM - i;
+            }
+        }
+        return NONE;
+    }
+
+    private void recordStatuses() {
+        getCombatInstance().getAllParties().forEach(a -> {
+            record(CombatEventType.STATUSES_UPDATED, a, a.getStatuses().size(), getHealthPoints(a));
+        });
+    }
+
+    private void record(final CombatEventType type, final ActionActor actor, final int first, final int second) {
+        journal.append(new CombatEvent(type, getCombatInstance().getRoundNumber(),
+                                       actor == null ? NONE : getActorIndex(actor), first, second));
+    }
+
+    private int getHealthPoints(final ActionActor actor) {
+        return actor instanceof BasicCharacter
+                ? ((BasicCharacter) actor).getStat(Statistic.HEALTH_POINT).getActual()
+                : NONE;
+    }
+}
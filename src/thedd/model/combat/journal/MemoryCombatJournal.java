@@ -0,0 +1,32 @@
+package thedd.model.combat.journal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link CombatJournal} that keeps the events in memory, so that the journal of
+ * a combat can be written or replayed once the combat is over.
+ */
+public final class MemoryCombatJournal implements CombatJournal {
+
+    private final List<CombatEvent> events = new ArrayList<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(final CombatEvent event) {
+        events.add(Objects.requireNonNull(event));
+    }
+
+    /**
+     * Gets the events appended to the journal.
+     * @return an unmodifiable view of the events, in the order they were appended
+     */
+    public List<CombatEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+}
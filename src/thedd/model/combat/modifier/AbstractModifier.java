@@ -1,8 +1,8 @@
 package thedd.model.combat.modifier;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import thedd.model.combat.common.Modifiable;
 import thedd.model.combat.requirements.Requirement;
@@ -14,7 +14,7 @@ import thedd.model.combat.requirements.Requirement;
 public abstract class AbstractModifier<T extends Modifiable> implements Modifier<T> {
 
     private ModifierActivation type;
-    private final List<Requirement<T>> requirements = new ArrayList<>();
+    private final List<Requirement<T>> requirements = new CopyOnWriteArrayList<>();
 
     /**
      * Constructor for the abstract class.
@@ -59,6 +59,10 @@ public abstract class AbstractModifier<T extends Modifiable> implements Modifier
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The requirements are kept in a copy-on-write list, since a modifier can be
+     * shared by actors fighting in different threads: a requirement can be added
+     * while the requirements are being checked by another fight.
      */
     @Override
     public void addRequirement(final Requirement<T> requirement) {
@@ -51,6 +51,24 @@ public final class DamageAdderModifier extends AbstractModifier<Action> implemen
         }
     }
 
+    /**
+     * Return the damage added to the action.
+     * 
+     * @return the added damage
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Return the tag of the damage added to the action.
+     * 
+     * @return the added tag
+     */
+    public Tag getAddedTag() {
+        return addedTag;
+    }
+
     @Override
     public String toString() {
         return "Adds " + value + " to " + addedTag.getLiteral();
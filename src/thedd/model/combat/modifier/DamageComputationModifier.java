@@ -0,0 +1,17 @@
+package thedd.model.combat.modifier;
+
+import thedd.model.combat.action.effect.DamageComputation;
+
+/**
+ * A modifier which changes the damage of a
+ * {@link thedd.model.combat.action.effect.DamageEffect} while it's being
+ * computed, without changing the effect.
+ */
+public interface DamageComputationModifier {
+
+    /**
+     * Modifies the damage being computed.
+     * @param computation the damage being computed
+     */
+    void modify(DamageComputation computation);
+}
@@ -1,11 +1,12 @@
 package thedd.model.combat.modifier;
 import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.action.effect.DamageComputation;
 import thedd.model.combat.action.effect.DamageEffect;
 
 /**
  * A modifier which modifies effects of type {@link DamageEffect}.
  */
-public class DamageModifier extends AbstractValueModifier<ActionEffect> {
+public class DamageModifier extends AbstractValueModifier<ActionEffect> implements DamageComputationModifier {
 
     private final boolean baseValue;
 
@@ -32,6 +33,26 @@ public class DamageModifier extends AbstractValueModifier<ActionEffect> {
         ((DamageEffect) effect).addToDamage(modifier);
     }
 
+    /**
+     * Adds the value to the damage being computed, as
+     * {@link #modify(ActionEffect)} adds it to the damage of the effect.
+     */
+    @Override
+    public void modify(final DamageComputation computation) {
+        modify(computation, getValue());
+    }
+
+    /**
+     * Modifies the damage being computed using the given value instead of the
+     * value of the modifier.
+     * @param computation the damage being computed
+     * @param value the value of the modifier to use
+     */
+    public void modify(final DamageComputation computation, final double value) {
+        final double startingValue = baseValue ? computation.getBaseDamage() : computation.getDamage();
+        computation.addToDamage(isPercentage() ? startingValue * value : value);
+    }
+
     /**
      * Checks whether the Modifiable is accepted as per AbstractEffectModifier.accept(Modifiable)
      * and it is an instance of {@link DamageEffect}.
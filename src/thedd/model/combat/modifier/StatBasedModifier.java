@@ -4,6 +4,7 @@ import java.util.List;
 
 import thedd.model.character.BasicCharacter;
 import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.effect.DamageComputation;
 import thedd.model.combat.common.Modifiable;
 import thedd.model.combat.requirements.Requirement;
 
@@ -16,7 +17,7 @@ import thedd.model.combat.requirements.Requirement;
  * with a value = modifierValue * statisticValue * multiplier.
  * @param <T> the type of the modifiable
  */
-public class StatBasedModifier<T extends Modifiable> implements ValueModifier<T> {
+public class StatBasedModifier<T extends Modifiable> implements ValueModifier<T>, DamageComputationModifier {
 
     private final ValueModifier<T> modifier;
     private final Statistic statistic;
@@ -104,6 +105,18 @@ public class StatBasedModifier<T extends Modifiable> implements ValueModifier<T>
         modifier.setValue(baseValue);
     }
 
+    /**
+     * Modifies the damage being computed with the value updated by the statistic,
+     * without changing the wrapped modifier. Nothing is done if the wrapped
+     * modifier doesn't modify damage.
+     */
+    @Override
+    public void modify(final DamageComputation computation) {
+        if (modifier instanceof DamageModifier) {
+            ((DamageModifier) modifier).modify(computation, getUpdatedValue());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -119,6 +119,21 @@ public interface Status {
      */
     void setIsUpdated(boolean isUpdated);
 
+    /**
+     * Gets whether the status has been activated, being updated at least once
+     * since it was applied.
+     * @return true if the status has been activated, false otherwise
+     */
+    boolean isActivated();
+
+    /**
+     * Restores the state of the status as it was saved, so that a one time
+     * status restored after being activated doesn't apply its action again.
+     * @param currentDuration the current duration of the status
+     * @param activated whether the status had been activated
+     */
+    void restore(int currentDuration, boolean activated);
+
     /**
      * Resets the current duration of the status and sets
      * the value returned by {@link #isUpdated()} to false.
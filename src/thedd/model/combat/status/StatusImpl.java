@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import thedd.model.combat.action.Action;
+import thedd.model.combat.action.PreviewCache;
 import thedd.model.combat.actor.ActionActor;
 import thedd.model.combat.instance.ActionExecutionInstance;
 import thedd.model.combat.tag.Tag;
@@ -25,6 +26,7 @@ public class StatusImpl implements Status {
     private int remainingTurns;
     private Optional<ActionActor> afflictedActor = Optional.empty();
     private Optional<Action> currentAction;
+    private final PreviewCache descriptions = new PreviewCache();
     private boolean updated;
     private final Set<Tag> tags = new HashSet<>();
     private final String name;
@@ -113,9 +115,18 @@ public class StatusImpl implements Status {
 
     /**
      * {@inheritDoc}
+     * The description is cached with the versions of the afflicted actor and of
+     * the source of the actions of the status, which is not necessarily the
+     * afflicted actor.
      */
     @Override
     public String getDescription() {
+        final Optional<ActionActor> source = activationAction.isPresent() ? activationAction.get().getSource()
+                                                                          : deactivationAction.flatMap(Action::getSource);
+        return descriptions.get(source, afflictedActor, this::renderDescription);
+    }
+
+    private String renderDescription() {
         //Possibly useful general idea: getLog of action by default shows the effect, but the effect has an attribute
         //"showInLog". Actions too have this attribute, so we can possibly hide "under the hood" stuff from the player.
         final StringBuilder description = new StringBuilder();
@@ -249,6 +260,23 @@ public class StatusImpl implements Status {
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActivated() {
+        return initialized;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(final int currentDuration, final boolean activated) {
+        remainingTurns = currentDuration;
+        initialized = activated;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,17 +16,34 @@ import thedd.model.combat.tag.StatusTag;
 public class DefensiveStatus extends StatusImpl {
 
     private static final double HITCHANCE_MODIFIER_VALUE = -0.1;
-    private static final HitChanceModifier MODIFIER = new HitChanceModifier(HITCHANCE_MODIFIER_VALUE, false, ModifierActivation.ACTIVE_ON_DEFENCE);
+    private static final int DEFAULT_DURATION = 1;
 
-    {
-        MODIFIER.addRequirement(new TagRequirement<>(false, TagRequirementType.REQUIRED, Arrays.asList(ActionTag.OFFENSIVE)));
+    /**
+     */
+    public DefensiveStatus() {
+        this(DEFAULT_DURATION);
     }
 
     /**
+     * @param duration the duration of the status
      */
-    public DefensiveStatus() {
-        super("Defensive", new DefensiveStatusAction(MODIFIER), new DefensiveStatusActionDeact(MODIFIER), StatusActivationFrequency.ONE_TIME, 1, false);
+    public DefensiveStatus(final int duration) {
+        this(createModifier(), duration);
+    }
+
+    private DefensiveStatus(final HitChanceModifier modifier, final int duration) {
+        super("Defensive", new DefensiveStatusAction(modifier), new DefensiveStatusActionDeact(modifier), StatusActivationFrequency.ONE_TIME, duration, false);
         addTag(StatusTag.DEFENSIVE);
     }
 
+    /*
+     * Every status gets its own modifier, since the modifier is added to and
+     * removed from the afflicted actor.
+     */
+    private static HitChanceModifier createModifier() {
+        final HitChanceModifier modifier = new HitChanceModifier(HITCHANCE_MODIFIER_VALUE, false, ModifierActivation.ACTIVE_ON_DEFENCE);
+        modifier.addRequirement(new TagRequirement<>(false, TagRequirementType.REQUIRED, Arrays.asList(ActionTag.OFFENSIVE)));
+        return modifier;
+    }
+
 }
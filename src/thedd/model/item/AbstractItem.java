@@ -16,6 +16,7 @@ public abstract class AbstractItem implements Item {
     private final String name;
     private final ItemRarity rarity;
     private final String description;
+    private volatile boolean interned;
 
     /**
      * 
@@ -74,6 +75,34 @@ public abstract class AbstractItem implements Item {
         return this.description;
     }
 
+    /**
+     * 
+     * @return
+     *          whether this instance is the shared instance kept by {@link ItemInterner}
+     */
+    final boolean isInterned() {
+        return this.interned;
+    }
+
+    /**
+     * Checks that this instance can still be changed.
+     * 
+     * @throws IllegalStateException
+     *          if this is the shared instance kept by {@link ItemInterner}
+     */
+    protected final void checkModifiable() {
+        if (this.interned) {
+            throw new IllegalStateException("A shared item can't be changed, change a copy of it");
+        }
+    }
+
+    /**
+     * Marks this instance as the shared instance kept by {@link ItemInterner}.
+     */
+    final void setInterned() {
+        this.interned = true;
+    }
+
     @Override
     public abstract String toString();
 
@@ -2,10 +2,15 @@ package thedd.model.item;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.function.Function;
+import thedd.model.catalog.CatalogLoader;
+import thedd.model.catalog.GameCatalog;
 import thedd.model.character.statistics.Statistic;
 import thedd.model.combat.action.Action;
 import thedd.model.combat.action.TargetType;
@@ -30,9 +35,6 @@ import thedd.model.item.equipableitem.implementations.EquipableItemSword;
 import thedd.model.item.equipableitem.implementations.EquipableItemTwoHandedAxe;
 import thedd.model.item.usableitem.UsableItemBomb;
 import thedd.model.item.usableitem.UsableItemPotion;
-import thedd.utils.randomcollections.list.RandomList;
-import thedd.utils.randomcollections.list.RandomListImpl;
-import thedd.utils.randomcollections.weighteditem.WeightedItemImpl;
 
 /**
  * Factory for generating random items from a database.
@@ -40,14 +42,16 @@ import thedd.utils.randomcollections.weighteditem.WeightedItemImpl;
 public final class ItemFactory {
 
     private static final List<Function<ItemRarity, Item>> DATABASE = new ArrayList<>();
+    private static final Map<String, Function<ItemRarity, Item>> DATABASE_BY_NAME = new HashMap<>();
     private static final Random RNGENERATOR = new Random();
-    private static final RandomList<ItemRarity> RARITY_LIST = new RandomListImpl<>();
     private static final int MAX_DAMAGE_MODIFIER_VALUE = 3;
     private static final int MAX_STAT_MODIFIER_VALUE = 2;
-
-    private static final List<Statistic> STAT_MOD = new ArrayList<>();
-    private static final List<EffectTag> DMG_MOD = new ArrayList<>();
-    private static final List<EffectTag> RES_MOD = new ArrayList<>();
+    private static final ItemRarityImpl[] RARITIES = ItemRarityImpl.values();
+    private static final int RARITY_TOTAL_WEIGHT = Arrays.stream(RARITIES).mapToInt(ItemRarityImpl::getBaseWeight).sum();
+    private static final Statistic[] STAT_TAGS = Statistic.values();
+    private static final EffectTag[] DAMAGE_TAGS = Arrays.stream(EffectTag.values())
+                                                         .filter(t -> !t.isHidden())
+                                                         .toArray(EffectTag[]::new);
 
     static {
         initDatabase();
@@ -57,11 +61,11 @@ public final class ItemFactory {
     }
 
     /**
-     *  Initialize the Item database. 
+     *  Initialize the Item database with the items of the game and the items of the
+     *  {@link GameCatalog} of the game.
+     *  @throws IllegalStateException if two items have the same base name
      */
     public static void initDatabase() {
-        Arrays.asList(ItemRarityImpl.values()).stream().forEach(v -> RARITY_LIST.add(new WeightedItemImpl<>(v,  v.getBaseWeight())));
-
         DATABASE.add(UsableItemBomb::getNewInstance);
         DATABASE.add(UsableItemPotion::getNewInstance);
         DATABASE.add(EquipableItemSword::getNewInstance);
@@ -73,79 +77,133 @@ public final class ItemFactory {
         DATABASE.add(EquipableItemGreaves::getNewInstance);
         DATABASE.add(EquipableItemRing::getNewInstance);
         DATABASE.add(EquipableItemHelmet::getNewInstance);
+        final GameCatalog catalog = CatalogLoader.getDefault();
+        catalog.getItemNames().forEach(n -> DATABASE.add(r -> catalog.createItem(n, r)));
+        DATABASE.forEach(f -> {
+            final String baseName = f.apply(ItemRarityImpl.COMMON).getBaseName();
+            if (DATABASE_BY_NAME.putIfAbsent(baseName, f) != null) {
+                throw new IllegalStateException("Two items are named " + baseName);
+            }
+        });
+    }
+
+    /**
+     * Create a new {@link thedd.model.item.Item} of the database, without any
+     * additional effect or action.
+     * 
+     * @param baseName
+     *          the base name of the item
+     * @param rarity
+     *          the rarity of the item
+     * @return
+     *          a new instance of the item
+     * @throws IllegalArgumentException if no item of the database has that base name
+     */
+    public static Item createItem(final String baseName, final ItemRarity rarity) {
+        final Function<ItemRarity, Item> constructor = DATABASE_BY_NAME.get(Objects.requireNonNull(baseName));
+        if (constructor == null) {
+            throw new IllegalArgumentException("Unknown item " + baseName);
+        }
+        return constructor.apply(Objects.requireNonNull(rarity));
+    }
+
+    /**
+     * Return the additional {@link Action} with the given name, if any item can be rolled with it.
+     * 
+     * @param name
+     *          the name of the action
+     * @return
+     *          the action, or Optional.empty if no additional action has that name
+     */
+    public static Optional<Action> getAdditionalAction(final String name) {
+        Objects.requireNonNull(name);
+        return Arrays.stream(AdditionalActionPool.ACTIONS).filter(a -> a.getName().equals(name)).findFirst();
+    }
 
+    /**
+     * Create the additional effect that adds damage of the given type to the actions of the wearer.
+     * 
+     * @param tag
+     *          the type of damage added
+     * @param value
+     *          the damage added
+     * @return
+     *          the new effect
+     */
+    public static ActionEffect createDamageAdderEffect(final EffectTag tag, final double value) {
+        return new ActionModifierAdderEffect(new DamageAdderModifier(value,
+                                                                     new ArrayList<>(),
+                                                                     Objects.requireNonNull(tag),
+                                                                     ModifierActivation.RETRIEVING_ACTION),
+                                             false);
     }
 
     /**
-     * Return a new {@link thedd.model.item.Item}. If an {@link thedd.model.item.equipableitem.EquipableItem}
+     * Create the additional effect that gives the wearer resistance to the given type of damage.
+     * 
+     * @param tag
+     *          the type of damage resisted
+     * @param value
+     *          the resistance added
+     * @return
+     *          the new effect
+     */
+    public static ActionEffect createResistanceEffect(final EffectTag tag, final double value) {
+        return new DamageResistanceAdderEffect(value, Objects.requireNonNull(tag), false, false);
+    }
+
+    /**
+     * Create the additional effect that raises a statistic of the wearer.
+     * 
+     * @param stat
+     *          the statistic raised
+     * @param value
+     *          the amount added to the statistic
+     * @return
+     *          the new effect
+     */
+    public static ActionEffect createStatisticEffect(final Statistic stat, final int value) {
+        return new EquipmentStatisticChangerEffect(Objects.requireNonNull(stat), value);
+    }
+
+    /**
+     * Return a random {@link thedd.model.item.Item}. If an {@link thedd.model.item.equipableitem.EquipableItem}
      * is extracted, then additional {@link Action} and {@link ActionEffect}
      * are added as well, accordingly with the rarity of the item; otherwise the new item is returned without additions.
+     * Identical items are returned as the same shared instance, see {@link ItemInterner}.
      * 
      * @return
      *          a random item from the database
      */
     public static Item getRandomItem() {
-        final Item newItem = DATABASE.get(RNGENERATOR.nextInt(DATABASE.size())).apply(RARITY_LIST.getNext());
-        if (newItem.isEquipable()) {
-            final EquipableItem eItem = ((EquipableItem) newItem);
-            final int maxNumOfAdditionalModifiers = eItem.getRarityModifiers().get(eItem.getRarity()).getLeft();
-            final int maxNumOfActions = eItem.getRarityModifiers().get(eItem.getRarity()).getRight();
-            for (int i = 0; i < maxNumOfAdditionalModifiers; i++) {
-                final ModifierType modType = ModifierType.values()[RNGENERATOR.nextInt(ModifierType.values().length)];
-                eItem.addActionEffect(Objects.requireNonNull(getRandomActionEffect(modType)));
-            }
-            for (int i = 0; i < maxNumOfActions; i++) {
-                Action additionalAction = AdditionalActionPool.getRandomAdditionalAction();
-                while (eItem.getAdditionalActions().contains(additionalAction)) {
-                    additionalAction = AdditionalActionPool.getRandomAdditionalAction();
-                }
-                eItem.addAdditionalAction(additionalAction);
-            }
-            clearExtractedTagLists();
-        }
-        return newItem;
-    }
-
-    private static void clearExtractedTagLists() {
-        STAT_MOD.clear();
-        DMG_MOD.clear();
-        RES_MOD.clear();
+        return new ItemRoller(RNGENERATOR).roll();
     }
 
-    private static ActionEffect getRandomActionEffect(final ModifierType modType) {
-        switch (Objects.requireNonNull(modType)) {
-        case MORE_DAMAGE:
-            EffectTag dmgType = EffectTag.values()[RNGENERATOR.nextInt(EffectTag.values().length)];
-            while (DMG_MOD.contains(dmgType) || dmgType.isHidden()) {
-                dmgType = EffectTag.values()[RNGENERATOR.nextInt(EffectTag.values().length)];
-            }
-            DMG_MOD.add(dmgType);
-            return new ActionModifierAdderEffect(new DamageAdderModifier(Math.ceil(RNGENERATOR.nextDouble() * MAX_DAMAGE_MODIFIER_VALUE),
-                                                                         new ArrayList<>(),
-                                                                         dmgType,
-                                                                         ModifierActivation.RETRIEVING_ACTION),
-                                                false);
-        case DAMAGE_RESISTANCE:
-            EffectTag resType = EffectTag.values()[RNGENERATOR.nextInt(EffectTag.values().length)];
-            while (RES_MOD.contains(resType) || resType.isHidden()) {
-                resType = EffectTag.values()[RNGENERATOR.nextInt(EffectTag.values().length)];
-            }
-            RES_MOD.add(resType);
-            return new DamageResistanceAdderEffect(Math.ceil(RNGENERATOR.nextDouble() * MAX_DAMAGE_MODIFIER_VALUE), 
-                                                   resType, 
-                                                   false, 
-                                                   false);
-        case MORE_STAT:
-            Statistic statTarget = Statistic.values()[RNGENERATOR.nextInt(Statistic.values().length)];
-            while (STAT_MOD.contains(statTarget)) {
-                statTarget = Statistic.values()[RNGENERATOR.nextInt(Statistic.values().length)];
-            }
-            STAT_MOD.add(statTarget);
-            return new EquipmentStatisticChangerEffect(statTarget, 
-                                                       RNGENERATOR.nextInt(MAX_STAT_MODIFIER_VALUE) + 1);
-        default:
-            return null;
+    /**
+     * Return n random {@link thedd.model.item.Item}, each one generated as in {@link #getRandomItem()}.
+     * Additional modifiers and actions are sampled without replacement, so the same
+     * modifier type or action is never added twice to an item.
+     * This method does not share any state between calls, hence it can be used concurrently
+     * as long as each caller provides its own random generator.
+     * 
+     * @param n
+     *          the number of items to generate
+     * @param rng
+     *          the random generator used for every extraction
+     * @return
+     *          a list of n random items from the database
+     * @throws IllegalArgumentException if n is negative
+     */
+    public static List<Item> generateItems(final int n, final Random rng) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of items can't be negative");
+        }
+        final ItemRoller roller = new ItemRoller(Objects.requireNonNull(rng));
+        final List<Item> items = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            items.add(roller.roll());
         }
+        return items;
     }
 
     private enum ModifierType {
@@ -153,15 +211,100 @@ public final class ItemFactory {
     }
 
     private static class AdditionalActionPool {
-        private static final List<Action> ACTIONS = new ArrayList<>();
+        private static final Action[] ACTIONS = {
+            new NastyStrike(TargetType.EVERYONE),
+            new FieryTouch(TargetType.EVERYONE),
+        };
+    }
+
+    /**
+     * Generates items using its own random generator and sampling pools, so that it
+     * never touches shared mutable state. Every pool is sampled with a partial
+     * Fisher-Yates shuffle: after each item the pools are left permuted, which
+     * is as good as a fresh copy for the next partial shuffle.
+     */
+    private static final class ItemRoller {
 
-        static {
-            ACTIONS.add(new NastyStrike(TargetType.EVERYONE));
-            ACTIONS.add(new FieryTouch(TargetType.EVERYONE));
+        private final Random rng;
+        private final EffectTag[] damagePool = DAMAGE_TAGS.clone();
+        private final EffectTag[] resistancePool = DAMAGE_TAGS.clone();
+        private final Statistic[] statPool = STAT_TAGS.clone();
+        private final Action[] actionPool = AdditionalActionPool.ACTIONS.clone();
+        private int damageDrawn;
+        private int resistanceDrawn;
+        private int statDrawn;
+
+        ItemRoller(final Random rng) {
+            this.rng = rng;
+        }
+
+        private Item roll() {
+            final Item newItem = DATABASE.get(rng.nextInt(DATABASE.size())).apply(getRandomRarity());
+            if (newItem.isEquipable()) {
+                final EquipableItem eItem = ((EquipableItem) newItem);
+                final int maxNumOfAdditionalModifiers = eItem.getRarityModifiers().get(eItem.getRarity()).getLeft();
+                final int maxNumOfActions = Math.min(eItem.getRarityModifiers().get(eItem.getRarity()).getRight(),
+                                                     actionPool.length);
+                damageDrawn = 0;
+                resistanceDrawn = 0;
+                statDrawn = 0;
+                for (int i = 0; i < maxNumOfAdditionalModifiers; i++) {
+                    final ModifierType modType = ModifierType.values()[rng.nextInt(ModifierType.values().length)];
+                    getRandomActionEffect(modType).ifPresent(eItem::addActionEffect);
+                }
+                for (int i = 0; i < maxNumOfActions; i++) {
+                    eItem.addAdditionalAction(draw(actionPool, i));
+                }
+            }
+            return ItemInterner.intern(newItem);
+        }
+
+        private ItemRarity getRandomRarity() {
+            int random = rng.nextInt(RARITY_TOTAL_WEIGHT);
+            for (final ItemRarityImpl rarity : RARITIES) {
+                random -= rarity.getBaseWeight();
+                if (random < 0) {
+                    return rarity;
+                }
+            }
+            throw new IllegalStateException("This should not happen");
+        }
+
+        private Optional<ActionEffect> getRandomActionEffect(final ModifierType modType) {
+            switch (Objects.requireNonNull(modType)) {
+            case MORE_DAMAGE:
+                if (damageDrawn == damagePool.length) {
+                    return Optional.empty();
+                }
+                final EffectTag dmgType = draw(damagePool, damageDrawn++);
+                return Optional.of(createDamageAdderEffect(dmgType, Math.ceil(rng.nextDouble() * MAX_DAMAGE_MODIFIER_VALUE)));
+            case DAMAGE_RESISTANCE:
+                if (resistanceDrawn == resistancePool.length) {
+                    return Optional.empty();
+                }
+                final EffectTag resType = draw(resistancePool, resistanceDrawn++);
+                return Optional.of(createResistanceEffect(resType, Math.ceil(rng.nextDouble() * MAX_DAMAGE_MODIFIER_VALUE)));
+            case MORE_STAT:
+                if (statDrawn == statPool.length) {
+                    return Optional.empty();
+                }
+                final Statistic statTarget = draw(statPool, statDrawn++);
+                return Optional.of(createStatisticEffect(statTarget, rng.nextInt(MAX_STAT_MODIFIER_VALUE) + 1));
+            default:
+                return Optional.empty();
+            }
         }
 
-        private static Action getRandomAdditionalAction() {
-            return ACTIONS.get(RNGENERATOR.nextInt(ACTIONS.size()));
+        /*
+         * One step of a Fisher-Yates shuffle: elements before index are the ones already
+         * drawn, the element swapped into index is drawn uniformly from the remaining ones.
+         */
+        private <T> T draw(final T[] pool, final int index) {
+            final int chosen = index + rng.nextInt(pool.length - index);
+            final T element = pool[chosen];
+            pool[chosen] = pool[index];
+            pool[index] = element;
+            return element;
         }
     }
 }
@@ -0,0 +1,135 @@
+package thedd.model.item;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemType;
+
+/**
+ * Keeps a single shared instance for every distinct item.
+ * <p>
+ * Two items are the same when they have the same id, base name, description, type
+ * and rarity and provide the same rolled modifiers. Interned items are immutable
+ * definitions: their effects can't be changed anymore and an
+ * {@link thedd.model.item.equipableitem.EquipableItem} has to be copied before
+ * being equipped.
+ */
+public final class ItemInterner {
+
+    private static final Map<ItemKey, Item> PROTOTYPES = new ConcurrentHashMap<>();
+
+    private ItemInterner() {
+    }
+
+    /**
+     * Return the shared instance equivalent to the given item, registering the item
+     * itself if no equivalent instance is known yet.
+     * Equipped items are returned as they are, since they are not definitions.
+     * 
+     * @param item
+     *          the item to intern
+     * @return
+     *          the shared instance of the item
+     */
+    public static Item intern(final Item item) {
+        Objects.requireNonNull(item);
+        if (isInterned(item) || item.isEquipable() && ((EquipableItem) item).isEquipped()) {
+            return item;
+        }
+        final Item shared = PROTOTYPES.computeIfAbsent(new ItemKey(item), k -> item);
+        if (shared instanceof AbstractItem) {
+            ((AbstractItem) shared).setInterned();
+        }
+        return shared;
+    }
+
+    /**
+     * Return the shared instance equivalent to the given item, without registering it.
+     * 
+     * @param item
+     *          the item to look for
+     * @return
+     *          the shared instance of the item, or Optional.empty if it has not been interned
+     */
+    public static Optional<Item> lookup(final Item item) {
+        Objects.requireNonNull(item);
+        if (isInterned(item)) {
+            return Optional.of(item);
+        } else if (item.isEquipable() && ((EquipableItem) item).isEquipped()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(PROTOTYPES.get(new ItemKey(item)));
+    }
+
+    /**
+     * 
+     * @return
+     *          the number of distinct items interned so far
+     */
+    public static int size() {
+        return PROTOTYPES.size();
+    }
+
+    private static boolean isInterned(final Item item) {
+        return item instanceof AbstractItem && ((AbstractItem) item).isInterned();
+    }
+
+    private static final class ItemKey {
+
+        private final int id;
+        private final String baseName;
+        private final String description;
+        private final ItemRarity rarity;
+        private final Optional<EquipableItemType> type;
+        private final List<String> modifiers;
+        private final int hash;
+
+        ItemKey(final Item item) {
+            this.id = item.getId();
+            this.baseName = item.getBaseName();
+            this.description = item.getDescription();
+            this.rarity = item.getRarity();
+            if (item.isEquipable()) {
+                final EquipableItem eItem = (EquipableItem) item;
+                this.type = Optional.of(eItem.getType());
+                this.modifiers = eItem.getActionEffects().stream()
+                                                         .map(ActionEffect::getDescription)
+                                                         .sorted()
+                                                         .collect(Collectors.toCollection(ArrayList::new));
+                eItem.getAdditionalActions().stream().map(Action::getName).sorted().forEach(this.modifiers::add);
+            } else {
+                this.type = Optional.empty();
+                this.modifiers = Collections.singletonList(item.getEffectDescription());
+            }
+            this.hash = Objects.hash(id, baseName, description, rarity, type, modifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ItemKey)) {
+                return false;
+            }
+            final ItemKey other = (ItemKey) obj;
+            return hash == other.hash && id == other.id && baseName.equals(other.baseName)
+                   && description.equals(other.description) && rarity.equals(other.rarity)
+                   && type.equals(other.type) && modifiers.equals(other.modifiers);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public interface EquipableItem extends Item {
      *  as the item will apply all effects it has to the target.
      * @param equipper
      *  the character who has equipped the item.
+     * @throws IllegalStateException if the item is a shared instance, see {@link thedd.model.item.ItemInterner}
      */
     void onEquip(ActionActor equipper);
 
@@ -56,7 +57,7 @@ public interface EquipableItem extends Item {
      * If an item has an innate ActionEffect, it should add it after his construction.
      * @throws IllegalStateException whether the number of modifiers would exceed 
      *          the maximum value defined by the map got from {@link #getRarityModifiers()} for the rarity of the object 
-     *          plus the number of innate modifiers
+     *          plus the number of innate modifiers, or if the item is a shared instance
      * 
      * @param newEffect
      *          the new effect to add to the item provided effects.
@@ -65,7 +66,8 @@ public interface EquipableItem extends Item {
 
     /**
      * Add a new Action to the item.
-     * @throws IllegalStateException if the number of additional action would exceed
+     * @throws IllegalStateException if the number of additional action would exceed,
+     *          or if the item is a shared instance
      * @param newAction
      *          the new action to add to the item
      */
@@ -89,4 +91,19 @@ public interface EquipableItem extends Item {
      *  the number of innate modifiers
      */
     int getNumOfInnateModifiers();
+
+    /**
+     * Return whether the item is currently equipped by someone.
+     * @return
+     *  true if {@link #onEquip(ActionActor)} has been called and the item has not been unequipped yet
+     */
+    boolean isEquipped();
+
+    /**
+     * Return a new, unequipped instance of this item with the same effects and actions.
+     * Items may be shared definitions, so a copy should be equipped in place of the original.
+     * @return
+     *  a copy of the item
+     */
+    EquipableItem getCopy();
 }
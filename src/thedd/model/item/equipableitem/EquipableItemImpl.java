@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -42,6 +43,7 @@ public class EquipableItemImpl extends AbstractItem implements EquipableItem {
     private boolean isEquipped;
 
     private final EquipableItemType type;
+    private final Function<ItemRarity, ? extends EquipableItemImpl> factory;
 
     /**
      * Create a new {@link thedd.model.item.equipableitem.EquipableItem} with the given rarity.
@@ -58,8 +60,31 @@ public class EquipableItemImpl extends AbstractItem implements EquipableItem {
      *          description of the Item
      */
     public EquipableItemImpl(final int id, final String name, final EquipableItemType t, final ItemRarity rarity, final String description) {
+        this(id, name, t, rarity, description, r -> new EquipableItemImpl(id, name, t, r, description));
+    }
+
+    /**
+     * Create a new {@link thedd.model.item.equipableitem.EquipableItem} with the given rarity,
+     * whose copies are created by the given factory.
+     * Subclasses pass their own constructor, so that {@link #getCopy()} returns an item of their type.
+     * @param id
+     *          id of the item
+     * @param name
+     *          name of the item
+     * @param t
+     *          type of the object
+     * @param rarity
+     *          rarity of the equipable item
+     * @param description
+     *          description of the Item
+     * @param factory
+     *          creates a new item of the same kind with the given rarity
+     */
+    protected EquipableItemImpl(final int id, final String name, final EquipableItemType t, final ItemRarity rarity,
+                                final String description, final Function<ItemRarity, ? extends EquipableItemImpl> factory) {
         super(id, name, rarity, description);
         this.type = Objects.requireNonNull(t);
+        this.factory = Objects.requireNonNull(factory);
         providedEffects = new ArrayList<>();
         additionalActions = new ArrayList<>();
         isEquipped = false;
@@ -83,6 +108,7 @@ public class EquipableItemImpl extends AbstractItem implements EquipableItem {
     @Override
     public final void onEquip(final ActionActor equipper) {
         Objects.requireNonNull(equipper);
+        checkModifiable();
         additionalActions.forEach(equipper::addActionToAvailable);
         providedEffects.forEach(e -> e.apply(equipper));
         this.isEquipped = true;
@@ -110,6 +136,7 @@ public class EquipableItemImpl extends AbstractItem implements EquipableItem {
 
     @Override
     public final void addActionEffect(final ActionEffect newEffect) {
+        checkModifiable();
         final int maxNumOfEffects = this.getRarityModifiers().get(this.getRarity()).getLeft() + NUM_OF_INNATE_MODIFIERS;
         if (providedEffects.size() < maxNumOfEffects) {
             providedEffects.add(Objects.requireNonNull(newEffect.getCopy()));
@@ -120,6 +147,7 @@ public class EquipableItemImpl extends AbstractItem implements EquipableItem {
 
     @Override
     public final void addAdditionalAction(final Action newAction) {
+        checkModifiable();
         if (additionalActions.size() < this.getRarityModifiers().get(this.getRarity()).getRight()) {
             additionalActions.add(Objects.requireNonNull(newAction.getCopy()));
         } else {
@@ -167,4 +195,24 @@ public class EquipableItemImpl extends AbstractItem implements EquipableItem {
         return NUM_OF_INNATE_MODIFIERS;
     }
 
+    @Override
+    public final boolean isEquipped() {
+        return this.isEquipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The copy is created by the factory of the item, and its innate effects
+     * are replaced by copies of the effects and actions of this item.
+     */
+    @Override
+    public final EquipableItem getCopy() {
+        final EquipableItemImpl copy = factory.apply(getRarity());
+        copy.providedEffects.clear();
+        copy.additionalActions.clear();
+        providedEffects.forEach(e -> copy.providedEffects.add(e.getCopy()));
+        additionalActions.forEach(a -> copy.additionalActions.add(a.getCopy()));
+        return copy;
+    }
+
 }
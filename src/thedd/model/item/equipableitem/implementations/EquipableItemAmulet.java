@@ -26,7 +26,7 @@ public final class EquipableItemAmulet extends EquipableItemImpl {
      *  the rarity of the new item
      */
     private EquipableItemAmulet(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemAmulet::new);
         this.addActionEffect(new EquipmentStatisticChangerEffect(Statistic.HEALTH_POINT, ADDITIONAL_HP));
     }
 
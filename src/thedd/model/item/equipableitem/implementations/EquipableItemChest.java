@@ -26,7 +26,7 @@ public final class EquipableItemChest extends EquipableItemImpl {
      *          the rarity of the new Item
      */
     private EquipableItemChest(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemChest::new);
         this.addActionEffect(new DamageResistanceAdderEffect(BASE_DAMAGE_REDUCTION, EffectTag.NORMAL_DAMAGE, false, false));
     }
 
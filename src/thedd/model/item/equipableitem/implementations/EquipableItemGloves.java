@@ -26,7 +26,7 @@ public final class EquipableItemGloves extends EquipableItemImpl {
      *  the rarity of the new Gloves
      */
     private EquipableItemGloves(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemGloves::new);
         this.addActionEffect(new DamageResistanceAdderEffect(BASE_DAMAGE_REDUCTION, EffectTag.NORMAL_DAMAGE, false, false));
     }
 
@@ -26,7 +26,7 @@ public final class EquipableItemGreaves extends EquipableItemImpl {
      *  the rarity of the new Greaves
      */
     private EquipableItemGreaves(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemGreaves::new);
         this.addActionEffect(new DamageResistanceAdderEffect(BASE_DAMAGE_REDUCTION, EffectTag.NORMAL_DAMAGE, false, false));
     }
 
@@ -26,7 +26,7 @@ public final class EquipableItemHelmet extends EquipableItemImpl {
      *  the rarity of the new Item
      */
     private EquipableItemHelmet(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemHelmet::new);
         this.addActionEffect(new DamageResistanceAdderEffect(BASE_DAMAGE_REDUCTION, EffectTag.NORMAL_DAMAGE, false, false));
     }
 
@@ -25,7 +25,7 @@ public final class EquipableItemRing extends EquipableItemImpl {
      *  the rarity of the new Ring
      */
     private EquipableItemRing(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemRing::new);
         this.addActionEffect(new EquipmentStatisticChangerEffect(Statistic.STRENGTH, ADDITIONAL_STRENGTH));
     }
 
@@ -32,7 +32,7 @@ public final class EquipableItemShield extends EquipableItemImpl {
      *          the rarity of the new item
      */
     private EquipableItemShield(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, Objects.requireNonNull(rarity), DESCRIPTION);
+        super(ID, NAME, TYPE, Objects.requireNonNull(rarity), DESCRIPTION, EquipableItemShield::new);
         final HitChanceModifier hcm = new HitChanceModifier(-BASE_HIT_CHANCE_MOD, false, ModifierActivation.ACTIVE_ON_DEFENCE);
         hcm.addRequirement(new TagRequirement<>(false, TagRequirementType.REQUIRED, ActionTag.OFFENSIVE));
         this.addActionEffect(new ActionModifierAdderEffect(hcm, false));
@@ -32,7 +32,7 @@ public final class EquipableItemSword extends EquipableItemImpl {
      *          the rarity of the new item
      */
     private EquipableItemSword(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, rarity, DESCRIPTION);
+        super(ID, NAME, TYPE, rarity, DESCRIPTION, EquipableItemSword::new);
         this.addActionEffect(
             new ActionModifierAdderEffect(
                 new DamageAdderModifier(BASE_DAMAGE, 
@@ -33,7 +33,7 @@ public final class EquipableItemTwoHandedAxe extends EquipableItemImpl {
      *  the rarity of the new item
      */
     private EquipableItemTwoHandedAxe(final ItemRarity rarity) {
-        super(ID, NAME, TYPE, Objects.requireNonNull(rarity), DESCRIPTION);
+        super(ID, NAME, TYPE, Objects.requireNonNull(rarity), DESCRIPTION, EquipableItemTwoHandedAxe::new);
         final DamageAdderModifier dmgMod = new DamageAdderModifier(BASE_DAMAGE,
                                                                    Arrays.asList(new EffectTagsRequirement<>(false, TagRequirementType.REQUIRED, Arrays.asList(EffectTag.NORMAL_DAMAGE))),
                                                                    EffectTag.NORMAL_DAMAGE,
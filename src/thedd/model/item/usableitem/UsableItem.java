@@ -25,6 +25,7 @@ public interface UsableItem extends Item {
      * to the {@link thedd.model.combat.action.Action} of the item.
      * @param effect
      *  the effect to add to the item action
+     * @throws IllegalStateException if the item is a shared instance, see {@link thedd.model.item.ItemInterner}
      */
     void addActionEffect(ActionEffect effect);
 
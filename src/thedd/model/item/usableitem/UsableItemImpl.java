@@ -72,6 +72,7 @@ public class UsableItemImpl extends AbstractItem implements UsableItem {
 
     @Override
     public final void addActionEffect(final ActionEffect effect) {
+        checkModifiable();
         if (!action.isPresent()) {
             action = Optional.of(buildAction());
         }
@@ -52,7 +52,18 @@ public final class RoomEventHelper {
      *  an instance of {@link thedd.model.roomevent.interactableactionperformer.TreasureChest}.
      */
     public static RoomEvent getTreasureChest() {
-        return TreasureChest.newInstance();
+        return getTreasureChest(RNG);
+    }
+    /**
+     * Returns a {@link thedd.model.roomevent.interactableactionperformer.TreasureChest}
+     * whose item is extracted with the given generator.
+     * @param random
+     *  the generator the item of the chest is extracted with.
+     * @return
+     *  an instance of {@link thedd.model.roomevent.interactableactionperformer.TreasureChest}.
+     */
+    public static RoomEvent getTreasureChest(final Random random) {
+        return TreasureChest.newInstance(random);
     }
     /**
      * Returns a {@link thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer}.
@@ -60,6 +71,17 @@ public final class RoomEventHelper {
      *  an instance of {@link thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer}.
      */
     public static RoomEvent getContraption() {
-            return CONTRAPTION_DATABASE.get(RNG.nextInt(CONTRAPTION_DATABASE.size())).get();
+        return getContraption(RNG);
+    }
+    /**
+     * Returns a {@link thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer}
+     * chosen with the given generator.
+     * @param random
+     *  the generator the contraption is chosen with.
+     * @return
+     *  an instance of {@link thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer}.
+     */
+    public static RoomEvent getContraption(final Random random) {
+        return CONTRAPTION_DATABASE.get(random.nextInt(CONTRAPTION_DATABASE.size())).get();
     }
 }
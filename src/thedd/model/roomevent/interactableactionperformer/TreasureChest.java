@@ -1,6 +1,8 @@
 package thedd.model.roomevent.interactableactionperformer;
 
 import java.util.Arrays;
+import java.util.Random;
+
 import thedd.model.combat.action.ActionBuilder;
 import thedd.model.combat.action.ActionCategory;
 import thedd.model.combat.action.LogMessageTypeImpl;
@@ -19,11 +21,19 @@ public class TreasureChest extends AbstractInteractableActionPerformer implement
      * 
      */
     public TreasureChest() {
+        this(new Random());
+    }
+
+    /**
+     * @param random
+     *  the generator the item of the chest is extracted with.
+     */
+    public TreasureChest(final Random random) {
         super(NAME, new ActionBuilder().setName(NAME)
                                        .setCategory(ActionCategory.INTERACTABLE)
                                        .setBaseHitChance(1d)
                                        .setDescription(DESCRIPTION)
-                                       .setEffects(Arrays.asList(new ItemGiverEffect()))
+                                       .setEffects(Arrays.asList(new ItemGiverEffect(random)))
                                        .setLogMessage(LogMessageTypeImpl.TREASURE_ACTION)
                                        .build());
     }
@@ -37,6 +47,17 @@ public class TreasureChest extends AbstractInteractableActionPerformer implement
         return new TreasureChest();
     }
 
+    /**
+     * 
+     * @param random
+     *  the generator the item of the chest is extracted with.
+     * @return
+     *  a new instance of TreasureChest.
+     */
+    public static InteractableActionPerformer newInstance(final Random random) {
+        return new TreasureChest(random);
+    }
+
     @Override
     public final boolean isSkippable() {
         return true;
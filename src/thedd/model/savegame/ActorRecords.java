@@ -0,0 +1,60 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import thedd.model.character.BasicCharacter;
+
+/**
+ * Encoding of the state of a single {@link thedd.model.character.BasicCharacter},
+ * as it is stored for the player by {@link thedd.model.savegame.SaveGameManagerImpl}:
+ * its statistics, its inventory with the equipment and its statuses.
+ * <p>
+ * Neither the kind nor the name of the character are stored, since they define
+ * the character rather than its state: a state is restored on a character of
+ * the same kind.
+ */
+public final class ActorRecords {
+
+    private static final SaveGameManagerImpl CODEC = new SaveGameManagerImpl();
+
+    private ActorRecords() {
+    }
+
+    /**
+     * This method allows to encode the state of a character.
+     * 
+     * @param character is the character to encode
+     * @return the encoded state
+     * @throws IOException if an item of the character can't be stored
+     */
+    public static byte[] write(final BasicCharacter character) throws IOException {
+        Objects.requireNonNull(character);
+        final SaveGameOutput output = new SaveGameOutput();
+        CODEC.writeStatistics(output, character);
+        CODEC.writeItems(output, character);
+        CODEC.writeStatuses(output, character);
+        return output.toByteArray();
+    }
+
+    /**
+     * This method allows to restore an encoded state on a character, replacing
+     * its statistics, inventory, equipment and statuses. The name of the
+     * character is left as it is.
+     * 
+     * @param input     is the encoded state
+     * @param character is the character the state is restored on
+     * @throws IOException if the state is not valid
+     */
+    public static void read(final ByteBuffer input, final BasicCharacter character) throws IOException {
+        Objects.requireNonNull(input);
+        Objects.requireNonNull(character);
+        try {
+            CODEC.readState(character, input, input, input);
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            throw new IOException("Corrupted actor state", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package thedd.model.savegame;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import thedd.model.Model;
+
+/**
+ * Interface that define an automatic save of the game session, meant to be
+ * called often, as every time the player changes room.
+ */
+public interface AutoSaver extends Closeable {
+
+    /**
+     * This method allows to save the parts of the game session changed since the
+     * last call. The file is written in background, so this method never waits
+     * for it.
+     * 
+     * @param model is the model of the game session
+     * @throws IllegalArgumentException if the game hasn't been setted yet
+     * @throws IllegalStateException    if the autosaver has been closed
+     */
+    void autosave(Model model);
+
+    /**
+     * This method allows to restore the game session last saved. It waits for the
+     * pending writes to complete.
+     * 
+     * @return the model of the restored game session
+     * @throws IOException if the file can't be read or it's not a valid autosave
+     */
+    Model restore() throws IOException;
+
+    /**
+     * This method waits for the pending writes to complete and stops the
+     * background writer.
+     * 
+     * @throws IOException if any of the writes failed
+     */
+    @Override
+    void close() throws IOException;
+}
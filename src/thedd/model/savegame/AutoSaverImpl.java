@@ -0,0 +1,301 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import thedd.model.Model;
+import thedd.model.ModelImpl;
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.statistics.StatValues;
+import thedd.model.combat.status.Status;
+import thedd.model.world.environment.Environment;
+import thedd.model.roomevent.RoomEvent;
+import thedd.model.roomevent.combatevent.CombatEvent;
+import thedd.model.world.floor.Floor;
+
+/**
+ * Implementation of {@link thedd.model.savegame.AutoSaver} that writes only
+ * the parts of the game session changed since the last autosave.
+ * <p>
+ * The session is split in records, encoded as in
+ * {@link thedd.model.savegame.SaveGameManagerImpl}: environment, room,
+ * character, items and statuses. The room holds the plan of the current floor,
+ * the index of the current room and its events with their completion, so a
+ * restored game goes on in the same room, without drawing it again. A record is written again only when the modification
+ * counts of the model pieces it's made of have changed. Changed records are
+ * encoded on the calling thread, which is cheap and never touches the disk,
+ * and are then appended to the file as segments by a background thread; the
+ * last segment of each record wins. Once enough segments have been appended
+ * the file is compacted, rewriting only the last segment of each record into
+ * a new file that replaces the old one.
+ */
+public final class AutoSaverImpl implements AutoSaver {
+
+    private static final int MAGIC = 0x54484441;
+    private static final short VERSION = 4;
+    private static final int BITS_PER_EVENT = 4;
+    private static final int SEGMENT_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    private static final int COMPACTION_THRESHOLD = 32;
+
+    private enum Record {
+        ENVIRONMENT, ROOM, CHARACTER, ITEMS, STATUSES;
+    }
+
+    private final Path file;
+    private final SaveGameManagerImpl codec;
+    private final ExecutorService writer;
+    private final AtomicReference<IOException> failure;
+    /* Owned by the thread calling autosave. */
+    private Optional<BasicCharacter> lastPlayer;
+    private Optional<Environment> lastEnvironment;
+    private final Map<Record, Long> lastVersions;
+    /* Owned by the writer thread. */
+    private final Map<Record, byte[]> lastRecords;
+    private int numberOfSegments;
+    private boolean compactionNeeded;
+
+    /**
+     * AutoSaverImpl constructor.
+     * 
+     * @param file is the file to write, replaced on the first autosave
+     */
+    public AutoSaverImpl(final Path file) {
+        this.file = Objects.requireNonNull(file);
+        this.codec = new SaveGameManagerImpl();
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.failure = new AtomicReference<>();
+        this.lastPlayer = Optional.empty();
+        this.lastEnvironment = Optional.empty();
+        this.lastVersions = new EnumMap<>(Record.class);
+        this.lastRecords = new EnumMap<>(Record.class);
+        this.compactionNeeded = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void autosave(final Model model) {
+        Objects.requireNonNull(model);
+        if (this.writer.isShutdown()) {
+            throw new IllegalStateException("The autosave has been closed");
+        }
+        final BasicCharacter player = model.getPlayerCharacter();
+        final Environment environment = model.getEnvironment();
+        final boolean newSession = !this.lastPlayer.isPresent()
+                || this.lastPlayer.get() != player || this.lastEnvironment.get() != environment;
+        if (newSession) {
+            this.lastVersions.clear();
+            this.lastPlayer = Optional.of(player);
+            this.lastEnvironment = Optional.of(environment);
+        }
+        final Map<Record, byte[]> changed = new EnumMap<>(Record.class);
+        for (final Record record : Record.values()) {
+            final long version = getVersion(record, player, environment);
+            final Long lastVersion = this.lastVersions.get(record);
+            if (lastVersion == null || lastVersion != version) {
+                final Optional<byte[]> encoded = encode(record, player, environment);
+                if (encoded.isPresent()) {
+                    changed.put(record, encoded.get());
+                    this.lastVersions.put(record, version);
+                }
+            }
+        }
+        if (!changed.isEmpty()) {
+            this.writer.execute(() -> write(changed, newSession));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model restore() throws IOException {
+        if (!this.writer.isShutdown()) {
+            try {
+                this.writer.submit(() -> { }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            final MappedByteBuffer input = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (input.getInt() != MAGIC || input.getShort() != VERSION) {
+                throw new IOException("Not an autosave");
+            }
+            final Map<Record, ByteBuffer> records = new EnumMap<>(Record.class);
+            while (input.remaining() >= SEGMENT_HEADER_SIZE) {
+                final int type = input.get();
+                final int length = input.getInt();
+                if (type < 0 || type >= Record.values().length || length < 0) {
+                    throw new IOException("Corrupted autosave");
+                }
+                if (length > input.remaining()) {
+                    break; //the last segment was being written: the previous ones are still valid
+                }
+                final ByteBuffer segment = input.duplicate();
+                segment.limit(input.position() + length);
+                records.put(Record.values()[type], segment.slice());
+                input.position(input.position() + length);
+            }
+            if (records.size() != Record.values().length) {
+                throw new IOException("Incomplete autosave");
+            }
+            final BasicCharacter player = this.codec.readPlayer(records.get(Record.CHARACTER),
+                                                                records.get(Record.ITEMS),
+                                                                records.get(Record.STATUSES));
+            final Random random = new Random();
+            return new ModelImpl(player, this.codec.readEnvironment(records.get(Record.ENVIRONMENT),
+                                                                    records.get(Record.ROOM), player, random),
+                                 random);
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            throw new IOException("Corrupted autosave", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.shutdown();
+        try {
+            while (!this.writer.awaitTermination(1, TimeUnit.SECONDS)) {
+                continue;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        final IOException error = this.failure.get();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /*
+     * Statuses lose duration without being removed from the actor, so their
+     * durations are part of the version as well. The version of the room packs
+     * the completion and the status of the combat of every event next to the
+     * index of the room, since events are completed without leaving the room.
+     */
+    private long getVersion(final Record record, final BasicCharacter player, final Environment environment) {
+        switch (record) {
+        case ENVIRONMENT:
+            return environment.getCurrentFloorIndex();
+        case ROOM:
+            final Floor floor = environment.getCurrentFloor();
+            long events = 0;
+            if (floor.getCurrentRoomIndex() >= 0) {
+                for (final RoomEvent event : floor.getCurrentRoom().getEvents()) {
+                    final int status = event instanceof CombatEvent
+                            ? ((CombatEvent) event).getHostileEncounter().getCombatLogic().getExecutionStatus().ordinal()
+                            : 0;
+                    events = (events << BITS_PER_EVENT) ^ ((status << 1) | (event.isCompleted() ? 1 : 0));
+                }
+            }
+            return ((long) environment.getCurrentFloorIndex() << (Integer.SIZE + Short.SIZE))
+                    ^ ((long) floor.getCurrentRoomIndex() << Integer.SIZE) ^ events;
+        case CHARACTER:
+            return player.getAllStat().values().stream().mapToLong(StatValues::getModificationCount).sum();
+        case ITEMS:
+            return player.getInventory().getModificationCount();
+        case STATUSES:
+            return ((long) player.getModificationCount() << Integer.SIZE)
+                    + player.getStatuses().stream().mapToInt(Status::getCurrentDuration).sum();
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private Optional<byte[]> encode(final Record record, final BasicCharacter player, final Environment environment) {
+        final SaveGameOutput output = new SaveGameOutput();
+        switch (record) {
+        case ENVIRONMENT:
+            this.codec.writeEnvironment(output, environment);
+            break;
+        case ROOM:
+            try {
+                this.codec.writeRoom(output, environment.getCurrentFloor());
+            } catch (IOException e) {
+                this.failure.compareAndSet(null, e);
+                return Optional.empty();
+            }
+            break;
+        case CHARACTER:
+            this.codec.writeCharacter(output, player);
+            break;
+        case ITEMS:
+            try {
+                this.codec.writeItems(output, player);
+            } catch (IOException e) {
+                this.failure.compareAndSet(null, e);
+                return Optional.empty();
+            }
+            break;
+        case STATUSES:
+            this.codec.writeStatuses(output, player);
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+        return Optional.of(output.toByteArray());
+    }
+
+    private void write(final Map<Record, byte[]> changed, final boolean newSession) {
+        if (newSession) {
+            this.lastRecords.clear();
+        }
+        this.lastRecords.putAll(changed);
+        try {
+            if (newSession || this.compactionNeeded
+                    || this.numberOfSegments + changed.size() > COMPACTION_THRESHOLD) {
+                final SaveGameOutput output = new SaveGameOutput();
+                output.putInt(MAGIC);
+                output.putShort(VERSION);
+                putSegments(output, this.lastRecords);
+                output.writeTo(this.file);
+                this.numberOfSegments = this.lastRecords.size();
+                this.compactionNeeded = false;
+            } else {
+                final SaveGameOutput output = new SaveGameOutput();
+                putSegments(output, changed);
+                output.appendTo(this.file);
+                this.numberOfSegments += changed.size();
+            }
+        } catch (IOException e) {
+            this.failure.compareAndSet(null, e);
+            this.compactionNeeded = true;
+        }
+    }
+
+    private void putSegments(final SaveGameOutput output, final Map<Record, byte[]> records) {
+        records.forEach((record, bytes) -> {
+            output.putByte(record.ordinal());
+            output.putInt(bytes.length);
+            output.putBytes(bytes);
+        });
+    }
+}
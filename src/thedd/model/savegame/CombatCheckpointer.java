@@ -0,0 +1,64 @@
+package thedd.model.savegame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import thedd.model.Model;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.instance.ActionExecutionInstance;
+
+/**
+ * Interface that define checkpoints of a combat in progress, so that it can be
+ * resumed from the last ended round if the application stops during the fight.
+ */
+public interface CombatCheckpointer extends Closeable {
+
+    /**
+     * This method allows to save the game session together with its combat. It
+     * has to be called when a round has ended, before the next one is prepared.
+     * The checkpoint is encoded at once and written in background, so this method
+     * never waits for the file.
+     * 
+     * @param model    is the model of the game session
+     * @param instance is the instance of the combat
+     * @throws IOException           if an enemy of the combat can't be stored or a
+     *                               previous write failed
+     * @throws IllegalStateException if the current round of the instance hasn't
+     *                               ended or the checkpointer has been closed
+     */
+    void checkpoint(Model model, ActionExecutionInstance instance) throws IOException;
+
+    /**
+     * This method allows to restore the last checkpoint. It waits for the pending
+     * writes to complete. The combat restarts at the end of the saved round, so
+     * the next step of the executor is {@link ActionExecutor#prepareNextRound()}.
+     * The restored enemies and executor replace the combat of the current room of
+     * the restored game session.
+     * 
+     * @return the game session and the executor of its combat, or Optional.empty
+     *         if there's no checkpoint
+     * @throws IOException if the checkpoint can't be read or it's not valid
+     */
+    Optional<Pair<Model, ActionExecutor>> restore() throws IOException;
+
+    /**
+     * This method allows to delete the last checkpoint, once the combat is over.
+     * The file is deleted in background, after the pending writes.
+     * 
+     * @throws IOException           if a previous write failed
+     * @throws IllegalStateException if the checkpointer has been closed
+     */
+    void clear() throws IOException;
+
+    /**
+     * This method waits for the pending writes to complete and stops the
+     * background writer.
+     * 
+     * @throws IOException if any of the writes failed
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,217 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import thedd.model.Model;
+import thedd.model.character.BasicCharacter;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actionexecutor.DefaultCombatActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionInstanceImpl;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.roomevent.RoomEventHelper;
+import thedd.model.roomevent.RoomEventType;
+import thedd.model.roomevent.combatevent.CombatEvent;
+import thedd.model.world.room.Room;
+
+/**
+ * Implementation of {@link thedd.model.savegame.CombatCheckpointer}.
+ * <p>
+ * A checkpoint is the save game of {@link thedd.model.savegame.SaveGameManagerImpl}
+ * followed by the round number and the enemies of the combat. When a round has
+ * ended the queues of the executor are empty, so the actors and the round
+ * number are the whole state of the combat. The enemies are stored as in
+ * {@link thedd.model.savegame.SaveGameManagerImpl}. Since the rooms of a
+ * restored floor are created again, the restored enemies replace the combat of
+ * the current room.
+ * <p>
+ * Checkpoints are encoded on the calling thread and written by a background
+ * thread, as the autosaves of {@link thedd.model.savegame.AutoSaverImpl}. Every
+ * checkpoint is written to a temporary file which then atomically replaces the
+ * previous checkpoint, so the file always holds a complete checkpoint even if
+ * the application stops while writing it.
+ */
+public final class CombatCheckpointerImpl implements CombatCheckpointer {
+
+    private static final int MAGIC = 0x54484443;
+    private static final short VERSION = 3;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final SaveGameManagerImpl codec;
+    private final ExecutorService writer;
+    private final AtomicReference<IOException> failure;
+
+    /**
+     * CombatCheckpointerImpl constructor.
+     * 
+     * @param file is the file of the checkpoint
+     */
+    public CombatCheckpointerImpl(final Path file) {
+        this.file = Objects.requireNonNull(file);
+        this.codec = new SaveGameManagerImpl();
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.failure = new AtomicReference<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void checkpoint(final Model model, final ActionExecutionInstance instance) throws IOException {
+        Objects.requireNonNull(model);
+        if (Objects.requireNonNull(instance).getExecutionStatus() != ExecutionStatus.ROUND_ENDED) {
+            throw new IllegalStateException("Checkpoints can be taken only at the end of a round");
+        }
+        checkWriter();
+        final SaveGameOutput output = new SaveGameOutput();
+        output.putInt(MAGIC);
+        output.putShort(VERSION);
+        this.codec.writeGame(output, model);
+        output.putInt(instance.getRoundNumber());
+        final List<ActionActor> enemies = instance.getNPCsParty();
+        output.putInt(enemies.size());
+        for (final ActionActor enemy : enemies) {
+            this.codec.writeEnemy(output, enemy);
+        }
+        this.writer.execute(() -> write(output));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pair<Model, ActionExecutor>> restore() throws IOException {
+        if (!this.writer.isShutdown()) {
+            try {
+                this.writer.submit(() -> { }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            final MappedByteBuffer input = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (input.getInt() != MAGIC || input.getShort() != VERSION) {
+                throw new IOException("Not a combat checkpoint");
+            }
+            final Model model = this.codec.readGame(input);
+            final ActionExecutionInstance instance = new ExecutionInstanceImpl();
+            instance.addPlayerPartyMember(model.getPlayerCharacter());
+            final int roundNumber = input.getInt();
+            final int numOfEnemies = input.getInt();
+            final List<ActionActor> enemies = new ArrayList<>();
+            for (int i = 0; i < numOfEnemies; i++) {
+                final BasicCharacter enemy = this.codec.readEnemy(input);
+                instance.addNPCsPartyMember(enemy);
+                enemies.add(enemy);
+            }
+            while (roundNumber > instance.getRoundNumber()) {
+                instance.increaseRoundNumber();
+            }
+            instance.setExecutionStatus(ExecutionStatus.ROUND_ENDED);
+            instance.getAllParties().forEach(a -> a.setIsInCombat(true));
+            final ActionExecutor executor = new DefaultCombatActionExecutor();
+            executor.setExecutionInstance(instance);
+            attach(model.getEnvironment().getCurrentFloor().getCurrentRoom(), enemies, executor);
+            return Optional.of(new ImmutablePair<>(model, executor));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            throw new IOException("Corrupted combat checkpoint", e);
+        }
+    }
+
+    private static void attach(final Room room, final List<ActionActor> enemies, final ActionExecutor executor) {
+        final CombatEvent combat = RoomEventHelper.getCombat();
+        enemies.forEach(combat.getHostileEncounter()::addNPC);
+        combat.getHostileEncounter().setCombatLogic(executor);
+        room.removeEvents(RoomEventType.COMBAT_EVENT);
+        room.addEvent(combat);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() throws IOException {
+        checkWriter();
+        this.writer.execute(() -> {
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                this.failure.compareAndSet(null, e);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.writer.shutdown();
+        try {
+            while (!this.writer.awaitTermination(1, TimeUnit.SECONDS)) {
+                continue;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+        final IOException error = this.failure.getAndSet(null);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /*
+     * A failed write is reported once, by the first call following it.
+     */
+    private void checkWriter() throws IOException {
+        if (this.writer.isShutdown()) {
+            throw new IllegalStateException("The checkpointer has been closed");
+        }
+        final IOException error = this.failure.getAndSet(null);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void write(final SaveGameOutput output) {
+        final Path temporary = this.file.resolveSibling(this.file.getFileName() + TEMPORARY_SUFFIX);
+        try {
+            output.writeTo(temporary);
+            Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            this.failure.compareAndSet(null, e);
+        }
+    }
+}
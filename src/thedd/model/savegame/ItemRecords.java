@@ -0,0 +1,186 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+import thedd.model.character.statistics.Statistic;
+import thedd.model.combat.action.Action;
+import thedd.model.combat.action.effect.ActionEffect;
+import thedd.model.combat.action.effect.ActionModifierAdderEffect;
+import thedd.model.combat.action.effect.DamageResistanceAdderEffect;
+import thedd.model.combat.action.effect.EquipmentStatisticChangerEffect;
+import thedd.model.combat.modifier.DamageAdderModifier;
+import thedd.model.combat.tag.EffectTag;
+import thedd.model.item.Item;
+import thedd.model.item.ItemFactory;
+import thedd.model.item.ItemInterner;
+import thedd.model.item.ItemRarityImpl;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.item.equipableitem.EquipableItemImpl;
+import thedd.model.item.equipableitem.EquipableItemType;
+
+/**
+ * Encoding of {@link thedd.model.item.Item} inside a save game.
+ * <p>
+ * An item is stored as the base name and rarity it is created from by
+ * {@link thedd.model.item.ItemFactory}, followed, for equipable items, by their
+ * id, description and type, the effects and the actions. An equipable item
+ * which starts as the item of the factory stores only the effects rolled on top
+ * of the innate ones; any other one stores all its effects and is restored as a
+ * plain equipable item, so it's restored equal to the saved one.
+ */
+final class ItemRecords {
+
+    private static final EffectTag[] EFFECT_TAGS = EffectTag.values();
+    private static final Statistic[] STATISTICS = Statistic.values();
+    private static final ItemRarityImpl[] RARITIES = ItemRarityImpl.values();
+    private static final EquipableItemType[] TYPES = EquipableItemType.values();
+
+    private enum EffectKind {
+        DAMAGE_ADDER, RESISTANCE, STATISTIC;
+    }
+
+    private ItemRecords() {
+    }
+
+    /**
+     * Append an item.
+     * 
+     * @param output the output to append to
+     * @param item   the item to append
+     * @throws IOException if the item has an effect that can't be saved
+     */
+    static void write(final SaveGameOutput output, final Item item) throws IOException {
+        output.putString(item.getBaseName());
+        output.putByte(((ItemRarityImpl) item.getRarity()).ordinal());
+        if (!item.isEquipable()) {
+            return;
+        }
+        final EquipableItem eItem = (EquipableItem) item;
+        final List<ActionEffect> effects = eItem.getActionEffects();
+        final int innate = getNumberOfFactoryEffects(eItem);
+        output.putInt(eItem.getId());
+        output.putString(eItem.getDescription());
+        output.putByte(eItem.getType().ordinal());
+        output.putByte(innate >= 0 ? 1 : 0);
+        output.putByte(effects.size() - Math.max(innate, 0));
+        for (final ActionEffect effect : effects.subList(Math.max(innate, 0), effects.size())) {
+            writeEffect(output, effect);
+        }
+        output.putByte(eItem.getAdditionalActions().size());
+        for (final Action action : eItem.getAdditionalActions()) {
+            output.putString(action.getName());
+        }
+    }
+
+    /**
+     * Read an item appended with {@link #write(SaveGameOutput, Item)}.
+     * 
+     * @param input the buffer to read from
+     * @return the shared instance of the item read, see {@link thedd.model.item.ItemInterner}
+     * @throws IOException if the record is not a valid item
+     */
+    static Item read(final ByteBuffer input) throws IOException {
+        final String baseName = SaveGameOutput.getString(input);
+        final ItemRarityImpl rarity;
+        final Item factoryItem;
+        try {
+            rarity = RARITIES[input.get()];
+            factoryItem = ItemFactory.createItem(baseName, rarity);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupted item " + baseName, e);
+        }
+        final Item item;
+        if (factoryItem.isEquipable()) {
+            final int id = input.getInt();
+            final String description = SaveGameOutput.getString(input);
+            final int type = input.get();
+            if (type < 0 || type >= TYPES.length) {
+                throw new IOException("Corrupted item " + baseName);
+            }
+            item = input.get() != 0 ? factoryItem : new EquipableItemImpl(id, baseName, TYPES[type], rarity, description);
+        } else {
+            item = factoryItem;
+        }
+        if (item.isEquipable()) {
+            final EquipableItem eItem = (EquipableItem) item;
+            final int numOfEffects = input.get();
+            for (int i = 0; i < numOfEffects; i++) {
+                eItem.addActionEffect(readEffect(input));
+            }
+            final int numOfActions = input.get();
+            for (int i = 0; i < numOfActions; i++) {
+                final String name = SaveGameOutput.getString(input);
+                eItem.addAdditionalAction(ItemFactory.getAdditionalAction(name)
+                                                     .orElseThrow(() -> new IOException("Unknown action " + name)));
+            }
+        }
+        return ItemInterner.intern(item);
+    }
+
+    /*
+     * Number of innate effects of an item which starts as the item of the factory
+     * with the same base name and rarity, -1 if it doesn't.
+     */
+    private static int getNumberOfFactoryEffects(final EquipableItem item) {
+        final Item factoryItem;
+        try {
+            factoryItem = ItemFactory.createItem(item.getBaseName(), item.getRarity());
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        if (!factoryItem.isEquipable() || factoryItem.getId() != item.getId()
+                || !Objects.equals(factoryItem.getDescription(), item.getDescription())
+                || ((EquipableItem) factoryItem).getType() != item.getType()) {
+            return -1;
+        }
+        final List<ActionEffect> innate = ((EquipableItem) factoryItem).getActionEffects();
+        final List<ActionEffect> effects = item.getActionEffects();
+        return effects.size() >= innate.size() && effects.subList(0, innate.size()).equals(innate) ? innate.size() : -1;
+    }
+
+    private static void writeEffect(final SaveGameOutput output, final ActionEffect effect) throws IOException {
+        if (effect instanceof ActionModifierAdderEffect
+                && ((ActionModifierAdderEffect) effect).getModifier() instanceof DamageAdderModifier
+                && ((DamageAdderModifier) ((ActionModifierAdderEffect) effect).getModifier()).getAddedTag() instanceof EffectTag) {
+            final DamageAdderModifier modifier = (DamageAdderModifier) ((ActionModifierAdderEffect) effect).getModifier();
+            output.putByte(EffectKind.DAMAGE_ADDER.ordinal());
+            output.putByte(((EffectTag) modifier.getAddedTag()).ordinal());
+            output.putDouble(modifier.getValue());
+        } else if (effect instanceof DamageResistanceAdderEffect) {
+            final DamageResistanceAdderEffect resistance = (DamageResistanceAdderEffect) effect;
+            output.putByte(EffectKind.RESISTANCE.ordinal());
+            output.putByte(resistance.getResistedTag().ordinal());
+            output.putDouble(resistance.getValue());
+        } else if (effect instanceof EquipmentStatisticChangerEffect) {
+            final EquipmentStatisticChangerEffect statistic = (EquipmentStatisticChangerEffect) effect;
+            output.putByte(EffectKind.STATISTIC.ordinal());
+            output.putByte(statistic.getStatistic().ordinal());
+            output.putInt(statistic.getValue());
+        } else {
+            throw new IOException("Unsupported item effect " + effect.getDescription());
+        }
+    }
+
+    private static ActionEffect readEffect(final ByteBuffer input) throws IOException {
+        try {
+            switch (EffectKind.values()[input.get()]) {
+            case DAMAGE_ADDER:
+                final EffectTag damageTag = EFFECT_TAGS[input.get()];
+                return ItemFactory.createDamageAdderEffect(damageTag, input.getDouble());
+            case RESISTANCE:
+                final EffectTag resistedTag = EFFECT_TAGS[input.get()];
+                return ItemFactory.createResistanceEffect(resistedTag, input.getDouble());
+            case STATISTIC:
+                final Statistic stat = STATISTICS[input.get()];
+                return ItemFactory.createStatisticEffect(stat, input.getInt());
+            default:
+                throw new IOException("Unsupported item effect");
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupted item effect", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import thedd.model.Model;
+
+/**
+ * Interface that define how a game session is saved to a file and restored
+ * from it.
+ */
+public interface SaveGameManager {
+
+    /**
+     * This method allows to save the current game session.
+     * 
+     * @param model is the model of the game session
+     * @param file  is the file to write, replaced if it already exists
+     * @throws IOException              if the file can't be written
+     * @throws IllegalArgumentException if the game hasn't been setted yet
+     */
+    void save(Model model, Path file) throws IOException;
+
+    /**
+     * This method allows to restore a saved game session. The player resumes the
+     * game in the room he was in when the game has been saved, and the events of
+     * that room and the contents of the rooms still to come are restored as they
+     * were.
+     * 
+     * @param file is the file to read
+     * @return the model of the restored game session
+     * @throws IOException if the file can't be read or is not a valid save game
+     */
+    Model load(Path file) throws IOException;
+
+    /**
+     * This method allows to encode the current game session in memory, in the
+     * same format of the save files.
+     * 
+     * @param model is the model of the game session
+     * @return the encoded game session
+     * @throws IOException              if the game session can't be encoded
+     * @throws IllegalArgumentException if the game hasn't been setted yet
+     */
+    byte[] toBytes(Model model) throws IOException;
+
+    /**
+     * This method allows to restore a game session encoded by
+     * {@link #toBytes(Model)}, with the same rules of {@link #load(Path)}.
+     * 
+     * @param data is the encoded game session
+     * @return the model of the restored game session
+     * @throws IOException if data is not a valid save game
+     */
+    Model fromBytes(byte[] data) throws IOException;
+}
@@ -0,0 +1,520 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+
+import thedd.model.Model;
+import thedd.model.ModelImpl;
+import thedd.model.catalog.CatalogLoader;
+import thedd.model.character.BasicCharacter;
+import thedd.model.character.inventory.Inventory;
+import thedd.model.character.statistics.StatValues;
+import thedd.model.character.statistics.Statistic;
+import thedd.model.character.types.CatalogEnemy;
+import thedd.model.character.types.DarkDestructor;
+import thedd.model.character.types.PlayerCharacter;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actionexecutor.DefaultCombatActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.encounter.HostileEncounter;
+import thedd.model.combat.instance.ActionExecutionInstance;
+import thedd.model.combat.instance.ExecutionInstanceImpl;
+import thedd.model.combat.instance.ExecutionStatus;
+import thedd.model.combat.status.Status;
+import thedd.model.combat.status.defensive.DefensiveStatus;
+import thedd.model.combat.status.poison.PoisonStatus;
+import thedd.model.combat.status.weakness.WeaknessStatus;
+import thedd.model.combat.tag.StatusTag;
+import thedd.model.item.Item;
+import thedd.model.item.equipableitem.EquipableItem;
+import thedd.model.roomevent.RoomEvent;
+import thedd.model.roomevent.RoomEventHelper;
+import thedd.model.roomevent.RoomEventType;
+import thedd.model.roomevent.combatevent.CombatEvent;
+import thedd.model.roomevent.interactableactionperformer.ContraptionSanctuary;
+import thedd.model.roomevent.interactableactionperformer.ContraptionTrap;
+import thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer;
+import thedd.model.roomevent.interactableactionperformer.TreasureChest;
+import thedd.model.world.Difficulty;
+import thedd.model.world.environment.Environment;
+import thedd.model.world.environment.EnvironmentImpl;
+import thedd.model.world.floor.Floor;
+import thedd.model.world.floor.FloorImpl;
+import thedd.model.world.floor.details.FloorDetails;
+import thedd.model.world.floor.details.FloorDetailsBuilderImpl;
+import thedd.model.world.room.Room;
+import thedd.model.world.room.RoomContent;
+import thedd.model.world.room.RoomContentDistributor;
+import thedd.model.world.room.RoomContentDistributorImpl;
+import thedd.model.world.room.RoomImpl;
+
+/**
+ * Implementation of {@link thedd.model.savegame.SaveGameManager} with a
+ * compact binary format.
+ * <p>
+ * The save game is encoded in memory and written with a single channel write;
+ * it's read back through a memory mapped buffer, so loading neither copies the
+ * file nor uses reflection. The file contains, in order: the header, the
+ * statistics, the inventory, the equipment and the statuses of the player, the
+ * environment with the options drawn for the next floor and the details of the
+ * current floor, and the room: the plan of the contents of the current floor
+ * and the events of the current room, with their enemies and whether they have
+ * been completed. The rooms already left are not stored, since they can't be
+ * entered again, and the rooms still to come are created from the stored plan,
+ * so nothing is drawn again on load. The modifiers of the player are rebuilt by
+ * equipping the saved items, so none of them is stored.
+ */
+public final class SaveGameManagerImpl implements SaveGameManager {
+
+    private static final int MAGIC = 0x54484444;
+    private static final short VERSION = 3;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final RoomContent[] CONTENTS = RoomContent.values();
+    private static final ExecutionStatus[] EXECUTION_STATUSES = ExecutionStatus.values();
+    private static final Statistic[] STATISTICS = Statistic.values();
+    private static final StatusTag[] STATUS_TAGS = StatusTag.values();
+    private static final byte CATALOG_ENEMY = 0;
+    private static final byte BOSS_ENEMY = 1;
+    private static final byte COMBAT = 0;
+    private static final byte STAIRS = 1;
+    private static final byte TREASURE = 2;
+    private static final byte TRAP = 3;
+    private static final byte SANCTUARY = 4;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(final Model model, final Path file) throws IOException {
+        Objects.requireNonNull(model);
+        Objects.requireNonNull(file);
+        encode(model).writeTo(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model load(final Path file) throws IOException {
+        Objects.requireNonNull(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] toBytes(final Model model) throws IOException {
+        Objects.requireNonNull(model);
+        return encode(model).toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model fromBytes(final byte[] data) throws IOException {
+        return decode(ByteBuffer.wrap(Objects.requireNonNull(data)));
+    }
+
+    private SaveGameOutput encode(final Model model) throws IOException {
+        final SaveGameOutput output = new SaveGameOutput();
+        output.putInt(MAGIC);
+        output.putShort(VERSION);
+        writeGame(output, model);
+        return output;
+    }
+
+    private Model decode(final ByteBuffer input) throws IOException {
+        try {
+            if (input.getInt() != MAGIC) {
+                throw new IOException("Not a save game");
+            }
+            final short version = input.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported save game version " + version);
+            }
+            return readGame(input);
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            throw new IOException("Corrupted save game", e);
+        }
+    }
+
+    void writeGame(final SaveGameOutput output, final Model model) throws IOException {
+        writeCharacter(output, model.getPlayerCharacter());
+        writeItems(output, model.getPlayerCharacter());
+        writeStatuses(output, model.getPlayerCharacter());
+        writeEnvironment(output, model.getEnvironment());
+        writeRoom(output, model.getEnvironment().getCurrentFloor());
+    }
+
+    Model readGame(final ByteBuffer input) throws IOException {
+        final BasicCharacter player = readPlayer(input, input, input);
+        final Random random = new Random();
+        return new ModelImpl(player, readEnvironment(input, input, player, random), random);
+    }
+
+    /*
+     * Every part of the save game is written and read by its own method, so that
+     * the parts can also be stored separately, as the autosave does. The options
+     * for the next floor are drawn, if they haven't been drawn yet.
+     */
+    void writeEnvironment(final SaveGameOutput output, final Environment environment) {
+        output.putInt(environment.getNumberOfFloors());
+        output.putInt(environment.getNumberOfRooms());
+        output.putInt(environment.getCurrentFloorIndex());
+        if (environment.isCurrentLastFloor()) {
+            output.putInt(0);
+        } else {
+            final List<FloorDetails> options = environment.getFloorOptions();
+            output.putInt(options.size());
+            for (final FloorDetails option : options) {
+                writeFloorDetails(output, option);
+            }
+        }
+        writeFloorDetails(output, environment.getCurrentFloor().getFloorDetails());
+    }
+
+    void writeRoom(final SaveGameOutput output, final Floor floor) throws IOException {
+        final RoomContentDistributor distributor = floor.getContentDistributor();
+        output.putInt(distributor.getNumberOfBaseRooms());
+        for (int i = 0; i < distributor.getNumberOfBaseRooms(); i++) {
+            for (final RoomContent content : CONTENTS) {
+                output.putInt(distributor.getQuantity(i, content));
+            }
+        }
+        output.putInt(floor.getCurrentRoomIndex());
+        if (floor.getCurrentRoomIndex() >= 0) {
+            final List<RoomEvent> events = floor.getCurrentRoom().getEvents();
+            output.putInt(events.size());
+            for (final RoomEvent event : events) {
+                writeEvent(output, event);
+            }
+        }
+    }
+
+    /*
+     * The environment is read together with the room, since the current floor is
+     * made of both, and the restored game goes on drawing with the given generator.
+     */
+    Environment readEnvironment(final ByteBuffer environment, final ByteBuffer room, final BasicCharacter player,
+                                final Random random) throws IOException {
+        final int numberOfFloors = environment.getInt();
+        final int numberOfRooms = environment.getInt();
+        final int floorIndex = environment.getInt();
+        final List<FloorDetails> options = new ArrayList<>();
+        for (int i = environment.getInt(); i > 0; i--) {
+            options.add(readFloorDetails(environment));
+        }
+        final FloorDetails details = readFloorDetails(environment);
+        final int[] plan = new int[room.getInt() * CONTENTS.length];
+        for (int i = 0; i < plan.length; i++) {
+            plan[i] = room.getInt();
+        }
+        final RoomContentDistributor distributor = new RoomContentDistributorImpl(plan);
+        final int roomIndex = room.getInt();
+        final Floor floor;
+        if (roomIndex < 0) {
+            floor = new FloorImpl(details, distributor, random);
+        } else {
+            final Room current = new RoomImpl();
+            for (int i = room.getInt(); i > 0; i--) {
+                current.addEvent(readEvent(room, player, random));
+            }
+            floor = new FloorImpl(details, distributor, roomIndex, current, random);
+        }
+        return new EnvironmentImpl(numberOfFloors, numberOfRooms, floorIndex, floor,
+                                   options.isEmpty() ? Optional.empty() : Optional.of(options), random);
+    }
+
+    void writeFloorDetails(final SaveGameOutput output, final FloorDetails details) {
+        output.putByte(details.getDifficult().ordinal());
+        output.putInt(details.getNumberOfRooms());
+        output.putInt(details.getNumberOfEnemies());
+        output.putInt(details.getNumberOfTreasures());
+        output.putInt(details.getNumberOfContraptions());
+        output.putByte(details.isBossFloor() ? 1 : 0);
+    }
+
+    FloorDetails readFloorDetails(final ByteBuffer input) throws IOException {
+        final int difficulty = input.get();
+        if (difficulty < 0 || difficulty >= DIFFICULTIES.length) {
+            throw new IOException("Corrupted floor");
+        }
+        return new FloorDetailsBuilderImpl().setDifficulty(DIFFICULTIES[difficulty])
+                                            .setNumberOfRooms(input.getInt())
+                                            .setNumberOfEnemies(input.getInt())
+                                            .setNumberOfTreasures(input.getInt())
+                                            .setNumberOfContraptions(input.getInt())
+                                            .setIsLastFloor(input.get() != 0)
+                                            .build();
+    }
+
+    void writeCharacter(final SaveGameOutput output, final BasicCharacter player) {
+        output.putString(player.getName());
+        writeStatistics(output, player);
+    }
+
+    void writeStatistics(final SaveGameOutput output, final BasicCharacter player) {
+        for (final Statistic stat : STATISTICS) {
+            output.putInt(player.getStat(stat).getActual());
+            output.putInt(player.getStat(stat).getMax());
+        }
+    }
+
+    void writeItems(final SaveGameOutput output, final BasicCharacter player) throws IOException {
+        final Inventory inventory = player.getInventory();
+        output.putInt(inventory.getAll().size());
+        for (final Item item : inventory.getAll()) {
+            ItemRecords.write(output, item);
+            output.putInt(inventory.getQuantity(item));
+        }
+        output.putInt(player.getEquippedItems().size());
+        for (final EquipableItem item : player.getEquippedItems()) {
+            ItemRecords.write(output, item);
+        }
+    }
+
+    void writeStatuses(final SaveGameOutput output, final BasicCharacter player) {
+        final List<Status> statuses = new ArrayList<>();
+        for (final Status status : player.getStatuses()) {
+            if (getStatusTag(status).isPresent()) {
+                statuses.add(status);
+            }
+        }
+        output.putInt(statuses.size());
+        for (final Status status : statuses) {
+            output.putByte(getStatusTag(status).get().ordinal());
+            output.putInt(status.getBaseDuration());
+            output.putInt(status.getCurrentDuration());
+            output.putByte(status.isActivated() ? 1 : 0);
+        }
+    }
+
+    /*
+     * The enemies of the catalog are stored by the name of their definition and
+     * created again from the catalog of the game, the boss by a marker of its own.
+     */
+    void writeEnemy(final SaveGameOutput output, final ActionActor enemy) throws IOException {
+        if (enemy instanceof CatalogEnemy) {
+            output.putByte(CATALOG_ENEMY);
+            output.putString(((CatalogEnemy) enemy).getDefinition().getName());
+        } else if (enemy instanceof DarkDestructor) {
+            output.putByte(BOSS_ENEMY);
+        } else {
+            throw new IOException("Unsupported enemy " + enemy.getName());
+        }
+        writeCharacter(output, (BasicCharacter) enemy);
+        writeStatuses(output, (BasicCharacter) enemy);
+    }
+
+    BasicCharacter readEnemy(final ByteBuffer input) throws IOException {
+        final byte kind = input.get();
+        final BasicCharacter enemy;
+        if (kind == CATALOG_ENEMY) {
+            enemy = new CatalogEnemy(CatalogLoader.getDefault().getEnemy(SaveGameOutput.getString(input)));
+        } else if (kind == BOSS_ENEMY) {
+            enemy = new DarkDestructor();
+        } else {
+            throw new IOException("Corrupted enemy");
+        }
+        SaveGameOutput.getString(input);
+        applyStatistics(enemy, readStatistics(input));
+        readStatuses(input, enemy);
+        return enemy;
+    }
+
+    private void writeEvent(final SaveGameOutput output, final RoomEvent event) throws IOException {
+        if (event instanceof CombatEvent) {
+            final HostileEncounter encounter = ((CombatEvent) event).getHostileEncounter();
+            output.putByte(COMBAT);
+            output.putByte(encounter.getCombatLogic().getExecutionStatus().ordinal());
+            output.putInt(encounter.getNPCs().size());
+            for (final ActionActor enemy : encounter.getNPCs()) {
+                writeEnemy(output, enemy);
+            }
+        } else if (event instanceof InteractableActionPerformer) {
+            if (event instanceof TreasureChest) {
+                output.putByte(TREASURE);
+            } else if (event instanceof ContraptionTrap) {
+                output.putByte(TRAP);
+            } else if (event instanceof ContraptionSanctuary) {
+                output.putByte(SANCTUARY);
+            } else {
+                throw new IOException("Unsupported event " + event.getName());
+            }
+            output.putByte(event.isCompleted() ? 1 : 0);
+        } else if (event.getType() == RoomEventType.FLOOR_CHANGER_EVENT) {
+            output.putByte(STAIRS);
+        } else {
+            throw new IOException("Unsupported event " + event.getName());
+        }
+    }
+
+    private RoomEvent readEvent(final ByteBuffer input, final BasicCharacter player, final Random random)
+            throws IOException {
+        final byte kind = input.get();
+        switch (kind) {
+        case COMBAT:
+            return readCombat(input, player, random);
+        case STAIRS:
+            return RoomEventHelper.getStairs();
+        case TREASURE:
+            return readCompletion(input, new TreasureChest(random));
+        case TRAP:
+            return readCompletion(input, new ContraptionTrap());
+        case SANCTUARY:
+            return readCompletion(input, new ContraptionSanctuary());
+        default:
+            throw new IOException("Corrupted event");
+        }
+    }
+
+    /*
+     * A combat which has been fought keeps the outcome of its executor, which
+     * tells whether the combat has been completed.
+     */
+    private RoomEvent readCombat(final ByteBuffer input, final BasicCharacter player, final Random random)
+            throws IOException {
+        final int status = input.get();
+        if (status < 0 || status >= EXECUTION_STATUSES.length) {
+            throw new IOException("Corrupted combat");
+        }
+        final CombatEvent combat = RoomEventHelper.getCombat();
+        final HostileEncounter encounter = combat.getHostileEncounter();
+        for (int i = input.getInt(); i > 0; i--) {
+            encounter.addNPC(readEnemy(input));
+        }
+        final ActionExecutor executor = new DefaultCombatActionExecutor(encounter.getNPCs(),
+                                                                         Collections.<ActionActor>emptySet(), random);
+        if (EXECUTION_STATUSES[status] != ExecutionStatus.NOT_STARTED) {
+            final ActionExecutionInstance instance = new ExecutionInstanceImpl();
+            instance.addPlayerPartyMember(player);
+            instance.addNPCsPartyMembers(encounter.getNPCs());
+            instance.setExecutionStatus(EXECUTION_STATUSES[status]);
+            executor.setExecutionInstance(instance);
+        }
+        encounter.setCombatLogic(executor);
+        return combat;
+    }
+
+    private static RoomEvent readCompletion(final ByteBuffer input, final InteractableActionPerformer event) {
+        if (input.get() != 0) {
+            event.complete();
+        }
+        return event;
+    }
+
+    BasicCharacter readPlayer(final ByteBuffer character, final ByteBuffer items, final ByteBuffer statuses)
+            throws IOException {
+        final BasicCharacter player = new PlayerCharacter(Optional.of(SaveGameOutput.getString(character)));
+        readState(player, character, items, statuses);
+        return player;
+    }
+
+    /*
+     * The stored state replaces the inventory, the equipment and the statuses the
+     * character has been created with; its name is not part of the state. The
+     * items are removed from the last one, so that the restored items take the
+     * freed places in the order they were stored.
+     */
+    void readState(final BasicCharacter character, final ByteBuffer stats, final ByteBuffer items,
+                   final ByteBuffer statuses) throws IOException {
+        new ArrayList<>(character.getEquippedItems()).forEach(character::unequipItem);
+        final List<Item> created = new ArrayList<>(character.getInventory().getAll());
+        Collections.reverse(created);
+        for (final Item item : created) {
+            for (int i = character.getInventory().getQuantity(item); i > 0; i--) {
+                character.getInventory().removeItem(item);
+            }
+        }
+        new ArrayList<>(character.getStatuses()).forEach(character::removeStatus);
+        final int[] values = readStatistics(stats);
+        final int numOfItems = items.getInt();
+        for (int i = 0; i < numOfItems; i++) {
+            final Item item = ItemRecords.read(items);
+            for (int quantity = items.getInt(); quantity > 0; quantity--) {
+                character.getInventory().addItem(item);
+            }
+        }
+        final int numOfEquipped = items.getInt();
+        for (int i = 0; i < numOfEquipped; i++) {
+            final Item item = ItemRecords.read(items);
+            character.getInventory().addItem(item);
+            if (!character.equipItem(item)) {
+                throw new IOException("Invalid equipment");
+            }
+        }
+        applyStatistics(character, values);
+        readStatuses(statuses, character);
+    }
+
+    /*
+     * Statistics are read before they are applied, since equipping items changes them.
+     */
+    int[] readStatistics(final ByteBuffer character) {
+        final int[] stats = new int[STATISTICS.length * 2];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = character.getInt();
+        }
+        return stats;
+    }
+
+    void applyStatistics(final BasicCharacter character, final int[] stats) {
+        for (int i = 0; i < STATISTICS.length; i++) {
+            final StatValues values = character.getStat(STATISTICS[i]);
+            values.updateMax(stats[2 * i + 1] - values.getMax());
+            values.updateActual(stats[2 * i] - values.getActual());
+        }
+    }
+
+    void readStatuses(final ByteBuffer statuses, final BasicCharacter character) throws IOException {
+        final int numOfStatuses = statuses.getInt();
+        for (int i = 0; i < numOfStatuses; i++) {
+            final int tag = statuses.get();
+            final int baseDuration = statuses.getInt();
+            final int duration = statuses.getInt();
+            final boolean activated = statuses.get() != 0;
+            if (tag < 0 || tag >= STATUS_TAGS.length) {
+                throw new IOException("Corrupted status");
+            }
+            final Status status = createStatus(STATUS_TAGS[tag], baseDuration);
+            character.addStatus(status);
+            //The statistics were saved with the one time actions of the activated statuses applied
+            character.getStatuses().stream().filter(s -> s.getName().equals(status.getName()))
+                                            .forEach(s -> s.restore(duration, activated));
+        }
+    }
+
+    private Optional<StatusTag> getStatusTag(final Status status) {
+        return status.getTags().stream()
+                               .filter(t -> t instanceof StatusTag)
+                               .map(t -> (StatusTag) t)
+                               .findFirst();
+    }
+
+    private Status createStatus(final StatusTag tag, final int duration) throws IOException {
+        switch (tag) {
+        case POISONED:
+            return new PoisonStatus(duration);
+        case WEAKENED:
+            return new WeaknessStatus(duration);
+        case DEFENSIVE:
+            return new DefensiveStatus(duration);
+        default:
+            throw new IOException("Unknown status " + tag);
+        }
+    }
+}
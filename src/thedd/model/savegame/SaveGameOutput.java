@@ -0,0 +1,167 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Growable buffer where a save game is encoded before being written to its
+ * file with a single channel write.
+ */
+final class SaveGameOutput {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private ByteBuffer buffer;
+
+    /**
+     * SaveGameOutput constructor.
+     */
+    SaveGameOutput() {
+        this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Append a byte.
+     * 
+     * @param value the value to append
+     */
+    void putByte(final int value) {
+        ensureCapacity(Byte.BYTES);
+        this.buffer.put((byte) value);
+    }
+
+    /**
+     * Append a short.
+     * 
+     * @param value the value to append
+     */
+    void putShort(final int value) {
+        ensureCapacity(Short.BYTES);
+        this.buffer.putShort((short) value);
+    }
+
+    /**
+     * Append an int.
+     * 
+     * @param value the value to append
+     */
+    void putInt(final int value) {
+        ensureCapacity(Integer.BYTES);
+        this.buffer.putInt(value);
+    }
+
+    /**
+     * Append a double.
+     * 
+     * @param value the value to append
+     */
+    void putDouble(final double value) {
+        ensureCapacity(Double.BYTES);
+        this.buffer.putDouble(value);
+    }
+
+    /**
+     * Append some bytes.
+     * 
+     * @param values the values to append
+     */
+    void putBytes(final byte[] values) {
+        ensureCapacity(values.length);
+        this.buffer.put(values);
+    }
+
+    /**
+     * Append a string as its length followed by its UTF-8 bytes.
+     * 
+     * @param value the value to append
+     */
+    void putString(final String value) {
+        final byte[] bytes = Objects.requireNonNull(value).getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        putBytes(bytes);
+    }
+
+    /**
+     * Write everything appended so far to a file, replacing its content. The
+     * content is written and forced to a temporary file next to it, which then
+     * atomically replaces the file, so a failed write leaves the old file intact.
+     * 
+     * @param file the file to write
+     * @throws IOException if the file can't be written
+     */
+    void writeTo(final Path file) throws IOException {
+        final Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        write(temporary, StandardOpenOption.TRUNCATE_EXISTING);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Write everything appended so far at the end of a file.
+     * 
+     * @param file the file to write
+     * @throws IOException if the file can't be written
+     */
+    void appendTo(final Path file) throws IOException {
+        write(file, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Return a copy of everything appended so far.
+     * 
+     * @return the bytes appended
+     */
+    byte[] toByteArray() {
+        final byte[] bytes = new byte[this.buffer.position()];
+        final ByteBuffer content = this.buffer.duplicate();
+        content.flip();
+        content.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Read a string appended with {@link #putString(String)}.
+     * 
+     * @param input the buffer to read from
+     * @return the string read
+     * @throws IOException if the length of the string is not valid
+     */
+    static String getString(final ByteBuffer input) throws IOException {
+        final int length = input.getInt();
+        if (length < 0 || length > input.remaining()) {
+            throw new IOException("Corrupted string");
+        }
+        final byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void write(final Path file, final StandardOpenOption mode) throws IOException {
+        final ByteBuffer content = this.buffer.duplicate();
+        content.flip();
+        try (FileChannel channel = FileChannel.open(Objects.requireNonNull(file), StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE, mode)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(false);
+        }
+    }
+
+    private void ensureCapacity(final int bytes) {
+        if (this.buffer.remaining() < bytes) {
+            final ByteBuffer bigger = ByteBuffer.allocate(Math.max(this.buffer.capacity() * 2,
+                                                                   this.buffer.position() + bytes));
+            this.buffer.flip();
+            bigger.put(this.buffer);
+            this.buffer = bigger;
+        }
+    }
+}
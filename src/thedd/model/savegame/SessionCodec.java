@@ -0,0 +1,46 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.util.Random;
+
+import thedd.model.Model;
+
+/**
+ * Interface that define how the whole state of a game session out of combat is
+ * encoded in memory, so that it can be restored exactly, as it happens when an
+ * idle session is parked. As with {@link SaveGameManager}, the current room and
+ * the contents of the rooms still to come are restored as they were.
+ */
+public interface SessionCodec {
+
+    /**
+     * This method allows to encode the state of a game session.
+     *
+     * @param model is the model of the game session
+     * @return the encoded game session
+     * @throws IOException           if the game session can't be encoded
+     * @throws IllegalStateException if the player is fighting a combat
+     */
+    byte[] encode(Model model) throws IOException;
+
+    /**
+     * This method allows to restore a game session encoded by
+     * {@link #encode(Model)}.
+     *
+     * @param data is the encoded game session
+     * @return the model of the restored game session
+     * @throws IOException if data is not a valid encoded game session
+     */
+    Model decode(byte[] data) throws IOException;
+
+    /**
+     * This method allows to restore a game session encoded by
+     * {@link #encode(Model)}, which goes on drawing with the given generator.
+     *
+     * @param data   is the encoded game session
+     * @param random is the generator of the restored game session
+     * @return the model of the restored game session
+     * @throws IOException if data is not a valid encoded game session
+     */
+    Model decode(byte[] data, Random random) throws IOException;
+}
@@ -0,0 +1,77 @@
+package thedd.model.savegame;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Random;
+
+import thedd.model.Model;
+import thedd.model.ModelImpl;
+import thedd.model.character.BasicCharacter;
+
+/**
+ * Implementation of {@link thedd.model.savegame.SessionCodec}.
+ * <p>
+ * The game session is encoded as in {@link thedd.model.savegame.SaveGameManagerImpl}:
+ * the player followed by the environment and the room, so the current room and
+ * the rooms still to come are restored as they were.
+ */
+public final class SessionCodecImpl implements SessionCodec {
+
+    private static final int MAGIC = 0x54484453;
+    private static final short VERSION = 3;
+
+    private final SaveGameManagerImpl codec;
+
+    /**
+     * SessionCodecImpl constructor.
+     */
+    public SessionCodecImpl() {
+        this.codec = new SaveGameManagerImpl();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The options for the next floor are drawn, if they haven't been drawn yet.
+     */
+    @Override
+    public byte[] encode(final Model model) throws IOException {
+        final BasicCharacter player = Objects.requireNonNull(model).getPlayerCharacter();
+        if (player.isInCombat() && player.isAlive()) {
+            throw new IllegalStateException("The player is in combat");
+        }
+        final SaveGameOutput output = new SaveGameOutput();
+        output.putInt(MAGIC);
+        output.putShort(VERSION);
+        this.codec.writeGame(output, model);
+        return output.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model decode(final byte[] data) throws IOException {
+        return decode(data, new Random());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Model decode(final byte[] data, final Random random) throws IOException {
+        Objects.requireNonNull(random);
+        final ByteBuffer input = ByteBuffer.wrap(Objects.requireNonNull(data));
+        try {
+            if (input.getInt() != MAGIC || input.getShort() != VERSION) {
+                throw new IOException("Not an encoded game session");
+            }
+            final BasicCharacter player = this.codec.readPlayer(input, input, input);
+            return new ModelImpl(player, this.codec.readEnvironment(input, input, player, random), random);
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            throw new IOException("Corrupted game session", e);
+        }
+    }
+}
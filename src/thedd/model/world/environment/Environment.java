@@ -52,4 +52,18 @@ public interface Environment {
      *                               are ended
      */
     List<FloorDetails> getFloorOptions();
+
+    /**
+     * This method allows to get the number of floors of the map.
+     * 
+     * @return the number of floors
+     */
+    int getNumberOfFloors();
+
+    /**
+     * This method allows to get the number of rooms of each floor.
+     * 
+     * @return the number of rooms
+     */
+    int getNumberOfRooms();
 }
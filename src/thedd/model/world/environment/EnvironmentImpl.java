@@ -1,9 +1,11 @@
 package thedd.model.world.environment;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import thedd.model.world.Difficulty;
@@ -39,8 +41,9 @@ public class EnvironmentImpl implements Environment {
     private static final String ERROR_UNSETTEDFLOOR = "No floors setted";
     private static final Difficulty INIT_DIFFICULTY_LEVEL = Difficulty.NORMAL;
 
-    private final List<Floor> floors;
+    private Optional<Floor> currentFloor;
     private final FloorDetailsFactory floorDeatailsFactory;
+    private final Random random;
     private final int numberOfFloors;
     private final int numberOfRooms;
     private Optional<List<FloorDetails>> floorOptions;
@@ -55,11 +58,28 @@ public class EnvironmentImpl implements Environment {
      *                                  valid
      */
     public EnvironmentImpl(final int numberOfFloors, final int numberOfRooms) {
+        this(numberOfFloors, numberOfRooms, new Random());
+    }
+
+    /**
+     * EnvironmentImpl constructor whose floors are drawn with the given
+     * generator, so that the same sequence of the generator always builds the
+     * same floors.
+     * 
+     * @param numberOfFloors is the number of floors of the map
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @param random         is the generator the floors are drawn with
+     * @throws NullPointerException     if random is null
+     * @throws IllegalArgumentException if the number of floors or rooms is not
+     *                                  valid
+     */
+    public EnvironmentImpl(final int numberOfFloors, final int numberOfRooms, final Random random) {
         if (numberOfFloors < MIN_NUMBER_OF_FLOORS || numberOfRooms < MIN_NUMBER_OF_ROOMS) {
             throw new IllegalArgumentException(ERROR_OUTOFRANGE);
         }
-        this.floorDeatailsFactory = new FloorDetailsFactoryImpl();
-        this.floors = new ArrayList<>();
+        this.random = Objects.requireNonNull(random);
+        this.floorDeatailsFactory = new FloorDetailsFactoryImpl(random);
+        this.currentFloor = Optional.empty();
         this.numberOfFloors = numberOfFloors;
         this.numberOfRooms = numberOfRooms;
         this.floorOptions = Optional.empty();
@@ -67,6 +87,77 @@ public class EnvironmentImpl implements Environment {
         this.initEnvironment();
     }
 
+    /**
+     * EnvironmentImpl constructor that starts from an already reached floor, as it
+     * happens when a saved game is restored.
+     * 
+     * @param numberOfFloors is the number of floors of the map
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @param floorIndex     is the index of the current floor
+     * @param floor          is the current floor
+     * @throws NullPointerException     if floor is null
+     * @throws IllegalArgumentException if the number of floors or rooms or the
+     *                                  index of the floor is not valid
+     */
+    public EnvironmentImpl(final int numberOfFloors, final int numberOfRooms, final int floorIndex,
+                           final Floor floor) {
+        this(numberOfFloors, numberOfRooms, floorIndex, floor, Optional.empty());
+    }
+
+    /**
+     * EnvironmentImpl constructor that starts from an already reached floor, with
+     * the options for the next floor already drawn, as it happens when a game is
+     * restored exactly.
+     * 
+     * @param numberOfFloors is the number of floors of the map
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @param floorIndex     is the index of the current floor
+     * @param floor          is the current floor
+     * @param floorOptions   are the options for the next floor, or Optional.empty
+     *                       if they haven't been drawn yet
+     * @throws NullPointerException     if floor or floorOptions is null
+     * @throws IllegalArgumentException if the number of floors or rooms or the
+     *                                  index of the floor is not valid
+     */
+    public EnvironmentImpl(final int numberOfFloors, final int numberOfRooms, final int floorIndex,
+                           final Floor floor, final Optional<List<FloorDetails>> floorOptions) {
+        this(numberOfFloors, numberOfRooms, floorIndex, floor, floorOptions, new Random());
+    }
+
+    /**
+     * EnvironmentImpl constructor that starts from an already reached floor, as
+     * {@link #EnvironmentImpl(int, int, int, Floor, Optional)} does, drawing the
+     * following floors with the given generator.
+     * 
+     * @param numberOfFloors is the number of floors of the map
+     * @param numberOfRooms  is the number of rooms of each floor
+     * @param floorIndex     is the index of the current floor
+     * @param floor          is the current floor
+     * @param floorOptions   are the options for the next floor, or Optional.empty
+     *                       if they haven't been drawn yet
+     * @param random         is the generator the following floors are drawn with
+     * @throws NullPointerException     if floor, floorOptions or random is null
+     * @throws IllegalArgumentException if the number of floors or rooms or the
+     *                                  index of the floor is not valid
+     */
+    public EnvironmentImpl(final int numberOfFloors, final int numberOfRooms, final int floorIndex,
+                           final Floor floor, final Optional<List<FloorDetails>> floorOptions,
+                           final Random random) {
+        Objects.requireNonNull(floor);
+        Objects.requireNonNull(floorOptions);
+        if (numberOfFloors < MIN_NUMBER_OF_FLOORS || numberOfRooms < MIN_NUMBER_OF_ROOMS
+                || floorIndex < 0 || floorIndex >= numberOfFloors) {
+            throw new IllegalArgumentException(ERROR_OUTOFRANGE);
+        }
+        this.random = Objects.requireNonNull(random);
+        this.floorDeatailsFactory = new FloorDetailsFactoryImpl(random);
+        this.currentFloor = Optional.of(floor);
+        this.numberOfFloors = numberOfFloors;
+        this.numberOfRooms = numberOfRooms;
+        this.floorOptions = floorOptions.map(o -> Collections.unmodifiableList(new ArrayList<>(o)));
+        this.actuaIndexFloor = floorIndex;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -75,7 +166,7 @@ public class EnvironmentImpl implements Environment {
         if (this.getCurrentFloorIndex() == NONE_FLOORS) {
             throw new IllegalStateException(ERROR_UNSETTEDFLOOR);
         }
-        return this.floors.get(this.getCurrentFloorIndex());
+        return this.currentFloor.get();
     }
 
     /**
@@ -92,14 +183,18 @@ public class EnvironmentImpl implements Environment {
     @Override
     public final boolean setNextFloor(final FloorDetails floorDetails) {
         Objects.requireNonNull(floorDetails);
-        if (!this.floors.isEmpty() && !this.floors.get(this.getCurrentFloorIndex()).checkToChangeFloor()) {
+        if (this.currentFloor.isPresent() && !this.currentFloor.get().checkToChangeFloor()) {
             return false;
         } else if (!this.floorOptions.isPresent() || !this.floorOptions.get().contains(floorDetails)) {
             return false;
         }
         this.actuaIndexFloor++;
         this.floorOptions = Optional.empty();
-        this.floors.add(this.actuaIndexFloor, new FloorImpl(floorDetails));
+        this.currentFloor = Optional.of(new FloorImpl(floorDetails, this.random));
+        //The options for the next floor are drawn with the floor, so saving the game doesn't draw them
+        if (!this.isCurrentLastFloor()) {
+            this.getFloorOptions();
+        }
         return true;
     }
 
@@ -130,6 +225,22 @@ public class EnvironmentImpl implements Environment {
         return choices;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int getNumberOfFloors() {
+        return this.numberOfFloors;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int getNumberOfRooms() {
+        return this.numberOfRooms;
+    }
+
     private void initEnvironment() {
         final List<FloorDetails> floorOptions = this.getFloorOptions();
         final int easyIndex = floorOptions.indexOf(floorOptions.stream()
@@ -1,6 +1,8 @@
 package thedd.model.world.floor;
 
+import thedd.model.world.floor.details.FloorDetails;
 import thedd.model.world.room.Room;
+import thedd.model.world.room.RoomContentDistributor;
 
 /**
  * Interface that define the floor.
@@ -47,4 +49,19 @@ public interface Floor {
      * @return true if the current floor is completed
      */
     boolean checkToChangeFloor();
+
+    /**
+     * This method allows to get the details this floor has been created from.
+     * 
+     * @return the details of the floor
+     */
+    FloorDetails getFloorDetails();
+
+    /**
+     * This method allows to get how the contents of this floor are placed in its
+     * rooms, including the rooms not created yet.
+     * 
+     * @return the distributor of the contents of the floor
+     */
+    RoomContentDistributor getContentDistributor();
 }
@@ -1,10 +1,8 @@
 package thedd.model.world.floor;
 
 import java.util.Objects;
+import java.util.Random;
 
-import org.apache.commons.lang3.RandomUtils;
-
-import edu.princeton.cs.algs4.StdRandom;
 import thedd.model.world.Difficulty;
 import thedd.model.world.environment.EnvironmentImpl;
 import thedd.model.world.floor.details.FloorDetails;
@@ -18,6 +16,25 @@ public final class FloorDetailsFactoryImpl implements FloorDetailsFactory {
 
     private static final String ERROR_NONVALIDROOMS = "Number of rooms is not valid";
 
+    private final Random random;
+
+    /**
+     * FloorDetailsFactoryImpl constructor.
+     */
+    public FloorDetailsFactoryImpl() {
+        this(new Random());
+    }
+
+    /**
+     * FloorDetailsFactoryImpl constructor.
+     * 
+     * @param random is the generator the details are drawn with
+     * @throws NullPointerException if random is null
+     */
+    public FloorDetailsFactoryImpl(final Random random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -46,7 +63,7 @@ public final class FloorDetailsFactoryImpl implements FloorDetailsFactory {
     private int getRandomNumberOfEnemies(final int effectiveNumberOfRooms, final Difficulty difficulty) {
         final int baseNumber = (int) Math.round(effectiveNumberOfRooms * difficulty.getMultiplier());
         final int maxRandRoundIntNum = (int) Math.round(effectiveNumberOfRooms * Difficulty.EASY.getMultiplier());
-        final int roundNumber = RandomUtils.nextInt(0, maxRandRoundIntNum + 1);
+        final int roundNumber = this.random.nextInt(maxRandRoundIntNum + 1);
         final int result = baseNumber + roundNumber;
         return this.roundNumber(result, RoomFactoryImpl.MIN_ENEMIES_PER_ROOM,
                                 effectiveNumberOfRooms * RoomFactoryImpl.MAX_ENEMIES_PER_ROOM);
@@ -68,7 +85,7 @@ public final class FloorDetailsFactoryImpl implements FloorDetailsFactory {
     }
 
     private int getGaussian(final int mediumVal, final int var) {
-        final int val = (int) Math.round(StdRandom.gaussian(mediumVal, var));
+        final int val = (int) Math.round(mediumVal + var * this.random.nextGaussian());
         return this.roundNumber(val, mediumVal - var, mediumVal + var);
     }
 
@@ -3,11 +3,15 @@ package thedd.model.world.floor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 
 import thedd.model.world.floor.details.FloorDetails;
 import thedd.model.world.room.Room;
+import thedd.model.world.room.RoomContentDistributor;
+import thedd.model.world.room.RoomContentDistributorImpl;
 import thedd.model.world.room.RoomFactory;
 import thedd.model.world.room.RoomFactoryImpl;
+import thedd.model.world.room.RoomImpl;
 
 /**
  * Implementation of {@link thedd.model.world.floor.Floor}.
@@ -23,6 +27,8 @@ public class FloorImpl implements Floor {
     private static final String ERROR_UNVAILABLEROOM = "No room available";
     private static final int NONE_ROOMS = -1;
 
+    private final FloorDetails floorDetails;
+    private final RoomContentDistributor distributor;
     private final RoomFactory factory;
     private final List<Room> rooms;
     private final int numberOfRooms;
@@ -35,13 +41,99 @@ public class FloorImpl implements Floor {
      * @throws NullPointerException if roomFactory is null
      */
     public FloorImpl(final FloorDetails floorDetails) {
-        Objects.requireNonNull(floorDetails);
-        this.factory = new RoomFactoryImpl(floorDetails);
+        this(floorDetails, new Random());
+    }
+
+    /**
+     * Floor constructor whose plan and rooms are drawn with the given generator.
+     * 
+     * @param floorDetails contains the details of this floor
+     * @param random       is the generator the rooms are drawn with
+     * @throws NullPointerException if any argument is null
+     */
+    public FloorImpl(final FloorDetails floorDetails, final Random random) {
+        this(floorDetails, new RoomContentDistributorImpl(Objects.requireNonNull(floorDetails), random), random);
+    }
+
+    /**
+     * Floor constructor with the contents of its rooms already planned.
+     * 
+     * @param floorDetails contains the details of this floor
+     * @param distributor  places the contents of the floor in its rooms
+     * @throws NullPointerException if any argument is null
+     */
+    public FloorImpl(final FloorDetails floorDetails, final RoomContentDistributor distributor) {
+        this(floorDetails, distributor, new Random());
+    }
+
+    /**
+     * Floor constructor with the contents of its rooms already planned, whose
+     * rooms are drawn with the given generator.
+     * 
+     * @param floorDetails contains the details of this floor
+     * @param distributor  places the contents of the floor in its rooms
+     * @param random       is the generator the rooms are drawn with
+     * @throws NullPointerException if any argument is null
+     */
+    public FloorImpl(final FloorDetails floorDetails, final RoomContentDistributor distributor,
+                     final Random random) {
+        this.floorDetails = Objects.requireNonNull(floorDetails);
+        this.distributor = Objects.requireNonNull(distributor);
+        this.factory = new RoomFactoryImpl(floorDetails, distributor, NONE_ROOMS, random);
         this.numberOfRooms = floorDetails.getNumberOfRooms();
         this.rooms = new ArrayList<>();
         this.currentRoomIndex = NONE_ROOMS;
     }
 
+    /**
+     * Floor constructor that places the player inside a room already created, with
+     * the contents of the following rooms already planned, as it happens when a
+     * game is restored exactly. The rooms already left are not kept, since they
+     * can't be entered again.
+     * 
+     * @param floorDetails contains the details of this floor
+     * @param distributor  places the contents of the floor in its rooms
+     * @param roomIndex    is the index of the current room
+     * @param currentRoom  is the current room
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if roomIndex is not a room of the floor
+     */
+    public FloorImpl(final FloorDetails floorDetails, final RoomContentDistributor distributor,
+                     final int roomIndex, final Room currentRoom) {
+        this(floorDetails, distributor, roomIndex, currentRoom, new Random());
+    }
+
+    /**
+     * Floor constructor that places the player inside a room already created, as
+     * {@link #FloorImpl(FloorDetails, RoomContentDistributor, int, Room)} does,
+     * drawing the following rooms with the given generator.
+     * 
+     * @param floorDetails contains the details of this floor
+     * @param distributor  places the contents of the floor in its rooms
+     * @param roomIndex    is the index of the current room
+     * @param currentRoom  is the current room
+     * @param random       is the generator the following rooms are drawn with
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if roomIndex is not a room of the floor
+     */
+    public FloorImpl(final FloorDetails floorDetails, final RoomContentDistributor distributor,
+                     final int roomIndex, final Room currentRoom, final Random random) {
+        Objects.requireNonNull(currentRoom);
+        this.floorDetails = Objects.requireNonNull(floorDetails);
+        this.distributor = Objects.requireNonNull(distributor);
+        this.numberOfRooms = floorDetails.getNumberOfRooms();
+        if (roomIndex < 0 || roomIndex >= this.numberOfRooms) {
+            throw new IllegalArgumentException(ERROR_UNVAILABLEROOM);
+        }
+        this.factory = new RoomFactoryImpl(floorDetails, distributor, roomIndex, random);
+        this.rooms = new ArrayList<>();
+        while (this.rooms.size() < roomIndex) {
+            this.rooms.add(new RoomImpl());
+        }
+        this.rooms.add(currentRoom);
+        this.currentRoomIndex = roomIndex;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -91,6 +183,22 @@ public class FloorImpl implements Floor {
         return !this.hasNextRoom() && this.rooms.get(this.getCurrentRoomIndex()).checkToMoveOn();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final FloorDetails getFloorDetails() {
+        return this.floorDetails;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final RoomContentDistributor getContentDistributor() {
+        return this.distributor;
+    }
+
     private void setNextRoom() {
         this.currentRoomIndex++;
         this.rooms.add(this.getCurrentRoomIndex(), this.factory.createRoom());
@@ -3,6 +3,7 @@ package thedd.model.world.room;
 import java.util.List;
 
 import thedd.model.roomevent.RoomEvent;
+import thedd.model.roomevent.RoomEventType;
 
 /**
  * 
@@ -50,4 +51,13 @@ public interface Room {
      */
     boolean removeEvent(RoomEvent event);
 
+    /**
+     * This method allows to remove all the events of a type, even if they haven't
+     * been completed, as when they are replaced by the events of a restored game.
+     * 
+     * @param type is the type of the events to remove
+     * @throws NullPointerException if type is null
+     */
+    void removeEvents(RoomEventType type);
+
 }
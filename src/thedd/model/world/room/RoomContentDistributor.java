@@ -0,0 +1,27 @@
+package thedd.model.world.room;
+
+/**
+ * Interface that define how the content of a floor is spread among its base rooms.
+ */
+public interface RoomContentDistributor {
+
+    /**
+     * This method allows to get the number of base rooms of the floor, that is
+     * every room except the last one (stairs or boss).
+     * 
+     * @return the number of base rooms
+     */
+    int getNumberOfBaseRooms();
+
+    /**
+     * This method allows to get how many elements of a content have been assigned
+     * to a base room.
+     * 
+     * @param roomIndex is the index of the base room
+     * @param content   is the type of content
+     * @return the quantity of content inside the room
+     * @throws NullPointerException      if content is null
+     * @throws IndexOutOfBoundsException if roomIndex is not a base room
+     */
+    int getQuantity(int roomIndex, RoomContent content);
+}
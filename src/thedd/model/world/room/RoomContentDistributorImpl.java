@@ -0,0 +1,136 @@
+package thedd.model.world.room;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+import thedd.model.world.floor.details.FloorDetails;
+
+/**
+ * Implementation of {@link thedd.model.world.room.RoomContentDistributor}.
+ * <p>
+ * The whole floor is planned in a single pass: each room owns a fixed number of
+ * slots per content and the quantity of each room is drawn from an hypergeometric
+ * distribution over the slots still free. This is equivalent to a multivariate
+ * hypergeometric draw over the rooms, so every content is placed, no room
+ * exceeds its capacity and the content is spread evenly on any floor size.
+ */
+public final class RoomContentDistributorImpl implements RoomContentDistributor {
+
+    private static final String ERROR_TOOMANYCONTENTS = "Floor contents exceed the capacity of its rooms";
+    private static final String ERROR_INVALIDROOM = "Room is not a base room";
+    private static final String ERROR_INVALIDPLAN = "Invalid plan of the contents";
+    private static final int CONTENTS = RoomContent.values().length;
+
+    private final int[] plan;
+    private final int numberOfBaseRooms;
+
+    /**
+     * RoomContentDistributorImpl constructor.
+     * 
+     * @param floorDetails that describe the floor
+     * @throws NullPointerException     if floorDetails is null
+     * @throws IllegalArgumentException if the contents of the floor do not fit
+     *                                  inside its base rooms
+     */
+    public RoomContentDistributorImpl(final FloorDetails floorDetails) {
+        this(floorDetails, new Random());
+    }
+
+    /**
+     * RoomContentDistributorImpl constructor that draws the plan with the given
+     * generator, so that the same generator always plans the floor the same way.
+     * 
+     * @param floorDetails that describe the floor
+     * @param random       is the generator the plan is drawn with
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if the contents of the floor do not fit
+     *                                  inside its base rooms
+     */
+    public RoomContentDistributorImpl(final FloorDetails floorDetails, final Random random) {
+        Objects.requireNonNull(floorDetails);
+        Objects.requireNonNull(random);
+        this.numberOfBaseRooms = floorDetails.getNumberOfRooms() - 1;
+        this.plan = new int[this.numberOfBaseRooms * CONTENTS];
+        int enemies = floorDetails.getNumberOfEnemies();
+        int treasures = floorDetails.getNumberOfTreasures();
+        int contraptions = floorDetails.getNumberOfContraptions();
+        int freeEnemySlots = this.numberOfBaseRooms * RoomFactoryImpl.MAX_ENEMIES_PER_ROOM;
+        int freeInteractSlots = this.numberOfBaseRooms * RoomFactoryImpl.MAX_INTERACTABLE_ACTIONS_PER_ROOM;
+        if (enemies > freeEnemySlots || treasures + contraptions > freeInteractSlots) {
+            throw new IllegalArgumentException(ERROR_TOOMANYCONTENTS);
+        }
+        for (int room = 0; room < this.numberOfBaseRooms; room++) {
+            final int roomEnemies = draw(random, RoomFactoryImpl.MAX_ENEMIES_PER_ROOM, enemies, freeEnemySlots);
+            final int roomInteract = draw(random, RoomFactoryImpl.MAX_INTERACTABLE_ACTIONS_PER_ROOM,
+                                          treasures + contraptions, freeInteractSlots);
+            final int roomTreasures = draw(random, roomInteract, treasures, treasures + contraptions);
+            enemies -= roomEnemies;
+            treasures -= roomTreasures;
+            contraptions -= roomInteract - roomTreasures;
+            freeEnemySlots -= RoomFactoryImpl.MAX_ENEMIES_PER_ROOM;
+            freeInteractSlots -= RoomFactoryImpl.MAX_INTERACTABLE_ACTIONS_PER_ROOM;
+            final int base = room * CONTENTS;
+            this.plan[base + RoomContent.ENEMY.ordinal()] = roomEnemies;
+            this.plan[base + RoomContent.TREASURE.ordinal()] = roomTreasures;
+            this.plan[base + RoomContent.CONTRAPTION.ordinal()] = roomInteract - roomTreasures;
+        }
+    }
+
+    /**
+     * RoomContentDistributorImpl constructor that places the contents as they were
+     * planned by another distributor, as it happens when a game is restored.
+     * 
+     * @param plan is the quantity of every content of the base rooms, room after
+     *             room, in the order of {@link RoomContent}
+     * @throws NullPointerException     if plan is null
+     * @throws IllegalArgumentException if the plan is not made of whole rooms or
+     *                                  any quantity is negative
+     */
+    public RoomContentDistributorImpl(final int[] plan) {
+        if (Objects.requireNonNull(plan).length % CONTENTS != 0 || Arrays.stream(plan).anyMatch(q -> q < 0)) {
+            throw new IllegalArgumentException(ERROR_INVALIDPLAN);
+        }
+        this.numberOfBaseRooms = plan.length / CONTENTS;
+        this.plan = plan.clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfBaseRooms() {
+        return this.numberOfBaseRooms;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getQuantity(final int roomIndex, final RoomContent content) {
+        Objects.requireNonNull(content);
+        if (roomIndex < 0 || roomIndex >= this.numberOfBaseRooms) {
+            throw new IndexOutOfBoundsException(ERROR_INVALIDROOM);
+        }
+        return this.plan[roomIndex * CONTENTS + content.ordinal()];
+    }
+
+    /*
+     * Number of successes obtained drawing without replacement from a population
+     * that contains the given number of successes.
+     */
+    private static int draw(final Random random, final int draws, final int successes, final int population) {
+        int hits = 0;
+        int remainingSuccesses = successes;
+        int remainingPopulation = population;
+        for (int i = 0; i < draws && remainingSuccesses > 0; i++) {
+            if (random.nextInt(remainingPopulation) < remainingSuccesses) {
+                hits++;
+                remainingSuccesses--;
+            }
+            remainingPopulation--;
+        }
+        return hits;
+    }
+
+}
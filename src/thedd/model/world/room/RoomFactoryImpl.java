@@ -2,19 +2,20 @@ package thedd.model.world.room;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.EnumMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import org.apache.commons.lang3.RandomUtils;
-import edu.princeton.cs.algs4.StdRandom;
 import thedd.model.character.BasicCharacter;
 import thedd.model.character.RandomEnemyFactory;
 import thedd.model.character.types.DarkDestructor;
 import thedd.model.world.floor.details.FloorDetails;
-import thedd.model.combat.actionexecutor.DefaultCombatActionExecutor;
+import thedd.model.combat.actionexecutor.ActionExecutor;
+import thedd.model.combat.actor.ActionActor;
+import thedd.model.combat.journal.JournalingCombatActionExecutor;
+import thedd.model.combat.journal.MemoryCombatJournal;
 import thedd.model.roomevent.RoomEvent;
 import thedd.model.roomevent.RoomEventHelper;
 import thedd.model.roomevent.combatevent.CombatEvent;
@@ -46,11 +47,11 @@ public class RoomFactoryImpl implements RoomFactory {
     public static final int MIN_ENEMIES_PER_ROOM = 0;
 
     private static final String ERROR_NOMOREROOMS = "Rooms are over";
-    private static final double PROB_TO_SET_CONTENT = 0.60;
     private static final int NONE_ROOMS = -1;
 
-    private final EnumMap<RoomContent, Integer> remainingContent;
+    private final RoomContentDistributor distributor;
     private final FloorDetails floorDetails;
+    private final Random random;
     private int roomIndex;
 
     /**
@@ -58,15 +59,59 @@ public class RoomFactoryImpl implements RoomFactory {
      * 
      * @param floorDetails that describe the floor
      * @throws NullPointerException if floorDetails is null
+     * @throws IllegalArgumentException if the contents of the floor do not fit inside its rooms
      */
     public RoomFactoryImpl(final FloorDetails floorDetails) {
-        Objects.requireNonNull(floorDetails);
-        this.floorDetails = floorDetails;
-        this.roomIndex = RoomFactoryImpl.NONE_ROOMS;
-        this.remainingContent = new EnumMap<RoomContent, Integer>(RoomContent.class);
-        this.remainingContent.put(RoomContent.ENEMY, this.floorDetails.getNumberOfEnemies());
-        this.remainingContent.put(RoomContent.CONTRAPTION, this.floorDetails.getNumberOfContraptions());
-        this.remainingContent.put(RoomContent.TREASURE, this.floorDetails.getNumberOfTreasures());
+        this(floorDetails, new Random());
+    }
+
+    /**
+     * RoomFactoryImpl constructor that draws the plan of the floor and the
+     * contents of its rooms with the given generator.
+     * 
+     * @param floorDetails that describe the floor
+     * @param random       is the generator the rooms are drawn with
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the contents of the floor do not fit inside its rooms
+     */
+    public RoomFactoryImpl(final FloorDetails floorDetails, final Random random) {
+        this(floorDetails, new RoomContentDistributorImpl(Objects.requireNonNull(floorDetails), random), NONE_ROOMS,
+             random);
+    }
+
+    /**
+     * RoomFactoryImpl constructor that goes on creating the rooms of a floor
+     * after the given one, as it happens when a game is restored.
+     * 
+     * @param floorDetails that describe the floor
+     * @param distributor  that places the contents of the floor in its rooms
+     * @param roomIndex    is the index of the last room already created, below zero
+     *                     if no room has been created yet
+     * @throws NullPointerException if floorDetails or distributor is null
+     */
+    public RoomFactoryImpl(final FloorDetails floorDetails, final RoomContentDistributor distributor,
+                           final int roomIndex) {
+        this(floorDetails, distributor, roomIndex, new Random());
+    }
+
+    /**
+     * RoomFactoryImpl constructor that goes on creating the rooms of a floor
+     * after the given one, drawing their enemies, contraptions and treasures
+     * with the given generator.
+     * 
+     * @param floorDetails that describe the floor
+     * @param distributor  that places the contents of the floor in its rooms
+     * @param roomIndex    is the index of the last room already created, below zero
+     *                     if no room has been created yet
+     * @param random       is the generator the rooms are drawn with
+     * @throws NullPointerException if floorDetails, distributor or random is null
+     */
+    public RoomFactoryImpl(final FloorDetails floorDetails, final RoomContentDistributor distributor,
+                           final int roomIndex, final Random random) {
+        this.floorDetails = Objects.requireNonNull(floorDetails);
+        this.distributor = Objects.requireNonNull(distributor);
+        this.random = Objects.requireNonNull(random);
+        this.roomIndex = Math.max(roomIndex, NONE_ROOMS);
     }
 
     /**
@@ -95,11 +140,11 @@ public class RoomFactoryImpl implements RoomFactory {
     }
 
     private Room createBossRoom() {
-        final BasicCharacter boss = new DarkDestructor();
+        final BasicCharacter boss = new DarkDestructor(this.random);
         final CombatEvent event = RoomEventHelper.getCombat();
         event.getHostileEncounter().addNPC(boss);
         event.getHostileEncounter()
-             .setCombatLogic(new DefaultCombatActionExecutor(event.getHostileEncounter().getNPCs()));
+             .setCombatLogic(createCombatLogic(event));
         return new RoomImpl(Arrays.asList(event));
     }
 
@@ -110,76 +155,30 @@ public class RoomFactoryImpl implements RoomFactory {
     private Room createBaseRoom() {
         final List<RoomEvent> events = new ArrayList<>();
         final CombatEvent combatEvent = RoomEventHelper.getCombat();
-        final int numberOfEnemies = this.getQuantityOfEnemies();
-        this.remainingContent.compute(RoomContent.ENEMY, (k, v) -> v - numberOfEnemies);
-        IntStream.range(0, numberOfEnemies).boxed().map(i -> RandomEnemyFactory.createRandomEnemy())
+        final int numberOfEnemies = this.distributor.getQuantity(this.roomIndex, RoomContent.ENEMY);
+        IntStream.range(0, numberOfEnemies).boxed().map(i -> RandomEnemyFactory.createRandomEnemy(this.random))
                  .forEach(c -> combatEvent.getHostileEncounter().addNPC(c));
         if (!combatEvent.getHostileEncounter().getNPCs().isEmpty()) {
             combatEvent.getHostileEncounter()
-                       .setCombatLogic(new DefaultCombatActionExecutor(combatEvent.getHostileEncounter().getNPCs()));
+                       .setCombatLogic(createCombatLogic(combatEvent));
             events.add(combatEvent);
         }
-        final EnumMap<RoomContent, Integer> interactableActions = getQuantityOfInteractableAction();
-        events.addAll(IntStream.range(0, interactableActions.get(RoomContent.CONTRAPTION))
+        events.addAll(IntStream.range(0, this.distributor.getQuantity(this.roomIndex, RoomContent.CONTRAPTION))
               .boxed()
-              .map(b -> RoomEventHelper.getContraption()).collect(Collectors.toList()));
-        events.addAll(IntStream.range(0, interactableActions.get(RoomContent.TREASURE))
+              .map(b -> RoomEventHelper.getContraption(this.random)).collect(Collectors.toList()));
+        events.addAll(IntStream.range(0, this.distributor.getQuantity(this.roomIndex, RoomContent.TREASURE))
               .boxed()
-              .map(b -> RoomEventHelper.getTreasureChest()).collect(Collectors.toList()));
+              .map(b -> RoomEventHelper.getTreasureChest(this.random)).collect(Collectors.toList()));
         return new RoomImpl(events);
     }
 
-    private int getQuantityOfEnemies() {
-        if (this.remainingContent.get(RoomContent.ENEMY) > this.getRemainingBaseRoomsToSet() * MAX_ENEMIES_PER_ROOM) {
-            return Integer.min(MAX_ENEMIES_PER_ROOM, this.remainingContent.get(RoomContent.ENEMY));
-        } else if (StdRandom.bernoulli(PROB_TO_SET_CONTENT) && this.remainingContent.get(RoomContent.ENEMY) > 0) {
-            return RandomUtils.nextInt(MIN_ENEMIES_PER_ROOM, 
-                                       Integer.min(MAX_ENEMIES_PER_ROOM, this.remainingContent.get(RoomContent.ENEMY)));
-        } 
-        return MIN_ENEMIES_PER_ROOM;
-    }
-
-    private EnumMap<RoomContent, Integer> getQuantityOfInteractableAction() {
-        final EnumMap<RoomContent, Integer> content = new EnumMap<RoomContent, Integer>(RoomContent.class);
-        content.put(RoomContent.CONTRAPTION, 0);
-        content.put(RoomContent.TREASURE, 0);
-        final int maxInteractAfterNextRoom = MAX_INTERACTABLE_ACTIONS_PER_ROOM * (this.getRemainingBaseRoomsToSet());
-        if (this.getRamainingInteractToSet() > maxInteractAfterNextRoom || RandomUtils.nextBoolean()) {
-            int minInteractable = 0;
-            if (this.getRamainingInteractToSet() > maxInteractAfterNextRoom) {
-                minInteractable = this.getRamainingInteractToSet() - maxInteractAfterNextRoom;
-            }
-            final int maxInteract = Integer.min(MAX_INTERACTABLE_ACTIONS_PER_ROOM, this.getRamainingInteractToSet());
-            final int numberOfInteractable = RandomUtils.nextInt(minInteractable, maxInteract + 1);
-            IntStream.range(0, numberOfInteractable)
-                     .boxed()
-                     .map(i -> getAvailableRandomInteractableAction().get())
-                     .forEach(roomContent -> content.compute(roomContent, (k, v) -> v + 1));
-        }
-        return content;
-    }
-
-    private Optional<RoomContent> getAvailableRandomInteractableAction() {
-        Optional<RoomContent> contentType = Optional.empty();
-        if (this.remainingContent.get(RoomContent.CONTRAPTION) > 0 && StdRandom.bernoulli(PROB_TO_SET_CONTENT)) {
-            contentType = Optional.of(RoomContent.CONTRAPTION);
-        } else if (this.remainingContent.get(RoomContent.TREASURE) > 0 && !contentType.isPresent()) {
-            contentType = Optional.of(RoomContent.TREASURE);
-        } else if (this.remainingContent.get(RoomContent.CONTRAPTION) > 0 && !contentType.isPresent()) {
-            contentType = Optional.of(RoomContent.CONTRAPTION);
-        }
-        if (contentType.isPresent()) {
-            this.remainingContent.compute(contentType.get(), (k, v) -> v - 1);
-        }
-        return contentType;
-    }
-
-    private int getRamainingInteractToSet() {
-        return this.remainingContent.get(RoomContent.TREASURE) + this.remainingContent.get(RoomContent.CONTRAPTION);
-    }
-
-    private int getRemainingBaseRoomsToSet() {
-        return (this.floorDetails.getNumberOfRooms() - (this.roomIndex + 1)) - 1;
+    /*
+     * Every combat keeps its own journal, which can be replayed once the combat
+     * is over.
+     */
+    private ActionExecutor createCombatLogic(final CombatEvent event) {
+        return new JournalingCombatActionExecutor(new MemoryCombatJournal(), event.getHostileEncounter().getNPCs(),
+                                                  Collections.<ActionActor>emptySet(), this.random);
     }
 
 }
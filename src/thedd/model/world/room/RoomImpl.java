@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 
 import thedd.model.roomevent.RoomEvent;
+import thedd.model.roomevent.RoomEventType;
 
 /**
  * Implementation of {@link thedd.model.world.room.Room}.
@@ -79,6 +80,15 @@ public class RoomImpl implements Room {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void removeEvents(final RoomEventType type) {
+        Objects.requireNonNull(type);
+        this.events.removeIf(event -> event.getType() == type);
+    }
+
     private boolean checkEventComplete(final RoomEvent event) {
         Objects.requireNonNull(event);
         return event.isCompleted() || event.isSkippable();
@@ -2,6 +2,8 @@ package thedd.utils.randomcollections;
 
 import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import thedd.utils.randomcollections.weighteditem.WeightedItem;
@@ -31,6 +33,11 @@ public abstract class AbstractRandomCollection<E> implements RandomCollection<E>
 
     @Override
     public final E getNext() {
+        return getNext(ThreadLocalRandom.current());
+    }
+
+    @Override
+    public final E getNext(final Random generator) {
         if (getWeightedCollection().isEmpty()) {
             throw new NoSuchElementException("The collection is empty and must be filled first.");
         }
@@ -42,7 +49,7 @@ public abstract class AbstractRandomCollection<E> implements RandomCollection<E>
         }
         // Now choose a random item
         while (random == 0d) {
-            random = Math.random() * totalWeight;
+            random = generator.nextDouble() * totalWeight;
         }
         for (final WeightedItem<E> element : getWeightedCollection()) {
             random -= element.getWeight();
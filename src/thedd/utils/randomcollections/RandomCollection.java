@@ -1,6 +1,7 @@
 package thedd.utils.randomcollections;
 
 import java.util.Collection;
+import java.util.Random;
 
 import thedd.utils.randomcollections.weighteditem.WeightedItem;
 
@@ -32,6 +33,13 @@ public interface RandomCollection<E> extends Collection<E> {
      */
     E getNext();
 
+    /**
+     * Gets the next random item, drawn with the given generator.
+     * @param random the generator the item is drawn with
+     * @return a random item
+     */
+    E getNext(Random random);
+
     /**
      * Updates the weight of the given item.
      * @param item the item to be updated
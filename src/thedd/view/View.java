@@ -1,9 +1,7 @@
 package thedd.view;
 
 import java.util.List;
-import thedd.model.combat.action.Action;
-import thedd.model.combat.action.result.ActionResult;
-import thedd.model.combat.actor.ActionActor;
+import thedd.controller.core.TargetSnapshot;
 
 /**
  * Interface describing the view of the pattern MVC of this application.
@@ -25,13 +23,10 @@ public interface View {
     /**
      * Show targets of an action.
      * 
-     * @param targets     all the possible targets
-     * @param alliedParty all the actors in the allied party
-     * @param enemyParty  all the actors in the enemy party
-     * @param action      the action
+     * @param targets all the actors of both parties, telling which ones can be
+     *                targeted
      */
-    void showActionTargets(List<ActionActor> targets, List<ActionActor> alliedParty, List<ActionActor> enemyParty,
-                           Action action);
+    void showActionTargets(List<TargetSnapshot> targets);
 
     /**
      * Reset targets of an action.
@@ -41,16 +36,16 @@ public interface View {
     /**
      * Show effect of an action.
      * 
-     * @param result of the action
+     * @param actionName the name of the action
      */
-    void showActionEffect(ActionResult result);
+    void showActionEffect(String actionName);
 
     /**
      * Show result of an action.
      * 
-     * @param actionResult the result to show
+     * @param log the lines describing the result to show
      */
-    void showActionResult(ActionResult actionResult);
+    void showActionResult(List<String> log);
 
     /**
      * Show inventory.
@@ -86,8 +81,8 @@ public interface View {
 
     /**
      * Shows a visual representation of the action (e.g. animations).
-     * @param result the result of the action
+     * @param actionName the name of the action
      */
-    void visualizeAction(ActionResult result);
+    void visualizeAction(String actionName);
 
 }
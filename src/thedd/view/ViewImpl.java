@@ -10,11 +10,10 @@ import javafx.stage.Screen;
 import javafx.stage.Stage;
 import thedd.controller.Controller;
 import thedd.controller.ControllerImpl;
-import thedd.model.combat.action.Action;
-import thedd.model.combat.action.result.ActionResult;
-import thedd.model.combat.actor.ActionActor;
+import thedd.controller.core.TargetSnapshot;
 import thedd.view.controller.MainGameViewController;
 import thedd.view.controller.interfaces.GameView;
+import thedd.view.imageloader.ImageLoaderImpl;
 import thedd.view.nodewrapper.ViewNodeWrapper;
 
 /**
@@ -62,6 +61,8 @@ public class ViewImpl extends Application implements View {
         }
         this.stage = Optional.of(primaryStage);
         this.stage.get().centerOnScreen();
+        ImageLoaderImpl.preload();
+        ViewNodeWrapper.preload();
         this.initView();
     }
 
@@ -74,19 +75,20 @@ public class ViewImpl extends Application implements View {
         if (!this.stage.isPresent()) {
             throw new IllegalStateException(ERROR_STAGEUNSETTED);
         }
-        this.actualScene = Optional.of(ViewNodeWrapper.createViewNodeWrapper(state.getViewNode(), 
-                                                                             this.controller, 
-                                                                             this));
+        this.actualScene = Optional.of(ViewNodeWrapper.createViewNodeWrapper(state.getViewNode()));
         this.actualViewState = Optional.of(state);
         this.actualScene.get().getController().init(this, this.controller);
         final Parent parent = (Parent) this.actualScene.get().getNode();
-        final Scene newScene = new Scene(parent);
         final Stage stage = this.stage.get();
-        final double width = stage.getWidth();
-        final double height = stage.getHeight();
-        stage.setScene(newScene);
-        stage.setWidth(width);
-        stage.setHeight(height);
+        if (stage.getScene() == null) {
+            final double width = stage.getWidth();
+            final double height = stage.getHeight();
+            stage.setScene(new Scene(parent));
+            stage.setWidth(width);
+            stage.setHeight(height);
+        } else {
+            stage.getScene().setRoot(parent);
+        }
         if (!this.viewStarted) {
             stage.centerOnScreen();
             stage.show();
@@ -148,9 +150,8 @@ public class ViewImpl extends Application implements View {
      * {@inheritDoc}
      */
     @Override
-    public final void showActionTargets(final List<ActionActor> targets, final List<ActionActor> alliedParty,
-                                        final List<ActionActor> enemyParty, final Action action) {
-        this.getGameViewController().ifPresent(c -> c.showTargets(targets, alliedParty, enemyParty, action));
+    public final void showActionTargets(final List<TargetSnapshot> targets) {
+        this.getGameViewController().ifPresent(c -> c.showTargets(targets));
     }
 
     /**
@@ -165,16 +166,16 @@ public class ViewImpl extends Application implements View {
      * {@inheritDoc}
      */
     @Override
-    public final void showActionEffect(final ActionResult result) {
-        this.getGameViewController().ifPresent(c -> c.visualizeAction(result));
+    public final void showActionEffect(final String actionName) {
+        this.getGameViewController().ifPresent(c -> c.visualizeAction(actionName));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public final void showActionResult(final ActionResult result) {
-        this.getGameViewController().ifPresent(c -> this.getGameViewController().get().logAction(result));
+    public final void showActionResult(final List<String> log) {
+        this.getGameViewController().ifPresent(c -> this.getGameViewController().get().logAction(log));
     }
 
     /**
@@ -225,8 +226,8 @@ public class ViewImpl extends Application implements View {
      * {@inheritDoc}
      */
     @Override
-    public void visualizeAction(final ActionResult result) {
-        this.getGameViewController().ifPresent(c -> this.getGameViewController().get().visualizeAction(result));
+    public void visualizeAction(final String actionName) {
+        this.getGameViewController().ifPresent(c -> this.getGameViewController().get().visualizeAction(actionName));
     }
 
 
@@ -1,37 +1,36 @@
 package thedd.view.actionselector;
 
-import java.util.List;
-import java.util.stream.Collectors;
 import javafx.scene.image.Image;
+import thedd.controller.core.ActionSnapshot;
 import thedd.model.combat.action.Action;
 import thedd.view.imageloader.DirectoryPicker;
 import thedd.view.imageloader.ImageLoaderImpl;
 
 /**
- * A class which encapsulates an {@link Action} and exposes methods
- * used for displaying it in the view.<br>
+ * A class which encapsulates the {@link ActionSnapshot} of an {@link Action} and
+ * exposes methods used for displaying it in the view.<br>
  * It holds an image associated with the action and specifies the formatting
  * of the text.
  */
 public class VisualAction {
 
-    private final Action action;
+    private final ActionSnapshot action;
     private final Image image;
 
     /**
-     * @param action the action to show.
+     * @param action the snapshot of the action to show.
      */
-    public VisualAction(final Action action) {
+    public VisualAction(final ActionSnapshot action) {
         this.action = action;
         this.image = new ImageLoaderImpl().loadSingleImage(DirectoryPicker.ACTIONS, action.getName());
     }
 
     /**
-     * Gets a copy of the associated {@link Action}.
+     * Gets the snapshot of the associated {@link Action}.
      * @return the associated action
      */
-    public Action getAction() {
-        return action.getCopy();
+    public ActionSnapshot getAction() {
+        return action;
     }
 
     /**
@@ -47,7 +46,7 @@ public class VisualAction {
      * @return true if the action is selectable, false otherwise
      */
     public boolean canSelect() {
-        return getAction().getRequirements().stream().allMatch(r -> r.isFulfilled(action));
+        return action.isSelectable();
     }
 
     /**
@@ -68,13 +67,13 @@ public class VisualAction {
     public String getDescription() {
         final StringBuilder sb = new StringBuilder(getName());
         sb.append("\n\n");
-        if (!getTags().isEmpty()) {
-            sb.append(getTags())
+        if (!action.getTags().isEmpty()) {
+            sb.append(action.getTags())
               .append('\n');
         }
         sb.append(action.getDescription())
           .append("\n\n")
-          .append(getEffectsPreview())
+          .append(action.getEffectsPreview())
           .append("Base hitchance: ")
           .append(getBaseHitChance())
           .append('%');
@@ -86,18 +85,8 @@ public class VisualAction {
         return sb.toString();
     }
 
-    private List<String> getTags() {
-        return getAction().getTags().stream()
-                               .filter(t -> !t.isHidden())
-                               .map(t -> t.getLiteral()).collect(Collectors.toList());
-    }
-
-    private String getEffectsPreview() {
-        return getAction().getEffectsPreview(null);
-    }
-
     private double getBaseHitChance() {
-        return getAction().getBaseHitChance() * 100;
+        return action.getBaseHitChance() * 100;
     }
 
 }
@@ -0,0 +1,84 @@
+package thedd.view.actionselector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.scene.image.Image;
+import thedd.controller.core.ActionSnapshot;
+
+/**
+ * The categories of actions shown by the action selector, followed by the
+ * inventory category.<br>
+ * The catalog built for a list of actions is kept until a different list is
+ * requested, so opening the selector again for the same actions reuses its
+ * categories, actions and images.
+ */
+public final class VisualCatalog {
+
+    private static final String INVENTORY_CATEGORY = "Inventory";
+    private static Optional<VisualCatalog> last = Optional.empty();
+
+    private final List<ActionSnapshot> actions;
+    private final List<VisualCategory> categories;
+    private final List<Image> categoryImages;
+
+    private VisualCatalog(final List<ActionSnapshot> actions) {
+        this.actions = actions;
+        final List<VisualCategory> categories = new ArrayList<>();
+        actions.stream()
+               .map(a -> a.getCategory())
+               .distinct()
+               .forEach(c -> {
+                   final List<VisualAction> actionsByCategory = actions.stream()
+                                                    .filter(a -> a.getCategory() == c)
+                                                    .map(a -> new VisualAction(a))
+                                                    .collect(Collectors.toList());
+                   final String categoryName = c.name().toLowerCase(Locale.ENGLISH);
+                   categories.add(new VisualCategory(categoryName, actionsByCategory));
+               });
+        categories.add(new VisualCategory(INVENTORY_CATEGORY, Collections.emptyList()));
+        this.categories = Collections.unmodifiableList(categories);
+        this.categoryImages = Collections.unmodifiableList(categories.stream()
+                                                                     .map(VisualCategory::getImage)
+                                                                     .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the catalog of the actions, building it only if the last catalog was
+     * built for a different list.<br>
+     * The list is compared by identity, as given by
+     * {@link thedd.controller.core.GameSnapshot#getActions()}, which reuses it
+     * while the catalog of the player doesn't change.
+     * Must be called from the JavaFX application thread.
+     * @param actions the actions to show
+     * @return the catalog of the actions
+     */
+    public static VisualCatalog of(final List<ActionSnapshot> actions) {
+        Objects.requireNonNull(actions);
+        if (!last.isPresent() || last.get().actions != actions) {
+            last = Optional.of(new VisualCatalog(actions));
+        }
+        return last.get();
+    }
+
+    /**
+     * Gets the categories of the catalog.
+     * @return the categories, the last one being the inventory
+     */
+    public List<VisualCategory> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Gets the images of the categories.
+     * @return the images of the categories, in the same order
+     */
+    public List<Image> getCategoryImages() {
+        return categoryImages;
+    }
+}
@@ -3,6 +3,7 @@ package thedd.view.actionselector;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.scene.image.Image;
 import thedd.view.imageloader.DirectoryPicker;
@@ -18,6 +19,7 @@ public class VisualCategory {
     private final String name;
     private final List<VisualAction> actions = new ArrayList<>();
     private final Image image;
+    private final List<Image> actionImages;
 
     /**
      * @param name the name of the category
@@ -27,6 +29,9 @@ public class VisualCategory {
         this.name = name;
         this.actions.addAll(actions);
         this.image = new ImageLoaderImpl().loadSingleImage(DirectoryPicker.ACTION_CATEGORIES, name);
+        this.actionImages = Collections.unmodifiableList(actions.stream()
+                                                                .map(VisualAction::getImage)
+                                                                .collect(Collectors.toList()));
     }
 
     /**
@@ -53,6 +58,14 @@ public class VisualCategory {
         return image;
     }
 
+    /**
+     * Gets the images of the actions of the category.
+     * @return the images of the actions, in the same order
+     */
+    public List<Image> getActionImages() {
+        return actionImages;
+    }
+
     /**
      * Gets a text describing the category to be displayed to the player.
      * @return the description of the category
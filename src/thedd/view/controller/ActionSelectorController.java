@@ -1,22 +1,21 @@
 package thedd.view.controller;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.image.Image;
 import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.RowConstraints;
-import thedd.model.combat.action.Action;
+import thedd.controller.core.ActionSnapshot;
 import thedd.utils.observer.Observer;
 import thedd.view.actionselector.Command;
 import thedd.view.actionselector.DescriptionPane;
 import thedd.view.actionselector.IconsPane;
 import thedd.view.actionselector.VisualAction;
+import thedd.view.actionselector.VisualCatalog;
 import thedd.view.actionselector.VisualCategory;
 
 /**
@@ -31,7 +30,8 @@ public class ActionSelectorController extends ViewNodeControllerImpl implements
     private static final double DESCRIPTIONPANE_WIDTH_PERCENTAGE = 100 - ICONSPANE_WIDTH_PERCENTAGE;
     private final IconsPane iconsPane;
     private final DescriptionPane descriptionPane;
-    private final List<VisualCategory> categories = new ArrayList<>();
+    private List<VisualCategory> categories = Collections.emptyList();
+    private List<Image> categoryImages = Collections.emptyList();
     private int selectedCategoryIndex;
     private boolean categorySelected;
     private boolean actionSelected;
@@ -49,15 +49,15 @@ public class ActionSelectorController extends ViewNodeControllerImpl implements
     }
 
     /**
-     * Sets the {@link Action}s to be displayed.
+     * Sets the {@link ActionSnapshot}s to be displayed.
      * @param items the actions to be displayed
      */
-    public void passItems(final List<Action> items) {
-        fillLists(items);
-        final VisualCategory inventoryCategory = new VisualCategory("Inventory", Collections.emptyList());
-        categories.add(inventoryCategory);
+    public void passItems(final List<ActionSnapshot> items) {
+        final VisualCatalog catalog = VisualCatalog.of(items);
+        categories = catalog.getCategories();
+        categoryImages = catalog.getCategoryImages();
         descriptionPane.showCategory(categories.get(0), 0, categories.size());
-        iconsPane.passItems(categories.stream().map(c -> c.getImage()).collect(Collectors.toList()));
+        iconsPane.passItems(categoryImages);
     }
 
     /**
@@ -74,20 +74,6 @@ public class ActionSelectorController extends ViewNodeControllerImpl implements
         }
     }
 
-    private void fillLists(final List<Action> actions) {
-        actions.stream()
-               .map(a -> a.getCategory())
-               .distinct()
-               .forEach(c -> {
-                   final List<VisualAction> actionsByCategory = actions.stream()
-                                                    .filter(a -> a.getCategory() == c)
-                                                    .map(a -> new VisualAction(a))
-                                                    .collect(Collectors.toList());
-                   final String categoryName = c.name().toLowerCase(Locale.ENGLISH);
-                   categories.add(new VisualCategory(categoryName, actionsByCategory));
-               });
-    }
-
     @Override
     public void update() {
     }
@@ -164,8 +150,7 @@ public class ActionSelectorController extends ViewNodeControllerImpl implements
                 getView().showInventory();
                 return;
             } else {
-                iconsPane.passItems(categories.get(selectedCategoryIndex).getActions().stream()
-                        .map(c -> c.getImage()).collect(Collectors.toList()));
+                iconsPane.passItems(categories.get(selectedCategoryIndex).getActionImages());
                 updateDescription();
             }
         } else {
@@ -174,7 +159,7 @@ public class ActionSelectorController extends ViewNodeControllerImpl implements
             iconsPane.setDisable(true);
             descriptionPane.setSelectionAndMovement(true);
             final int selectedActionIndex = iconsPane.getSelectedIndex(); 
-            final Action selectedAction = categories.get(selectedCategoryIndex)
+            final ActionSnapshot selectedAction = categories.get(selectedCategoryIndex)
                                                     .getActions()
                                                     .get(selectedActionIndex)
                                                     .getAction();
@@ -189,8 +174,7 @@ public class ActionSelectorController extends ViewNodeControllerImpl implements
             descriptionPane.setSelectionAndMovement(false);
             getController().undoActionSelection();
         } else {
-            iconsPane.passItems(categories.stream()
-                    .map(c -> c.getImage()).collect(Collectors.toList()));
+            iconsPane.passItems(categoryImages);
             categorySelected = false;
         }
         updateDescription();
@@ -1,35 +1,23 @@
 package thedd.view.controller;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import javafx.animation.TranslateTransition;
 import javafx.beans.property.SimpleDoubleProperty;
-import javafx.concurrent.WorkerStateEvent;
-import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.image.Image;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
-import thedd.model.character.BasicCharacter;
-import thedd.model.character.statistics.StatValues;
+import thedd.controller.core.ActorSnapshot;
+import thedd.controller.core.GameSnapshot;
+import thedd.controller.core.TargetSnapshot;
 import thedd.model.character.statistics.Statistic;
-import thedd.model.character.types.DarkDestructor;
-import thedd.model.character.types.PlayerCharacter;
-import thedd.model.combat.action.Action;
-import thedd.model.combat.action.result.ActionResult;
-import thedd.model.combat.actor.ActionActor;
-import thedd.model.roomevent.RoomEventType;
-import thedd.model.roomevent.combatevent.CombatEvent;
-import thedd.model.roomevent.interactableactionperformer.InteractableActionPerformer;
 import thedd.model.world.floor.details.FloorDetails;
 import thedd.utils.observer.Observer;
 import thedd.view.controller.interfaces.ExplorationView;
@@ -43,63 +31,70 @@ import thedd.view.explorationpane.logger.LoggerManager;
 import thedd.view.imageloader.DirectoryPicker;
 import thedd.view.imageloader.ImageLoader;
 import thedd.view.imageloader.ImageLoaderImpl;
+import thedd.view.imageloader.Sprite;
 
 /**
  * Controller of the top pane of the game.
  */
 public class GameContentController extends ViewNodeControllerImpl implements Observer<Pair<Boolean, Pair<PartyType, Integer>>>, ExplorationView {
 
+    private static final String LOG_LINE_MILLIS_PROPERTY = "thedd.log.lineMillis";
+
     @FXML
     private TopStackPane mainPane;
 
     private final ExplorationPaneImpl explorationPane = new ExplorationPaneImpl();
     private TargetSelectionState state;
-    private Optional<Action> performing = Optional.empty();
-    private final List<ActionActor> alliedParty = new ArrayList<>();
-    private final List<ActionActor> enemyParty = new ArrayList<>();
+    private Optional<Integer> performing = Optional.empty();
+    private final List<TargetSnapshot> targets = new ArrayList<>();
+    private Optional<GameSnapshot> shown = Optional.empty();
     private final ImageLoader imgLoader = new ImageLoaderImpl();
     private Image currentBackgroundImage; 
     private Optional<OptionDialog> messageDialog = Optional.empty();
     private boolean firstUpdate = true;
+    private LoggerManager loggerManager;
 
     @Override
     public final void update() {
+        final GameSnapshot snapshot = this.getController().getSnapshot();
+        final Optional<GameSnapshot> previous = shown;
+        shown = Optional.of(snapshot);
+        if (!firstUpdate && state == TargetSelectionState.COMBAT_INFORMATION && snapshot.isInCombat()
+                && previous.isPresent() && isSameCombat(previous.get(), snapshot)) {
+            updateChangedActors(previous.get(), snapshot);
+            return;
+        }
         if (firstUpdate) {
             firstUpdate = false;
             setNewBackgroundImage();
         }
-        final List<Image> alliedImages = new ArrayList<>();
-        alliedImages.add(imgLoader.loadSingleImage(DirectoryPicker.ALLY_BATTLE, "renato_corteccioni"));
+        final List<Sprite> alliedImages = new ArrayList<>();
+        alliedImages.add(imgLoader.loadSprite(DirectoryPicker.ALLY_BATTLE, "renato_corteccioni"));
         explorationPane.setAllyImages(alliedImages);
-        updateSingleTarget(this.getController().getPlayer(), new ImmutablePair<PartyType, Integer>(PartyType.ALLIED, 0), Optional.empty());
+        updateSingleTarget(snapshot.getPlayer(), new ImmutablePair<PartyType, Integer>(PartyType.ALLIED, 0), Optional.empty());
 
-        final List<Image> enemyImages = new ArrayList<>();
-        if (this.getController().isCombatActive()) {
+        final List<Sprite> enemyImages = new ArrayList<>();
+        if (snapshot.isInCombat()) {
             state = TargetSelectionState.COMBAT_INFORMATION;
-            final List<ActionActor> enemyActors = new ArrayList<>();
-            final CombatEvent ce = this.getController().getRoomEvents().stream().filter(rm -> rm.getType() == RoomEventType.COMBAT_EVENT).findFirst().map(rm -> (CombatEvent) rm).get(); 
-            ce.getHostileEncounter().getNPCs().stream().forEach(npc -> {
-                enemyImages.add(mapActionActorToImage(npc)); 
-                enemyActors.add(npc);
-            });
+            final List<ActorSnapshot> enemyActors = snapshot.getEnemies();
+            IntStream.range(0, enemyActors.size()).forEach(i -> enemyImages.add(mapActorToImage(enemyActors.get(i))));
             explorationPane.setEnemyImages(enemyImages);
             IntStream.range(0,  enemyActors.size()).forEach(i -> updateSingleTarget(enemyActors.get(i), new ImmutablePair<>(PartyType.ENEMY, i), Optional.empty()));
         } else {
-            if (this.getController().isCurrentLastRoom()) {
+            if (snapshot.isLastRoom()) {
                 state = TargetSelectionState.STAIRS;
-                this.getController().getStairsOptions().forEach(so -> enemyImages.add(imgLoader.loadSingleImage(DirectoryPicker.ROOM_CHANGER, "stairs")));
+                snapshot.getStairs().forEach(so -> enemyImages.add(imgLoader.loadSprite(DirectoryPicker.ROOM_CHANGER, "stairs")));
                 explorationPane.setEnemyImages(enemyImages);
-                IntStream.range(0, this.getController().getStairsOptions().size()).forEach(i -> explorationPane.updatePositionTooltip(new ImmutablePair<PartyType, Integer>(PartyType.ENEMY, i), stairsTooltip(i)));
+                IntStream.range(0, snapshot.getStairs().size()).forEach(i -> explorationPane.updatePositionTooltip(new ImmutablePair<PartyType, Integer>(PartyType.ENEMY, i), stairsTooltip(snapshot.getStairs().get(i))));
             } else {
                 state = TargetSelectionState.EXPLORATION;
-                final List<InteractableActionPerformer> iapEvents = new ArrayList<>();
-                this.getController().getRoomEvents().stream().filter(rm -> rm.getType() == RoomEventType.INTERACTABLE_ACTION_PERFORMER && !rm.isCompleted()).map(rm -> (InteractableActionPerformer) rm).forEach(iap -> iapEvents.add(iap));
+                final List<Pair<String, String>> iapEvents = snapshot.getInteractables();
                 iapEvents.forEach(iap -> enemyImages.add(iapImage(iap)));
                 explorationPane.setEnemyImages(enemyImages);
                 IntStream.range(0, iapEvents.size()).forEach(i -> explorationPane.updatePositionTooltip(new ImmutablePair<PartyType, Integer>(PartyType.ENEMY, i), iapTooltip(iapEvents.get(i))));
             }
         }
-        explorationPane.setRoomAdvancerVisible(state == TargetSelectionState.EXPLORATION && !this.getController().isCurrentLastRoom());
+        explorationPane.setRoomAdvancerVisible(state == TargetSelectionState.EXPLORATION && !snapshot.isLastRoom());
         explorationPane.changeBackgroundImage(currentBackgroundImage);
         mainPane.autosize();
         explorationPane.forceResize();
@@ -119,6 +114,9 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
         explorationPane.prefWidthProperty().bind(mainPane.widthProperty());
         explorationPane.prefHeightProperty().bind(mainPane.heightProperty());
         explorationPane.autosize();
+        loggerManager = new LoggerManager(generateLog());
+        loggerManager.setLineDuration(Duration.millis(Long.getLong(LOG_LINE_MILLIS_PROPERTY,
+                                                                   (long) LoggerManager.DEFAULT_LINE_DURATION.toMillis())));
 
         mainPane.autosize();
     }
@@ -132,9 +130,7 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
             case EXPLORATION:
                 if (message.get().getLeft() && message.get().getRight().getLeft() == PartyType.ENEMY) {
                     if (!this.getController().isCurrentLastRoom()) {
-                        performing = Optional.of(this.getController().getRoomEvents().stream().filter(re -> re.getType() == RoomEventType.INTERACTABLE_ACTION_PERFORMER && !re.isCompleted())
-                                                                                             .map(rm -> (InteractableActionPerformer) rm)
-                                                                                             .collect(Collectors.toList()).get(message.get().getRight().getRight()).getAvailableActionsList().get(0));
+                        performing = Optional.of(message.get().getRight().getRight());
                         mainPane.showDialog("Do you want to interact with this object?");
                     } else {
                         this.getController().nextFloor(this.getController().getStairsOptions().get(message.get().getRight().getRight()));
@@ -145,7 +141,7 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
                 if (!message.get().getLeft()) {
                     displayStatistics(message); 
                 } else {
-                    this.getController().updateStatistics(this.getController().getPlayer());
+                    this.getController().updateStatistics(this.getController().getSnapshot().getPlayer());
                 }
                 break;
             case COMBAT_TARGET:
@@ -153,17 +149,15 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
                     displayStatistics(message);
                 }
                 if (message.get().getLeft()) {
-                    final List<ActionActor> selectedParty = getSelectedParty(Objects.requireNonNull(message.get().getRight().getLeft()));
-                    this.getController().targetSelected(selectedParty.get(message.get().getRight().getRight()));
-                    this.getController().updateStatistics(this.getController().getPlayer());
-                    alliedParty.clear();
-                    enemyParty.clear();
+                    final Optional<TargetSnapshot> selected = getTarget(message.get().getRight());
+                    targets.clear();
+                    selected.ifPresent(t -> this.getController().targetSelected(t));
+                    this.getController().updateStatistics(this.getController().getSnapshot().getPlayer());
                 }
                 break;
             case STAIRS:
                 if (message.get().getLeft() && this.getController().nextFloor(this.getController().getStairsOptions().get(message.get().getRight().getRight()))) {
                         changeRoomTransition();
-                        this.getController().nextRoom();
                         setNewBackgroundImage();
                         update();
                 }
@@ -199,11 +193,8 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
     }
 
     private void continueInput() {
-        performing.ifPresent(p -> {
-            p.setTargets(this.getController().getPlayer(), Collections.emptyList());
-            this.getController().executeSingleAction(p);
-            ((InteractableActionPerformer) p.getSource().get()).complete();
-        });
+        performing.ifPresent(i -> this.getController().interact(i));
+        performing = Optional.empty();
         mainPane.hideDialog();
         update();
     }
@@ -214,31 +205,20 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
     }
 
     @Override
-    public final void showTargets(final List<ActionActor> targetables, 
-                            final List<ActionActor> alliedParty, 
-                            final List<ActionActor> enemyParty,
-                            final Action action) {
+    public final void showTargets(final List<TargetSnapshot> targets) {
         final List<Pair<PartyType, Integer>> allActorPositions = new ArrayList<>();
         final List<Pair<PartyType, Integer>> targetableActors = new ArrayList<>();
-        IntStream.range(0, alliedParty.size())
-                 .peek(i -> allActorPositions.add(new ImmutablePair<>(PartyType.ALLIED, i)))
-                 .filter(i -> targetables.contains(alliedParty.get(i)))
-                 .forEach(i -> {
-                     final Pair<PartyType, Integer> pos = new ImmutablePair<>(PartyType.ALLIED, i);
-                     targetableActors.add(pos);
-                     updateSingleTarget(alliedParty.get(i), pos, Optional.of(action));
-                 });
-        IntStream.range(0, enemyParty.size())
-                 .peek(i -> allActorPositions.add(new ImmutablePair<>(PartyType.ENEMY, i)))
-                 .filter(i -> targetables.contains(enemyParty.get(i)))
-                 .forEach(i -> {
-                     final Pair<PartyType, Integer> pos = new ImmutablePair<>(PartyType.ENEMY, i);
-                     targetableActors.add(pos);
-                     updateSingleTarget(enemyParty.get(i), pos, Optional.of(action));
-                 });
+        targets.forEach(t -> {
+            final Pair<PartyType, Integer> pos = getPosition(t);
+            allActorPositions.add(pos);
+            if (t.isTargetable()) {
+                targetableActors.add(pos);
+                updateSingleTarget(t.getActor(), pos, Optional.of(t.getHitChance()));
+            }
+        });
         explorationPane.setTargetablePositions(targetableActors, allActorPositions);
-        this.alliedParty.addAll(alliedParty);
-        this.enemyParty.addAll(enemyParty);
+        this.targets.clear();
+        this.targets.addAll(targets);
         state = TargetSelectionState.COMBAT_TARGET;
     }
 
@@ -246,118 +226,99 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
     public final void hideTargets() {
         explorationPane.setAllAsTargetable();
         state = TargetSelectionState.COMBAT_INFORMATION;
-        IntStream.range(0, alliedParty.size())
-                 .forEach(i -> updateSingleTarget(alliedParty.get(i), new ImmutablePair<>(PartyType.ALLIED, i),  Optional.empty()));
-        IntStream.range(0, enemyParty.size())
-                 .forEach(i -> updateSingleTarget(enemyParty.get(i), new ImmutablePair<>(PartyType.ENEMY, i),  Optional.empty()));
-        alliedParty.clear();
-        enemyParty.clear();
+        final GameSnapshot snapshot = this.getController().getSnapshot();
+        targets.forEach(t -> updateSingleTarget(getShownActor(snapshot, t), getPosition(t), Optional.empty()));
+        targets.clear();
     }
 
     @Override
-    public final void logAction(final ActionResult result) {
-            final LinkedList<String> queue = new LinkedList<>();
-            //If an action result exists but doesn't contain results, it means that
-            //the actor has become unable to execute the action he originally selected.
-            if (result.getResults().isEmpty()) {
-                queue.add(result.getAction().getSource().get().getName()
-                          + " was unable to execute "
-                          + result.getAction().getName()
-                          + " action");
-            }
-            result.getResults().forEach(r -> {
-                switch (r.getRight()) {
-                case HIT:
-                    queue.add(result.getAction().getLogMessage(r.getLeft(), true));
-                    result.getAction().getEffects().forEach(e -> {
-                        e.setTarget(r.getLeft());
-                        queue.add(e.getLogMessage());
-                    });
-                    break;
-                case MISSED:
-                    queue.add(result.getAction().getLogMessage(r.getLeft(), false));
-                    break;
-                case PARRIED:
-                    queue.add(r.getLeft().getName() + " parried " + result.getAction().getSource().get().getName() + "'s action");
-                    break;
-                default:
-                    break;
-                }
-                if (r.getLeft() instanceof BasicCharacter && !((BasicCharacter) r.getLeft()).isAlive()) {
-                    queue.add(r.getLeft().getName() + " has been defeated.");
-                    if (r.getLeft() instanceof DarkDestructor) {
-                        queue.add("You have completed your mission, brave knight!");
-                    }
-                    if (r.getLeft() instanceof PlayerCharacter) {
-                        queue.add("May Morr watch over your soul, fallen one.");
-                    }
-                }
-            });
-            final LoggerImpl log = generateLog();
-            final LoggerManager lm = new LoggerManager(log, queue);
-            log.setLoggerManager(lm);
+    public final void logAction(final List<String> log) {
             explorationPane.setMouseTransparent(true);
-            final EventHandler<WorkerStateEvent> loggerCloser = new EventHandler<WorkerStateEvent>() {
-                @Override
-                public void handle(final WorkerStateEvent event) {
-                    mainPane.getChildren().remove(log);
-                    explorationPane.setMouseTransparent(false);
-                    getController().evaluateExecutionState();
-                }
-            };
-            lm.setOnCancelled(loggerCloser);
-            lm.setOnSucceeded(loggerCloser);
-            final Thread t = new Thread(lm);
-            t.setDaemon(true);
-            t.start();
+            loggerManager.log(log, () -> {
+                explorationPane.setMouseTransparent(false);
+                getController().resumeExecution();
+            });
 
     }
 
     @Override
-    public final void visualizeAction(final ActionResult result) {
-        this.getController().executeCurrentAction();
+    public final void visualizeAction(final String actionName) {
+        //No animation is shown yet, the result is logged once the action has been executed
+    }
+
+    /*
+     * The viewers are reused while the same enemies are fought in the same room.
+     */
+    private boolean isSameCombat(final GameSnapshot previous, final GameSnapshot snapshot) {
+        return previous.isInCombat() && previous.getFloorIndex() == snapshot.getFloorIndex()
+                && previous.getRoomIndex() == snapshot.getRoomIndex()
+                && previous.getEnemies().size() == snapshot.getEnemies().size();
     }
 
-    private void updateSingleTarget(final ActionActor target, final Pair<PartyType, Integer> position, final Optional<Action> action) {
-        if (Objects.requireNonNull(target) instanceof BasicCharacter) {
-            final BasicCharacter bcTarget = (BasicCharacter) target;
-            final StatValues targetHP = bcTarget.getStat(Statistic.HEALTH_POINT);
-            final double hitChance = action.isPresent() ? Objects.requireNonNull(action).get().getHitChance(target) : 0;
-            final String hitC = String.format("%.2f%%", hitChance * 100);
-            final Optional<Action> targetAction = position.getLeft() == PartyType.ALLIED ? Optional.empty() : target.getSelectedAction();
-            final Optional<Integer> targetInitiative = target.getTurnInitiative();
-            final StringBuilder sb = new StringBuilder().append(bcTarget.getName())
-                                                        .append('\n')
-                                                        .append("HP: ")
-                                                        .append(targetHP.getActual())
-                                                        .append('/')
-                                                        .append(targetHP.getMax())
-                                                        .append('\n');
-           targetAction.ifPresent(a -> sb.append("Next action: ").append(a.getName()).append('\n'));
-           targetInitiative.ifPresent(i -> sb.append("Round initiative: ").append(i).append('\n'));
-           action.ifPresent(a -> sb.append("Chance to hit: ").append(hitC));
-           explorationPane.updatePositionTooltip(Objects.requireNonNull(position), sb.toString());
-            if (bcTarget.getStat(Statistic.HEALTH_POINT).getActual() <= 0) {
-                    explorationPane.disableViewer(position);
+    /*
+     * During a combat only the viewers of the actors which changed are updated,
+     * so the cost of an update depends on what happened and not on the parties.
+     */
+    private void updateChangedActors(final GameSnapshot previous, final GameSnapshot snapshot) {
+        if (!previous.getPlayer().equals(snapshot.getPlayer())) {
+            updateSingleTarget(snapshot.getPlayer(), new ImmutablePair<PartyType, Integer>(PartyType.ALLIED, 0), Optional.empty());
+        }
+        final List<ActorSnapshot> enemyActors = snapshot.getEnemies();
+        IntStream.range(0, enemyActors.size()).filter(i -> !enemyActors.get(i).equals(previous.getEnemies().get(i))).forEach(i -> {
+            if (previous.getEnemies().get(i).isAlive() != enemyActors.get(i).isAlive()) {
+                explorationPane.changePositionImage(PartyType.ENEMY, i, mapActorToImage(enemyActors.get(i)));
             }
+            updateSingleTarget(enemyActors.get(i), new ImmutablePair<>(PartyType.ENEMY, i), Optional.empty());
+        });
+    }
+
+    private void updateSingleTarget(final ActorSnapshot state, final Pair<PartyType, Integer> position, final Optional<Double> hitChance) {
+        Objects.requireNonNull(state);
+        final Optional<String> targetAction = position.getLeft() == PartyType.ALLIED ? Optional.empty() : state.getNextAction();
+        final StringBuilder sb = new StringBuilder().append(state.getName())
+                                                    .append('\n')
+                                                    .append("HP: ")
+                                                    .append(state.getActual(Statistic.HEALTH_POINT))
+                                                    .append('/')
+                                                    .append(state.getMax(Statistic.HEALTH_POINT))
+                                                    .append('\n');
+        targetAction.ifPresent(a -> sb.append("Next action: ").append(a).append('\n'));
+        state.getInitiative().ifPresent(i -> sb.append("Round initiative: ").append(i).append('\n'));
+        hitChance.ifPresent(h -> sb.append("Chance to hit: ").append(String.format("%.2f%%", h * 100)));
+        explorationPane.updatePositionTooltip(Objects.requireNonNull(position), sb.toString());
+        if (!state.isAlive()) {
+                explorationPane.disableViewer(position);
         }
     }
 
-    private List<ActionActor> getSelectedParty(final PartyType side) {
-        switch (Objects.requireNonNull(side)) {
-            case ALLIED:
-                return alliedParty;
-            case ENEMY:
-                return enemyParty;
-            default:
-                return null;
+    private Pair<PartyType, Integer> getPosition(final TargetSnapshot target) {
+        return new ImmutablePair<>(target.isAllied() ? PartyType.ALLIED : PartyType.ENEMY, target.getPosition());
+    }
+
+    private Optional<TargetSnapshot> getTarget(final Pair<PartyType, Integer> position) {
+        return targets.stream().filter(t -> getPosition(t).equals(Objects.requireNonNull(position))).findFirst();
+    }
+
+    /*
+     * The statistics shown are read from the last snapshot of the game. The actors
+     * which are not part of it, as the targets of an action out of combat, are
+     * shown as they were when they were targeted.
+     */
+    private ActorSnapshot getShownActor(final GameSnapshot snapshot, final TargetSnapshot target) {
+        final int index = target.getPosition();
+        if (target.isAllied() && index == 0) {
+            return snapshot.getPlayer();
+        } else if (!target.isAllied() && index < snapshot.getEnemies().size()
+                && snapshot.getEnemies().get(index).getName().equals(target.getActor().getName())) {
+            return snapshot.getEnemies().get(index);
         }
+        return target.getActor();
     }
 
-    private Image mapActionActorToImage(final ActionActor c) {
-        return ((BasicCharacter) c).getStat(Statistic.HEALTH_POINT).getActual() > 0 
-                ? imgLoader.loadSingleImage(DirectoryPicker.ENEMY_BATTLE, c.getName()) 
-                : imgLoader.loadSingleImage(DirectoryPicker.CHARACTER_COMMON, "dead_character");
+    private Sprite mapActorToImage(final ActorSnapshot c) {
+        return c.isAlive()
+                ? imgLoader.loadSprite(DirectoryPicker.ENEMY_BATTLE, c.getName()) 
+                : imgLoader.loadSprite(DirectoryPicker.CHARACTER_COMMON, "dead_character");
     }
 
     private void setNewBackgroundImage() {
@@ -381,24 +342,27 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
         setNewBackgroundImage();
     }
 
-    private String iapTooltip(final InteractableActionPerformer roomEvent) {
-        if (roomEvent.getName().equals("Trap") || roomEvent.getName().equals("Treasure Chest")) {
+    /*
+     * The interactables are described by their names and the descriptions of their
+     * actions.
+     */
+    private String iapTooltip(final Pair<String, String> roomEvent) {
+        if (roomEvent.getLeft().equals("Trap") || roomEvent.getLeft().equals("Treasure Chest")) {
             return "A treasure chest";
         } else {
-            return roomEvent.getAvailableActionsList().get(0).getDescription();
+            return roomEvent.getRight();
         }
     }
 
-    private Image iapImage(final InteractableActionPerformer roomEvent) {
-        if (roomEvent.getName().equals("Trap") || roomEvent.getName().equals("Treasure Chest")) {
-            return imgLoader.loadSingleImage(DirectoryPicker.INTERACTABLE_ACTION_PERFORMER, "treasure_chest");
+    private Sprite iapImage(final Pair<String, String> roomEvent) {
+        if (roomEvent.getLeft().equals("Trap") || roomEvent.getLeft().equals("Treasure Chest")) {
+            return imgLoader.loadSprite(DirectoryPicker.INTERACTABLE_ACTION_PERFORMER, "treasure_chest");
         } else {
-            return imgLoader.loadSingleImage(DirectoryPicker.INTERACTABLE_ACTION_PERFORMER, roomEvent.getName());
+            return imgLoader.loadSprite(DirectoryPicker.INTERACTABLE_ACTION_PERFORMER, roomEvent.getLeft());
         }
     }
 
-    private String stairsTooltip(final int position) {
-        final FloorDetails fd = this.getController().getStairsOptions().get(position);
+    private String stairsTooltip(final FloorDetails fd) {
         return "Next floor:\n" 
                + "Difficulty: " + fd.getDifficult() + "\n"
                + "Number of enemies: " + fd.getNumberOfEnemies() + "\n" 
@@ -432,11 +396,12 @@ public class GameContentController extends ViewNodeControllerImpl implements Obs
     }
 
     private void displayStatistics(final Optional<Pair<Boolean, Pair<PartyType, Integer>>> message) {
-        if (message.get().getRight().getLeft() == PartyType.ALLIED && message.get().getRight().getRight() == 0) {
-            this.getController().updateStatistics(this.getController().getPlayer());
-        } else if (message.get().getRight().getLeft() == PartyType.ENEMY) {
-            final CombatEvent ce = (CombatEvent) this.getController().getRoomEvents().stream().filter(re -> re.getType() == RoomEventType.COMBAT_EVENT).findFirst().get();
-            this.getController().updateStatistics((BasicCharacter) ce.getHostileEncounter().getNPCs().stream().collect(Collectors.toList()).get(message.get().getRight().getRight()));
+        final GameSnapshot snapshot = this.getController().getSnapshot();
+        final int index = message.get().getRight().getRight();
+        if (message.get().getRight().getLeft() == PartyType.ALLIED && index == 0) {
+            this.getController().updateStatistics(snapshot.getPlayer());
+        } else if (message.get().getRight().getLeft() == PartyType.ENEMY && index < snapshot.getEnemies().size()) {
+            this.getController().updateStatistics(snapshot.getEnemies().get(index));
         }
     }
 }
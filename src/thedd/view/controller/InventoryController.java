@@ -6,8 +6,6 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import thedd.model.item.Item;
-import thedd.model.item.equipableitem.EquipableItem;
-import thedd.model.item.equipableitem.EquipableItemImpl;
 import thedd.model.item.usableitem.UsableItem;
 import thedd.view.extensions.AdaptiveFontButton;
 import thedd.view.extensions.AdaptiveFontScrollableText;
@@ -46,11 +44,7 @@ public class InventoryController extends ViewNodeControllerImpl {
             this.deleteButton.setDisable(true);
             this.table.setDisable(true);
         } else if (this.useButton.getText().equals(EQUIP_BUTTON_LABEL)) {
-            final EquipableItem selected = new EquipableItemImpl(selection.getId(), selection.getBaseName(),
-                    ((EquipableItem) selection).getType(), selection.getRarity(), selection.getDescription());
-            ((EquipableItem) selection).getActionEffects().forEach(ae -> selected.addActionEffect(ae));
-            ((EquipableItem) selection).getAdditionalActions().forEach(a -> selected.addAdditionalAction(a));
-            this.getController().equipItem(selected);
+            this.getController().equipItem(selection);
         } else if (this.useButton.getText().equals(CANCEL_LABEL)) {
             this.getController().undoActionSelection();
             this.useButton.setText(USE_BUTTON_LABEL);
@@ -132,13 +126,13 @@ public class InventoryController extends ViewNodeControllerImpl {
                                         ? "\nYou cannot equip this item: maximum slot limit reached!"
                                         : "")
                         + "\n\nDescription: \n" + item.getDescription() + "\n\nEffects: \n"
-                        + item.getEffectDescription() + "\nType: Equipable Item."
+                        + this.getController().getPlayerInformation().getItemEffectDescription(item) + "\nType: Equipable Item."
                         + (!this.getController().getPlayerInformation().isEquipped(item) ? "\n\nYou have "
                                 + this.getController().getPlayerInformation().getInventoryItemQuantity(item)
                                 + " of them in your inventory." : ""));
             } else {
                 this.content.setText(item.getName() + "\n\nDescription: \n" + item.getDescription() + "\n\nEffects: \n"
-                        + item.getEffectDescription() + "\n\nType: Usable Item. \n\nYou have "
+                        + this.getController().getPlayerInformation().getItemEffectDescription(item) + "\n\nType: Usable Item. \n\nYou have "
                         + this.getController().getPlayerInformation().getInventoryItemQuantity(item)
                         + " of them in your inventory.");
             }
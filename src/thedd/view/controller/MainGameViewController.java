@@ -6,9 +6,7 @@ import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.layout.AnchorPane;
-import thedd.model.combat.action.Action;
-import thedd.model.combat.action.result.ActionResult;
-import thedd.model.combat.actor.ActionActor;
+import thedd.controller.core.TargetSnapshot;
 import thedd.view.ViewNode;
 import thedd.view.controller.interfaces.ExplorationView;
 import thedd.view.controller.interfaces.GameView;
@@ -69,9 +67,8 @@ public class MainGameViewController extends ViewNodeControllerImpl implements Ga
      * {@inheritDoc}
      */
     @Override
-    public final void showTargets(final List<ActionActor> targetables, final List<ActionActor> alliedParty,
-                                  final List<ActionActor> enemyParty, final Action action) {
-        this.getExplorationPaneController().ifPresent(c -> c.showTargets(targetables, alliedParty, enemyParty, action));
+    public final void showTargets(final List<TargetSnapshot> targets) {
+        this.getExplorationPaneController().ifPresent(c -> c.showTargets(targets));
     }
 
     /**
@@ -86,16 +83,16 @@ public class MainGameViewController extends ViewNodeControllerImpl implements Ga
      * {@inheritDoc}
      */
     @Override
-    public final void logAction(final ActionResult result) {
-        this.getExplorationPaneController().ifPresent(c -> c.logAction(result));
+    public final void logAction(final List<String> log) {
+        this.getExplorationPaneController().ifPresent(c -> c.logAction(log));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public final void visualizeAction(final ActionResult result) {
-        this.getExplorationPaneController().ifPresent(c -> c.visualizeAction(result));
+    public final void visualizeAction(final String actionName) {
+        this.getExplorationPaneController().ifPresent(c -> c.visualizeAction(actionName));
     }
 
     /**
@@ -115,8 +112,7 @@ public class MainGameViewController extends ViewNodeControllerImpl implements Ga
     }
 
     private void showNode(final AnchorPane pane, final ViewNode typeOfNode, final Position pos) {
-        final ViewNodeWrapper node = ViewNodeWrapper.createViewNodeWrapper(typeOfNode, this.getController(),
-                                                                           this.getView());
+        final ViewNodeWrapper node = ViewNodeWrapper.createViewNodeWrapper(typeOfNode);
         node.getController().init(this.getView(), this.getController());
         final int nodeToChange = 0;
         if (pane.getChildren().isEmpty()) {
@@ -32,6 +32,14 @@ public class MenuController extends ViewNodeControllerImpl {
         this.getView().setState(ApplicationViewState.NEW_GAME);
     }
 
+    /**
+     * Continue the game left in a combat, if any.
+     */
+    @FXML
+    protected final void handleContinueButtonAction() {
+        this.getController().continueGame();
+    }
+
     /**
      * Close the application.
      */
@@ -14,8 +14,8 @@ import javafx.scene.layout.BackgroundImage;
 import javafx.scene.layout.BackgroundPosition;
 import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
+import thedd.controller.information.StatisticsInformation;
 import thedd.model.character.statistics.Statistic;
-import thedd.model.combat.status.Status;
 import thedd.view.extensions.AdaptiveFontLabel;
 import thedd.view.imageloader.DirectoryPicker;
 import thedd.view.imageloader.ImageLoader;
@@ -44,9 +44,9 @@ public class StatisticsController extends ViewNodeControllerImpl {
     @FXML
     private AnchorPane lifePointsImage;
     @FXML
-    private TableColumn<Status, String> column;
+    private TableColumn<String, String> column;
     @FXML
-    private TableView<Status> table;
+    private TableView<String> table;
     private static final double BACKGROUND_WIDTH_PERCENTAGE = 1.0;
     private static final double BACKGROUND_HEIGHT_PERCENTAGE = 1.0;
     private final ImageLoader imageFactory = new ImageLoaderImpl();
@@ -58,14 +58,17 @@ public class StatisticsController extends ViewNodeControllerImpl {
     public void update() {
         table.getItems().setAll(this.getController().getStatisticsInformation().getCharacterStatuses());
         // Set the Statistics
-        this.healthValue.setText(this.getController().getStatisticsInformation().getHealthPointValue() + " / "
-                + this.getController().getStatisticsInformation().getHealthPointMaxValue());
-        this.agilityValue.setText(this.getController().getStatisticsInformation().getAgilityValue());
-        this.constitutionValue.setText(this.getController().getStatisticsInformation().getConstitutionValue());
-        this.strengthValue.setText(this.getController().getStatisticsInformation().getStrengthValue());
-        // Set the Character's image.
-        this.playerImage.setBackground(setBackgroundImage(
-                loadStatProfileImage(this.getController().getStatisticsInformation().getCharacterType())));
+        final StatisticsInformation information = this.getController().getStatisticsInformation();
+        this.healthValue.setText(information.getHealthPointValue() + " / " + information.getHealthPointMaxValue()
+                + information.getEquipmentBonus(Statistic.HEALTH_POINT));
+        this.agilityValue.setText(information.getAgilityValue() + information.getEquipmentBonus(Statistic.AGILITY));
+        this.constitutionValue.setText(information.getConstitutionValue()
+                + information.getEquipmentBonus(Statistic.CONSTITUTION));
+        this.strengthValue.setText(information.getStrengthValue() + information.getEquipmentBonus(Statistic.STRENGTH));
+        // Set the Character's image, with the resistances of the equipment.
+        this.playerImage.setBackground(setBackgroundImage(loadStatProfileImage(information.getCharacterType())));
+        final String resistances = information.getEquipmentResistances();
+        addTooltip(playerImage, resistances.isEmpty() ? "No resistances from the equipment" : resistances);
         // Set Statistic's category image.
         this.agilityImage.setBackground(setBackgroundImage(loadStatCategoryImage(Statistic.AGILITY)));
         addTooltip(agilityImage, Statistic.AGILITY.toString());
@@ -85,7 +88,7 @@ public class StatisticsController extends ViewNodeControllerImpl {
         table.setPlaceholder(new Label("Empty"));
         table.setSelectionModel(null);
         column.setSortable(false);
-        column.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().getName()));
+        column.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue()));
         update();
     }
 
@@ -2,9 +2,7 @@ package thedd.view.controller.interfaces;
 
 import java.util.List;
 
-import thedd.model.combat.action.Action;
-import thedd.model.combat.action.result.ActionResult;
-import thedd.model.combat.actor.ActionActor;
+import thedd.controller.core.TargetSnapshot;
 
 /**
  * Controller methods to show something on the view.
@@ -14,13 +12,10 @@ public interface ExplorationView {
     /**
      * Enable ActionActors to be targeted.
      * 
-     * @param targetables all the possible targets
-     * @param alliedParty the actors in the allied party
-     * @param enemyParty  the actors in the enemy party
-     * @param action      the action which needs a target
+     * @param targets all the actors of both parties, telling which ones can be
+     *                targeted
      */
-    void showTargets(List<ActionActor> targetables, List<ActionActor> alliedParty, List<ActionActor> enemyParty,
-                    Action action);
+    void showTargets(List<TargetSnapshot> targets);
 
     /**
      * Reset the possible targets.
@@ -30,16 +25,16 @@ public interface ExplorationView {
     /**
      * Visualize effects of the action to the log.
      * 
-     * @param result the result to log
+     * @param log the lines describing the result to log
      */
-    void logAction(ActionResult result);
+    void logAction(List<String> log);
 
     /**
      * Show animations of the result of the action, if any.
      * 
-     * @param result the result to show
+     * @param actionName the name of the action to show
      */
-    void visualizeAction(ActionResult result);
+    void visualizeAction(String actionName);
 
     /**
      * Show message. 
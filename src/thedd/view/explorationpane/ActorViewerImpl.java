@@ -10,11 +10,11 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import javafx.geometry.Point2D;
 import javafx.scene.control.Tooltip;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import thedd.utils.observer.Observable;
 import thedd.utils.observer.Observer;
 import thedd.view.explorationpane.enums.PartyType;
+import thedd.view.imageloader.Sprite;
 
 /**
  * {@link thedd.utils.observer.Observable} {@link thedd.view.explorationpane.ActorViewer}.
@@ -30,16 +30,17 @@ public class ActorViewerImpl extends ImageView implements Observable<Pair<Boolea
 
     /**
      * Create a new instance of ActorViewer which visualize an actor of the party partySide, 
-     * in position partyPosition, using the initialImage.
+     * in position partyPosition, using the initialSprite.
      * @param partySide
      *          the party of the Actor visualized
      * @param partyPosition
      *          the position in the party of the actor
-     * @param initialImage
-     *          the image to show
+     * @param initialSprite
+     *          the sprite to show
      */
-    public ActorViewerImpl(final PartyType partySide, final int partyPosition, final Image initialImage) {
-        super(Objects.requireNonNull(initialImage));
+    public ActorViewerImpl(final PartyType partySide, final int partyPosition, final Sprite initialSprite) {
+        super();
+        Objects.requireNonNull(initialSprite).applyTo(this);
         this.partySide = Objects.requireNonNull(partySide);
         this.partyPosition = partyPosition;
         registeredObservers = new ArrayList<>();
@@ -115,5 +116,14 @@ public class ActorViewerImpl extends ImageView implements Observable<Pair<Boolea
         tooltip.setText(Objects.requireNonNull(newText));
     }
 
+    /**
+     * Change the sprite shown.
+     * @param sprite
+     *          the sprite to show
+     */
+    public final void setSprite(final Sprite sprite) {
+        Objects.requireNonNull(sprite).applyTo(this);
+    }
+
 
 }
@@ -8,6 +8,7 @@ import javafx.scene.Node;
 import javafx.scene.image.Image;
 import thedd.utils.observer.Observer;
 import thedd.view.explorationpane.enums.PartyType;
+import thedd.view.imageloader.Sprite;
 
 /**
  * The game sub-scene with ActorViewer to show actors of the game.
@@ -28,35 +29,35 @@ public interface ExplorationPane {
      *          the party in which the ActorViewer is present
      * @param position
      *          the position in the party of the ActorViewer
-     * @param newImage
-     *          the Image to display. It cannot be null
+     * @param newSprite
+     *          the Sprite to display. It cannot be null
      */
-    void changePositionImage(PartyType partySide, int position, Image newImage);
+    void changePositionImage(PartyType partySide, int position, Sprite newSprite);
 
     /**
-     * Create a new party of enemies with the images in the list.
-     * The number of ActorViewer created is equal to the size of the list of Images. 
+     * Create a new party of enemies with the sprites in the list.
+     * The number of ActorViewer created is equal to the size of the list of Sprites. 
      * @param images
-     *          the images to use in the new ActorViewer
+     *          the sprites to use in the new ActorViewer
      */
-    void setEnemyImages(List<Image> images);
+    void setEnemyImages(List<Sprite> images);
 
     /**
-     * Create a new party of allies with the images in the list.
-     * The number of ActorViewer created is equal to the size of the list of Images.
+     * Create a new party of allies with the sprites in the list.
+     * The number of ActorViewer created is equal to the size of the list of Sprites.
      * @param images
-     *          the images to use in the new ActorViewer
+     *          the sprites to use in the new ActorViewer
      */
-    void setAllyImages(List<Image> images);
+    void setAllyImages(List<Sprite> images);
 
     /**
-     * Create new enemy and ally parties with the images in the corresponding list.
+     * Create new enemy and ally parties with the sprites in the corresponding list.
      * @param allyImages
-     *          the images to use to create the new party of allies
+     *          the sprites to use to create the new party of allies
      * @param enemyImages
-     *          the images to use to create the new party of enemies
+     *          the sprites to use to create the new party of enemies
      */
-    void setAllImages(List<Image> allyImages, List<Image> enemyImages);
+    void setAllImages(List<Sprite> allyImages, List<Sprite> enemyImages);
 
     /**
      * Set the tooltips of all the ActorViewer in the specified party.
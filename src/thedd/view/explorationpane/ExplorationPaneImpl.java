@@ -23,6 +23,7 @@ import thedd.view.explorationpane.enums.PartyType;
 import thedd.view.imageloader.DirectoryPicker;
 import thedd.view.imageloader.ImageLoader;
 import thedd.view.imageloader.ImageLoaderImpl;
+import thedd.view.imageloader.Sprite;
 
 /**
  * 
@@ -60,7 +61,7 @@ public final class ExplorationPaneImpl extends BorderPane implements Exploration
         enemiesAndNext.setAlignment(Pos.BOTTOM_RIGHT);
 
         final ImageLoader imgl = new ImageLoaderImpl();
-        roomAdvancer.setImage(imgl.loadSingleImage(DirectoryPicker.ROOM_CHANGER, "door"));
+        imgl.loadSprite(DirectoryPicker.ROOM_CHANGER, "door").applyTo(roomAdvancer);
         roomAdvancer.setPreserveRatio(true);
         roomAdvancer.setPickOnBounds(true);
 
@@ -77,9 +78,9 @@ public final class ExplorationPaneImpl extends BorderPane implements Exploration
     }
 
     @Override
-    public void changePositionImage(final PartyType partySide, final int position, final Image newImage) {
+    public void changePositionImage(final PartyType partySide, final int position, final Sprite newSprite) {
         final HBox partySelected = getPartyBox(Objects.requireNonNull(partySide));
-        ((ActorViewerImpl) Objects.requireNonNull(partySelected).getChildren().get(position)).setImage(Objects.requireNonNull(newImage));
+        ((ActorViewerImpl) Objects.requireNonNull(partySelected).getChildren().get(position)).setSprite(Objects.requireNonNull(newSprite));
     }
 
     @Override
@@ -102,7 +103,7 @@ public final class ExplorationPaneImpl extends BorderPane implements Exploration
     }
 
     @Override
-    public void setEnemyImages(final List<Image> images) {
+    public void setEnemyImages(final List<Sprite> images) {
         enemyParty.getChildren().clear();
         IntStream.range(0, Objects.requireNonNull(images).size()).forEach(i -> enemyParty.getChildren().add(new ActorViewerImpl(PartyType.ENEMY, i, Objects.requireNonNull(images.get(i)))));
         enemyParty.getChildren().forEach(c -> ((ActorViewerImpl) c).bindObserver(observer));
@@ -110,7 +111,7 @@ public final class ExplorationPaneImpl extends BorderPane implements Exploration
     }
 
     @Override
-    public void setAllyImages(final List<Image> images) {
+    public void setAllyImages(final List<Sprite> images) {
         alliedParty.getChildren().clear();
         IntStream.range(0, Objects.requireNonNull(images).size()).forEach(i -> alliedParty.getChildren().add(new ActorViewerImpl(PartyType.ALLIED, i, Objects.requireNonNull(images.get(i)))));
         alliedParty.getChildren().forEach(c -> ((ActorViewerImpl) c).bindObserver(observer));
@@ -118,7 +119,7 @@ public final class ExplorationPaneImpl extends BorderPane implements Exploration
     }
 
     @Override
-    public void setAllImages(final List<Image> allyImages, final List<Image> enemyImages) {
+    public void setAllImages(final List<Sprite> allyImages, final List<Sprite> enemyImages) {
         setAllyImages(allyImages);
         setEnemyImages(enemyImages);
     }
@@ -4,7 +4,7 @@ import javafx.beans.property.DoubleProperty;
 
 /**
  * A graphic component which can show the result of an action.
- * It is managed by a {@link LoggerManager} which can run parallel to the application.
+ * It is managed by a {@link LoggerManager} which times the lines it shows.
  */
 public interface ApplicationLogger {
 
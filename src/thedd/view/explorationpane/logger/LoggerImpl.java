@@ -37,6 +37,7 @@ public class LoggerImpl extends GridPane implements ApplicationLogger {
     private static final double PADDING = 5;
 
     private final AdaptiveFontLabel text = new AdaptiveFontLabel(FONT_RATIO);
+    private final FadeTransition fade = new FadeTransition(FADE_DURATION, this);
     private Optional<LoggerManager> loggerManager;
 
     /**
@@ -64,6 +65,7 @@ public class LoggerImpl extends GridPane implements ApplicationLogger {
         text.prefWidthProperty().bind(this.getWidthProperty().multiply(TEXT_WIDTH_PERC / 100));
         text.prefHeightProperty().bind(this.getHeightProperty());
         text.setAlignment(Pos.CENTER);
+        text.setOnMouseClicked(e -> loggerManager.ifPresent(lm -> lm.setFastForward(!lm.isFastForward())));
         this.add(text, 0, 0, 2, 2);
 
         loggerManager = Optional.empty();
@@ -83,12 +85,14 @@ public class LoggerImpl extends GridPane implements ApplicationLogger {
 
     @Override
     public final void setVisibility(final boolean isVisible) {
-        final FadeTransition fade = new FadeTransition(FADE_DURATION, this);
+        //The logger is reused, so a fade out still running must not hide it once shown again
+        fade.stop();
         fade.setFromValue(isVisible ? 0.0 : 1.0);
         fade.setToValue(isVisible ? 1.0 : 0.0);
         if (!isVisible) {
             fade.setOnFinished(e -> setVisible(isVisible));
         } else {
+            fade.setOnFinished(null);
             setVisible(isVisible);
         }
         fade.playFromStart();
@@ -1,57 +1,179 @@
 package thedd.view.explorationpane.logger;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
+import java.util.Optional;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
-import javafx.concurrent.Task;
-import javafx.concurrent.WorkerStateEvent;
-import javafx.event.EventHandler;
+import javafx.util.Duration;
 
 /**
- * A manager for {@link ApplicationLogger}s. It can be run on a secondary thread.
- *
+ * A manager for an {@link ApplicationLogger}, showing the lines of the log one
+ * at a time.
+ * <p>
+ * Lines are given in batches, usually the lines describing the result of one
+ * action, and every batch can have an action to run once all its lines have been
+ * shown. The lines are timed by a single {@link Timeline} running on the JavaFX
+ * application thread, so the manager and its logger are created once and reused
+ * for the whole game: logging never starts threads.
  */
-public class LoggerManager extends Task<Integer> {
+public class LoggerManager {
 
-    private static final int MILLISECONDS_SLEEP = 2000;
+    /**
+     * The default time every line is shown for.
+     */
+    public static final Duration DEFAULT_LINE_DURATION = Duration.millis(2000);
+    private static final double FAST_FORWARD_RATE = 8;
+    private static final String REPEATED_FORMAT = "%s (x%d)";
 
-    //This logger is a graphic component. It cannot be static as it can vary between different LoggerManagers.
     private final ApplicationLogger managedLogger;
-    private final Queue<String> queuedLogStrings;
-    private final EventHandler<WorkerStateEvent> loggerCloser = new EventHandler<WorkerStateEvent>() {
-        @Override
-        public void handle(final WorkerStateEvent event) {
-            Platform.runLater(() -> LoggerManager.this.managedLogger.setVisibility(false));
-        }
-    };
+    private final Deque<LogLine> pending = new ArrayDeque<>();
+    private final Timeline timeline = new Timeline();
+    private Optional<LogLine> current = Optional.empty();
+    private Duration lineDuration = DEFAULT_LINE_DURATION;
+    private boolean fastForward;
 
     /**
      * Create a LoggerManager bounded to a Logger.
      * @param logger
      *          the logger to be managed
-     * @param queuedLogStrings
-     *          the strings to be displayed in the logger
      */
-    public LoggerManager(final ApplicationLogger logger, final Queue<String> queuedLogStrings) {
-        super();
-        this.queuedLogStrings = new LinkedList<>(Objects.requireNonNull(queuedLogStrings));
+    public LoggerManager(final ApplicationLogger logger) {
         this.managedLogger = Objects.requireNonNull(logger);
-        setOnCancelled(loggerCloser);
-        setOnSucceeded(loggerCloser);
-    }
-
-    @Override
-    protected final Integer call() throws Exception {
-        managedLogger.setVisibility(true);
-        queuedLogStrings.forEach(c -> {
-            Platform.runLater(() -> managedLogger.setText(c));
-            try {
-                Thread.sleep(MILLISECONDS_SLEEP);
-            } catch (InterruptedException e) {
+        this.managedLogger.setLoggerManager(this);
+        timeline.setCycleCount(Animation.INDEFINITE);
+        timeline.getKeyFrames().add(new KeyFrame(lineDuration, e -> nextLine()));
+    }
+
+    /**
+     * Queue a batch of lines to show after the ones already queued.
+     * Consecutive equal lines of the batch are shown once, with their count.
+     * Must be called from the JavaFX application thread.
+     * @param lines
+     *          the lines to show
+     * @param onShown
+     *          the action to run when all the lines of the batch have been shown
+     */
+    public final void log(final List<String> lines, final Runnable onShown) {
+        Objects.requireNonNull(lines);
+        Objects.requireNonNull(onShown);
+        if (lines.isEmpty()) {
+            Platform.runLater(onShown);
+            return;
+        }
+        int i = 0;
+        while (i < lines.size()) {
+            int repeated = 1;
+            while (i + repeated < lines.size() && lines.get(i + repeated).equals(lines.get(i))) {
+                repeated++;
+            }
+            final String text = repeated == 1 ? lines.get(i) : String.format(REPEATED_FORMAT, lines.get(i), repeated);
+            i += repeated;
+            pending.add(new LogLine(text, i == lines.size() ? Optional.of(onShown) : Optional.empty()));
+        }
+        if (!current.isPresent()) {
+            nextLine();
+            //Lines queued by the action of a batch are shown by the running timeline
+            if (timeline.getStatus() != Animation.Status.RUNNING) {
+                managedLogger.setVisibility(true);
+                timeline.playFromStart();
             }
-        });
-        return 0;
+        }
     }
 
+    /**
+     * Stop showing the current batch of lines, running its action at once.
+     * The following batches are shown as usual.
+     */
+    public final void cancel() {
+        while (current.isPresent() && !current.get().getOnShown().isPresent()) {
+            current = Optional.ofNullable(pending.poll());
+        }
+        if (current.isPresent()) {
+            nextLine();
+            if (current.isPresent()) {
+                timeline.playFromStart();
+            }
+        }
+    }
+
+    /**
+     * Set how long every line is shown for.
+     * @param duration
+     *          the time every line is shown for
+     */
+    public final void setLineDuration(final Duration duration) {
+        if (Objects.requireNonNull(duration).lessThanOrEqualTo(Duration.ZERO)) {
+            throw new IllegalArgumentException("The line duration must be positive");
+        }
+        lineDuration = duration;
+        final boolean running = timeline.getStatus() == Animation.Status.RUNNING;
+        timeline.stop();
+        timeline.getKeyFrames().setAll(new KeyFrame(lineDuration, e -> nextLine()));
+        if (running) {
+            timeline.playFromStart();
+        }
+    }
+
+    /**
+     * Set whether the lines are shown faster than their line duration.
+     * @param isFastForward
+     *          whether the lines are fast forwarded
+     */
+    public final void setFastForward(final boolean isFastForward) {
+        fastForward = isFastForward;
+        timeline.setRate(fastForward ? FAST_FORWARD_RATE : 1);
+    }
+
+    /**
+     *
+     * @return
+     *          whether the lines are fast forwarded
+     */
+    public final boolean isFastForward() {
+        return fastForward;
+    }
+
+    /*
+     * Ends the line being shown, running the action of its batch, and shows the
+     * next one. The action may queue new lines, which are shown right away.
+     */
+    private void nextLine() {
+        final Optional<LogLine> ended = current;
+        current = Optional.empty();
+        ended.flatMap(LogLine::getOnShown).ifPresent(Runnable::run);
+        if (current.isPresent()) {
+            return;
+        }
+        current = Optional.ofNullable(pending.poll());
+        if (current.isPresent()) {
+            managedLogger.setText(current.get().getText());
+        } else {
+            timeline.stop();
+            managedLogger.setVisibility(false);
+        }
+    }
+
+    private static final class LogLine {
+
+        private final String text;
+        private final Optional<Runnable> onShown;
+
+        LogLine(final String text, final Optional<Runnable> onShown) {
+            this.text = text;
+            this.onShown = onShown;
+        }
+
+        String getText() {
+            return text;
+        }
+
+        Optional<Runnable> getOnShown() {
+            return onShown;
+        }
+    }
 }
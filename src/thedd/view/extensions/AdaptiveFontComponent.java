@@ -1,11 +1,8 @@
 package thedd.view.extensions;
 
-import javafx.beans.binding.Bindings;
-import javafx.beans.binding.ObjectExpression;
 import javafx.scene.control.Control;
 import javafx.scene.control.Labeled;
 import javafx.scene.control.TextInputControl;
-import javafx.scene.text.Font;
 
 /**
  * This interface give method to bind font property of specified objects.
@@ -14,22 +11,17 @@ public interface AdaptiveFontComponent {
 
     /**
      * Sets into a Labeled or TextInputControl component the font resize property
-     * binding the size of its container.
+     * binding the size of its container, through the shared {@link FontScaler}.
      * 
      * @param ratio the ratio applied to the font size.
      * @param node  the node where this ratio is applied.
      */
     default void setFontRatio(final int ratio, final Control node) {
         if (ratio > 0) {
-            final ObjectExpression<Font> bi = Bindings.createObjectBinding(
-                    () -> Font.font((node.getWidth() + node.getHeight()) / ratio), node.widthProperty(),
-                    node.heightProperty());
             if (node instanceof Labeled) {
-                final Labeled obj = (Labeled) node;
-                obj.fontProperty().bind(bi);
+                FontScaler.bind(node, ratio, ((Labeled) node).fontProperty());
             } else if (node instanceof TextInputControl) {
-                final TextInputControl obj = (TextInputControl) node;
-                obj.fontProperty().bind(bi);
+                FontScaler.bind(node, ratio, ((TextInputControl) node).fontProperty());
             }
         }
         node.autosize();
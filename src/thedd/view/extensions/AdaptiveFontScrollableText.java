@@ -1,13 +1,10 @@
 package thedd.view.extensions;
 
 import javafx.beans.NamedArg;
-import javafx.beans.binding.Bindings;
-import javafx.beans.binding.ObjectExpression;
 import javafx.event.EventHandler;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.text.Font;
 
 /**
  * This class extends {@link ScrollPane} adding a Text into it.
@@ -45,10 +42,7 @@ public final class AdaptiveFontScrollableText extends ScrollPane implements Adap
         this.setFitToWidth(true);
         this.getStylesheets().add(ClassLoader.getSystemClassLoader().getResource(STYLESHEET).toExternalForm());
         if (PROPORTIONAL_DIVIDER > 0) {
-            final ObjectExpression<Font> bi = Bindings.createObjectBinding(
-                    () -> Font.font((this.getWidth() + this.getHeight()) / PROPORTIONAL_DIVIDER), this.widthProperty(),
-                    this.heightProperty());
-            text.fontProperty().bind(bi);
+            FontScaler.bind(this, PROPORTIONAL_DIVIDER, text.fontProperty());
         }
         this.setMinSize(0, 0);
     }
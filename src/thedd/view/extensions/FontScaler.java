@@ -0,0 +1,110 @@
+package thedd.view.extensions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+
+/**
+ * The service scaling the font of the {@link AdaptiveFontComponent}s with the
+ * size of their node.
+ * <p>
+ * Font sizes are rounded to buckets of half a point and every bucket has a
+ * single shared {@link Font}. Resizes are not handled at once: the nodes
+ * resized are collected and their fonts are recomputed once per pulse, so a
+ * window resize updates every font once per frame, however many times the
+ * nodes are laid out.
+ */
+public final class FontScaler {
+
+    private static final double BUCKET = 0.5;
+    private static final Map<Long, Font> FONTS = new ConcurrentHashMap<>();
+    private static final Set<ScaledFont> RESIZED = new LinkedHashSet<>();
+    private static final AnimationTimer PULSE = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            stop();
+            final List<ScaledFont> resized = new ArrayList<>(RESIZED);
+            RESIZED.clear();
+            resized.forEach(ScaledFont::update);
+        }
+    };
+
+    private FontScaler() {
+    }
+
+    /**
+     * This method allows to bind a font to the size of a node: its size is the
+     * sum of the width and the height of the node divided by the ratio.
+     * 
+     * @param node  the node whose size determines the font size
+     * @param ratio the ratio between the size of the node and the font size
+     * @param font  the font property to bind
+     */
+    public static void bind(final Region node, final int ratio, final ObjectProperty<Font> font) {
+        Objects.requireNonNull(font).bind(new ScaledFont(Objects.requireNonNull(node), ratio).font);
+    }
+
+    /**
+     * 
+     * @param size the requested font size
+     * @return the shared font of the bucket of the size
+     */
+    public static Font getFont(final double size) {
+        return FONTS.computeIfAbsent(Math.round(size / BUCKET), bucket -> Font.font(bucket * BUCKET));
+    }
+
+    /*
+     * Nodes may be created by the FXML loader outside of the application thread,
+     * the pulse is started only from it.
+     */
+    private static void resized(final ScaledFont scaled) {
+        if (Platform.isFxApplicationThread()) {
+            RESIZED.add(scaled);
+            PULSE.start();
+        } else {
+            Platform.runLater(() -> resized(scaled));
+        }
+    }
+
+    private static final class ScaledFont {
+
+        private final Region node;
+        private final int ratio;
+        private final ObjectProperty<Font> font;
+
+        ScaledFont(final Region node, final int ratio) {
+            if (ratio <= 0) {
+                throw new IllegalArgumentException("The ratio must be positive");
+            }
+            this.node = node;
+            this.ratio = ratio;
+            this.font = new SimpleObjectProperty<>(getFont(getSize()));
+            final InvalidationListener listener = o -> resized(this);
+            node.widthProperty().addListener(listener);
+            node.heightProperty().addListener(listener);
+        }
+
+        void update() {
+            final Font scaled = getFont(getSize());
+            if (scaled != font.get()) {
+                font.set(scaled);
+            }
+        }
+
+        private double getSize() {
+            return (node.getWidth() + node.getHeight()) / ratio;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package thedd.view.imageloader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The directories whose images are packed together in one sprite atlas.
+ * Only images shown through an ImageView are packed: the others are used as
+ * backgrounds, which cannot show a region of an image.
+ */
+enum AtlasGroup {
+
+    /**
+     * The characters shown in the rooms.
+     */
+    CHARACTERS(DirectoryPicker.ALLY_BATTLE, DirectoryPicker.ENEMY_BATTLE, DirectoryPicker.CHARACTER_COMMON),
+
+    /**
+     * The interactable action performers shown in the rooms.
+     */
+    INTERACTABLE_ACTION_PERFORMERS(DirectoryPicker.INTERACTABLE_ACTION_PERFORMER),
+
+    /**
+     * The doors and the stairs.
+     */
+    ROOM_CHANGERS(DirectoryPicker.ROOM_CHANGER);
+
+    private final List<DirectoryPicker> directories;
+
+    AtlasGroup(final DirectoryPicker... directories) {
+        this.directories = Collections.unmodifiableList(Arrays.asList(directories));
+    }
+
+    /**
+     * 
+     * @return the directories whose images are packed in the atlas
+     */
+    public List<DirectoryPicker> getDirectories() {
+        return directories;
+    }
+
+    /**
+     * 
+     * @param directory the directory to check
+     * @return whether the images of the directory are packed in an atlas
+     */
+    public static boolean isPacked(final DirectoryPicker directory) {
+        return Arrays.stream(values()).anyMatch(g -> g.directories.contains(directory));
+    }
+}
@@ -1,5 +1,7 @@
 package thedd.view.imageloader;
 
+import java.util.Locale;
+
 /**
  * This enum contains directory choice inside res/images/ package where to pick
  * specified images.
@@ -67,6 +69,9 @@ public enum DirectoryPicker {
     ACTION_CATEGORIES("actions/categories");
 
     private static final String BASIC_DIR = "/images/";
+    private static final String EXTENSION = ".png";
+    private static final String SPACE = " ";
+    private static final String UNDERSCORE = "_";
     private final String directory;
 
     DirectoryPicker(final String directory) {
@@ -82,4 +87,15 @@ public enum DirectoryPicker {
         return BASIC_DIR + this.directory + "/";
     }
 
+    /**
+     * This method returns the resource name of the image of an object inside the
+     * selected directory, which identifies the image wherever it's loaded from.
+     * 
+     * @param objname a String representation of the image, as the name of the object
+     * @return a String
+     */
+    public String getImageName(final String objname) {
+        return getDirectory() + objname.toLowerCase(Locale.ENGLISH).replace(SPACE, UNDERSCORE) + EXTENSION;
+    }
+
 }
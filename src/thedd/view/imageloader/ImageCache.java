@@ -0,0 +1,204 @@
+package thedd.view.imageloader;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javafx.scene.image.Image;
+
+/**
+ * A cache of images bounded by the memory their pixels take.
+ * <p>
+ * When the bound is exceeded the least recently used images are evicted. The
+ * size of an image loaded in background is estimated until its loading ends,
+ * then it's updated with its actual size. The cache can be used from any
+ * thread and counts its hits, misses and evictions.
+ */
+public final class ImageCache {
+
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final long ESTIMATED_SIZE = 256 * 1024;
+
+    private final long maxBytes;
+    private final Map<String, Entry> entries;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Create a new cache.
+     * 
+     * @param maxBytes the maximum memory taken by the pixels of the cached images
+     */
+    public ImageCache(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("The size of the cache must be positive");
+        }
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return the image with the given key, loading and caching it if it isn't
+     * cached. The image is loaded outside of the lock of the cache, so two threads
+     * may load the same image, but only the first one is cached.
+     * 
+     * @param key    the key of the image, usually its URL
+     * @param loader the function loading the image from its key
+     * @return the cached image
+     */
+    public Image get(final String key, final Function<String, Image> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        final Optional<Image> cached = lookup(key, true);
+        return cached.isPresent() ? cached.get() : put(key, loader.apply(key));
+    }
+
+    /**
+     * Load an image into the cache without counting a hit or a miss, unless it's
+     * already cached.
+     * 
+     * @param key    the key of the image, usually its URL
+     * @param loader the function loading the image from its key
+     */
+    public void preload(final String key, final Function<String, Image> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(loader);
+        if (!lookup(key, false).isPresent()) {
+            put(key, loader.apply(key));
+        }
+    }
+
+    /**
+     * 
+     * @return the number of requested images found in the cache
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * 
+     * @return the number of requested images which had to be loaded
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * 
+     * @return the number of images evicted to keep the cache within its bound
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 
+     * @return the memory taken by the pixels of the cached images
+     */
+    public synchronized long getSizeInBytes() {
+        return bytes;
+    }
+
+    /**
+     * 
+     * @return the maximum memory taken by the pixels of the cached images
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 
+     * @return the number of cached images
+     */
+    public synchronized int getNumberOfImages() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ImageCache [images=" + entries.size() + ", bytes=" + bytes + "/" + maxBytes + ", hits=" + hits
+                + ", misses=" + misses + ", evictions=" + evictions + "]";
+    }
+
+    private synchronized Optional<Image> lookup(final String key, final boolean count) {
+        final Entry entry = entries.get(key);
+        if (count && entry != null) {
+            hits++;
+        } else if (count) {
+            misses++;
+        }
+        return entry == null ? Optional.empty() : Optional.of(entry.image);
+    }
+
+    private Image put(final String key, final Image image) {
+        final Entry entry;
+        synchronized (this) {
+            final Entry cached = entries.get(key);
+            if (cached != null) {
+                return cached.image;
+            }
+            entry = new Entry(Objects.requireNonNull(image));
+            entries.put(key, entry);
+            bytes += entry.size;
+            evict();
+        }
+        /*
+         * The listener is added before the progress is checked, so that a load
+         * ending in between still resizes the entry.
+         */
+        image.progressProperty().addListener((o, oldProgress, progress) -> {
+            if (progress.doubleValue() >= 1) {
+                resize(key, entry);
+            }
+        });
+        if (image.getProgress() >= 1) {
+            resize(key, entry);
+        }
+        return image;
+    }
+
+    private synchronized void resize(final String key, final Entry entry) {
+        if (entries.get(key) == entry) {
+            final long size = getSize(entry.image);
+            bytes += size - entry.size;
+            entry.size = size;
+            evict();
+        }
+    }
+
+    /*
+     * The most recently used image is kept even if it exceeds the bound alone.
+     */
+    private void evict() {
+        final Iterator<Entry> eldest = entries.values().iterator();
+        while (bytes > maxBytes && entries.size() > 1) {
+            bytes -= eldest.next().size;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long getSize(final Image image) {
+        return image.getWidth() > 0 && image.getHeight() > 0
+                ? (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL
+                : ESTIMATED_SIZE;
+    }
+
+    private static final class Entry {
+
+        private final Image image;
+        private long size;
+
+        Entry(final Image image) {
+            this.image = image;
+            this.size = getSize(image);
+        }
+    }
+}
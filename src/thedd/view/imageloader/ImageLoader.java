@@ -20,4 +20,19 @@ public interface ImageLoader {
      */
     Image loadSingleImage(DirectoryPicker directory, String objname);
 
+    /**
+     * This method returns the sprite of an image loaded from specified directory
+     * and with specified String objname. Images of the directories packed in a
+     * sprite atlas share its texture, each one with its own viewport; the others
+     * are shown whole, as returned by
+     * {@link #loadSingleImage(DirectoryPicker, String)}.
+     * 
+     * @param directory a DirectoryPicker value, represents the directory where the
+     *                  specified image with objname is searched.
+     * @param objname   a String representation of the image that will be loaded.
+     *                  This value could be the name of the object.
+     * @return a Sprite
+     */
+    Sprite loadSprite(DirectoryPicker directory, String objname);
+
 }
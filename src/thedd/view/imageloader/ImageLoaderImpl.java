@@ -1,37 +1,176 @@
 package thedd.view.imageloader;
 
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Locale;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javafx.scene.image.Image;
 
 /**
  * implementation of {@link ImageLoader}.
+ * <p>
+ * Images are decoded in background and kept in an {@link ImageCache} shared by
+ * all the loaders, keyed by their resource name, so a returned image may still be loading: JavaFX nodes show
+ * it as soon as it's ready. The cache is bounded by the memory of the decoded
+ * images and can be filled at startup by {@link #preload()}, which also packs
+ * the images shown in the rooms into one {@link SpriteAtlas} per
+ * {@link AtlasGroup}, handed out as {@link Sprite}s.
  */
 public final class ImageLoaderImpl implements ImageLoader {
-    private final Image defaultImage = new Image("images/default.png");
-    private static final Map<String, Image> IMAGE_CACHE = new HashMap<>();
+
+    private static final long CACHE_BYTES = 192L * 1024 * 1024;
+    private static final ImageCache IMAGE_CACHE = new ImageCache(CACHE_BYTES);
+    private static final int PRELOAD_THREADS = 2;
+    private static final Map<DirectoryPicker, SpriteAtlas> ATLASES = new ConcurrentHashMap<>();
+    private static final AtomicBoolean PRELOADING = new AtomicBoolean();
     private static final String EXTENSION = ".png";
-    private static final String SPACE = " ";
-    private static final String UNDERSCORE = "_";
 
     /**
      * {@inheritDoc}
      */
     @Override
     public Image loadSingleImage(final DirectoryPicker directory, final String objname) {
-        final String fileName = objname.toLowerCase(Locale.ENGLISH).replace(SPACE, UNDERSCORE).concat(EXTENSION);
-        final URL path = this.getClass().getResource(directory.getDirectory() + fileName);
-        if (path == null) {
-            System.err.println("Image " + fileName + " not found.");
-            return this.defaultImage;
+        return find(directory, objname).map(name -> IMAGE_CACHE.get(name, ImageLoaderImpl::load))
+                                       .orElse(DefaultImageHolder.DEFAULT_IMAGE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Sprite loadSprite(final DirectoryPicker directory, final String objname) {
+        final Optional<String> name = find(directory, objname);
+        if (!name.isPresent()) {
+            return new Sprite(DefaultImageHolder.DEFAULT_IMAGE);
+        }
+        return Optional.ofNullable(ATLASES.get(directory))
+                       .flatMap(atlas -> atlas.getSprite(name.get()))
+                       .orElseGet(() -> new Sprite(IMAGE_CACHE.get(name.get(), ImageLoaderImpl::load)));
+    }
+
+    /**
+     * This method allows to start decoding in background all the images of the
+     * directories in {@link DirectoryPicker}, so that they are ready when first
+     * requested, and packing the sprite atlases of the {@link AtlasGroup}s. Until
+     * an atlas is ready its images are loaded as single images. Only the first
+     * call has effect; it returns at once.
+     */
+    public static void preload() {
+        if (!PRELOADING.compareAndSet(false, true)) {
+            return;
+        }
+        final ExecutorService preloader = Executors.newFixedThreadPool(PRELOAD_THREADS, r -> {
+            final Thread thread = new Thread(r, "image-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (final AtlasGroup group : AtlasGroup.values()) {
+            preloader.execute(() -> packAtlas(group));
+        }
+        for (final DirectoryPicker directory : DirectoryPicker.values()) {
+            if (!AtlasGroup.isPacked(directory)) {
+                preloader.execute(() -> listImages(directory).forEach(name -> IMAGE_CACHE.preload(name, ImageLoaderImpl::load)));
+            }
+        }
+        preloader.shutdown();
+    }
+
+    /**
+     * 
+     * @return the cache of the images shared by all the loaders, exposing its size
+     *         and its hit, miss and eviction counts
+     */
+    public static ImageCache getCache() {
+        return IMAGE_CACHE;
+    }
+
+    private static void packAtlas(final AtlasGroup group) {
+        final List<String> names = group.getDirectories().stream()
+                                                         .flatMap(d -> listImages(d).stream())
+                                                         .collect(Collectors.toList());
+        SpriteAtlas.pack(names, name -> new Image(getUrl(name))).ifPresent(atlas -> group.getDirectories().forEach(d -> ATLASES.put(d, atlas)));
+    }
+
+    /*
+     * Images are identified by their resource name, which doesn't depend on how
+     * the resource has been found, while its URL does.
+     */
+    private Optional<String> find(final DirectoryPicker directory, final String objname) {
+        final String name = directory.getImageName(objname);
+        if (this.getClass().getResource(name) == null) {
+            System.err.println("Image " + name + " not found.");
+            return Optional.empty();
         }
-        if (!IMAGE_CACHE.containsKey(path.toString())) {
-            IMAGE_CACHE.put(path.toString(), new Image(path.toString()));
+        return Optional.of(name);
+    }
+
+    private static String getUrl(final String name) {
+        return ImageLoaderImpl.class.getResource(name).toString();
+    }
+
+    private static Image load(final String name) {
+        return new Image(getUrl(name), true);
+    }
+
+    /*
+     * Lists the resource names of the images directly inside the directory, which
+     * can be either on the file system or inside the jar of the application.
+     */
+    private static List<String> listImages(final DirectoryPicker directory) {
+        final URL url = ImageLoaderImpl.class.getResource(directory.getDirectory());
+        if (url == null) {
+            return Collections.emptyList();
+        }
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                final JarURLConnection connection = (JarURLConnection) url.openConnection();
+                final String prefix = connection.getEntryName();
+                final List<String> images = new ArrayList<>();
+                //The jar is shared with the class loader, so it must not be closed
+                final JarFile jar = connection.getJarFile();
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final String name = entries.nextElement().getName();
+                    if (name.startsWith(prefix) && name.endsWith(EXTENSION)
+                            && name.indexOf('/', prefix.length()) < 0) {
+                        images.add(directory.getDirectory() + name.substring(prefix.length()));
+                    }
+                }
+                return images;
+            }
+            try (Stream<Path> files = Files.list(Paths.get(url.toURI()))) {
+                return files.filter(p -> p.toString().endsWith(EXTENSION))
+                            .map(p -> directory.getDirectory() + p.getFileName())
+                            .collect(Collectors.toList());
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            System.err.println("Images of " + directory.getDirectory() + " not preloaded: " + e.getMessage());
+            return Collections.emptyList();
         }
-        return IMAGE_CACHE.get(path.toString());
     }
 
+    /*
+     * The default image is created only once, when first needed.
+     */
+    private static final class DefaultImageHolder {
+        private static final Image DEFAULT_IMAGE = new Image("images/default.png");
+    }
 }
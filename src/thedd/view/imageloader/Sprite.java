@@ -0,0 +1,66 @@
+package thedd.view.imageloader;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * A picture to show in an {@link ImageView}: either a whole image or a region
+ * of a sprite atlas shared with other pictures.
+ */
+public final class Sprite {
+
+    private final Image image;
+    private final Optional<Rectangle2D> viewport;
+
+    /**
+     * Create a sprite showing the whole image.
+     * 
+     * @param image the image to show
+     */
+    public Sprite(final Image image) {
+        this.image = Objects.requireNonNull(image);
+        this.viewport = Optional.empty();
+    }
+
+    /**
+     * Create a sprite showing a region of the image.
+     * 
+     * @param image    the image containing the sprite
+     * @param viewport the region of the image to show
+     */
+    public Sprite(final Image image, final Rectangle2D viewport) {
+        this.image = Objects.requireNonNull(image);
+        this.viewport = Optional.of(Objects.requireNonNull(viewport));
+    }
+
+    /**
+     * 
+     * @return the image containing the sprite
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * 
+     * @return the region of the image to show, or nothing if the whole image is
+     *         shown
+     */
+    public Optional<Rectangle2D> getViewport() {
+        return viewport;
+    }
+
+    /**
+     * This method allows to show the sprite in an ImageView.
+     * 
+     * @param view the ImageView which will show the sprite
+     */
+    public void applyTo(final ImageView view) {
+        Objects.requireNonNull(view).setImage(image);
+        view.setViewport(viewport.orElse(null));
+    }
+}
@@ -0,0 +1,137 @@
+package thedd.view.imageloader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A single texture containing several images, each one shown through its own
+ * viewport.
+ * <p>
+ * Images are packed in shelves: sorted by height, they're placed left to right
+ * and a new shelf starts when a row is full. Images left out by the maximum
+ * size of the texture are simply not in the atlas. Sprites are found by the key
+ * their image has been packed with, as the resource name used by
+ * {@link ImageLoaderImpl}.
+ */
+public final class SpriteAtlas {
+
+    /**
+     * The maximum width and height of an atlas, supported by every Prism
+     * pipeline.
+     */
+    public static final int MAX_SIZE = 4096;
+    private static final int PADDING = 1;
+
+    private final Map<String, Sprite> sprites;
+    private final Image texture;
+
+    private SpriteAtlas(final Image texture, final Map<String, Sprite> sprites) {
+        this.texture = texture;
+        this.sprites = Collections.unmodifiableMap(sprites);
+    }
+
+    /**
+     * Decode the images and pack them into a new atlas. Must not be called from
+     * the JavaFX application thread when the decoder waits for the images to be
+     * decoded.
+     * 
+     * @param keys    the keys of the images to pack
+     * @param decoder the function decoding the image with the given key
+     * @return the atlas, or nothing if no image could be packed
+     */
+    public static Optional<SpriteAtlas> pack(final List<String> keys, final Function<String, Image> decoder) {
+        Objects.requireNonNull(decoder);
+        final List<Pair<String, Image>> images = new ArrayList<>();
+        for (final String key : Objects.requireNonNull(keys)) {
+            final Image image = decoder.apply(key);
+            if (!image.isError() && image.getPixelReader() != null) {
+                images.add(new ImmutablePair<>(key, image));
+            }
+        }
+        images.sort(Comparator.comparingDouble((Pair<String, Image> e) -> e.getRight().getHeight()).reversed());
+
+        final int width = getWidth(images);
+        final Map<String, Rectangle2D> regions = new HashMap<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (final Pair<String, Image> entry : images) {
+            final int w = (int) entry.getRight().getWidth();
+            final int h = (int) entry.getRight().getHeight();
+            if (x + w > width) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            if (w <= width && y + h <= MAX_SIZE) {
+                regions.put(entry.getLeft(), new Rectangle2D(x, y, w, h));
+                x += w + PADDING;
+                shelfHeight = Math.max(shelfHeight, h);
+            }
+        }
+        if (regions.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final int height = (int) regions.values().stream().mapToDouble(Rectangle2D::getMaxY).max().getAsDouble();
+        final WritableImage texture = new WritableImage(width, height);
+        final PixelWriter writer = texture.getPixelWriter();
+        final Map<String, Sprite> sprites = new HashMap<>();
+        for (final Pair<String, Image> entry : images) {
+            final Rectangle2D region = regions.get(entry.getLeft());
+            if (region != null) {
+                writer.setPixels((int) region.getMinX(), (int) region.getMinY(), (int) region.getWidth(),
+                        (int) region.getHeight(), entry.getRight().getPixelReader(), 0, 0);
+                sprites.put(entry.getLeft(), new Sprite(texture, region));
+            }
+        }
+        return Optional.of(new SpriteAtlas(texture, sprites));
+    }
+
+    /**
+     * 
+     * @param key the key the image has been packed with
+     * @return the sprite of the image, or nothing if it isn't in the atlas
+     */
+    public Optional<Sprite> getSprite(final String key) {
+        return Optional.ofNullable(sprites.get(key));
+    }
+
+    /**
+     * 
+     * @return the texture containing all the images of the atlas
+     */
+    public Image getTexture() {
+        return texture;
+    }
+
+    /*
+     * The smallest power of two fitting the widest image and, roughly, a square
+     * with the area of all the images.
+     */
+    private static int getWidth(final List<Pair<String, Image>> images) {
+        final double area = images.stream().mapToDouble(e -> (e.getRight().getWidth() + PADDING)
+                * (e.getRight().getHeight() + PADDING)).sum();
+        final double widest = images.stream().mapToDouble(e -> e.getRight().getWidth()).max().orElse(0);
+        int width = 1;
+        while (width < MAX_SIZE && (width < widest || width < Math.sqrt(area))) {
+            width *= 2;
+        }
+        return width;
+    }
+}
@@ -0,0 +1,87 @@
+package thedd.view.nodewrapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import thedd.view.ViewNode;
+
+/**
+ * Keeps one parsed, not yet initialized, {@link ViewNodeWrapper} ready for
+ * every {@link ViewNode}.
+ * <p>
+ * A node graph can be shown in a single place and its controller keeps the
+ * state of the shown node, so a parsed graph can't be reused: every wrapper is
+ * handed out once, and its controller is initialized with the current view and
+ * controller exactly as a freshly loaded one. Instead, the graphs are parsed
+ * ahead of time on two background threads: when a wrapper is taken, a new one
+ * is parsed to replace it, so switching view never waits for the FXML parser
+ * unless the same node is requested twice in a row faster than it's parsed.
+ */
+final class ViewNodePrefetcher {
+
+    private static final int LOADER_THREADS = 2;
+
+    private final Function<ViewNode, ViewNodeWrapper> parser;
+    private final Map<ViewNode, Future<ViewNodeWrapper>> prepared;
+    private final ExecutorService loader;
+
+    /**
+     * Create a new prefetcher.
+     * 
+     * @param parser the function parsing the FXML of a node
+     */
+    ViewNodePrefetcher(final Function<ViewNode, ViewNodeWrapper> parser) {
+        this.parser = Objects.requireNonNull(parser);
+        this.prepared = new EnumMap<>(ViewNode.class);
+        this.loader = Executors.newFixedThreadPool(LOADER_THREADS, r -> {
+            final Thread thread = new Thread(r, "fxml-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start parsing the nodes which have no wrapper ready or being parsed.
+     * 
+     * @param nodes the nodes to prepare
+     */
+    synchronized void prepare(final ViewNode... nodes) {
+        for (final ViewNode node : nodes) {
+            if (!prepared.containsKey(Objects.requireNonNull(node))) {
+                prepared.put(node, loader.submit(() -> parser.apply(node)));
+            }
+        }
+    }
+
+    /**
+     * Take the wrapper prepared for the node, waiting for its parsing if needed,
+     * and start parsing its replacement. If the node has not been prepared, or
+     * its parsing failed, it is parsed by the calling thread.
+     * 
+     * @param node the node to take
+     * @return a wrapper whose controller has not been initialized
+     */
+    ViewNodeWrapper take(final ViewNode node) {
+        final Future<ViewNodeWrapper> wrapper;
+        synchronized (this) {
+            wrapper = prepared.remove(Objects.requireNonNull(node));
+            prepare(node);
+        }
+        if (wrapper != null) {
+            try {
+                return wrapper.get();
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return parser.apply(node);
+    }
+}
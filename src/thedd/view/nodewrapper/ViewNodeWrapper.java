@@ -7,18 +7,20 @@ import java.util.Objects;
 
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
-import thedd.controller.Controller;
-import thedd.view.View;
 import thedd.view.ViewNode;
 import thedd.view.controller.ViewNodeController;
 import thedd.view.controller.ViewNodeControllerImpl;
 
 /**
  * Implementations of {@link ViewNodeWrapper}.
+ * <p>
+ * The FXML of the nodes is parsed ahead of time on a background thread, see
+ * {@link #preload()}, so that a new wrapper is usually ready when requested.
  */
 public final class ViewNodeWrapper {
 
     private static final String ERROR_FXMLNOTFOUND = "FXML can't be load, some problem in the .fxml or view controller";
+    private static final ViewNodePrefetcher PREFETCHER = new ViewNodePrefetcher(ViewNodeWrapper::load);
 
     private final ViewNodeController subViewController;
     private final Node node;
@@ -58,16 +60,27 @@ public final class ViewNodeWrapper {
     }
 
     /**
-     * Method to get a node with its controller.
+     * Method to get a node with its controller. The controller has still to be
+     * initialized.
      * 
      * @param viewNode   view node of application
-     * @param controller controller reference
-     * @param view       view reference
      * @return the node and its view controller
      */
-    public static ViewNodeWrapper createViewNodeWrapper(final ViewNode viewNode,
-                                                        final Controller controller, final View view) {
+    public static ViewNodeWrapper createViewNodeWrapper(final ViewNode viewNode) {
         Objects.requireNonNull(viewNode);
+        return PREFETCHER.take(viewNode);
+    }
+
+    /**
+     * This method allows to start parsing in background the FXML of every
+     * {@link ViewNode}, so that the first request of each one doesn't wait for it.
+     * It returns at once.
+     */
+    public static void preload() {
+        PREFETCHER.prepare(ViewNode.values());
+    }
+
+    private static ViewNodeWrapper load(final ViewNode viewNode) {
         try {
             final FXMLLoader loader = new FXMLLoader();
             final URL location = ClassLoader.getSystemClassLoader().getResource(viewNode.getFXMLPath());